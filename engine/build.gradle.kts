@@ -16,6 +16,41 @@ dependencies {
     testImplementation(libs.junit.jupiter)
 }
 
+// === JDK Vector API (incubator) ===
+// VectorNoiseSlabKernel is the only code compiled against
+// jdk.incubator.vector. It lives in its own source set so that main
+// compiles without --add-modules; FractalNoise loads it reflectively and
+// only when the module is present at runtime.
+val vector by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.jar {
+    from(vector.output)
+}
+
+sourceSets.test {
+    runtimeClasspath += vector.output
+}
+
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+}
+
+// Same tests on a JVM without the module: covers the scalar fallback
+val testWithoutVectorModule by tasks.registering(Test::class) {
+    description = "Runs the tests without the jdk.incubator.vector module."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform()
+}
+
+tasks.check {
+    dependsOn(testWithoutVectorModule)
+}
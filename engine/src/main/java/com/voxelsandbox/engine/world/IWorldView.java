@@ -2,6 +2,7 @@ package com.voxelsandbox.engine.world;
 
 import com.voxelsandbox.engine.world.chunk.Chunk;
 import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
 import com.voxelsandbox.engine.world.type.VoxelType;
 
 import java.util.Map;
@@ -50,4 +51,56 @@ public interface IWorldView {
      * @return the voxel type, or {@link VoxelType#AIR} if not present.
      */
     VoxelType getVoxel(int worldX, int worldY, int worldZ);
-}
\ No newline at end of file
+
+    /**
+     * Returns the y of the highest non-air voxel in a column.
+     *
+     * <p>
+     *     The default implementation scans the loaded chunks of the column
+     *     from the top of the world downward, reading the surface index of
+     *     each chunk. {@link World} overrides it with a heightmap lookup.
+     * </p>
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return height of the column, or {@code World.MIN_Y - 1} if it has no
+     *         loaded non-air voxel
+     */
+    default int getHighestSolidY(int worldX, int worldZ) {
+        int chunkX = Math.floorDiv(worldX, ChunkDimensions.SIZE_X);
+        int chunkZ = Math.floorDiv(worldZ, ChunkDimensions.SIZE_Z);
+        int localX = Math.floorMod(worldX, ChunkDimensions.SIZE_X);
+        int localZ = Math.floorMod(worldZ, ChunkDimensions.SIZE_Z);
+
+        int minChunkY = Math.floorDiv(World.MIN_Y, ChunkDimensions.SIZE_Y);
+        for (int chunkY = Math.floorDiv(World.MAX_Y - 1, ChunkDimensions.SIZE_Y); chunkY >= minChunkY; chunkY--) {
+            Chunk chunk = getChunkIfPresent(new ChunkPosition(chunkX, chunkY, chunkZ));
+            if (chunk == null) {
+                continue;
+            }
+            int top = chunk.getHighestSolidY(localX, localZ);
+            if (top >= 0) {
+                return chunkY * ChunkDimensions.SIZE_Y + top;
+            }
+        }
+        return World.MIN_Y - 1;
+    }
+
+    /**
+     * Returns an upper bound of the y of every non-air voxel over all
+     * loaded columns.
+     *
+     * <p>
+     *     No loaded voxel above the returned y is non-air. Callers may read
+     *     it once per ray, so it must be cheap. The default returns the top
+     *     of the world, {@code World.MAX_Y - 1}, without looking at any
+     *     chunk. {@link World} overrides it with the exact maximum kept by
+     *     its heightmap.
+     * </p>
+     *
+     * @return an upper bound of the non-air voxels of the view
+     */
+    default int getMaxSolidY() {
+        return World.MAX_Y - 1;
+    }
+}
@@ -7,12 +7,14 @@ import com.voxelsandbox.engine.world.coordinate.ChunkCoordinateMapper;
 import com.voxelsandbox.engine.world.event.IWorldEventListener;
 import com.voxelsandbox.engine.world.eviction.IChunkEvictionPolicy;
 import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+import com.voxelsandbox.engine.world.heightmap.Heightmap;
+import com.voxelsandbox.engine.world.light.LightPropagator;
 import com.voxelsandbox.engine.world.type.VoxelType;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.StreamSupport;
 
 
@@ -25,6 +27,21 @@ import java.util.stream.StreamSupport;
  * </p>
  *
  * <p>
+ *     Lighting is opt-in, see {@link #World(long, IWorldGenerator, boolean)}.
+ *     When enabled, sky and block light of loaded chunks is kept up to date
+ *     by a {@link LightPropagator}: chunks are lit when they are loaded and
+ *     light is updated incrementally on {@link #setVoxel} and
+ *     {@link #unloadChunk}, so reading it is a constant-time lookup.
+ *     Worlds that never read light do not pay for propagation.
+ * </p>
+ *
+ * <p>
+ *     The height of the highest non-air voxel of every column is tracked the
+ *     same way by a {@link Heightmap}, so {@link #getHighestSolidY(int, int)}
+ *     does not scan the column.
+ * </p>
+ *
+ * <p>
  *     Event listeners are invoked concurrently. Implementations of
  *     {@link IWorldEventListener} must therefore be thread-safe.
  * </p>
@@ -33,16 +50,54 @@ public final class World implements IWorldView {
     private final long seed;
     private final IWorldGenerator generator;
     private final WorldState state = new WorldState();
-    private final List<IWorldEventListener> listeners = new ArrayList<>();
+    private final List<IWorldEventListener> listeners = new CopyOnWriteArrayList<>();
+    /**
+     * Light propagation, or {@code null} if lighting is disabled.
+     */
+    private final LightPropagator light;
     public static final int MIN_Y = 0;
     public static final int MAX_Y = 256;
 
+    /**
+     * Highest sky or block light level.
+     */
+    public static final int MAX_LIGHT = 15;
+    private final Heightmap heightmap = new Heightmap(MIN_Y, MAX_Y);
+
     /**
      * Empty world
      */
     public World(long seed, IWorldGenerator generator) {
+        this(seed, generator, false);
+    }
+
+    /**
+     * Creates an empty world, optionally maintaining light.
+     *
+     * <p>
+     *     Light propagation runs on every chunk load and unload and on every
+     *     voxel change, and usually costs more than generating a chunk.
+     *     Enable it only if {@link #getSkyLight} or {@link #getBlockLight}
+     *     are read.
+     * </p>
+     *
+     * @param seed the world seed
+     * @param generator the chunk generation strategy
+     * @param lighting whether sky and block light are maintained
+     */
+    public World(long seed, IWorldGenerator generator, boolean lighting) {
         this.seed = seed;
         this.generator = Objects.requireNonNull(generator, "IWorldGenerator must not be null");
+        this.light = lighting ? new LightPropagator() : null;
+    }
+
+    /**
+     * Returns whether this world maintains sky and block light.
+     *
+     * @return {@code true} if lighting is enabled
+     */
+    public boolean isLightingEnabled() {
+        return light != null;
     }
 
     /**
@@ -91,6 +146,10 @@ public final class World implements IWorldView {
 
         Chunk generatedChunk = this.generator.generateChunk(this.seed, position);
         state.putChunk(generatedChunk);
+        heightmap.onChunkLoaded(generatedChunk);
+        if (light != null) {
+            light.lightChunk(generatedChunk);
+        }
 
         notifyChunkGenerated(generatedChunk);
         notifyChunkLoaded(generatedChunk);
@@ -173,6 +232,12 @@ public final class World implements IWorldView {
      *     and results in an exception.
      * </p>
      *
+     * <p>
+     *     A chunk modified event is emitted if the voxel type changed. If
+     *     lighting is enabled, light of the surrounding voxels, including
+     *     those in neighbouring chunks, is updated before the event is emitted.
+     * </p>
+     *
      * @param worldX world x coordinate (voxel space)
      * @param worldY world y coordinate (voxel space)
      * @param worldZ world z coordinate (voxel space)
@@ -196,7 +261,105 @@ public final class World implements IWorldView {
         LocalVoxelPosition localPos =
                 ChunkCoordinateMapper.toLocalVoxelPosition(worldX, worldY, worldZ);
 
-        chunk.setVoxel(localPos, type);
+        if (chunk.getVoxel(localPos) != type) {
+            chunk.setVoxel(localPos, type);
+            heightmap.onVoxelChanged(worldX, worldY, worldZ, type);
+            if (light != null) {
+                light.updateVoxel(worldX, worldY, worldZ);
+            }
+            notifyChunkModified(chunk, localPos);
+        }
+    }
+
+    /**
+     * Returns the sky light level at the given world voxel coordinates.
+     *
+     * <p>
+     *     Voxels above the world are fully lit; voxels below it or in chunks
+     *     that are not loaded are dark. This method never triggers chunk
+     *     generation or loading.
+     * </p>
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return light level between 0 and {@link #MAX_LIGHT}
+     *
+     * @throws IllegalStateException if lighting is not enabled
+     */
+    public int getSkyLight(int worldX, int worldY, int worldZ) {
+        checkLighting();
+        if (worldY >= MAX_Y) {
+            return MAX_LIGHT;
+        }
+        if (worldY < MIN_Y) {
+            return 0;
+        }
+        return light.getSkyLight(worldX, worldY, worldZ);
+    }
+
+    /**
+     * Returns the block light level at the given world voxel coordinates.
+     *
+     * <p>
+     *     Voxels outside the vertical world bounds or in chunks that are not
+     *     loaded are dark. This method never triggers chunk generation or
+     *     loading.
+     * </p>
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return light level between 0 and {@link #MAX_LIGHT}
+     *
+     * @throws IllegalStateException if lighting is not enabled
+     */
+    public int getBlockLight(int worldX, int worldY, int worldZ) {
+        checkLighting();
+        if (worldY < MIN_Y || worldY >= MAX_Y) {
+            return 0;
+        }
+        return light.getBlockLight(worldX, worldY, worldZ);
+    }
+
+    private void checkLighting() {
+        if (light == null) {
+            throw new IllegalStateException("Lighting is not enabled for this world");
+        }
+    }
+
+    /**
+     * Returns the y of the highest non-air voxel in the column at the given
+     * world voxel coordinates.
+     *
+     * <p>
+     *     Only loaded chunks are considered, and the lookup is constant time.
+     *     This method never triggers chunk generation or loading.
+     * </p>
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return height of the column, or {@code MIN_Y - 1} if it has no non-air voxel
+     */
+    @Override
+    public int getHighestSolidY(int worldX, int worldZ) {
+        return heightmap.getHighestSolidY(worldX, worldZ);
+    }
+
+    /**
+     * Returns the y of the highest non-air voxel over all loaded columns.
+     *
+     * <p>
+     *     Every voxel above the returned height is air. The lookup is
+     *     constant time; a write or unload that lowers the maximum rescans
+     *     every chunk column before it returns.
+     * </p>
+     *
+     * @return highest height, or {@code MIN_Y - 1} if every loaded voxel is air
+     */
+    @Override
+    public int getMaxSolidY() {
+        return heightmap.getMaxSolidY();
     }
 
     /**
@@ -220,6 +383,10 @@ public final class World implements IWorldView {
 
         Chunk removed = this.state.removeChunk(position);
         if (removed != null) {
+            heightmap.onChunkUnloaded(removed);
+            if (light != null) {
+                light.onChunkUnloaded(position);
+            }
             notifyChunkUnloaded(removed);
         }
         return removed;
@@ -265,6 +432,23 @@ public final class World implements IWorldView {
         this.listeners.add(listener);
     }
 
+    /**
+     * Unregisters a world event listener.
+     *
+     * <p>
+     *     Events dispatched after this method returns are not delivered to
+     *     the listener. It may be called from within an event callback, in
+     *     which case the dispatch in progress still reaches the listener.
+     * </p>
+     *
+     * @param listener the listener to unregister
+     * @return {@code true} if the listener was registered
+     */
+    public boolean removeEventListener(IWorldEventListener listener) {
+        Objects.requireNonNull(listener, "IWorldEventListener must not be null");
+        return this.listeners.remove(listener);
+    }
+
     /**
      * Notifies all registered {@link IWorldEventListener}s that a chunk
      * has been generated.
@@ -322,4 +506,15 @@ public final class World implements IWorldView {
     private void notifyChunkUnloaded(Chunk chunk) {
         listeners.forEach(listener -> listener.onChunkUnloaded(chunk.getPosition(), chunk));
     }
-}
\ No newline at end of file
+
+    /**
+     * Notifies all registered {@link IWorldEventListener}s that a voxel
+     * of a loaded chunk changed type.
+     *
+     * @param chunk the modified chunk
+     * @param voxel local position of the changed voxel
+     */
+    private void notifyChunkModified(Chunk chunk, LocalVoxelPosition voxel) {
+        listeners.forEach(listener -> listener.onChunkModified(chunk.getPosition(), chunk, voxel));
+    }
+}
@@ -20,16 +20,71 @@ public final class Chunk {
     private final ChunkPosition position;
     private final VoxelType[] voxels;
 
+    /**
+     * Local y of the highest non-air voxel of every column, indexed
+     * {@code x + z * SIZE_X}, or {@code -1} for empty columns. Maintained
+     * by {@link #setVoxel}.
+     */
+    private final byte[] surface = new byte[ChunkDimensions.SIZE_X * ChunkDimensions.SIZE_Z];
+
+    /**
+     * Number of voxel writes that changed this chunk.
+     *
+     * <p>
+     *     Chunks are written by one thread at a time. The field is volatile
+     *     so that readers on other threads, such as render caches, observe
+     *     the count no earlier than the voxel writes it reports. The
+     *     {@code ++} in {@link #setVoxel} is not atomic and relies on that
+     *     single writer thread.
+     * </p>
+     */
+    private volatile long modificationCount;
+
     public Chunk(ChunkPosition position) {
         this.position = Objects.requireNonNull(position, "ChunkPosition must not be null");
         this.voxels = new VoxelType[ChunkDimensions.SIZE_X * ChunkDimensions.SIZE_Y * ChunkDimensions.SIZE_Z];
         Arrays.fill(this.voxels, VoxelType.AIR);
+        Arrays.fill(this.surface, (byte) -1);
     }
 
     public ChunkPosition getPosition() {
         return this.position;
     }
 
+    /**
+     * Returns an independent copy of this chunk.
+     *
+     * <p>
+     *     Voxels and the modification count are copied; later writes
+     *     to either chunk do not affect the other.
+     * </p>
+     *
+     * @return a new chunk with the same position and content
+     */
+    public Chunk copy() {
+        Chunk copy = new Chunk(position);
+        System.arraycopy(voxels, 0, copy.voxels, 0, voxels.length);
+        System.arraycopy(surface, 0, copy.surface, 0, surface.length);
+        copy.modificationCount = modificationCount;
+        return copy;
+    }
+
+    /**
+     * Returns the number of voxel writes that changed this chunk.
+     *
+     * <p>
+     *     The counter increases with every {@link #setVoxel} call that
+     *     changes a voxel's type and never decreases, so two equal values
+     *     mean the content did not change in between. Writing the type a
+     *     voxel already has leaves it unchanged.
+     * </p>
+     *
+     * @return modification count
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
     /**
      * Returns the voxel type at the given local position.
      *
@@ -39,12 +94,37 @@ public final class Chunk {
      */
     public VoxelType getVoxel(LocalVoxelPosition pos) {
         Objects.requireNonNull(pos, "LocalVoxelPosition must not be null");
-        return voxels[index(pos)];
+        return getVoxel(pos.x(), pos.y(), pos.z());
+    }
+
+    /**
+     * Returns the voxel type at the given local coordinates.
+     *
+     * <p>
+     *     Allocation-free variant of {@link #getVoxel(LocalVoxelPosition)}
+     *     for per-voxel loops.
+     * </p>
+     *
+     * @param x local x coordinate
+     * @param y local y coordinate
+     * @param z local z coordinate
+     * @return the voxel at the specified position
+     * @throws IndexOutOfBoundsException if the coordinates are outside chunk bounds
+     */
+    public VoxelType getVoxel(int x, int y, int z) {
+        validateCoordinates(x, y, z);
+        return voxels[index(x, y, z)];
     }
 
     /**
      * Sets the voxel type at the given local position.
      *
+     * <p>
+     *     The surface index read by {@link #getHighestSolidY(int, int)} is
+     *     updated as well. Clearing the top voxel of a column scans down to
+     *     the next non-air voxel; every other write is constant time.
+     * </p>
+     *
      * @param pos local position inside the chunk
      * @param type the voxel type to set
      * @throws IndexOutOfBoundsException if the coordinates are outside chunk bounds
@@ -52,8 +132,49 @@ public final class Chunk {
      */
     public void setVoxel(LocalVoxelPosition pos, VoxelType type) {
         Objects.requireNonNull(pos, "LocalVoxelPosition must not be null");
+        setVoxel(pos.x(), pos.y(), pos.z(), type);
+    }
+
+    /**
+     * Sets the voxel type at the given local coordinates.
+     *
+     * <p>
+     *     Allocation-free variant of {@link #setVoxel(LocalVoxelPosition, VoxelType)}
+     *     for per-voxel loops such as world generation.
+     * </p>
+     *
+     * @param x local x coordinate
+     * @param y local y coordinate
+     * @param z local z coordinate
+     * @param type the voxel type to set
+     * @throws IndexOutOfBoundsException if the coordinates are outside chunk bounds
+     * @throws NullPointerException if the voxel type is null
+     */
+    public void setVoxel(int x, int y, int z, VoxelType type) {
         Objects.requireNonNull(type, "VoxelType must not be null");
-        voxels[index(pos)] = type;
+        validateCoordinates(x, y, z);
+        int index = index(x, y, z);
+        if (voxels[index] == type) {
+            return;
+        }
+        voxels[index] = type;
+        updateSurface(x, y, z, type);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the local y of the highest non-air voxel in a column.
+     *
+     * @param x local x coordinate
+     * @param z local z coordinate
+     * @return local y of the top voxel, or {@code -1} if the column is empty
+     * @throws IndexOutOfBoundsException if the coordinates are outside chunk bounds
+     */
+    public int getHighestSolidY(int x, int z) {
+        if (x < 0 || x >= ChunkDimensions.SIZE_X || z < 0 || z >= ChunkDimensions.SIZE_Z) {
+            throw new IndexOutOfBoundsException("Column out of bounds: " + x + ", " + z);
+        }
+        return surface[x + z * ChunkDimensions.SIZE_X];
     }
 
     /**
@@ -96,9 +217,30 @@ public final class Chunk {
      * @return the corresponding linear index in the voxel array
      */
     private int index(LocalVoxelPosition position) {
-        return position.x()
-                + position.z() * ChunkDimensions.SIZE_X
-                + position.y() * ChunkDimensions.SIZE_X * ChunkDimensions.SIZE_Z;
+        return index(position.x(), position.y(), position.z());
+    }
+
+    private static int index(int x, int y, int z) {
+        return x
+                + z * ChunkDimensions.SIZE_X
+                + y * ChunkDimensions.SIZE_X * ChunkDimensions.SIZE_Z;
+    }
+
+    private void updateSurface(int x, int y, int z, VoxelType type) {
+        int column = x + z * ChunkDimensions.SIZE_X;
+        int top = surface[column];
+
+        if (type != VoxelType.AIR) {
+            if (y > top) {
+                surface[column] = (byte) y;
+            }
+        } else if (y == top) {
+            int below = y - 1;
+            while (below >= 0 && voxels[index(x, below, z)] == VoxelType.AIR) {
+                below--;
+            }
+            surface[column] = (byte) below;
+        }
     }
 
     /**
@@ -116,14 +258,28 @@ public final class Chunk {
      * @throws IndexOutOfBoundsException if any coordinate is outside chunk bounds
      */
     private void validateCoordinates(LocalVoxelPosition position) {
-        if (position.x() < 0 || position.x() >= ChunkDimensions.SIZE_X) {
-            throw new IndexOutOfBoundsException("x out of bounds: " + position.x());
+        validateCoordinates(position.x(), position.y(), position.z());
+    }
+
+    /**
+     * Validates local coordinates axis by axis.
+     *
+     * <p>
+     *     Checking the flattened index alone is not enough: an x or z just
+     *     outside the chunk still maps to a valid index of another voxel.
+     * </p>
+     *
+     * @throws IndexOutOfBoundsException if any coordinate is outside chunk bounds
+     */
+    private static void validateCoordinates(int x, int y, int z) {
+        if (x < 0 || x >= ChunkDimensions.SIZE_X) {
+            throw new IndexOutOfBoundsException("x out of bounds: " + x);
         }
-        if (position.y() < 0 || position.y() >= ChunkDimensions.SIZE_Y) {
-            throw new IndexOutOfBoundsException("y out of bounds: " + position.y());
+        if (y < 0 || y >= ChunkDimensions.SIZE_Y) {
+            throw new IndexOutOfBoundsException("y out of bounds: " + y);
         }
-        if (position.z() < 0 || position.z() >= ChunkDimensions.SIZE_Z) {
-            throw new IndexOutOfBoundsException("z out of bounds: " + position.z());
+        if (z < 0 || z >= ChunkDimensions.SIZE_Z) {
+            throw new IndexOutOfBoundsException("z out of bounds: " + z);
         }
     }
 }
\ No newline at end of file
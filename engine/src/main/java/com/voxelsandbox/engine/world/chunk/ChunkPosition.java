@@ -15,5 +15,53 @@ package com.voxelsandbox.engine.world.chunk;
  *     This class is an immutable value object and can safely be used
  *     as a key in maps or caches.
  * </p>
+ *
+ * <p>
+ *     Positions within the packable range can be encoded into a single
+ *     {@code long} with {@link #pack()}. The encoding is injective, unlike
+ *     {@link #hashCode()}, and suitable as a cache or buffer key:
+ * </p>
+ * <ul>
+ *     <li> bits 38-63: x, signed, {@code [-2^25, 2^25 - 1]} </li>
+ *     <li> bits 26-37: y, signed, {@code [-2^11, 2^11 - 1]} </li>
+ *     <li> bits 0-25: z, signed, {@code [-2^25, 2^25 - 1]} </li>
+ * </ul>
  */
-public record ChunkPosition(int x, int y, int z) {}
\ No newline at end of file
+public record ChunkPosition(int x, int y, int z) {
+
+    public static final int MIN_PACKED_XZ = -(1 << 25);
+    public static final int MAX_PACKED_XZ = (1 << 25) - 1;
+    public static final int MIN_PACKED_Y = -(1 << 11);
+    public static final int MAX_PACKED_Y = (1 << 11) - 1;
+
+    private static final long XZ_MASK = (1L << 26) - 1;
+    private static final long Y_MASK = (1L << 12) - 1;
+
+    /**
+     * Encodes this position into a unique 64-bit value.
+     *
+     * @return packed position
+     * @throws IllegalStateException if a coordinate is outside the packable range
+     */
+    public long pack() {
+        if (x < MIN_PACKED_XZ || x > MAX_PACKED_XZ
+                || z < MIN_PACKED_XZ || z > MAX_PACKED_XZ
+                || y < MIN_PACKED_Y || y > MAX_PACKED_Y) {
+            throw new IllegalStateException("Chunk position outside packable range: " + this);
+        }
+        return ((x & XZ_MASK) << 38) | ((y & Y_MASK) << 26) | (z & XZ_MASK);
+    }
+
+    /**
+     * Decodes a value produced by {@link #pack()}.
+     *
+     * @param packed packed position
+     * @return the chunk position
+     */
+    public static ChunkPosition unpack(long packed) {
+        int x = (int) (packed >> 38);
+        int y = (int) (packed << 26 >> 52);
+        int z = (int) (packed << 38 >> 38);
+        return new ChunkPosition(x, y, z);
+    }
+}
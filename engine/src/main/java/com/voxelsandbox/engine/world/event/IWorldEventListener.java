@@ -3,6 +3,7 @@ package com.voxelsandbox.engine.world.event;
 
 import com.voxelsandbox.engine.world.chunk.Chunk;
 import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.LocalVoxelPosition;
 
 /**
  * Listener for world lifecycle events.
@@ -48,4 +49,18 @@ public interface IWorldEventListener {
      * @param chunk the unloaded chunk
      */
     default void onChunkUnloaded(ChunkPosition position, Chunk chunk) {}
+
+    /**
+     * Called after a voxel of a loaded chunk changed type.
+     *
+     * <p>
+     *     The event is emitted once per changed voxel. Writes that leave a
+     *     voxel unchanged do not emit this event.
+     * </p>
+     *
+     * @param position the chunk position
+     * @param chunk the modified chunk
+     * @param voxel local position of the changed voxel inside the chunk
+     */
+    default void onChunkModified(ChunkPosition position, Chunk chunk, LocalVoxelPosition voxel) {}
 }
@@ -0,0 +1,46 @@
+package com.voxelsandbox.engine.world.generation;
+
+
+/**
+ * Terrain biome of a voxel column.
+ *
+ * <p>
+ *     A biome shapes the terrain through a base height and the amplitude
+ *     of the detail noise added to it. Biomes are ordered so that
+ *     neighbours in declaration order blend into each other smoothly, see
+ *     {@link NoiseTerrainGenerator}.
+ * </p>
+ */
+public enum Biome {
+
+    PLAINS(48, 4),
+    HILLS(60, 16),
+    MOUNTAINS(80, 48);
+
+    private final int baseHeight;
+    private final int amplitude;
+
+    Biome(int baseHeight, int amplitude) {
+        this.baseHeight = baseHeight;
+        this.amplitude = amplitude;
+    }
+
+    /**
+     * Returns the mean terrain height of this biome.
+     *
+     * @return base height, in world voxel units
+     */
+    public int getBaseHeight() {
+        return baseHeight;
+    }
+
+    /**
+     * Returns how far the detail noise moves the terrain away from the
+     * base height.
+     *
+     * @return amplitude, in voxels
+     */
+    public int getAmplitude() {
+        return amplitude;
+    }
+}
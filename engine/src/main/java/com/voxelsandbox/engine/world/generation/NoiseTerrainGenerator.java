@@ -0,0 +1,265 @@
+package com.voxelsandbox.engine.world.generation;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.noise.FractalNoise;
+import com.voxelsandbox.engine.world.type.VoxelType;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Height-field terrain generator driven by fractal gradient noise.
+ *
+ * <p>
+ *     Every voxel column gets a height from two noise fields:
+ * </p>
+ * <ul>
+ *     <li> a low-frequency biome field, which places the column on the
+ *          ordered list of {@link Biome}s. Columns between two biomes
+ *          interpolate their base height and amplitude with a smoothstep
+ *          over a transition band, so biome borders have no cliffs </li>
+ *     <li> a detail field, scaled by the blended amplitude and added to
+ *          the blended base height </li>
+ * </ul>
+ *
+ * <p>
+ *     Voxels at or below the column height are solid. The output depends
+ *     only on the seed and the chunk position.
+ * </p>
+ *
+ * <p>
+ *     Heights and biomes depend on {@code (x, z)} only, so they are
+ *     computed once per chunk column into a {@link TerrainColumn} and
+ *     shared by every chunk stacked in it. The noise is first evaluated
+ *     into per-thread scratch buffers, so computing a column allocates
+ *     nothing but the column itself. Columns are kept in a bounded
+ *     least-recently-used cache.
+ * </p>
+ *
+ * <p>
+ *     The noise slabs are filled by {@link FractalNoise}, which uses its
+ *     vectorized backend when {@link FractalNoise#VECTOR_PROPERTY} is set;
+ *     the terrain is identical either way.
+ * </p>
+ *
+ * <p>
+ *     Instances are thread-safe; chunks may be generated concurrently.
+ * </p>
+ */
+public final class NoiseTerrainGenerator implements IWorldGenerator {
+
+    /**
+     * Default number of cached chunk columns.
+     */
+    public static final int DEFAULT_COLUMN_CACHE_SIZE = 1024;
+
+    private static final int SIZE_X = ChunkDimensions.SIZE_X;
+    private static final int SIZE_Y = ChunkDimensions.SIZE_Y;
+    private static final int SIZE_Z = ChunkDimensions.SIZE_Z;
+    private static final int COLUMN_AREA = SIZE_X * SIZE_Z;
+
+    private static final Biome[] BIOMES = Biome.values();
+
+    /**
+     * Widens the biome field, whose fractal sum rarely gets close to
+     * {@code ±1}, so that the outer biomes are reached.
+     */
+    private static final float BIOME_SPREAD = 2.5f;
+
+    /**
+     * Fraction of the distance between two biomes over which they blend.
+     */
+    private static final float BIOME_BLEND = 0.5f;
+
+    /**
+     * Decorrelates the seeds of the two noise fields.
+     */
+    private static final long BIOME_SEED_SALT = 0x5DEECE66DL;
+
+    private final int columnCacheSize;
+
+    /**
+     * Cached columns in access order, guarded by itself.
+     */
+    private final LinkedHashMap<ColumnKey, TerrainColumn> columns = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private final AtomicLong columnEvaluations = new AtomicLong();
+
+    /**
+     * Noise fields of the most recently used seed.
+     */
+    private volatile Fields fields;
+
+    /**
+     * Creates a generator with {@link #DEFAULT_COLUMN_CACHE_SIZE}.
+     */
+    public NoiseTerrainGenerator() {
+        this(DEFAULT_COLUMN_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param columnCacheSize maximum number of cached chunk columns
+     * @throws IllegalArgumentException if {@code columnCacheSize < 1}
+     */
+    public NoiseTerrainGenerator(int columnCacheSize) {
+        if (columnCacheSize < 1) {
+            throw new IllegalArgumentException("columnCacheSize must be >= 1: " + columnCacheSize);
+        }
+        this.columnCacheSize = columnCacheSize;
+    }
+
+    /**
+     * Generates a chunk by filling every column up to its terrain height.
+     *
+     * <p>
+     *     Chunks entirely above or below the terrain of their column are
+     *     recognised from its height range and skip the per-column work.
+     * </p>
+     *
+     * @param seed the world seed
+     * @param position the position of the chunk in chunk space
+     * @return the generated chunk
+     */
+    @Override
+    public Chunk generateChunk(long seed, ChunkPosition position) {
+        Objects.requireNonNull(position, "ChunkPosition must not be null");
+
+        Chunk chunk = new Chunk(position);
+        TerrainColumn column = getColumn(seed, position.x(), position.z());
+
+        int baseY = position.y() * SIZE_Y;
+        if (baseY > column.getMaxHeight()) {
+            return chunk;
+        }
+        boolean belowTerrain = baseY + SIZE_Y - 1 <= column.getMinHeight();
+
+        for (int z = 0; z < SIZE_Z; z++) {
+            for (int x = 0; x < SIZE_X; x++) {
+                int top = belowTerrain
+                        ? SIZE_Y - 1
+                        : Math.min(column.getHeight(x, z) - baseY, SIZE_Y - 1);
+                for (int y = 0; y <= top; y++) {
+                    chunk.setVoxel(x, y, z, VoxelType.SOLID);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Returns the terrain of a chunk column, computing it on a cache miss.
+     *
+     * @param seed the world seed
+     * @param chunkX chunk x coordinate
+     * @param chunkZ chunk z coordinate
+     * @return heights and biomes of the column
+     */
+    public TerrainColumn getColumn(long seed, int chunkX, int chunkZ) {
+        ColumnKey key = new ColumnKey(seed, chunkX, chunkZ);
+        synchronized (columns) {
+            TerrainColumn cached = columns.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Computed outside the lock; a column computed twice by racing
+        // threads is identical either way
+        TerrainColumn column = computeColumn(seed, chunkX, chunkZ);
+
+        synchronized (columns) {
+            columns.put(key, column);
+            Iterator<TerrainColumn> eldest = columns.values().iterator();
+            while (columns.size() > columnCacheSize) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Returns how many chunk columns have been computed, cache hits
+     * excluded.
+     *
+     * @return number of column evaluations
+     */
+    public long getColumnEvaluationCount() {
+        return columnEvaluations.get();
+    }
+
+    private TerrainColumn computeColumn(long seed, int chunkX, int chunkZ) {
+        Fields current = fields(seed);
+        Scratch buffers = scratch.get();
+
+        int originX = chunkX * SIZE_X;
+        int originZ = chunkZ * SIZE_Z;
+        current.biome().fill(buffers.biome, originX, originZ, SIZE_X);
+        current.detail().fill(buffers.detail, originX, originZ, SIZE_X);
+
+        int[] heights = new int[COLUMN_AREA];
+        byte[] biomes = new byte[COLUMN_AREA];
+        int last = BIOMES.length - 1;
+
+        for (int i = 0; i < COLUMN_AREA; i++) {
+            // Position on the biome list, then blend towards the next biome
+            float position = clamp((buffers.biome[i] * BIOME_SPREAD + 1f) * 0.5f) * last;
+            int lower = Math.min((int) position, last - 1);
+            float weight = smoothstep((position - lower - 0.5f) / BIOME_BLEND + 0.5f);
+
+            Biome from = BIOMES[lower];
+            Biome to = BIOMES[lower + 1];
+            float base = from.getBaseHeight() + weight * (to.getBaseHeight() - from.getBaseHeight());
+            float amplitude = from.getAmplitude() + weight * (to.getAmplitude() - from.getAmplitude());
+
+            heights[i] = Math.round(base + amplitude * buffers.detail[i]);
+            biomes[i] = (byte) (weight < 0.5f ? lower : lower + 1);
+        }
+
+        columnEvaluations.incrementAndGet();
+        return new TerrainColumn(chunkX, chunkZ, heights, biomes);
+    }
+
+    private Fields fields(long seed) {
+        Fields current = fields;
+        if (current == null || current.seed() != seed) {
+            current = new Fields(
+                    seed,
+                    new FractalNoise(seed ^ BIOME_SEED_SALT, 2, 1f / 512f, 0.5f),
+                    new FractalNoise(seed, 5, 1f / 128f, 0.5f)
+            );
+            fields = current;
+        }
+        return current;
+    }
+
+    private static float clamp(float value) {
+        return Math.max(0f, Math.min(1f, value));
+    }
+
+    private static float smoothstep(float t) {
+        float x = clamp(t);
+        return x * x * (3f - 2f * x);
+    }
+
+    private record ColumnKey(long seed, int chunkX, int chunkZ) { }
+
+    private record Fields(long seed, FractalNoise biome, FractalNoise detail) { }
+
+    /**
+     * Per-thread noise buffers, one sample per voxel column.
+     */
+    private static final class Scratch {
+        final float[] biome = new float[COLUMN_AREA];
+        final float[] detail = new float[COLUMN_AREA];
+    }
+}
@@ -0,0 +1,111 @@
+package com.voxelsandbox.engine.world.generation;
+
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+
+
+/**
+ * Terrain heights and biomes of one chunk column.
+ *
+ * <p>
+ *     A chunk column is the vertical stack of chunks sharing chunk
+ *     coordinates {@code (x, z)}. Its terrain is computed once and shared
+ *     by every chunk of the stack. Voxels at or below the height of their
+ *     column are solid, voxels above it are air.
+ * </p>
+ *
+ * <p>
+ *     Instances are immutable.
+ * </p>
+ */
+public final class TerrainColumn {
+
+    private static final int SIZE_X = ChunkDimensions.SIZE_X;
+    private static final int SIZE_Z = ChunkDimensions.SIZE_Z;
+    private static final Biome[] BIOMES = Biome.values();
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final int[] heights;
+    private final byte[] biomes;
+    private final int minHeight;
+    private final int maxHeight;
+
+    /**
+     * Creates a column, taking ownership of the arrays.
+     *
+     * @param heights terrain heights, indexed {@code x + z * SIZE_X}
+     * @param biomes biome ordinals, indexed like {@code heights}
+     */
+    TerrainColumn(int chunkX, int chunkZ, int[] heights, byte[] biomes) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.heights = heights;
+        this.biomes = biomes;
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int height : heights) {
+            min = Math.min(min, height);
+            max = Math.max(max, height);
+        }
+        this.minHeight = min;
+        this.maxHeight = max;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    /**
+     * Returns the y of the highest solid voxel of a column.
+     *
+     * @param x local x coordinate
+     * @param z local z coordinate
+     * @return terrain height, in world voxel units
+     * @throws IndexOutOfBoundsException if the coordinates are outside chunk bounds
+     */
+    public int getHeight(int x, int z) {
+        return heights[index(x, z)];
+    }
+
+    /**
+     * Returns the dominant biome of a column.
+     *
+     * @param x local x coordinate
+     * @param z local z coordinate
+     * @return biome of the column
+     * @throws IndexOutOfBoundsException if the coordinates are outside chunk bounds
+     */
+    public Biome getBiome(int x, int z) {
+        return BIOMES[biomes[index(x, z)]];
+    }
+
+    /**
+     * Returns the lowest terrain height of the chunk column.
+     *
+     * @return minimum height, in world voxel units
+     */
+    public int getMinHeight() {
+        return minHeight;
+    }
+
+    /**
+     * Returns the highest terrain height of the chunk column.
+     *
+     * @return maximum height, in world voxel units
+     */
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    private static int index(int x, int z) {
+        if (x < 0 || x >= SIZE_X || z < 0 || z >= SIZE_Z) {
+            throw new IndexOutOfBoundsException("Column out of bounds: " + x + ", " + z);
+        }
+        return x + z * SIZE_X;
+    }
+}
@@ -0,0 +1,66 @@
+package com.voxelsandbox.engine.world.generation.cache;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+
+import java.util.Objects;
+
+
+/**
+ * {@link IWorldGenerator} decorator that serves repeated requests from a
+ * {@link GeneratedChunkCache}.
+ *
+ * <p>
+ *     A chunk that is unloaded and loaded again, for example when the focus
+ *     moves back and forth across the eviction boundary, costs a decode
+ *     instead of a full generation. Generators are deterministic, so the
+ *     cached chunk is exactly what the delegate would produce again; as with
+ *     regeneration, changes made to the chunk after it was generated are not
+ *     kept.
+ * </p>
+ *
+ * <p>
+ *     Instances are as thread-safe as their delegate.
+ * </p>
+ */
+public final class CachingWorldGenerator implements IWorldGenerator {
+
+    private final IWorldGenerator delegate;
+    private final GeneratedChunkCache cache;
+
+    /**
+     * Creates a caching generator.
+     *
+     * @param delegate the generator producing chunks on a miss
+     * @param cache the cache, possibly shared with other generators
+     */
+    public CachingWorldGenerator(IWorldGenerator delegate, GeneratedChunkCache cache) {
+        this.delegate = Objects.requireNonNull(delegate, "IWorldGenerator must not be null");
+        this.cache = Objects.requireNonNull(cache, "GeneratedChunkCache must not be null");
+    }
+
+    /**
+     * Returns the cached chunk, or generates and caches it.
+     *
+     * @param seed the world seed
+     * @param position the position of the chunk in chunk space
+     * @return a new chunk for the given position
+     */
+    @Override
+    public Chunk generateChunk(long seed, ChunkPosition position) {
+        Objects.requireNonNull(position, "ChunkPosition must not be null");
+
+        Chunk cached = cache.get(seed, delegate, position);
+        if (cached != null) {
+            return cached;
+        }
+        Chunk chunk = delegate.generateChunk(seed, position);
+        cache.put(seed, delegate, chunk);
+        return chunk;
+    }
+
+    public GeneratedChunkCache getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,124 @@
+package com.voxelsandbox.engine.world.generation.cache;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.type.VoxelType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Objects;
+
+
+/**
+ * Compact binary encoding of chunk voxels.
+ *
+ * <p>
+ *     Voxels are run-length encoded in storage order ({@code x} fastest,
+ *     then {@code z}, then {@code y}). Each run takes three bytes: the
+ *     {@link VoxelType} ordinal followed by the run length as an unsigned
+ *     16-bit big-endian value. An empty chunk encodes to three bytes and
+ *     surface terrain chunks to around a hundred.
+ * </p>
+ *
+ * <p>
+ *     Only voxel types are encoded. Light is derived data, recomputed by
+ *     the world when a chunk is loaded, and the position is supplied on
+ *     decoding.
+ * </p>
+ *
+ * <p>
+ *     The format depends on {@link VoxelType#ordinal()}, so it is only
+ *     fit for data that does not outlive the process, such as
+ *     {@link GeneratedChunkCache} entries. It is not a persistence format.
+ * </p>
+ */
+final class ChunkCodec {
+
+    private static final int VOLUME = ChunkDimensions.CHUNK_SIZE;
+    private static final int BYTES_PER_RUN = 3;
+    private static final VoxelType[] TYPES = VoxelType.values();
+
+    private ChunkCodec() {
+    }
+
+    /**
+     * Encodes the voxels of a chunk.
+     *
+     * @param chunk the chunk to encode
+     * @return the encoded voxels
+     */
+    static byte[] encode(Chunk chunk) {
+        Objects.requireNonNull(chunk, "Chunk must not be null");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        VoxelType current = null;
+        int run = 0;
+        for (int y = 0; y < ChunkDimensions.SIZE_Y; y++) {
+            for (int z = 0; z < ChunkDimensions.SIZE_Z; z++) {
+                for (int x = 0; x < ChunkDimensions.SIZE_X; x++) {
+                    VoxelType type = chunk.getVoxel(x, y, z);
+                    if (type != current) {
+                        writeRun(out, current, run);
+                        current = type;
+                        run = 0;
+                    }
+                    run++;
+                }
+            }
+        }
+        writeRun(out, current, run);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes voxels into a new chunk.
+     *
+     * @param position position of the decoded chunk
+     * @param data voxels produced by {@link #encode(Chunk)}
+     * @return a new chunk holding the decoded voxels, without light
+     * @throws IllegalArgumentException if {@code data} is malformed
+     */
+    static Chunk decode(ChunkPosition position, byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+        if (data.length % BYTES_PER_RUN != 0) {
+            throw new IllegalArgumentException("Truncated chunk data: " + data.length + " bytes");
+        }
+
+        Chunk chunk = new Chunk(position);
+        int index = 0;
+        for (int i = 0; i < data.length; i += BYTES_PER_RUN) {
+            int ordinal = data[i] & 0xFF;
+            int run = ((data[i + 1] & 0xFF) << 8) | (data[i + 2] & 0xFF);
+            if (ordinal >= TYPES.length || run == 0 || index + run > VOLUME) {
+                throw new IllegalArgumentException("Malformed run at byte " + i);
+            }
+
+            VoxelType type = TYPES[ordinal];
+            int end = index + run;
+            if (type != VoxelType.AIR) {
+                for (; index < end; index++) {
+                    chunk.setVoxel(
+                            index % ChunkDimensions.SIZE_X,
+                            index / (ChunkDimensions.SIZE_X * ChunkDimensions.SIZE_Z),
+                            index / ChunkDimensions.SIZE_X % ChunkDimensions.SIZE_Z,
+                            type
+                    );
+                }
+            }
+            index = end;
+        }
+        if (index != VOLUME) {
+            throw new IllegalArgumentException("Chunk data covers " + index + " of " + VOLUME + " voxels");
+        }
+        return chunk;
+    }
+
+    private static void writeRun(ByteArrayOutputStream out, VoxelType type, int run) {
+        if (run == 0) {
+            return;
+        }
+        out.write(type.ordinal());
+        out.write(run >>> 8);
+        out.write(run);
+    }
+}
@@ -0,0 +1,164 @@
+package com.voxelsandbox.engine.world.generation.cache;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+
+/**
+ * Bounded cache of pristine generated chunks.
+ *
+ * <p>
+ *     Entries are keyed by world seed, generator and chunk position, so
+ *     one cache can be shared by worlds with different seeds or
+ *     generators. Generators are told apart by {@link Object#equals}, that
+ *     is by identity unless they override it.
+ * </p>
+ *
+ * <p>
+ *     Chunks are stored encoded with {@link ChunkCodec}, which keeps a
+ *     surface terrain chunk to around a hundred bytes, and every lookup
+ *     decodes a new chunk. The cache is bounded by the total encoded size
+ *     and evicts the least recently used entries first.
+ * </p>
+ *
+ * <p>
+ *     Instances are thread-safe. Encoding and decoding run outside the
+ *     lock.
+ * </p>
+ */
+public final class GeneratedChunkCache {
+
+    private final long maxBytes;
+
+    /**
+     * Encoded chunks in access order, guarded by itself.
+     */
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxBytes budget for the encoded chunks, in bytes
+     * @throws IllegalArgumentException if {@code maxBytes} is not positive
+     */
+    public GeneratedChunkCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a copy of a cached chunk.
+     *
+     * @param seed the world seed
+     * @param generator the generator that produced the chunk
+     * @param position the chunk position
+     * @return a new chunk with the cached voxels and no light, or
+     *         {@code null} on a miss
+     */
+    public Chunk get(long seed, IWorldGenerator generator, ChunkPosition position) {
+        Key key = new Key(seed, generator, position);
+        byte[] data;
+        synchronized (entries) {
+            data = entries.get(key);
+            if (data == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+        }
+        return ChunkCodec.decode(position, data);
+    }
+
+    /**
+     * Stores a freshly generated chunk.
+     *
+     * <p>
+     *     The chunk is encoded immediately; later changes to it are not
+     *     reflected in the cache. A chunk whose encoding alone exceeds the
+     *     budget is not stored.
+     * </p>
+     *
+     * @param seed the world seed
+     * @param generator the generator that produced the chunk
+     * @param chunk the generated chunk
+     */
+    public void put(long seed, IWorldGenerator generator, Chunk chunk) {
+        Objects.requireNonNull(chunk, "Chunk must not be null");
+        Key key = new Key(seed, generator, chunk.getPosition());
+        byte[] data = ChunkCodec.encode(chunk);
+        if (data.length > maxBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            byte[] previous = entries.put(key, data);
+            bytes += data.length - (previous == null ? 0 : previous.length);
+
+            Iterator<byte[]> eldest = entries.values().iterator();
+            while (bytes > maxBytes) {
+                bytes -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes every entry. Hit and miss counts are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the total encoded size of the cached chunks.
+     *
+     * @return size in bytes
+     */
+    public long getSizeInBytes() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    public int getEntryCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (entries) {
+            return hits;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (entries) {
+            return misses;
+        }
+    }
+
+    private record Key(long seed, IWorldGenerator generator, ChunkPosition position) {
+        Key {
+            Objects.requireNonNull(generator, "IWorldGenerator must not be null");
+            Objects.requireNonNull(position, "ChunkPosition must not be null");
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.voxelsandbox.engine.world.generation.noise;
+
+import java.util.Arrays;
+
+/**
+ * Fractal sum of {@link GradientNoise} octaves.
+ *
+ * <p>
+ *     Octave {@code i} samples its own noise function at
+ *     {@code frequency * 2^i} and contributes with amplitude
+ *     {@code gain^i}. The sum is divided by the total amplitude, so values
+ *     stay roughly within {@code [-1, 1]} regardless of the octave count.
+ * </p>
+ *
+ * <p>
+ *     Point samples are always evaluated by the scalar {@link GradientNoise}.
+ *     Slab fills ({@link #fill(float[], int, int, int)} and
+ *     {@link #fill(float[], int, int, int, int)}) run on one of two
+ *     backends:
+ * </p>
+ * <ul>
+ *     <li> a vectorized backend using {@code jdk.incubator.vector},
+ *          enabled with {@code -D}{@value #VECTOR_PROPERTY}{@code =true}
+ *          and {@code --add-modules jdk.incubator.vector} </li>
+ *     <li> a portable scalar backend, used otherwise </li>
+ * </ul>
+ *
+ * <p>
+ *     The vector backend lives in the separate {@code vector} source set,
+ *     the only code compiled against the incubator module, and is loaded
+ *     reflectively. Without the module this class never touches it.
+ * </p>
+ *
+ * <p>
+ *     Both backends perform the same single-precision operations in the
+ *     same order, so fills are bit-for-bit identical to point samples
+ *     whichever backend is used.
+ * </p>
+ *
+ * <p>
+ *     Instances are immutable and thread-safe.
+ * </p>
+ */
+public final class FractalNoise {
+
+    /**
+     * System property enabling the Vector API backend.
+     */
+    public static final String VECTOR_PROPERTY = "voxelsandbox.noise.vector";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final String VECTOR_KERNEL = "com.voxelsandbox.engine.world.generation.noise.VectorNoiseSlabKernel";
+
+    /**
+     * Odd constant separating the seeds of successive octaves.
+     */
+    private static final long OCTAVE_SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private final GradientNoise[] octaves;
+    private final float frequency;
+    private final float gain;
+    private final float normalization;
+    private final NoiseSlabKernel kernel;
+
+    /**
+     * Creates a fractal noise function using the configured backend.
+     *
+     * <p>
+     *     The vector backend is selected only if {@value #VECTOR_PROPERTY}
+     *     is {@code true} and the Vector API module is available.
+     * </p>
+     *
+     * @param seed seed of the first octave
+     * @param octaves number of octaves
+     * @param frequency frequency of the first octave, in cycles per unit
+     * @param gain amplitude ratio between successive octaves
+     * @throws IllegalArgumentException if {@code octaves < 1}, or
+     *                                  {@code frequency} or {@code gain}
+     *                                  is not positive
+     */
+    public FractalNoise(long seed, int octaves, float frequency, float gain) {
+        this(seed, octaves, frequency, gain, Boolean.getBoolean(VECTOR_PROPERTY) && isVectorSupported());
+    }
+
+    /**
+     * Creates a fractal noise function.
+     *
+     * @param seed seed of the first octave
+     * @param octaves number of octaves
+     * @param frequency frequency of the first octave, in cycles per unit
+     * @param gain amplitude ratio between successive octaves
+     * @param vectorized whether slab fills use the Vector API backend
+     * @throws IllegalArgumentException if {@code octaves < 1}, or
+     *                                  {@code frequency} or {@code gain}
+     *                                  is not positive
+     * @throws IllegalStateException if {@code vectorized} is requested but
+     *                               the Vector API module is not available
+     */
+    public FractalNoise(long seed, int octaves, float frequency, float gain, boolean vectorized) {
+        if (octaves < 1) {
+            throw new IllegalArgumentException("octaves must be >= 1: " + octaves);
+        }
+        if (!(frequency > 0f) || !(gain > 0f)) {
+            throw new IllegalArgumentException("frequency and gain must be positive");
+        }
+        this.octaves = new GradientNoise[octaves];
+        float total = 0f;
+        float amplitude = 1f;
+        for (int i = 0; i < octaves; i++) {
+            this.octaves[i] = new GradientNoise(seed + i * OCTAVE_SEED_STEP);
+            total += amplitude;
+            amplitude *= gain;
+        }
+        this.frequency = frequency;
+        this.gain = gain;
+        this.normalization = 1f / total;
+
+        if (vectorized && !isVectorSupported()) {
+            throw new IllegalStateException(
+                    "Module " + VECTOR_MODULE + " is not available; run with --add-modules " + VECTOR_MODULE
+            );
+        }
+        this.kernel = vectorized ? newVectorKernel() : ScalarNoiseSlabKernel.INSTANCE;
+    }
+
+    private static NoiseSlabKernel newVectorKernel() {
+        try {
+            return (NoiseSlabKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Vector noise backend is not on the class path", e);
+        }
+    }
+
+    /**
+     * Returns whether the Vector API module is present in the running JVM.
+     *
+     * @return {@code true} if {@code jdk.incubator.vector} can be used
+     */
+    public static boolean isVectorSupported() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * Returns whether slab fills use the Vector API backend.
+     *
+     * @return {@code true} if vectorized
+     */
+    public boolean isVectorized() {
+        return kernel != ScalarNoiseSlabKernel.INSTANCE;
+    }
+
+    public int getOctaveCount() {
+        return octaves.length;
+    }
+
+    /**
+     * Samples 2D fractal noise.
+     *
+     * @param x sample x coordinate
+     * @param z sample z coordinate
+     * @return noise value, roughly within {@code [-1, 1]}
+     */
+    public float sample(float x, float z) {
+        float sum = 0f;
+        float amplitude = 1f;
+        float scale = frequency;
+        for (GradientNoise octave : octaves) {
+            sum += amplitude * octave.noise(x * scale, z * scale);
+            amplitude *= gain;
+            scale *= 2f;
+        }
+        return sum * normalization;
+    }
+
+    /**
+     * Samples 3D fractal noise.
+     *
+     * @param x sample x coordinate
+     * @param y sample y coordinate
+     * @param z sample z coordinate
+     * @return noise value, roughly within {@code [-1, 1]}
+     */
+    public float sample(float x, float y, float z) {
+        float sum = 0f;
+        float amplitude = 1f;
+        float scale = frequency;
+        for (GradientNoise octave : octaves) {
+            sum += amplitude * octave.noise(x * scale, y * scale, z * scale);
+            amplitude *= gain;
+            scale *= 2f;
+        }
+        return sum * normalization;
+    }
+
+    /**
+     * Samples 2D fractal noise on a square grid with unit spacing.
+     *
+     * <p>
+     *     Sample {@code (i, j)} is taken at {@code (originX + i, originZ + j)}
+     *     and stored at {@code out[i + j * size]}.
+     * </p>
+     *
+     * @param out destination, at least {@code size * size} long
+     * @param originX x coordinate of the first sample
+     * @param originZ z coordinate of the first sample
+     * @param size number of samples per edge
+     * @throws IllegalArgumentException if {@code out} is too small
+     */
+    public void fill(float[] out, int originX, int originZ, int size) {
+        if (size < 0 || out.length < size * size) {
+            throw new IllegalArgumentException("out must hold " + size + " x " + size + " samples");
+        }
+        int count = size * size;
+        Arrays.fill(out, 0, count, 0f);
+
+        float amplitude = 1f;
+        float scale = frequency;
+        for (GradientNoise octave : octaves) {
+            kernel.accumulate(octave, out, size, originX, originZ, scale, amplitude);
+            amplitude *= gain;
+            scale *= 2f;
+        }
+        normalize(out, count);
+    }
+
+    /**
+     * Samples 3D fractal noise on a cubic grid with unit spacing.
+     *
+     * <p>
+     *     Sample {@code (i, j, k)} is taken at
+     *     {@code (originX + i, originY + j, originZ + k)} and stored at
+     *     {@code out[i + k * size + j * size * size]}, the layout of chunk
+     *     voxels.
+     * </p>
+     *
+     * @param out destination, at least {@code size^3} long
+     * @param originX x coordinate of the first sample
+     * @param originY y coordinate of the first sample
+     * @param originZ z coordinate of the first sample
+     * @param size number of samples per edge
+     * @throws IllegalArgumentException if {@code out} is too small
+     */
+    public void fill(float[] out, int originX, int originY, int originZ, int size) {
+        if (size < 0 || out.length < size * size * size) {
+            throw new IllegalArgumentException(
+                    "out must hold " + size + " x " + size + " x " + size + " samples"
+            );
+        }
+        int count = size * size * size;
+        Arrays.fill(out, 0, count, 0f);
+
+        float amplitude = 1f;
+        float scale = frequency;
+        for (GradientNoise octave : octaves) {
+            kernel.accumulate(octave, out, size, originX, originY, originZ, scale, amplitude);
+            amplitude *= gain;
+            scale *= 2f;
+        }
+        normalize(out, count);
+    }
+
+    private void normalize(float[] out, int count) {
+        for (int i = 0; i < count; i++) {
+            out[i] = out[i] * normalization;
+        }
+    }
+}
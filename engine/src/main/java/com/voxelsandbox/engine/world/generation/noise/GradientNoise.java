@@ -0,0 +1,183 @@
+package com.voxelsandbox.engine.world.generation.noise;
+
+import java.util.Random;
+
+
+/**
+ * Seeded 2D and 3D gradient noise, after Perlin's improved noise.
+ *
+ * <p>
+ *     Lattice points receive a pseudo-random gradient chosen through a
+ *     permutation table shuffled from the seed; a sample blends the dot
+ *     products of the surrounding gradients with a quintic fade curve.
+ *     The noise is zero on every lattice point, continuous with continuous
+ *     derivatives, repeats every 256 units, and stays roughly within
+ *     {@code [-1, 1]}.
+ * </p>
+ *
+ * <p>
+ *     All arithmetic is single precision and performed in a fixed order,
+ *     so results are identical on every platform. This class is the
+ *     reference the vectorized evaluators are checked against.
+ * </p>
+ *
+ * <p>
+ *     Instances are immutable and thread-safe.
+ * </p>
+ */
+public final class GradientNoise {
+
+    /**
+     * Lattice period.
+     */
+    public static final int PERIOD = 256;
+
+    static final int MASK = PERIOD - 1;
+
+    private static final float DIAGONAL = 0.70710677f;
+
+    /**
+     * Scales 2D noise, whose extremes are {@code ±sqrt(1/2)} with unit
+     * gradients, to the range of the 3D noise.
+     */
+    static final float SCALE_2D = 1.4142135f;
+
+    /**
+     * 2D gradients, selected by the low three hash bits.
+     */
+    static final float[] GRAD2_X = {1f, -1f, 0f, 0f, DIAGONAL, -DIAGONAL, DIAGONAL, -DIAGONAL};
+    static final float[] GRAD2_Z = {0f, 0f, 1f, -1f, DIAGONAL, DIAGONAL, -DIAGONAL, -DIAGONAL};
+
+    /**
+     * 3D gradients towards the cube edge midpoints, selected by the low
+     * four hash bits. Four of the twelve directions are repeated to fill
+     * sixteen entries.
+     */
+    static final float[] GRAD3_X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0, 1, 0, -1, 0};
+    static final float[] GRAD3_Y = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1, 1, -1, 1, -1};
+    static final float[] GRAD3_Z = {0, 0, 0, 0, 1, 1, -1, -1, 1, 1, -1, -1, 0, 1, 0, -1};
+
+    /**
+     * Permutation of {@code [0, PERIOD)}, stored twice so that
+     * {@code perm[perm[i] + j]} never needs wrapping.
+     */
+    private final int[] perm = new int[2 * PERIOD];
+
+    /**
+     * Creates a noise function.
+     *
+     * @param seed seed of the permutation table
+     */
+    public GradientNoise(long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < PERIOD; i++) {
+            perm[i] = i;
+        }
+        for (int i = PERIOD - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = perm[i];
+            perm[i] = perm[j];
+            perm[j] = swap;
+        }
+        System.arraycopy(perm, 0, perm, PERIOD, PERIOD);
+    }
+
+    /**
+     * Samples 2D noise.
+     *
+     * @param x sample x coordinate
+     * @param z sample z coordinate
+     * @return noise value, roughly within {@code [-1, 1]}
+     */
+    public float noise(float x, float z) {
+        int cellX = floor(x);
+        int cellZ = floor(z);
+        float fx = x - cellX;
+        float fz = z - cellZ;
+        int ix = cellX & MASK;
+        int iz = cellZ & MASK;
+
+        int a = perm[ix];
+        int b = perm[ix + 1];
+        float n00 = grad(perm[a + iz], fx, fz);
+        float n10 = grad(perm[b + iz], fx - 1f, fz);
+        float n01 = grad(perm[a + iz + 1], fx, fz - 1f);
+        float n11 = grad(perm[b + iz + 1], fx - 1f, fz - 1f);
+
+        float u = fade(fx);
+        return SCALE_2D * lerp(fade(fz), lerp(u, n00, n10), lerp(u, n01, n11));
+    }
+
+    /**
+     * Samples 3D noise.
+     *
+     * @param x sample x coordinate
+     * @param y sample y coordinate
+     * @param z sample z coordinate
+     * @return noise value, roughly within {@code [-1, 1]}
+     */
+    public float noise(float x, float y, float z) {
+        int cellX = floor(x);
+        int cellY = floor(y);
+        int cellZ = floor(z);
+        float fx = x - cellX;
+        float fy = y - cellY;
+        float fz = z - cellZ;
+        int ix = cellX & MASK;
+        int iy = cellY & MASK;
+        int iz = cellZ & MASK;
+
+        int a = perm[ix] + iy;
+        int b = perm[ix + 1] + iy;
+        int aa = perm[a] + iz;
+        int ab = perm[a + 1] + iz;
+        int ba = perm[b] + iz;
+        int bb = perm[b + 1] + iz;
+
+        float n000 = grad(perm[aa], fx, fy, fz);
+        float n100 = grad(perm[ba], fx - 1f, fy, fz);
+        float n010 = grad(perm[ab], fx, fy - 1f, fz);
+        float n110 = grad(perm[bb], fx - 1f, fy - 1f, fz);
+        float n001 = grad(perm[aa + 1], fx, fy, fz - 1f);
+        float n101 = grad(perm[ba + 1], fx - 1f, fy, fz - 1f);
+        float n011 = grad(perm[ab + 1], fx, fy - 1f, fz - 1f);
+        float n111 = grad(perm[bb + 1], fx - 1f, fy - 1f, fz - 1f);
+
+        float u = fade(fx);
+        float v = fade(fy);
+        return lerp(fade(fz),
+                lerp(v, lerp(u, n000, n100), lerp(u, n010, n110)),
+                lerp(v, lerp(u, n001, n101), lerp(u, n011, n111)));
+    }
+
+    /**
+     * Returns the permutation table, doubled to {@code 2 * PERIOD} entries.
+     * The array is shared and must not be modified.
+     */
+    int[] permutation() {
+        return perm;
+    }
+
+    static int floor(float value) {
+        int truncated = (int) value;
+        return value < truncated ? truncated - 1 : truncated;
+    }
+
+    static float fade(float t) {
+        return t * t * t * (t * (t * 6f - 15f) + 10f);
+    }
+
+    static float lerp(float t, float a, float b) {
+        return a + t * (b - a);
+    }
+
+    private static float grad(int hash, float x, float z) {
+        int g = hash & 7;
+        return GRAD2_X[g] * x + GRAD2_Z[g] * z;
+    }
+
+    private static float grad(int hash, float x, float y, float z) {
+        int g = hash & 15;
+        return GRAD3_X[g] * x + GRAD3_Y[g] * y + GRAD3_Z[g] * z;
+    }
+}
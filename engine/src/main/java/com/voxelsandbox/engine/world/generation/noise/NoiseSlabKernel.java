@@ -0,0 +1,50 @@
+package com.voxelsandbox.engine.world.generation.noise;
+
+
+/**
+ * Accumulates one octave of {@link GradientNoise} over a square or cubic
+ * slab of integer sample positions.
+ *
+ * <p>
+ *     Sample {@code i} along an axis is taken at
+ *     {@code (float) (origin + i) * scale}, and its value is accumulated
+ *     as {@code out[k] = out[k] + amplitude * noise}. Implementations MUST
+ *     evaluate exactly the same single-precision operations in the same
+ *     order as {@link GradientNoise}, so that every backend produces the
+ *     same bits as the scalar reference.
+ * </p>
+ *
+ * <p>
+ *     2D slabs are indexed {@code x + z * size}; 3D slabs are indexed
+ *     {@code x + z * size + y * size * size}, like chunk voxels.
+ * </p>
+ */
+interface NoiseSlabKernel {
+
+    /**
+     * Accumulates a {@code size x size} slab of 2D noise.
+     */
+    void accumulate(
+            GradientNoise noise,
+            float[] out,
+            int size,
+            int originX,
+            int originZ,
+            float scale,
+            float amplitude
+    );
+
+    /**
+     * Accumulates a {@code size x size x size} slab of 3D noise.
+     */
+    void accumulate(
+            GradientNoise noise,
+            float[] out,
+            int size,
+            int originX,
+            int originY,
+            int originZ,
+            float scale,
+            float amplitude
+    );
+}
@@ -0,0 +1,56 @@
+package com.voxelsandbox.engine.world.generation.noise;
+
+
+/**
+ * Portable {@link NoiseSlabKernel} sampling {@link GradientNoise} point by
+ * point.
+ */
+final class ScalarNoiseSlabKernel implements NoiseSlabKernel {
+
+    static final ScalarNoiseSlabKernel INSTANCE = new ScalarNoiseSlabKernel();
+
+    private ScalarNoiseSlabKernel() {
+    }
+
+    @Override
+    public void accumulate(
+            GradientNoise noise,
+            float[] out,
+            int size,
+            int originX,
+            int originZ,
+            float scale,
+            float amplitude
+    ) {
+        for (int z = 0; z < size; z++) {
+            float sampleZ = (float) (originZ + z) * scale;
+            for (int x = 0; x < size; x++) {
+                int k = x + z * size;
+                out[k] = out[k] + amplitude * noise.noise((float) (originX + x) * scale, sampleZ);
+            }
+        }
+    }
+
+    @Override
+    public void accumulate(
+            GradientNoise noise,
+            float[] out,
+            int size,
+            int originX,
+            int originY,
+            int originZ,
+            float scale,
+            float amplitude
+    ) {
+        for (int y = 0; y < size; y++) {
+            float sampleY = (float) (originY + y) * scale;
+            for (int z = 0; z < size; z++) {
+                float sampleZ = (float) (originZ + z) * scale;
+                for (int x = 0; x < size; x++) {
+                    int k = x + z * size + y * size * size;
+                    out[k] = out[k] + amplitude * noise.noise((float) (originX + x) * scale, sampleY, sampleZ);
+                }
+            }
+        }
+    }
+}
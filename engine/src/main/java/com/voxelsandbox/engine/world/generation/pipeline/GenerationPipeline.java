@@ -0,0 +1,380 @@
+package com.voxelsandbox.engine.world.generation.pipeline;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * {@link IWorldGenerator} that builds chunks in stages: a base generator,
+ * typically terrain, followed by a list of {@link IGenerationPass}es such as
+ * features and decoration.
+ *
+ * <p>
+ *     Stage {@code 0} of a chunk is produced by the base generator. Stage
+ *     {@code k} applies pass {@code k} to a copy of stage {@code k - 1} of
+ *     the chunk, with stage {@code k - 1} of every neighbour within the pass
+ *     radius readable. Like the frame key contracts of the render pipeline,
+ *     the radius a pass declares is both what the scheduler provides and
+ *     all the pass may access: reads outside it fail.
+ * </p>
+ *
+ * <p>
+ *     A request is expanded into the graph of {@code (position, stage)}
+ *     tasks it depends on. Every task runs on the executor as soon as its
+ *     inputs are complete, so independent chunks and stages proceed in
+ *     parallel. Because a pass reads its neighbours only as the previous
+ *     stage left them and writes only its own chunk, the result does not
+ *     depend on the scheduling order or the number of threads.
+ * </p>
+ *
+ * <p>
+ *     Intermediate stages are partial chunks. They are kept in a bounded
+ *     least-recently-used cache shared by all requests, so the neighbourhood
+ *     built for one chunk is reused when its neighbours are requested.
+ *     Stages still being computed are shared as well and are never evicted.
+ *     Final chunks are not retained.
+ * </p>
+ *
+ * <p>
+ *     Instances are thread-safe. {@link #generateChunk} blocks until the
+ *     chunk is complete and must not be called from the pipeline's own
+ *     executor threads.
+ * </p>
+ */
+public final class GenerationPipeline implements IWorldGenerator, AutoCloseable {
+
+    /**
+     * Default number of cached partial chunk stages.
+     */
+    public static final int DEFAULT_PARTIAL_CACHE_SIZE = 1024;
+
+    private final IWorldGenerator base;
+    private final IGenerationPass[] passes;
+    private final int[] radii;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int partialCacheSize;
+
+    /**
+     * Partial chunks by stage, in access order, guarded by itself.
+     */
+    private final LinkedHashMap<StageKey, CompletableFuture<Chunk>> partials = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final AtomicLong stageEvaluations = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a pipeline with its own pool of daemon worker threads and a
+     * cache of {@link #DEFAULT_PARTIAL_CACHE_SIZE} partial stages.
+     *
+     * @param base generator of stage {@code 0}
+     * @param passes passes producing the following stages, in order
+     * @param workerThreads number of worker threads
+     * @throws IllegalArgumentException if {@code workerThreads} is not
+     *                                  positive, a pass radius is negative
+     *                                  or two passes share an identifier
+     */
+    public GenerationPipeline(IWorldGenerator base, List<? extends IGenerationPass> passes, int workerThreads) {
+        this(base, passes, newPool(workerThreads), DEFAULT_PARTIAL_CACHE_SIZE, true);
+    }
+
+    /**
+     * Creates a pipeline running on a caller-owned executor.
+     *
+     * <p>
+     *     The executor is not shut down by {@link #close()}.
+     * </p>
+     *
+     * @param base generator of stage {@code 0}
+     * @param passes passes producing the following stages, in order
+     * @param executor executor running generation tasks
+     * @param partialCacheSize maximum number of cached partial stages
+     * @throws IllegalArgumentException if {@code partialCacheSize < 1}, a
+     *                                  pass radius is negative or two passes
+     *                                  share an identifier
+     */
+    public GenerationPipeline(
+            IWorldGenerator base,
+            List<? extends IGenerationPass> passes,
+            Executor executor,
+            int partialCacheSize
+    ) {
+        this(base, passes, executor, partialCacheSize, false);
+    }
+
+    private GenerationPipeline(
+            IWorldGenerator base,
+            List<? extends IGenerationPass> passes,
+            Executor executor,
+            int partialCacheSize,
+            boolean ownsExecutor
+    ) {
+        this.base = Objects.requireNonNull(base, "IWorldGenerator must not be null");
+        Objects.requireNonNull(passes, "passes must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        if (partialCacheSize < 1) {
+            throw new IllegalArgumentException("partialCacheSize must be >= 1: " + partialCacheSize);
+        }
+
+        this.passes = passes.toArray(new IGenerationPass[0]);
+        this.radii = new int[this.passes.length];
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < this.passes.length; i++) {
+            IGenerationPass pass = Objects.requireNonNull(this.passes[i], "IGenerationPass must not be null");
+            String id = Objects.requireNonNull(pass.getId(), "pass id must not be null");
+            if (!ids.add(id)) {
+                throw new IllegalArgumentException("Duplicate pass id: " + id);
+            }
+            radii[i] = pass.getNeighbourRadius();
+            if (radii[i] < 0) {
+                throw new IllegalArgumentException("Pass '" + id + "' has a negative neighbour radius: " + radii[i]);
+            }
+        }
+
+        this.partialCacheSize = partialCacheSize;
+        this.ownedExecutor = ownsExecutor ? (ExecutorService) executor : null;
+    }
+
+    /**
+     * Generates a chunk through every stage of the pipeline.
+     *
+     * @param seed the world seed
+     * @param position the position of the chunk in chunk space
+     * @return the generated chunk
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    @Override
+    public Chunk generateChunk(long seed, ChunkPosition position) {
+        Objects.requireNonNull(position, "ChunkPosition must not be null");
+        checkOpen();
+        return await(compute(seed, position, passes.length));
+    }
+
+    /**
+     * Generates several chunks, scheduling all of them before waiting so
+     * that their stages are computed in parallel and shared.
+     *
+     * @param seed the world seed
+     * @param positions positions of the chunks in chunk space
+     * @return the generated chunks, in the iteration order of {@code positions}
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public Map<ChunkPosition, Chunk> generateChunks(long seed, Collection<ChunkPosition> positions) {
+        Objects.requireNonNull(positions, "positions must not be null");
+        checkOpen();
+
+        Map<ChunkPosition, CompletableFuture<Chunk>> scheduled = new LinkedHashMap<>();
+        for (ChunkPosition position : positions) {
+            Objects.requireNonNull(position, "ChunkPosition must not be null");
+            scheduled.computeIfAbsent(position, p -> compute(seed, p, passes.length));
+        }
+
+        Map<ChunkPosition, Chunk> chunks = new LinkedHashMap<>();
+        scheduled.forEach((position, future) -> chunks.put(position, await(future)));
+        return chunks;
+    }
+
+    /**
+     * Returns the number of stages a chunk goes through, base generator
+     * included.
+     *
+     * @return {@code 1 +} the number of passes
+     */
+    public int getStageCount() {
+        return passes.length + 1;
+    }
+
+    /**
+     * Returns how many chunk stages have been computed, cache hits
+     * excluded.
+     *
+     * @return number of base generations and pass applications
+     */
+    public long getStageEvaluationCount() {
+        return stageEvaluations.get();
+    }
+
+    /**
+     * Returns the number of partial stages currently cached, including
+     * those still being computed.
+     *
+     * @return cached partial stage count
+     */
+    public int getCachedPartialCount() {
+        synchronized (partials) {
+            return partials.size();
+        }
+    }
+
+    /**
+     * Stops accepting requests and drops the partial cache.
+     *
+     * <p>
+     *     An owned worker pool is shut down after the tasks already
+     *     scheduled complete; a caller-owned executor is left running.
+     * </p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (partials) {
+            partials.clear();
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /* ==========================================================
+     * Scheduling
+     * ========================================================== */
+
+    /**
+     * Returns the cached task computing a stage, scheduling it on a miss.
+     */
+    private CompletableFuture<Chunk> partial(long seed, ChunkPosition position, int stage) {
+        StageKey key = new StageKey(seed, position, stage);
+        CompletableFuture<Chunk> placeholder;
+        synchronized (partials) {
+            CompletableFuture<Chunk> cached = partials.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            placeholder = new CompletableFuture<>();
+            partials.put(key, placeholder);
+            evictCompleted();
+        }
+
+        // Dependencies are wired outside the lock; the placeholder makes
+        // concurrent requests for the same stage share this task
+        compute(seed, position, stage).whenComplete((chunk, failure) -> {
+            if (failure != null) {
+                synchronized (partials) {
+                    partials.remove(key, placeholder);
+                }
+                placeholder.completeExceptionally(failure);
+            } else {
+                placeholder.complete(chunk);
+            }
+        });
+        return placeholder;
+    }
+
+    /**
+     * Schedules a stage once the stages it depends on are complete.
+     */
+    private CompletableFuture<Chunk> compute(long seed, ChunkPosition position, int stage) {
+        if (stage == 0) {
+            return CompletableFuture.supplyAsync(() -> generateBase(seed, position), executor);
+        }
+
+        int radius = radii[stage - 1];
+        int side = 2 * radius + 1;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        CompletableFuture<Chunk>[] inputs = new CompletableFuture[side * side * side];
+        int i = 0;
+        for (int dy = -radius; dy <= radius; dy++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    ChunkPosition neighbour = new ChunkPosition(
+                            position.x() + dx,
+                            position.y() + dy,
+                            position.z() + dz
+                    );
+                    inputs[i++] = partial(seed, neighbour, stage - 1);
+                }
+            }
+        }
+        return CompletableFuture.allOf(inputs)
+                .thenApplyAsync(ignored -> applyPass(seed, stage, inputs), executor);
+    }
+
+    private Chunk generateBase(long seed, ChunkPosition position) {
+        Chunk chunk = base.generateChunk(seed, position);
+        stageEvaluations.incrementAndGet();
+        return chunk;
+    }
+
+    private Chunk applyPass(long seed, int stage, CompletableFuture<Chunk>[] inputs) {
+        Chunk[] neighbourhood = new Chunk[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            neighbourhood[i] = inputs[i].join();
+        }
+
+        // The centre of the neighbourhood is the previous stage of the
+        // chunk itself; it is shared, so the pass works on a copy
+        Chunk chunk = neighbourhood[inputs.length / 2].copy();
+        IGenerationPass pass = passes[stage - 1];
+        pass.apply(new GenerationRegion(seed, pass.getId(), radii[stage - 1], chunk, neighbourhood));
+        stageEvaluations.incrementAndGet();
+        return chunk;
+    }
+
+    /**
+     * Removes the least recently used completed stages until the cache is
+     * within bounds. Must hold the {@link #partials} lock.
+     */
+    private void evictCompleted() {
+        Iterator<CompletableFuture<Chunk>> eldest = partials.values().iterator();
+        while (partials.size() > partialCacheSize && eldest.hasNext()) {
+            if (eldest.next().isDone()) {
+                eldest.remove();
+            }
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("GenerationPipeline is closed");
+        }
+    }
+
+    private static Chunk await(CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Chunk generation failed", cause);
+        }
+    }
+
+    private static ExecutorService newPool(int workerThreads) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("workerThreads must be positive");
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "chunk-generator-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record StageKey(long seed, ChunkPosition position, int stage) { }
+}
@@ -0,0 +1,167 @@
+package com.voxelsandbox.engine.world.generation.pipeline;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.coordinate.ChunkCoordinateMapper;
+import com.voxelsandbox.engine.world.type.VoxelType;
+
+import java.util.Objects;
+
+
+/**
+ * The view of the world a {@link IGenerationPass} works on.
+ *
+ * <p>
+ *     A region is centred on the chunk being transformed and spans the
+ *     pass's neighbour radius. Reads through {@link #getVoxel} see every
+ *     chunk, the centre included, as the previous stage left it, whatever
+ *     progress it has made since. Every chunk a feature overlaps thus makes
+ *     the same placement decisions. The pass sees its own writes through
+ *     {@link #getChunk()}. Reads outside the region violate the pass
+ *     contract and fail fast.
+ * </p>
+ *
+ * <p>
+ *     Writes are applied to the centre chunk only. Writes that fall in a
+ *     neighbour are discarded: the neighbour writes its own part of the
+ *     feature when the pass runs on it.
+ * </p>
+ *
+ * <p>
+ *     A region is confined to the thread running the pass.
+ * </p>
+ */
+public final class GenerationRegion {
+
+    private final long seed;
+    private final String passId;
+    private final ChunkPosition position;
+    private final int radius;
+    private final int side;
+    private final Chunk chunk;
+
+    /**
+     * Chunks of the previous stage, centre included, indexed
+     * {@code (dx + r) + (dz + r) * side + (dy + r) * side * side}.
+     */
+    private final Chunk[] neighbourhood;
+
+    GenerationRegion(long seed, String passId, int radius, Chunk chunk, Chunk[] neighbourhood) {
+        this.seed = seed;
+        this.passId = passId;
+        this.position = chunk.getPosition();
+        this.radius = radius;
+        this.side = 2 * radius + 1;
+        this.chunk = chunk;
+        this.neighbourhood = neighbourhood;
+    }
+
+    /**
+     * Returns the world seed.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the position of the chunk being transformed.
+     *
+     * @return the centre chunk position
+     */
+    public ChunkPosition getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the neighbour radius of the region, in chunks.
+     *
+     * @return the radius declared by the pass
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Returns the chunk being transformed, including the writes of the
+     * pass so far.
+     *
+     * @return the centre chunk, writable
+     */
+    public Chunk getChunk() {
+        return chunk;
+    }
+
+    /**
+     * Returns whether world voxel coordinates lie in the region.
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return {@code true} if the voxel can be read
+     */
+    public boolean contains(int worldX, int worldY, int worldZ) {
+        return Math.abs(ChunkCoordinateMapper.chunkX(worldX) - position.x()) <= radius
+                && Math.abs(ChunkCoordinateMapper.chunkY(worldY) - position.y()) <= radius
+                && Math.abs(ChunkCoordinateMapper.chunkZ(worldZ) - position.z()) <= radius;
+    }
+
+    /**
+     * Returns the voxel type at the given world voxel coordinates, as left
+     * by the previous stage.
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return the voxel type
+     * @throws IllegalStateException if the voxel lies outside the region
+     */
+    public VoxelType getVoxel(int worldX, int worldY, int worldZ) {
+        int dx = ChunkCoordinateMapper.chunkX(worldX) - position.x();
+        int dy = ChunkCoordinateMapper.chunkY(worldY) - position.y();
+        int dz = ChunkCoordinateMapper.chunkZ(worldZ) - position.z();
+
+        if (Math.abs(dx) > radius || Math.abs(dy) > radius || Math.abs(dz) > radius) {
+            throw new IllegalStateException(
+                    "Pass '" + passId + "' read outside its neighbour radius " + radius
+                            + " at " + worldX + ", " + worldY + ", " + worldZ
+            );
+        }
+
+        Chunk source = neighbourhood[(dx + radius) + (dz + radius) * side + (dy + radius) * side * side];
+        return source.getVoxel(
+                ChunkCoordinateMapper.localX(worldX),
+                ChunkCoordinateMapper.localY(worldY),
+                ChunkCoordinateMapper.localZ(worldZ)
+        );
+    }
+
+    /**
+     * Sets the voxel type at the given world voxel coordinates if they lie
+     * in the centre chunk.
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @param type the type to set
+     * @return {@code true} if the write was applied, {@code false} if it
+     *         fell outside the centre chunk and was discarded
+     * @throws NullPointerException if the voxel type is null
+     */
+    public boolean setVoxel(int worldX, int worldY, int worldZ, VoxelType type) {
+        Objects.requireNonNull(type, "VoxelType must not be null");
+        if (ChunkCoordinateMapper.chunkX(worldX) != position.x()
+                || ChunkCoordinateMapper.chunkY(worldY) != position.y()
+                || ChunkCoordinateMapper.chunkZ(worldZ) != position.z()) {
+            return false;
+        }
+        chunk.setVoxel(
+                ChunkCoordinateMapper.localX(worldX),
+                ChunkCoordinateMapper.localY(worldY),
+                ChunkCoordinateMapper.localZ(worldZ),
+                type
+        );
+        return true;
+    }
+}
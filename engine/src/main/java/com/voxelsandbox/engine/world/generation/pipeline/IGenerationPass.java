@@ -0,0 +1,52 @@
+package com.voxelsandbox.engine.world.generation.pipeline;
+
+
+/**
+ * One stage of a {@link GenerationPipeline}, such as feature placement or
+ * decoration.
+ *
+ * <p>
+ *     A pass transforms a single chunk. It may read the chunks around it
+ *     up to its {@linkplain #getNeighbourRadius() neighbour radius}, as they
+ *     were left by the previous stage, and may only write its own chunk.
+ *     A feature that crosses chunk borders, such as a tree, is therefore
+ *     written piecewise: every chunk it overlaps derives it from the
+ *     neighbour it originates in and writes its own part.
+ * </p>
+ *
+ * <p>
+ *     Implementations must be deterministic with respect to the seed and
+ *     the region content, and thread-safe: the pipeline applies a pass to
+ *     many chunks concurrently.
+ * </p>
+ */
+public interface IGenerationPass {
+
+    /**
+     * Returns the identifier of this pass, unique within a pipeline.
+     *
+     * @return pass identifier
+     */
+    String getId();
+
+    /**
+     * Returns how far, in chunks, this pass reads around the chunk it
+     * transforms.
+     *
+     * <p>
+     *     The pass may read every chunk whose coordinates differ from its own
+     *     by at most the radius on each axis. {@code 0} restricts it to its
+     *     own chunk.
+     * </p>
+     *
+     * @return neighbour radius, {@code >= 0}
+     */
+    int getNeighbourRadius();
+
+    /**
+     * Applies this pass to the chunk of a region.
+     *
+     * @param region the chunk to transform and its readable neighbourhood
+     */
+    void apply(GenerationRegion region);
+}
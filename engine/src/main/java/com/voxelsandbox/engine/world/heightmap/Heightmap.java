@@ -0,0 +1,329 @@
+package com.voxelsandbox.engine.world.heightmap;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.coordinate.ChunkCoordinateMapper;
+import com.voxelsandbox.engine.world.type.VoxelType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Maintains the height of the highest non-air voxel of every loaded
+ * voxel column.
+ *
+ * <p>
+ *     Heights are stored per chunk column, the vertical stack of chunks
+ *     sharing chunk coordinates {@code (x, z)}, as one value per voxel
+ *     column. They are raised in constant time when a chunk is loaded or a
+ *     voxel is placed above the surface. When the top voxel of a column is
+ *     removed, or the chunk holding it is unloaded, the column is rescanned
+ *     downward using the {@linkplain Chunk#getHighestSolidY(int, int)
+ *     surface index} of each loaded chunk, which costs one lookup per chunk
+ *     of the stack instead of one per voxel.
+ * </p>
+ *
+ * <p>
+ *     Only voxels within the vertical bounds given at construction are
+ *     considered; chunks entirely outside them are ignored. Columns without
+ *     loaded chunks, or whose loaded chunks are all air, report
+ *     {@code minY - 1}.
+ * </p>
+ *
+ * <p>
+ *     Threading: not thread-safe. Calls must be serialized with all other
+ *     writes to the world. The getters never write, so concurrent reads
+ *     are safe while no write is in progress.
+ * </p>
+ */
+public final class Heightmap {
+
+    private static final int SIZE_X = ChunkDimensions.SIZE_X;
+    private static final int SIZE_Y = ChunkDimensions.SIZE_Y;
+    private static final int SIZE_Z = ChunkDimensions.SIZE_Z;
+
+    private final int minY;
+    private final int minChunkY;
+    private final int chunksPerColumn;
+    private final int empty;
+
+    private final Map<Long, Column> columns = new HashMap<>();
+
+    /**
+     * Highest height over all columns.
+     */
+    private int max;
+
+    /**
+     * Creates an empty heightmap.
+     *
+     * @param minY lowest voxel y tracked (inclusive)
+     * @param maxY highest voxel y tracked (exclusive)
+     * @throws IllegalArgumentException if the bounds are not chunk aligned
+     *                                  or {@code maxY <= minY}
+     */
+    public Heightmap(int minY, int maxY) {
+        if (maxY <= minY || Math.floorMod(minY, SIZE_Y) != 0 || Math.floorMod(maxY, SIZE_Y) != 0) {
+            throw new IllegalArgumentException(
+                    "Vertical bounds must be chunk aligned and non-empty: [" + minY + ", " + maxY + ")"
+            );
+        }
+        this.minY = minY;
+        this.minChunkY = Math.floorDiv(minY, SIZE_Y);
+        this.chunksPerColumn = (maxY - minY) / SIZE_Y;
+        this.empty = minY - 1;
+        this.max = empty;
+    }
+
+    /**
+     * Returns the y of the highest non-air voxel in a column.
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return height of the column, or {@code minY - 1} if it has no
+     *         loaded non-air voxel
+     */
+    public int getHighestSolidY(int worldX, int worldZ) {
+        Column column = columns.get(key(
+                ChunkCoordinateMapper.chunkX(worldX),
+                ChunkCoordinateMapper.chunkZ(worldZ)
+        ));
+        if (column == null) {
+            return empty;
+        }
+        return column.heights[cell(
+                ChunkCoordinateMapper.localX(worldX),
+                ChunkCoordinateMapper.localZ(worldZ)
+        )];
+    }
+
+    /**
+     * Returns the highest height over all loaded columns.
+     *
+     * <p>
+     *     No loaded voxel above the returned y is solid. The value is kept
+     *     up to date by the write methods, which recompute it in time
+     *     proportional to the number of chunk columns when they lower the
+     *     previous maximum. This method only reads it.
+     * </p>
+     *
+     * @return highest height, or {@code minY - 1} if no column has one
+     */
+    public int getMaxSolidY() {
+        return max;
+    }
+
+    /**
+     * Raises the heights of the columns of a chunk that has just been
+     * added to the world.
+     *
+     * @param chunk the newly loaded chunk
+     */
+    public void onChunkLoaded(Chunk chunk) {
+        Objects.requireNonNull(chunk, "Chunk must not be null");
+
+        ChunkPosition position = chunk.getPosition();
+        int slot = slot(position.y());
+        if (slot < 0) {
+            return;
+        }
+
+        Column column = columns.computeIfAbsent(key(position.x(), position.z()), k -> new Column());
+        column.chunks[slot] = chunk;
+
+        int baseY = position.y() * SIZE_Y;
+        for (int z = 0; z < SIZE_Z; z++) {
+            for (int x = 0; x < SIZE_X; x++) {
+                int top = chunk.getHighestSolidY(x, z);
+                if (top >= 0) {
+                    column.raise(cell(x, z), baseY + top);
+                }
+            }
+        }
+        raiseMax(column.max);
+    }
+
+    /**
+     * Lowers the heights of the columns of a chunk that has just been
+     * removed from the world.
+     *
+     * @param chunk the removed chunk
+     */
+    public void onChunkUnloaded(Chunk chunk) {
+        Objects.requireNonNull(chunk, "Chunk must not be null");
+
+        ChunkPosition position = chunk.getPosition();
+        int slot = slot(position.y());
+        long key = key(position.x(), position.z());
+        Column column = columns.get(key);
+        if (slot < 0 || column == null || column.chunks[slot] != chunk) {
+            return;
+        }
+
+        column.chunks[slot] = null;
+        int previousMax = column.max;
+
+        if (column.isEmpty()) {
+            columns.remove(key);
+            lowerMax(previousMax);
+            return;
+        }
+
+        // Only columns topped inside the removed chunk change
+        int baseY = position.y() * SIZE_Y;
+        boolean lowered = false;
+        for (int cell = 0; cell < SIZE_X * SIZE_Z; cell++) {
+            int height = column.heights[cell];
+            if (height >= baseY && height < baseY + SIZE_Y) {
+                column.heights[cell] = scan(column, cell, slot - 1);
+                lowered = true;
+            }
+        }
+        if (lowered) {
+            column.recomputeMax();
+            if (column.max < previousMax) {
+                lowerMax(previousMax);
+            }
+        }
+    }
+
+    /**
+     * Updates the height of a column after one of its voxels changed.
+     *
+     * <p>
+     *     Must be called after the new type has been written to the chunk.
+     * </p>
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @param type the new voxel type
+     */
+    public void onVoxelChanged(int worldX, int worldY, int worldZ, VoxelType type) {
+        Objects.requireNonNull(type, "VoxelType must not be null");
+
+        Column column = columns.get(key(
+                ChunkCoordinateMapper.chunkX(worldX),
+                ChunkCoordinateMapper.chunkZ(worldZ)
+        ));
+        int slot = slot(ChunkCoordinateMapper.chunkY(worldY));
+        if (column == null || slot < 0) {
+            return;
+        }
+
+        int cell = cell(ChunkCoordinateMapper.localX(worldX), ChunkCoordinateMapper.localZ(worldZ));
+        int height = column.heights[cell];
+
+        if (type != VoxelType.AIR) {
+            if (worldY > height) {
+                column.raise(cell, worldY);
+                raiseMax(column.max);
+            }
+        } else if (worldY == height) {
+            int previousMax = column.max;
+            column.heights[cell] = scan(column, cell, slot);
+            if (height == previousMax) {
+                column.recomputeMax();
+                if (column.max < previousMax) {
+                    lowerMax(previousMax);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the highest non-air voxel of a voxel column, looking at the
+     * loaded chunks from {@code fromSlot} downward.
+     */
+    private int scan(Column column, int cell, int fromSlot) {
+        int x = cell % SIZE_X;
+        int z = cell / SIZE_X;
+        for (int slot = fromSlot; slot >= 0; slot--) {
+            Chunk chunk = column.chunks[slot];
+            if (chunk == null) {
+                continue;
+            }
+            int top = chunk.getHighestSolidY(x, z);
+            if (top >= 0) {
+                return minY + slot * SIZE_Y + top;
+            }
+        }
+        return empty;
+    }
+
+    private void raiseMax(int height) {
+        if (height > max) {
+            max = height;
+        }
+    }
+
+    private void lowerMax(int previousColumnMax) {
+        if (previousColumnMax != max) {
+            return;
+        }
+        int highest = empty;
+        for (Column column : columns.values()) {
+            highest = Math.max(highest, column.max);
+        }
+        max = highest;
+    }
+
+    /**
+     * Returns the index of a chunk in its column, or {@code -1} if the
+     * chunk lies outside the tracked bounds.
+     */
+    private int slot(int chunkY) {
+        int slot = chunkY - minChunkY;
+        return slot >= 0 && slot < chunksPerColumn ? slot : -1;
+    }
+
+    private static int cell(int localX, int localZ) {
+        return localX + localZ * SIZE_X;
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Heights of one chunk column and the chunks loaded in it, ordered
+     * bottom to top.
+     */
+    private final class Column {
+        final int[] heights = new int[SIZE_X * SIZE_Z];
+        final Chunk[] chunks = new Chunk[chunksPerColumn];
+        int max = empty;
+
+        Column() {
+            Arrays.fill(heights, empty);
+        }
+
+        void raise(int cell, int height) {
+            if (height > heights[cell]) {
+                heights[cell] = height;
+                max = Math.max(max, height);
+            }
+        }
+
+        void recomputeMax() {
+            int highest = empty;
+            for (int height : heights) {
+                highest = Math.max(highest, height);
+            }
+            max = highest;
+        }
+
+        boolean isEmpty() {
+            for (Chunk chunk : chunks) {
+                if (chunk != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.voxelsandbox.engine.world.light;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+
+import java.util.Objects;
+
+
+/**
+ * Sky and block light of one loaded chunk.
+ *
+ * <p>
+ *     Light is derived data owned by a {@link LightPropagator}. It is kept
+ *     beside the chunk rather than in it, so that only the propagator can
+ *     write it and its invariants cannot be broken from outside.
+ * </p>
+ */
+final class ChunkLight {
+
+    private final Chunk chunk;
+    private final NibbleArray sky = new NibbleArray(ChunkDimensions.CHUNK_SIZE);
+    private final NibbleArray block = new NibbleArray(ChunkDimensions.CHUNK_SIZE);
+
+    ChunkLight(Chunk chunk) {
+        this.chunk = Objects.requireNonNull(chunk, "Chunk must not be null");
+    }
+
+    Chunk chunk() {
+        return chunk;
+    }
+
+    int get(int x, int y, int z, boolean skyChannel) {
+        return (skyChannel ? sky : block).get(index(x, y, z));
+    }
+
+    void set(int x, int y, int z, boolean skyChannel, int level) {
+        (skyChannel ? sky : block).set(index(x, y, z), level);
+    }
+
+    private static int index(int x, int y, int z) {
+        return x
+                + z * ChunkDimensions.SIZE_X
+                + y * ChunkDimensions.SIZE_X * ChunkDimensions.SIZE_Z;
+    }
+}
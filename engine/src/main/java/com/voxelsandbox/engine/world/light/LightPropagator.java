@@ -0,0 +1,502 @@
+package com.voxelsandbox.engine.world.light;
+
+import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.coordinate.ChunkCoordinateMapper;
+import com.voxelsandbox.engine.world.type.VoxelType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Maintains sky and block light of loaded chunks by breadth-first flood fill.
+ *
+ * <p>
+ *     Light spreads from a voxel to its six neighbours, losing one level
+ *     per step, and never enters opaque voxels. Block light starts at
+ *     voxels with a {@linkplain VoxelType#getLightEmission() light
+ *     emission}. Sky light starts at {@link World#MAX_LIGHT} in the top
+ *     layer of every chunk without a loaded chunk above it and travels
+ *     straight down without losing a level.
+ * </p>
+ *
+ * <p>
+ *     Changes are applied incrementally. Removing light first clears every
+ *     voxel that may have depended on the old value, then refills the
+ *     cleared region from the light that remains around it, so an update
+ *     only touches the voxels whose light can actually change. Both passes
+ *     cross chunk borders but never enter chunks that are not loaded,
+ *     which are treated as dark.
+ * </p>
+ *
+ * <p>
+ *     The propagator stores the light itself, one {@link ChunkLight} per
+ *     chunk it was told about, and treats exactly those chunks as loaded.
+ *     After every call the stored light equals what a full recomputation
+ *     over those chunks would produce.
+ * </p>
+ *
+ * <p>
+ *     Threading: not thread-safe. Calls must be serialized with all other
+ *     writes to the world.
+ * </p>
+ */
+public final class LightPropagator {
+
+    private static final int SIZE_X = ChunkDimensions.SIZE_X;
+    private static final int SIZE_Y = ChunkDimensions.SIZE_Y;
+    private static final int SIZE_Z = ChunkDimensions.SIZE_Z;
+    private static final int MAX = World.MAX_LIGHT;
+
+    // Neighbour directions: +x, -x, +y, -y, +z, -z
+    private static final int[] DX = {1, -1, 0, 0, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1, 0, 0};
+    private static final int[] DZ = {0, 0, 0, 0, 1, -1};
+    private static final int UP = 2;
+    private static final int DOWN = 3;
+
+    private final Map<ChunkPosition, ChunkLight> lights = new HashMap<>();
+
+    private final NodeQueue additions = new NodeQueue();
+    private final NodeQueue removals = new NodeQueue();
+
+    // Result of the last resolve() call
+    private ChunkLight resolvedChunk;
+    private int resolvedX;
+    private int resolvedY;
+    private int resolvedZ;
+
+    /**
+     * Returns the sky light level at the given world voxel coordinates.
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return light level, or {@code 0} if the voxel's chunk is not loaded
+     */
+    public int getSkyLight(int worldX, int worldY, int worldZ) {
+        return getLight(worldX, worldY, worldZ, true);
+    }
+
+    /**
+     * Returns the block light level at the given world voxel coordinates.
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     * @return light level, or {@code 0} if the voxel's chunk is not loaded
+     */
+    public int getBlockLight(int worldX, int worldY, int worldZ) {
+        return getLight(worldX, worldY, worldZ, false);
+    }
+
+    /**
+     * Computes the light of a chunk that has just been added to the world
+     * and updates the light of its neighbours accordingly.
+     *
+     * <p>
+     *     Any light previously stored for the chunk's position is discarded.
+     * </p>
+     *
+     * @param loaded the newly loaded chunk
+     */
+    public void lightChunk(Chunk loaded) {
+        Objects.requireNonNull(loaded, "Chunk must not be null");
+        ChunkLight chunk = new ChunkLight(loaded);
+        lights.put(loaded.getPosition(), chunk);
+
+        for (int channel = 0; channel < 2; channel++) {
+            boolean sky = channel == 0;
+
+            if (sky) {
+                if (neighbourChunk(chunk, UP) == null) {
+                    for (int z = 0; z < SIZE_Z; z++) {
+                        for (int x = 0; x < SIZE_X; x++) {
+                            if (!loaded.getVoxel(x, SIZE_Y - 1, z).isOpaque()) {
+                                chunk.set(x, SIZE_Y - 1, z, true, MAX);
+                                additions.push(chunk, node(x, SIZE_Y - 1, z, 0));
+                            }
+                        }
+                    }
+                }
+            } else {
+                for (int y = 0; y < SIZE_Y; y++) {
+                    for (int z = 0; z < SIZE_Z; z++) {
+                        for (int x = 0; x < SIZE_X; x++) {
+                            int emission = loaded.getVoxel(x, y, z).getLightEmission();
+                            if (emission > 0) {
+                                chunk.set(x, y, z, false, emission);
+                                additions.push(chunk, node(x, y, z, 0));
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Let the light already present around the chunk flow in
+            for (int d = 0; d < 6; d++) {
+                ChunkLight neighbour = neighbourChunk(chunk, d);
+                if (neighbour != null) {
+                    pushFace(neighbour, d ^ 1, sky, false);
+                }
+            }
+            propagateAdditions(sky);
+
+            // Columns of the chunk below were lit as open sky until now
+            if (sky) {
+                ChunkLight below = neighbourChunk(chunk, DOWN);
+                if (below != null) {
+                    for (int z = 0; z < SIZE_Z; z++) {
+                        for (int x = 0; x < SIZE_X; x++) {
+                            if (below.get(x, SIZE_Y - 1, z, true) == MAX && chunk.get(x, 0, z, true) != MAX) {
+                                below.set(x, SIZE_Y - 1, z, true, 0);
+                                removals.push(below, node(x, SIZE_Y - 1, z, MAX));
+                            }
+                        }
+                    }
+                    propagateRemovals(true);
+                    propagateAdditions(true);
+                }
+            }
+        }
+        release();
+    }
+
+    /**
+     * Updates light after the voxel at the given world coordinates changed.
+     *
+     * <p>
+     *     Does nothing if the voxel's chunk is not loaded.
+     * </p>
+     *
+     * @param worldX world x coordinate (voxel space)
+     * @param worldY world y coordinate (voxel space)
+     * @param worldZ world z coordinate (voxel space)
+     */
+    public void updateVoxel(int worldX, int worldY, int worldZ) {
+        ChunkLight chunk = lights.get(ChunkCoordinateMapper.toChunkPosition(worldX, worldY, worldZ));
+        if (chunk == null) {
+            return;
+        }
+        int x = ChunkCoordinateMapper.localX(worldX);
+        int y = ChunkCoordinateMapper.localY(worldY);
+        int z = ChunkCoordinateMapper.localZ(worldZ);
+
+        for (int channel = 0; channel < 2; channel++) {
+            boolean sky = channel == 0;
+
+            int level = chunk.get(x, y, z, sky);
+            if (level > 0) {
+                chunk.set(x, y, z, sky, 0);
+                removals.push(chunk, node(x, y, z, level));
+            }
+            int source = source(chunk, x, y, z, sky);
+            if (source > 0) {
+                chunk.set(x, y, z, sky, source);
+                additions.push(chunk, node(x, y, z, 0));
+            }
+            propagateRemovals(sky);
+
+            for (int d = 0; d < 6; d++) {
+                if (resolve(chunk, x, y, z, d) && resolvedChunk.get(resolvedX, resolvedY, resolvedZ, sky) > 0) {
+                    additions.push(resolvedChunk, node(resolvedX, resolvedY, resolvedZ, 0));
+                }
+            }
+            propagateAdditions(sky);
+        }
+        release();
+    }
+
+    /**
+     * Updates the light of the neighbours of a chunk that has just been
+     * removed from the world.
+     *
+     * <p>
+     *     Light that entered the neighbours from the removed chunk is
+     *     withdrawn, and the chunk below becomes open to the sky again.
+     * </p>
+     *
+     * @param position position of the removed chunk
+     */
+    public void onChunkUnloaded(ChunkPosition position) {
+        Objects.requireNonNull(position, "ChunkPosition must not be null");
+        if (lights.remove(position) == null) {
+            return;
+        }
+
+        for (int channel = 0; channel < 2; channel++) {
+            boolean sky = channel == 0;
+            for (int d = 0; d < 6; d++) {
+                ChunkLight neighbour = lights.get(new ChunkPosition(
+                        position.x() + DX[d], position.y() + DY[d], position.z() + DZ[d]));
+                if (neighbour != null) {
+                    pushFace(neighbour, d ^ 1, sky, true);
+                }
+            }
+            propagateRemovals(sky);
+            propagateAdditions(sky);
+        }
+        release();
+    }
+
+    /**
+     * Queues the lit voxels on one face of a chunk, either as additions
+     * or, when {@code remove} is set, as removals that clear them first.
+     */
+    private void pushFace(ChunkLight chunk, int face, boolean sky, boolean remove) {
+        int x0 = DX[face] > 0 ? SIZE_X - 1 : 0;
+        int x1 = DX[face] < 0 ? 0 : SIZE_X - 1;
+        int y0 = DY[face] > 0 ? SIZE_Y - 1 : 0;
+        int y1 = DY[face] < 0 ? 0 : SIZE_Y - 1;
+        int z0 = DZ[face] > 0 ? SIZE_Z - 1 : 0;
+        int z1 = DZ[face] < 0 ? 0 : SIZE_Z - 1;
+
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    int level = chunk.get(x, y, z, sky);
+                    if (remove) {
+                        if (level > 0) {
+                            chunk.set(x, y, z, sky, 0);
+                            removals.push(chunk, node(x, y, z, level));
+                        }
+                        // The top layer may have just become open to the sky
+                        int source = source(chunk, x, y, z, sky);
+                        if (source > 0) {
+                            chunk.set(x, y, z, sky, source);
+                            additions.push(chunk, node(x, y, z, 0));
+                        }
+                    } else if (level > 0) {
+                        additions.push(chunk, node(x, y, z, 0));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Spreads light from every queued voxel into darker neighbours.
+     */
+    private void propagateAdditions(boolean sky) {
+        while (!additions.isEmpty()) {
+            int node = additions.poll();
+            ChunkLight chunk = additions.polledChunk();
+            int x = nodeX(node);
+            int y = nodeY(node);
+            int z = nodeZ(node);
+
+            int level = chunk.get(x, y, z, sky);
+            for (int d = 0; d < 6; d++) {
+                int spread = sky && d == DOWN && level == MAX ? MAX : level - 1;
+                if (spread <= 0 || !resolve(chunk, x, y, z, d)) {
+                    continue;
+                }
+                ChunkLight target = resolvedChunk;
+                if (target.chunk().getVoxel(resolvedX, resolvedY, resolvedZ).isOpaque()
+                        || target.get(resolvedX, resolvedY, resolvedZ, sky) >= spread) {
+                    continue;
+                }
+                target.set(resolvedX, resolvedY, resolvedZ, sky, spread);
+                additions.push(target, node(resolvedX, resolvedY, resolvedZ, 0));
+            }
+        }
+    }
+
+    /**
+     * Clears every voxel that may have been lit by a queued voxel's old
+     * level and queues the light bordering the cleared region for
+     * {@link #propagateAdditions}.
+     */
+    private void propagateRemovals(boolean sky) {
+        while (!removals.isEmpty()) {
+            int node = removals.poll();
+            ChunkLight chunk = removals.polledChunk();
+            int x = nodeX(node);
+            int y = nodeY(node);
+            int z = nodeZ(node);
+            int level = nodeLevel(node);
+
+            for (int d = 0; d < 6; d++) {
+                if (!resolve(chunk, x, y, z, d)) {
+                    continue;
+                }
+                ChunkLight target = resolvedChunk;
+                int tx = resolvedX;
+                int ty = resolvedY;
+                int tz = resolvedZ;
+                int neighbourLevel = target.get(tx, ty, tz, sky);
+                if (neighbourLevel == 0) {
+                    continue;
+                }
+
+                boolean dependent = neighbourLevel < level
+                        || (sky && d == DOWN && level == MAX && neighbourLevel == MAX);
+                if (dependent) {
+                    target.set(tx, ty, tz, sky, 0);
+                    removals.push(target, node(tx, ty, tz, neighbourLevel));
+                    int source = source(target, tx, ty, tz, sky);
+                    if (source > 0) {
+                        target.set(tx, ty, tz, sky, source);
+                        additions.push(target, node(tx, ty, tz, 0));
+                    }
+                } else {
+                    additions.push(target, node(tx, ty, tz, 0));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the light a voxel emits on its own, independent of its
+     * neighbours.
+     */
+    private int source(ChunkLight chunk, int x, int y, int z, boolean sky) {
+        VoxelType type = chunk.chunk().getVoxel(x, y, z);
+        if (!sky) {
+            return type.getLightEmission();
+        }
+        if (y == SIZE_Y - 1 && !type.isOpaque() && neighbourChunk(chunk, UP) == null) {
+            return MAX;
+        }
+        return 0;
+    }
+
+    /**
+     * Resolves the neighbour of a voxel in direction {@code d} into the
+     * {@code resolved*} fields.
+     *
+     * @return {@code false} if the neighbour lies in a chunk that is not loaded
+     */
+    private boolean resolve(ChunkLight chunk, int x, int y, int z, int d) {
+        int nx = x + DX[d];
+        int ny = y + DY[d];
+        int nz = z + DZ[d];
+        if (nx >= 0 && nx < SIZE_X && ny >= 0 && ny < SIZE_Y && nz >= 0 && nz < SIZE_Z) {
+            resolvedChunk = chunk;
+        } else {
+            resolvedChunk = neighbourChunk(chunk, d);
+            if (resolvedChunk == null) {
+                return false;
+            }
+            nx = Math.floorMod(nx, SIZE_X);
+            ny = Math.floorMod(ny, SIZE_Y);
+            nz = Math.floorMod(nz, SIZE_Z);
+        }
+        resolvedX = nx;
+        resolvedY = ny;
+        resolvedZ = nz;
+        return true;
+    }
+
+    private ChunkLight neighbourChunk(ChunkLight chunk, int d) {
+        ChunkPosition p = chunk.chunk().getPosition();
+        return lights.get(new ChunkPosition(p.x() + DX[d], p.y() + DY[d], p.z() + DZ[d]));
+    }
+
+    private int getLight(int worldX, int worldY, int worldZ, boolean sky) {
+        ChunkLight chunk = lights.get(ChunkCoordinateMapper.toChunkPosition(worldX, worldY, worldZ));
+        if (chunk == null) {
+            return 0;
+        }
+        return chunk.get(
+                ChunkCoordinateMapper.localX(worldX),
+                ChunkCoordinateMapper.localY(worldY),
+                ChunkCoordinateMapper.localZ(worldZ),
+                sky
+        );
+    }
+
+    /**
+     * Packs local coordinates and a light level into one queue entry,
+     * eight bits each.
+     */
+    private static int node(int x, int y, int z, int level) {
+        return x | (y << 8) | (z << 16) | (level << 24);
+    }
+
+    private static int nodeX(int node) {
+        return node & 0xFF;
+    }
+
+    private static int nodeY(int node) {
+        return (node >>> 8) & 0xFF;
+    }
+
+    private static int nodeZ(int node) {
+        return (node >>> 16) & 0xFF;
+    }
+
+    private static int nodeLevel(int node) {
+        return node >>> 24;
+    }
+
+    private void release() {
+        additions.clear();
+        removals.clear();
+        resolvedChunk = null;
+    }
+
+    /**
+     * FIFO of (chunk, node) pairs backed by parallel arrays that are
+     * reused across updates.
+     */
+    private static final class NodeQueue {
+        private ChunkLight[] chunks = new ChunkLight[1024];
+        private int[] nodes = new int[1024];
+        private int head;
+        private int tail;
+        private int high;
+        private ChunkLight polled;
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        void push(ChunkLight chunk, int node) {
+            if (tail == nodes.length) {
+                if (head > nodes.length / 2) {
+                    System.arraycopy(chunks, head, chunks, 0, tail - head);
+                    System.arraycopy(nodes, head, nodes, 0, tail - head);
+                    tail -= head;
+                    head = 0;
+                } else {
+                    chunks = Arrays.copyOf(chunks, nodes.length * 2);
+                    nodes = Arrays.copyOf(nodes, nodes.length * 2);
+                }
+            }
+            chunks[tail] = chunk;
+            nodes[tail++] = node;
+            high = Math.max(high, tail);
+        }
+
+        int poll() {
+            polled = chunks[head];
+            int node = nodes[head++];
+            if (head == tail) {
+                head = 0;
+                tail = 0;
+            }
+            return node;
+        }
+
+        ChunkLight polledChunk() {
+            return polled;
+        }
+
+        /**
+         * Drops all entries and the chunk references they held.
+         */
+        void clear() {
+            Arrays.fill(chunks, 0, high, null);
+            head = 0;
+            tail = 0;
+            high = 0;
+            polled = null;
+        }
+    }
+}
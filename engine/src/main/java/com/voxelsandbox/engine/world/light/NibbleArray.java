@@ -0,0 +1,84 @@
+package com.voxelsandbox.engine.world.light;
+
+import java.util.Arrays;
+
+
+/**
+ * Fixed-size array of 4-bit values, packed two per byte.
+ *
+ * <p>
+ *     Even indices occupy the low half of a byte and odd indices the high
+ *     half. Only the low four bits of stored values are kept.
+ * </p>
+ */
+public final class NibbleArray {
+    private final byte[] data;
+    private final int size;
+
+    /**
+     * Creates an array of zeros.
+     *
+     * @param size number of entries, a positive even number
+     * @throws IllegalArgumentException if {@code size} is not positive and even
+     */
+    public NibbleArray(int size) {
+        if (size <= 0 || (size & 1) != 0) {
+            throw new IllegalArgumentException("size must be positive and even: " + size);
+        }
+        this.data = new byte[size >> 1];
+        this.size = size;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index entry index
+     * @return value between 0 and 15
+     */
+    public int get(int index) {
+        int packed = data[index >> 1];
+        return (index & 1) == 0 ? packed & 0x0F : (packed >> 4) & 0x0F;
+    }
+
+    /**
+     * Stores the low four bits of {@code value} at the given index.
+     *
+     * @param index entry index
+     * @param value value to store
+     */
+    public void set(int index, int value) {
+        int i = index >> 1;
+        if ((index & 1) == 0) {
+            data[i] = (byte) ((data[i] & 0xF0) | (value & 0x0F));
+        } else {
+            data[i] = (byte) ((data[i] & 0x0F) | ((value & 0x0F) << 4));
+        }
+    }
+
+    /**
+     * Sets every entry to the low four bits of {@code value}.
+     *
+     * @param value value to store
+     */
+    public void fill(int value) {
+        int nibble = value & 0x0F;
+        Arrays.fill(data, (byte) (nibble | (nibble << 4)));
+    }
+
+    /**
+     * Overwrites every entry with the entries of another array.
+     *
+     * @param source array to copy from
+     * @throws IllegalArgumentException if the sizes differ
+     */
+    public void copyFrom(NibbleArray source) {
+        if (source.size != size) {
+            throw new IllegalArgumentException("Size mismatch: " + source.size + " != " + size);
+        }
+        System.arraycopy(source.data, 0, data, 0, data.length);
+    }
+}
@@ -0,0 +1,38 @@
+package com.voxelsandbox.engine.world.streaming;
+
+
+/**
+ * Chunk churn observed by a streaming controller over a time window.
+ *
+ * @param loads chunks loaded because they were missing
+ * @param unloads chunks unloaded by eviction
+ * @param regenerations loads of chunks the controller itself had
+ *                      unloaded earlier, i.e. round trips
+ * @param elapsedNanos length of the window, in nanoseconds
+ */
+public record ChunkChurnStats(
+        long loads,
+        long unloads,
+        long regenerations,
+        long elapsedNanos
+) {
+
+    public double loadsPerSecond() {
+        return perSecond(loads);
+    }
+
+    public double unloadsPerSecond() {
+        return perSecond(unloads);
+    }
+
+    public double regenerationsPerSecond() {
+        return perSecond(regenerations);
+    }
+
+    private double perSecond(long count) {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return count * 1e9 / elapsedNanos;
+    }
+}
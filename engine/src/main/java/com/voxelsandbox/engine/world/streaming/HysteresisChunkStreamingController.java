@@ -0,0 +1,244 @@
+package com.voxelsandbox.engine.world.streaming;
+
+
+import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Streaming controller with a hysteresis band between loading and
+ * eviction.
+ *
+ * <p>
+ *     Chunks within {@code loadRadius} of the focus are loaded; loaded
+ *     chunks are only unloaded once they are farther than
+ *     {@code evictRadius} and have been resident for at least
+ *     {@code minResidency}. Both radii are measured as the largest
+ *     per-axis distance in chunk space, matching the cubic load region of
+ *     {@link DistanceBasedChunkStreamingController}.
+ * </p>
+ *
+ * <p>
+ *     With a single hard threshold, a focus oscillating across a chunk
+ *     border unloads and regenerates a whole slab of chunks on every
+ *     crossing. Here a chunk that left the load region stays loaded until
+ *     the focus has moved {@code evictRadius - loadRadius} further chunks
+ *     away, and the residency time bounds how often a chunk can be cycled
+ *     at all.
+ * </p>
+ *
+ * <p>
+ *     Chunks already present are not loaded again, so repeated updates
+ *     with an unchanged focus emit no events. Chunks loaded by other
+ *     parties are subject to eviction like the controller's own; their
+ *     residency starts when the controller first sees them.
+ * </p>
+ *
+ * <p>
+ *     Churn is reported by {@link #getChurnStats()}. Instances are
+ *     stateful and not thread-safe.
+ * </p>
+ */
+public class HysteresisChunkStreamingController implements IChunkStreamingController {
+
+    /**
+     * Number of unloaded positions remembered to recognise regenerations.
+     */
+    private static final int UNLOAD_HISTORY_SIZE = 4096;
+
+    private final int loadRadius;
+    private final int evictRadius;
+    private final long minResidencyNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Time at which each loaded chunk became resident.
+     */
+    private final Map<ChunkPosition, Long> residentSince = new HashMap<>();
+    /**
+     * Recently unloaded positions, eldest first.
+     */
+    private final LinkedHashMap<ChunkPosition, Boolean> unloaded = new LinkedHashMap<>();
+
+    private long windowStart;
+    private boolean windowStarted;
+    private long loads;
+    private long unloads;
+    private long regenerations;
+
+    /**
+     * Creates a hysteresis streaming controller measuring time with
+     * {@link System#nanoTime()}.
+     *
+     * @param loadRadius radius (in chunk units) around the focus position
+     *                   that must be kept loaded
+     * @param evictRadius radius (in chunk units) beyond which chunks may
+     *                    be unloaded
+     * @param minResidency minimum time a chunk stays loaded
+     *
+     * @throws IllegalArgumentException if {@code loadRadius < 0},
+     *         {@code evictRadius < loadRadius} or {@code minResidency} is negative
+     * @throws NullPointerException if {@code minResidency} is {@code null}
+     */
+    public HysteresisChunkStreamingController(int loadRadius, int evictRadius, Duration minResidency) {
+        this(loadRadius, evictRadius, minResidency, System::nanoTime);
+    }
+
+    /**
+     * Creates a hysteresis streaming controller measuring time with the
+     * given clock.
+     *
+     * @param loadRadius radius (in chunk units) around the focus position
+     *                   that must be kept loaded
+     * @param evictRadius radius (in chunk units) beyond which chunks may
+     *                    be unloaded
+     * @param minResidency minimum time a chunk stays loaded
+     * @param nanoClock monotonic clock returning nanoseconds
+     *
+     * @throws IllegalArgumentException if {@code loadRadius < 0},
+     *         {@code evictRadius < loadRadius} or {@code minResidency} is negative
+     * @throws NullPointerException if {@code minResidency} or {@code nanoClock} is {@code null}
+     */
+    public HysteresisChunkStreamingController(
+            int loadRadius,
+            int evictRadius,
+            Duration minResidency,
+            LongSupplier nanoClock
+    ) {
+        if (loadRadius < 0) {
+            throw new IllegalArgumentException("loadRadius must be >= 0");
+        }
+        if (evictRadius < loadRadius) {
+            throw new IllegalArgumentException("evictRadius must be >= loadRadius");
+        }
+        Objects.requireNonNull(minResidency, "minResidency must not be null");
+        if (minResidency.isNegative()) {
+            throw new IllegalArgumentException("minResidency must not be negative");
+        }
+        this.loadRadius = loadRadius;
+        this.evictRadius = evictRadius;
+        this.minResidencyNanos = minResidency.toNanos();
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock must not be null");
+    }
+
+    /**
+     * Updates the streamed world state around a focus chunk position.
+     *
+     * <p>
+     *     Missing chunks within {@code loadRadius} are loaded first; then
+     *     every loaded chunk beyond {@code evictRadius} that has been
+     *     resident for at least {@code minResidency} is unloaded.
+     * </p>
+     *
+     * @param world the world to update
+     * @param focus the reference chunk position (e.g. player or camera)
+     *
+     * @throws NullPointerException if {@code world} or {@code focus} is {@code null}
+     */
+    @Override
+    public void update(World world, ChunkPosition focus) {
+        Objects.requireNonNull(world, "world must not be null");
+        Objects.requireNonNull(focus, "focus must not be null");
+
+        long now = nanoClock.getAsLong();
+        if (!windowStarted) {
+            windowStart = now;
+            windowStarted = true;
+        }
+
+        // 1. Load missing chunks around focus
+        for (int dx = -loadRadius; dx <= loadRadius; dx++) {
+            for (int dy = -loadRadius; dy <= loadRadius; dy++) {
+                for (int dz = -loadRadius; dz <= loadRadius; dz++) {
+                    ChunkPosition pos = new ChunkPosition(
+                            focus.x() + dx,
+                            focus.y() + dy,
+                            focus.z() + dz
+                    );
+                    if (world.getChunkIfPresent(pos) == null) {
+                        world.loadChunk(pos);
+                        residentSince.put(pos, now);
+                        loads++;
+                        if (unloaded.remove(pos) != null) {
+                            regenerations++;
+                        }
+                    }
+                }
+            }
+        }
+
+        // 2. Unload chunks outside the band that have been resident long enough
+        Map<ChunkPosition, ?> chunks = world.getChunks();
+        residentSince.keySet().retainAll(chunks.keySet());
+
+        List<ChunkPosition> candidates = new ArrayList<>();
+        for (ChunkPosition pos : chunks.keySet()) {
+            long since = residentSince.computeIfAbsent(pos, p -> now);
+            if (distance(pos, focus) > evictRadius && now - since >= minResidencyNanos) {
+                candidates.add(pos);
+            }
+        }
+        for (ChunkPosition pos : candidates) {
+            if (world.unloadChunk(pos) != null) {
+                residentSince.remove(pos);
+                unloads++;
+                rememberUnloaded(pos);
+            }
+        }
+    }
+
+    /**
+     * Returns the churn since the first update or the last
+     * {@link #resetChurnStats()}.
+     *
+     * @return churn counters and the length of the window
+     */
+    public ChunkChurnStats getChurnStats() {
+        long elapsed = windowStarted ? nanoClock.getAsLong() - windowStart : 0L;
+        return new ChunkChurnStats(loads, unloads, regenerations, elapsed);
+    }
+
+    /**
+     * Clears the churn counters and starts a new window.
+     */
+    public void resetChurnStats() {
+        windowStart = nanoClock.getAsLong();
+        windowStarted = true;
+        loads = 0;
+        unloads = 0;
+        regenerations = 0;
+    }
+
+    public int getLoadRadius() {
+        return loadRadius;
+    }
+
+    public int getEvictRadius() {
+        return evictRadius;
+    }
+
+    private void rememberUnloaded(ChunkPosition pos) {
+        unloaded.put(pos, Boolean.TRUE);
+        Iterator<ChunkPosition> eldest = unloaded.keySet().iterator();
+        while (unloaded.size() > UNLOAD_HISTORY_SIZE) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static int distance(ChunkPosition a, ChunkPosition b) {
+        return Math.max(
+                Math.abs(a.x() - b.x()),
+                Math.max(Math.abs(a.y() - b.y()), Math.abs(a.z() - b.z()))
+        );
+    }
+}
@@ -0,0 +1,328 @@
+package com.voxelsandbox.engine.world.streaming;
+
+
+import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Streaming controller serving many observers of the same world.
+ *
+ * <p>
+ *     Every observer has a focus and an interest region: the cube of
+ *     chunks within {@code loadRadius} of its focus. The controller keeps,
+ *     for each chunk, the number of observers interested in it. A chunk is
+ *     loaded when its count becomes positive and unloaded when it drops
+ *     back to zero, so a chunk is never evicted while some observer still
+ *     needs it. Chunks that were never in any region are left alone.
+ * </p>
+ *
+ * <p>
+ *     Interest is maintained incrementally. When an observer moves, only
+ *     the chunks that enter or leave its region are counted: at most six
+ *     slabs instead of the whole cube, so a one-chunk step touches
+ *     {@code 2 (2 loadRadius + 1)^2} counters regardless of how many
+ *     other observers overlap it.
+ * </p>
+ *
+ * <p>
+ *     {@link #update(World, Map)} moves a whole set of observers at once
+ *     and applies the resulting loads and unloads in a single pass; a
+ *     chunk handed over from one observer to another within the same
+ *     update is neither unloaded nor loaded again.
+ *     {@link #update(World, ChunkPosition)} drives a single implicit
+ *     observer, which makes the controller usable wherever one
+ *     {@link IChunkStreamingController} is expected.
+ * </p>
+ *
+ * <p>
+ *     Observers are identified by keys compared with {@link Object#equals}.
+ *     Instances are stateful and not thread-safe.
+ * </p>
+ */
+public class MultiFocusChunkStreamingController implements IChunkStreamingController {
+
+    /**
+     * Key of the observer driven by {@link #update(World, ChunkPosition)}.
+     */
+    private static final Object DEFAULT_OBSERVER = new Object();
+
+    private final int loadRadius;
+
+    /**
+     * Current focus of every observer.
+     */
+    private final Map<Object, ChunkPosition> foci = new HashMap<>();
+    /**
+     * Number of interested observers per chunk; chunks without interest
+     * are absent.
+     */
+    private final Map<ChunkPosition, Integer> interest = new HashMap<>();
+    /**
+     * Chunks whose interest became positive since the last flush.
+     */
+    private final Set<ChunkPosition> acquired = new LinkedHashSet<>();
+    /**
+     * Chunks whose interest dropped to zero since the last flush.
+     */
+    private final Set<ChunkPosition> released = new HashSet<>();
+
+    private long interestUpdates;
+
+    /**
+     * Creates a multi-focus streaming controller.
+     *
+     * @param loadRadius radius (in chunk units) around every focus that
+     *                   must be kept loaded
+     *
+     * @throws IllegalArgumentException if {@code loadRadius < 0}
+     */
+    public MultiFocusChunkStreamingController(int loadRadius) {
+        if (loadRadius < 0) {
+            throw new IllegalArgumentException("loadRadius must be >= 0");
+        }
+        this.loadRadius = loadRadius;
+    }
+
+    /**
+     * Moves the implicit single observer to the given focus.
+     *
+     * <p>
+     *     Equivalent to {@link #updateObserver(World, Object, ChunkPosition)}
+     *     with a key private to this controller; other observers are not
+     *     affected.
+     * </p>
+     *
+     * @param world the world to update
+     * @param focus the reference chunk position (e.g. player or camera)
+     *
+     * @throws NullPointerException if {@code world} or {@code focus} is {@code null}
+     */
+    @Override
+    public void update(World world, ChunkPosition focus) {
+        updateObserver(world, DEFAULT_OBSERVER, focus);
+    }
+
+    /**
+     * Replaces the observer set and streams the union of their regions.
+     *
+     * <p>
+     *     Observers in {@code observerFoci} are added or moved; observers
+     *     missing from it are removed, including the implicit observer of
+     *     {@link #update(World, ChunkPosition)}. Chunks that gained interest
+     *     are then loaded and chunks that lost all interest are unloaded.
+     * </p>
+     *
+     * @param world the world to update
+     * @param observerFoci focus of every observer, by observer key
+     *
+     * @throws NullPointerException if {@code world}, {@code observerFoci},
+     *         or any key or focus is {@code null}
+     */
+    public void update(World world, Map<?, ChunkPosition> observerFoci) {
+        Objects.requireNonNull(world, "world must not be null");
+        Objects.requireNonNull(observerFoci, "observerFoci must not be null");
+        for (Map.Entry<?, ChunkPosition> entry : observerFoci.entrySet()) {
+            Objects.requireNonNull(entry.getKey(), "observer must not be null");
+            Objects.requireNonNull(entry.getValue(), "focus must not be null");
+        }
+
+        List<Object> departed = new ArrayList<>();
+        for (Object observer : foci.keySet()) {
+            if (!observerFoci.containsKey(observer)) {
+                departed.add(observer);
+            }
+        }
+        for (Object observer : departed) {
+            move(observer, null);
+        }
+        for (Map.Entry<?, ChunkPosition> entry : observerFoci.entrySet()) {
+            move(entry.getKey(), entry.getValue());
+        }
+        flush(world);
+    }
+
+    /**
+     * Adds an observer or moves it to a new focus, then streams the
+     * chunks whose interest changed.
+     *
+     * @param world the world to update
+     * @param observer key of the observer
+     * @param focus the new focus of the observer
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void updateObserver(World world, Object observer, ChunkPosition focus) {
+        Objects.requireNonNull(world, "world must not be null");
+        Objects.requireNonNull(observer, "observer must not be null");
+        Objects.requireNonNull(focus, "focus must not be null");
+
+        move(observer, focus);
+        flush(world);
+    }
+
+    /**
+     * Removes an observer and unloads the chunks no other observer needs.
+     * Unknown observers are ignored.
+     *
+     * @param world the world to update
+     * @param observer key of the observer
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void removeObserver(World world, Object observer) {
+        Objects.requireNonNull(world, "world must not be null");
+        Objects.requireNonNull(observer, "observer must not be null");
+
+        move(observer, null);
+        flush(world);
+    }
+
+    /**
+     * Returns the number of observers interested in a chunk.
+     *
+     * @param position the chunk position
+     * @return the interest reference count, {@code 0} if none
+     */
+    public int getInterestCount(ChunkPosition position) {
+        Objects.requireNonNull(position, "position must not be null");
+        return interest.getOrDefault(position, 0);
+    }
+
+    public int getObserverCount() {
+        return foci.size();
+    }
+
+    /**
+     * Returns the number of chunks at least one observer is interested in.
+     *
+     * @return size of the union of all interest regions
+     */
+    public int getInterestedChunkCount() {
+        return interest.size();
+    }
+
+    /**
+     * Returns the total number of interest count changes so far.
+     *
+     * @return count of per-chunk increments and decrements
+     */
+    public long getInterestUpdateCount() {
+        return interestUpdates;
+    }
+
+    public int getLoadRadius() {
+        return loadRadius;
+    }
+
+    /**
+     * Moves an observer's region to {@code to}, or removes it if
+     * {@code to} is {@code null}.
+     */
+    private void move(Object observer, ChunkPosition to) {
+        ChunkPosition from = to == null ? foci.remove(observer) : foci.put(observer, to);
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (to != null) {
+            countDifference(to, from, 1);
+        }
+        if (from != null) {
+            countDifference(from, to, -1);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the interest of every chunk in the region
+     * around {@code region} that is not in the region around
+     * {@code excluded}.
+     *
+     * <p>
+     *     The difference of two equal cubes is split into at most six
+     *     boxes: the slabs beyond the excluded cube along {@code x}, then
+     *     along {@code y} within the shared {@code x} range, then along
+     *     {@code z} within the shared {@code x} and {@code y} ranges.
+     * </p>
+     */
+    private void countDifference(ChunkPosition region, ChunkPosition excluded, int delta) {
+        int r = loadRadius;
+        int x0 = region.x() - r, x1 = region.x() + r;
+        int y0 = region.y() - r, y1 = region.y() + r;
+        int z0 = region.z() - r, z1 = region.z() + r;
+
+        if (excluded == null
+                || Math.abs(excluded.x() - region.x()) > 2 * r
+                || Math.abs(excluded.y() - region.y()) > 2 * r
+                || Math.abs(excluded.z() - region.z()) > 2 * r) {
+            countBox(x0, x1, y0, y1, z0, z1, delta);
+            return;
+        }
+
+        int ex0 = excluded.x() - r, ex1 = excluded.x() + r;
+        int ey0 = excluded.y() - r, ey1 = excluded.y() + r;
+        int ez0 = excluded.z() - r, ez1 = excluded.z() + r;
+
+        countBox(x0, ex0 - 1, y0, y1, z0, z1, delta);
+        countBox(ex1 + 1, x1, y0, y1, z0, z1, delta);
+        int ix0 = Math.max(x0, ex0), ix1 = Math.min(x1, ex1);
+
+        countBox(ix0, ix1, y0, ey0 - 1, z0, z1, delta);
+        countBox(ix0, ix1, ey1 + 1, y1, z0, z1, delta);
+        int iy0 = Math.max(y0, ey0), iy1 = Math.min(y1, ey1);
+
+        countBox(ix0, ix1, iy0, iy1, z0, ez0 - 1, delta);
+        countBox(ix0, ix1, iy0, iy1, ez1 + 1, z1, delta);
+    }
+
+    private void countBox(int x0, int x1, int y0, int y1, int z0, int z1, int delta) {
+        for (int x = x0; x <= x1; x++) {
+            for (int y = y0; y <= y1; y++) {
+                for (int z = z0; z <= z1; z++) {
+                    count(new ChunkPosition(x, y, z), delta);
+                }
+            }
+        }
+    }
+
+    private void count(ChunkPosition pos, int delta) {
+        interestUpdates++;
+        Integer previous = interest.get(pos);
+        int updated = (previous == null ? 0 : previous) + delta;
+
+        if (updated > 0) {
+            interest.put(pos, updated);
+            if (previous == null) {
+                acquired.add(pos);
+                released.remove(pos);
+            }
+        } else {
+            interest.remove(pos);
+            acquired.remove(pos);
+            released.add(pos);
+        }
+    }
+
+    /**
+     * Loads chunks that gained interest and unloads chunks that lost it.
+     */
+    private void flush(World world) {
+        for (ChunkPosition pos : acquired) {
+            if (world.getChunkIfPresent(pos) == null) {
+                world.loadChunk(pos);
+            }
+        }
+        for (ChunkPosition pos : released) {
+            world.unloadChunk(pos);
+        }
+        acquired.clear();
+        released.clear();
+    }
+}
@@ -0,0 +1,262 @@
+package com.voxelsandbox.engine.world.streaming;
+
+
+import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.eviction.IChunkEvictionPolicy;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Streaming controller that prefetches chunks along the predicted path of
+ * the focus.
+ *
+ * <p>
+ *     Like {@link DistanceBasedChunkStreamingController}, every update
+ *     loads the cubic region within {@code loadRadius} of the focus and
+ *     unloads the candidates of an {@link IChunkEvictionPolicy}. In
+ *     addition, the velocity of the focus is estimated from its positions
+ *     over the last {@value #VELOCITY_WINDOW} updates and extrapolated
+ *     {@code lookahead} chunks ahead. Chunks that will enter the region
+ *     along that path are queued for prefetching, nearest first.
+ * </p>
+ *
+ * <p>
+ *     Prefetching has lower priority than required chunks: it runs only
+ *     after the region around the focus is fully loaded, and at most
+ *     {@code prefetchBudget} chunks are prefetched per update. Whenever
+ *     the prediction changes, queued chunks that are no longer on the
+ *     predicted path are cancelled. Prefetched chunks on the path are
+ *     protected from eviction; once off the path they are left to the
+ *     eviction policy like any other chunk.
+ * </p>
+ *
+ * <p>
+ *     Prefetch outcomes are reported by {@link #getPrefetchStats()}.
+ *     Instances are stateful and not thread-safe.
+ * </p>
+ */
+public class PredictiveChunkStreamingController implements IChunkStreamingController {
+
+    /**
+     * Number of recent updates used to estimate the focus velocity.
+     */
+    public static final int VELOCITY_WINDOW = 8;
+
+    private final int loadRadius;
+    private final IChunkEvictionPolicy evictionPolicy;
+    private final int lookahead;
+    private final int prefetchBudget;
+
+    /**
+     * Focus of the most recent updates, oldest first.
+     */
+    private final Deque<ChunkPosition> history = new ArrayDeque<>();
+    /**
+     * Predicted chunks still waiting to be prefetched, nearest first.
+     */
+    private final Set<ChunkPosition> queue = new LinkedHashSet<>();
+    /**
+     * Chunks loaded by prefetching that have not been required yet.
+     */
+    private final Set<ChunkPosition> prefetched = new HashSet<>();
+
+    private long issued;
+    private long hits;
+    private long wasted;
+    private long cancelled;
+
+    /**
+     * Creates a predictive streaming controller.
+     *
+     * @param loadRadius radius (in chunk units) around the focus position
+     *                   that must be kept loaded
+     * @param evictionPolicy policy used to select chunks eligible for eviction
+     * @param lookahead distance (in chunk units) the focus path is
+     *                  extrapolated ahead; {@code 0} disables prefetching
+     * @param prefetchBudget maximum number of chunks prefetched per update
+     *
+     * @throws IllegalArgumentException if {@code loadRadius}, {@code lookahead}
+     *         or {@code prefetchBudget} is negative
+     * @throws NullPointerException if {@code evictionPolicy} is {@code null}
+     */
+    public PredictiveChunkStreamingController(
+            int loadRadius,
+            IChunkEvictionPolicy evictionPolicy,
+            int lookahead,
+            int prefetchBudget
+    ) {
+        if (loadRadius < 0) {
+            throw new IllegalArgumentException("loadRadius must be >= 0");
+        }
+        if (lookahead < 0) {
+            throw new IllegalArgumentException("lookahead must be >= 0");
+        }
+        if (prefetchBudget < 0) {
+            throw new IllegalArgumentException("prefetchBudget must be >= 0");
+        }
+        this.loadRadius = loadRadius;
+        this.evictionPolicy = Objects.requireNonNull(evictionPolicy, "Eviction policy must not be null");
+        this.lookahead = lookahead;
+        this.prefetchBudget = prefetchBudget;
+    }
+
+    /**
+     * Updates the streamed world state around a focus chunk position.
+     *
+     * <p>
+     *     This method performs four steps:
+     * </p>
+     * <ol>
+     *     <li> loads all chunks within {@code loadRadius} of the focus </li>
+     *     <li> re-predicts the path and cancels queued chunks off it </li>
+     *     <li> unloads eviction candidates that are not on the path </li>
+     *     <li> prefetches up to {@code prefetchBudget} queued chunks </li>
+     * </ol>
+     *
+     * @param world the world to update
+     * @param focus the reference chunk position (e.g. player or camera)
+     *
+     * @throws NullPointerException if {@code world} or {@code focus} is {@code null}
+     */
+    @Override
+    public void update(World world, ChunkPosition focus) {
+        Objects.requireNonNull(world, "world must not be null");
+        Objects.requireNonNull(focus, "focus must not be null");
+
+        history.addLast(focus);
+        if (history.size() > VELOCITY_WINDOW) {
+            history.removeFirst();
+        }
+
+        // 1. Required chunks first
+        for (int dx = -loadRadius; dx <= loadRadius; dx++) {
+            for (int dy = -loadRadius; dy <= loadRadius; dy++) {
+                for (int dz = -loadRadius; dz <= loadRadius; dz++) {
+                    ChunkPosition pos = new ChunkPosition(
+                            focus.x() + dx,
+                            focus.y() + dy,
+                            focus.z() + dz
+                    );
+                    if (prefetched.remove(pos)) {
+                        if (world.getChunkIfPresent(pos) != null) {
+                            hits++;
+                        } else {
+                            wasted++;
+                        }
+                    }
+                    queue.remove(pos);
+                    world.loadChunk(pos);
+                }
+            }
+        }
+
+        // 2. Predict the path and cancel what left it
+        Set<ChunkPosition> predicted = predictPath(focus);
+        for (ChunkPosition pos : queue) {
+            if (!predicted.contains(pos)) {
+                cancelled++;
+            }
+        }
+        queue.clear();
+        for (ChunkPosition pos : predicted) {
+            if (!prefetched.contains(pos) && world.getChunkIfPresent(pos) == null) {
+                queue.add(pos);
+            }
+        }
+
+        // 3. Evict, sparing chunks on the predicted path
+        for (ChunkPosition pos : evictionPolicy.selectEvictionCandidates(world, focus)) {
+            if (!predicted.contains(pos)) {
+                world.unloadChunk(pos);
+            }
+        }
+        for (Iterator<ChunkPosition> it = prefetched.iterator(); it.hasNext(); ) {
+            if (world.getChunkIfPresent(it.next()) == null) {
+                it.remove();
+                wasted++;
+            }
+        }
+
+        // 4. Prefetch within budget
+        Iterator<ChunkPosition> next = queue.iterator();
+        for (int i = 0; i < prefetchBudget && next.hasNext(); i++) {
+            ChunkPosition pos = next.next();
+            next.remove();
+            if (world.getChunkIfPresent(pos) == null) {
+                world.loadChunk(pos);
+                prefetched.add(pos);
+                issued++;
+            }
+        }
+    }
+
+    public PrefetchStats getPrefetchStats() {
+        return new PrefetchStats(issued, hits, wasted, cancelled);
+    }
+
+    /**
+     * Returns the number of chunks waiting to be prefetched.
+     *
+     * @return size of the prefetch queue
+     */
+    public int getQueuedPrefetchCount() {
+        return queue.size();
+    }
+
+    public int getLoadRadius() {
+        return loadRadius;
+    }
+
+    /**
+     * Returns the chunks that enter the load region when the focus moves
+     * {@code 1..lookahead} chunks along its estimated direction, nearest
+     * first, or an empty set while the focus is not moving.
+     */
+    private Set<ChunkPosition> predictPath(ChunkPosition focus) {
+        Set<ChunkPosition> path = new LinkedHashSet<>();
+        if (lookahead == 0 || history.size() < 2) {
+            return path;
+        }
+
+        ChunkPosition oldest = history.peekFirst();
+        double vx = focus.x() - oldest.x();
+        double vy = focus.y() - oldest.y();
+        double vz = focus.z() - oldest.z();
+        double speed = Math.sqrt(vx * vx + vy * vy + vz * vz);
+        if (speed == 0.0) {
+            return path;
+        }
+        vx /= speed;
+        vy /= speed;
+        vz /= speed;
+
+        for (int step = 1; step <= lookahead; step++) {
+            int cx = focus.x() + (int) Math.round(vx * step);
+            int cy = focus.y() + (int) Math.round(vy * step);
+            int cz = focus.z() + (int) Math.round(vz * step);
+
+            for (int dx = -loadRadius; dx <= loadRadius; dx++) {
+                for (int dy = -loadRadius; dy <= loadRadius; dy++) {
+                    for (int dz = -loadRadius; dz <= loadRadius; dz++) {
+                        int x = cx + dx;
+                        int y = cy + dy;
+                        int z = cz + dz;
+                        if (Math.abs(x - focus.x()) > loadRadius
+                                || Math.abs(y - focus.y()) > loadRadius
+                                || Math.abs(z - focus.z()) > loadRadius) {
+                            path.add(new ChunkPosition(x, y, z));
+                        }
+                    }
+                }
+            }
+        }
+        return path;
+    }
+}
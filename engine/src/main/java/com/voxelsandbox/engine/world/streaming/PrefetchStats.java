@@ -0,0 +1,37 @@
+package com.voxelsandbox.engine.world.streaming;
+
+
+/**
+ * Outcome of predictive chunk prefetching.
+ *
+ * @param issued chunks loaded ahead of time by prefetching
+ * @param hits prefetched chunks that were later required by the focus
+ * @param wasted prefetched chunks unloaded without ever being required
+ * @param cancelled queued prefetches dropped before loading because the
+ *                  predicted path changed
+ */
+public record PrefetchStats(
+        long issued,
+        long hits,
+        long wasted,
+        long cancelled
+) {
+
+    /**
+     * Returns the fraction of resolved prefetches that were used.
+     *
+     * <p>
+     *     Prefetched chunks that are still loaded but not yet required are
+     *     not counted either way.
+     * </p>
+     *
+     * @return hit ratio in {@code [0, 1]}
+     */
+    public double hitRate() {
+        long resolved = hits + wasted;
+        if (resolved == 0) {
+            return 0.0;
+        }
+        return (double) hits / resolved;
+    }
+}
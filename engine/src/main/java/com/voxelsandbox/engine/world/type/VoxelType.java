@@ -17,11 +17,38 @@ package com.voxelsandbox.engine.world.type;
  *   <li>{@link #SOLID} – Represents the presence of a voxel.
  *       This is a placeholder for future concrete types
  *       such as grass, stone, or other materials.</li>
+ *   <li>{@link #LAMP} – A solid voxel that emits block light.</li>
  * </ul>
  */
 public enum VoxelType {
 
-    AIR,
-    SOLID
+    AIR(false, 0),
+    SOLID(true, 0),
+    LAMP(true, 15);
 
-}
\ No newline at end of file
+    private final boolean opaque;
+    private final int lightEmission;
+
+    VoxelType(boolean opaque, int lightEmission) {
+        this.opaque = opaque;
+        this.lightEmission = lightEmission;
+    }
+
+    /**
+     * Returns whether this voxel blocks light.
+     *
+     * @return {@code true} if light does not pass through this voxel
+     */
+    public boolean isOpaque() {
+        return opaque;
+    }
+
+    /**
+     * Returns the block light level emitted by this voxel.
+     *
+     * @return emitted light level, between 0 and 15
+     */
+    public int getLightEmission() {
+        return lightEmission;
+    }
+}
@@ -0,0 +1,125 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.LocalVoxelPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkIdentityTest {
+
+    @Test
+    void packedPosition_roundTripsAtRangeLimits() {
+        int[] xz = {ChunkPosition.MIN_PACKED_XZ, -1, 0, 1, ChunkPosition.MAX_PACKED_XZ};
+        int[] ys = {ChunkPosition.MIN_PACKED_Y, -1, 0, 1, ChunkPosition.MAX_PACKED_Y};
+
+        for (int x : xz) {
+            for (int y : ys) {
+                for (int z : xz) {
+                    ChunkPosition position = new ChunkPosition(x, y, z);
+                    assertEquals(position, ChunkPosition.unpack(position.pack()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void packedPosition_isUniqueWhereHashCodesCollide() {
+        Set<Long> packed = new HashSet<>();
+        Set<Integer> hashes = new HashSet<>();
+        int count = 0;
+
+        for (int x = -40; x < 40; x++) {
+            for (int y = -4; y < 20; y++) {
+                for (int z = -40; z < 40; z++) {
+                    ChunkPosition position = new ChunkPosition(x, y, z);
+                    packed.add(position.pack());
+                    hashes.add(position.hashCode());
+                    count++;
+                }
+            }
+        }
+
+        assertEquals(count, packed.size(), "Packed positions must be unique");
+        assertTrue(hashes.size() < count, "Grid is expected to contain hash collisions");
+    }
+
+    @Test
+    void packedPosition_rejectsOutOfRangeCoordinates() {
+        assertThrows(IllegalStateException.class,
+                () -> new ChunkPosition(ChunkPosition.MAX_PACKED_XZ + 1, 0, 0).pack());
+        assertThrows(IllegalStateException.class,
+                () -> new ChunkPosition(0, ChunkPosition.MIN_PACKED_Y - 1, 0).pack());
+    }
+
+    @Test
+    void modificationCount_increasesOnEveryWrite() {
+        Chunk chunk = new Chunk(new ChunkPosition(0, 0, 0));
+        long initial = chunk.getModificationCount();
+
+        chunk.setVoxel(new LocalVoxelPosition(1, 2, 3), VoxelType.SOLID);
+        chunk.setVoxel(new LocalVoxelPosition(1, 2, 3), VoxelType.AIR);
+
+        assertEquals(initial + 2, chunk.getModificationCount());
+    }
+
+    @Test
+    void modificationCount_isUnchangedByNoOpChunkWrite() {
+        Chunk chunk = new Chunk(new ChunkPosition(0, 0, 0));
+        chunk.setVoxel(1, 2, 3, VoxelType.SOLID);
+        long before = chunk.getModificationCount();
+
+        chunk.setVoxel(1, 2, 3, VoxelType.SOLID);
+        chunk.setVoxel(4, 5, 6, VoxelType.AIR);
+
+        assertEquals(before, chunk.getModificationCount());
+        assertEquals(2, chunk.getHighestSolidY(1, 3));
+    }
+
+    @Test
+    void modificationCount_isUnchangedByNoOpWorldWrite() {
+        World world = new World(42L, new FlatWorldGenerator());
+        Chunk chunk = world.loadChunk(new ChunkPosition(0, 0, 0));
+        long before = chunk.getModificationCount();
+
+        world.setVoxel(0, 0, 0, world.getVoxel(0, 0, 0));
+
+        assertEquals(before, chunk.getModificationCount());
+    }
+
+    @Test
+    void getVoxel_rejectsEachAxisOutOfBounds() {
+        Chunk chunk = new Chunk(new ChunkPosition(0, 0, 0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> chunk.getVoxel(ChunkDimensions.SIZE_X, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> chunk.getVoxel(-1, 1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> chunk.getVoxel(0, ChunkDimensions.SIZE_Y, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> chunk.getVoxel(0, 0, ChunkDimensions.SIZE_Z));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> chunk.getVoxel(new LocalVoxelPosition(ChunkDimensions.SIZE_X, 0, 0)));
+    }
+
+    @Test
+    void setVoxel_rejectsEachAxisOutOfBoundsWithoutWriting() {
+        Chunk chunk = new Chunk(new ChunkPosition(0, 0, 0));
+        long before = chunk.getModificationCount();
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> chunk.setVoxel(ChunkDimensions.SIZE_X, 5, 0, VoxelType.SOLID));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> chunk.setVoxel(0, 5, ChunkDimensions.SIZE_Z, VoxelType.SOLID));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> chunk.setVoxel(0, ChunkDimensions.SIZE_Y, 0, VoxelType.SOLID));
+
+        assertEquals(VoxelType.AIR, chunk.getVoxel(0, 5, 1));
+        assertEquals(-1, chunk.getHighestSolidY(0, 1));
+        assertEquals(before, chunk.getModificationCount());
+    }
+}
@@ -0,0 +1,142 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+import com.voxelsandbox.engine.world.generation.NoiseTerrainGenerator;
+import com.voxelsandbox.engine.world.generation.cache.CachingWorldGenerator;
+import com.voxelsandbox.engine.world.generation.cache.GeneratedChunkCache;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedChunkCacheTest {
+
+    private static final int S = ChunkDimensions.SIZE_X;
+
+    private static final class CountingGenerator implements IWorldGenerator {
+        final AtomicInteger calls = new AtomicInteger();
+        final NoiseTerrainGenerator delegate = new NoiseTerrainGenerator();
+
+        @Override
+        public Chunk generateChunk(long seed, ChunkPosition position) {
+            calls.incrementAndGet();
+            return delegate.generateChunk(seed, position);
+        }
+    }
+
+    private static void assertSameVoxels(Chunk expected, Chunk actual) {
+        for (int y = 0; y < S; y++) {
+            for (int z = 0; z < S; z++) {
+                for (int x = 0; x < S; x++) {
+                    assertEquals(expected.getVoxel(x, y, z), actual.getVoxel(x, y, z));
+                }
+            }
+        }
+        for (int z = 0; z < S; z++) {
+            for (int x = 0; x < S; x++) {
+                assertEquals(expected.getHighestSolidY(x, z), actual.getHighestSolidY(x, z));
+            }
+        }
+    }
+
+    @Test
+    void cache_roundTripsEncodedVoxels() {
+        IWorldGenerator generator = new NoiseTerrainGenerator();
+        GeneratedChunkCache cache = new GeneratedChunkCache(1L << 20);
+
+        ChunkPosition emptyPosition = new ChunkPosition(2, 30, -1);
+        Chunk empty = new Chunk(emptyPosition);
+        cache.put(4L, generator, empty);
+        assertEquals(3, cache.getSizeInBytes(), "An empty chunk is a single run");
+        assertSameVoxels(empty, cache.get(4L, generator, emptyPosition));
+
+        ChunkPosition position = new ChunkPosition(2, 3, -1);
+        Chunk terrain = generator.generateChunk(4L, position);
+        terrain.setVoxel(7, 7, 7, VoxelType.LAMP);
+        terrain.setVoxel(S - 1, S - 1, S - 1, VoxelType.LAMP);
+        cache.put(4L, generator, terrain);
+        Chunk decoded = cache.get(4L, generator, position);
+        assertEquals(position, decoded.getPosition());
+        assertSameVoxels(terrain, decoded);
+    }
+
+    @Test
+    void reloadedChunksAreServedFromTheCache() {
+        CountingGenerator generator = new CountingGenerator();
+        GeneratedChunkCache cache = new GeneratedChunkCache(1 << 20);
+        World world = new World(6L, new CachingWorldGenerator(generator, cache), true);
+        ChunkPosition position = new ChunkPosition(0, 3, 0);
+
+        Chunk first = world.loadChunk(position);
+        Chunk expected = first.copy();
+        world.setVoxel(0, 3 * S, 0, VoxelType.LAMP);
+        world.unloadChunk(position);
+
+        Chunk reloaded = world.loadChunk(position);
+        assertNotSame(first, reloaded);
+        assertEquals(1, generator.calls.get());
+        assertEquals(1, cache.getHitCount());
+        assertSameVoxels(expected, reloaded);
+        assertEquals(expected.getVoxel(0, 0, 0), world.getVoxel(0, 3 * S, 0), "Cached chunks are pristine");
+
+        World uncached = new World(6L, new CountingGenerator(), true);
+        uncached.loadChunk(position);
+        assertEquals(uncached.getSkyLight(5, 3 * S + 15, 5), world.getSkyLight(5, 3 * S + 15, 5));
+    }
+
+    @Test
+    void entriesAreKeyedBySeedAndGenerator() {
+        GeneratedChunkCache cache = new GeneratedChunkCache(1 << 20);
+        CountingGenerator a = new CountingGenerator();
+        CountingGenerator b = new CountingGenerator();
+        IWorldGenerator cachingA = new CachingWorldGenerator(a, cache);
+        IWorldGenerator cachingB = new CachingWorldGenerator(b, cache);
+        ChunkPosition position = new ChunkPosition(1, 2, 3);
+
+        cachingA.generateChunk(1L, position);
+        cachingA.generateChunk(2L, position);
+        cachingB.generateChunk(1L, position);
+        assertEquals(2, a.calls.get());
+        assertEquals(1, b.calls.get());
+
+        cachingA.generateChunk(1L, position);
+        cachingB.generateChunk(1L, position);
+        assertEquals(2, a.calls.get());
+        assertEquals(1, b.calls.get());
+        assertEquals(3, cache.getEntryCount());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void cacheIsBoundedByEncodedSize() {
+        CountingGenerator generator = new CountingGenerator();
+        GeneratedChunkCache probe = new GeneratedChunkCache(1L << 20);
+        probe.put(3L, generator, generator.delegate.generateChunk(3L, new ChunkPosition(0, 3, 0)));
+        long size = probe.getSizeInBytes();
+
+        GeneratedChunkCache cache = new GeneratedChunkCache(4L * size);
+        IWorldGenerator caching = new CachingWorldGenerator(generator, cache);
+        for (int cx = 0; cx < 32; cx++) {
+            caching.generateChunk(3L, new ChunkPosition(cx, 3, 0));
+            assertTrue(cache.getSizeInBytes() <= cache.getMaxBytes());
+        }
+        assertTrue(cache.getEntryCount() < 32);
+
+        int calls = generator.calls.get();
+        caching.generateChunk(3L, new ChunkPosition(31, 3, 0));
+        assertEquals(calls, generator.calls.get(), "Most recent entry is kept");
+        caching.generateChunk(3L, new ChunkPosition(0, 3, 0));
+        assertEquals(calls + 1, generator.calls.get(), "Eldest entry was evicted");
+
+        cache.clear();
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getSizeInBytes());
+        assertThrows(IllegalArgumentException.class, () -> new GeneratedChunkCache(0));
+    }
+}
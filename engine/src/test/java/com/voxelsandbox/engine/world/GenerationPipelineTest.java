@@ -0,0 +1,270 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+import com.voxelsandbox.engine.world.generation.pipeline.GenerationPipeline;
+import com.voxelsandbox.engine.world.generation.pipeline.GenerationRegion;
+import com.voxelsandbox.engine.world.generation.pipeline.IGenerationPass;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationPipelineTest {
+
+    private static final int S = ChunkDimensions.SIZE_X;
+
+    /**
+     * Places up to three trees on flat ground in every chunk at {@code y = 1}.
+     * Canopies reach two voxels past the trunk, so they cross chunk borders.
+     */
+    private static final class TreePass implements IGenerationPass {
+
+        @Override
+        public String getId() {
+            return "trees";
+        }
+
+        @Override
+        public int getNeighbourRadius() {
+            return 1;
+        }
+
+        @Override
+        public void apply(GenerationRegion region) {
+            ChunkPosition center = region.getPosition();
+            List<int[]> trunks = new ArrayList<>();
+
+            for (int oz = -1; oz <= 1; oz++) {
+                for (int ox = -1; ox <= 1; ox++) {
+                    int originX = (center.x() + ox) * S;
+                    int originY = center.y() * S;
+                    int originZ = (center.z() + oz) * S;
+                    Random random = new Random(region.getSeed() * 31 + new ChunkPosition(
+                            center.x() + ox, center.y(), center.z() + oz).pack());
+
+                    int count = random.nextInt(4);
+                    for (int i = 0; i < count; i++) {
+                        int x = originX + random.nextInt(S);
+                        int z = originZ + random.nextInt(S);
+                        if (region.getVoxel(x, originY - 1, z) == VoxelType.SOLID
+                                && region.getVoxel(x, originY, z) == VoxelType.AIR) {
+                            trunks.add(new int[] {x, originY, z});
+                        }
+                    }
+                }
+            }
+
+            // Canopies first, trunks last, so overlaps resolve the same way in every chunk
+            for (int[] trunk : trunks) {
+                for (int y = 3; y <= 5; y++) {
+                    for (int dz = -2; dz <= 2; dz++) {
+                        for (int dx = -2; dx <= 2; dx++) {
+                            region.setVoxel(trunk[0] + dx, trunk[1] + y, trunk[2] + dz, VoxelType.LAMP);
+                        }
+                    }
+                }
+            }
+            for (int[] trunk : trunks) {
+                for (int y = 0; y <= 4; y++) {
+                    region.setVoxel(trunk[0], trunk[1] + y, trunk[2], VoxelType.SOLID);
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns every air voxel directly above a canopy into solid.
+     */
+    private static final class SnowPass implements IGenerationPass {
+
+        @Override
+        public String getId() {
+            return "snow";
+        }
+
+        @Override
+        public int getNeighbourRadius() {
+            return 0;
+        }
+
+        @Override
+        public void apply(GenerationRegion region) {
+            Chunk chunk = region.getChunk();
+            for (int y = 1; y < S; y++) {
+                for (int z = 0; z < S; z++) {
+                    for (int x = 0; x < S; x++) {
+                        if (chunk.getVoxel(x, y - 1, z) == VoxelType.LAMP && chunk.getVoxel(x, y, z) == VoxelType.AIR) {
+                            chunk.setVoxel(x, y, z, VoxelType.SOLID);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class CountingGenerator implements IWorldGenerator {
+        final AtomicInteger calls = new AtomicInteger();
+        final FlatWorldGenerator delegate = new FlatWorldGenerator();
+
+        @Override
+        public Chunk generateChunk(long seed, ChunkPosition position) {
+            calls.incrementAndGet();
+            return delegate.generateChunk(seed, position);
+        }
+    }
+
+    @Test
+    void resultDoesNotDependOnOrderOrThreads() {
+        List<ChunkPosition> positions = new ArrayList<>();
+        for (int cz = -2; cz <= 2; cz++) {
+            for (int cx = -2; cx <= 2; cx++) {
+                positions.add(new ChunkPosition(cx, 1, cz));
+            }
+        }
+
+        Map<ChunkPosition, Chunk> sequential;
+        try (GenerationPipeline pipeline = new GenerationPipeline(
+                new FlatWorldGenerator(), List.of(new TreePass(), new SnowPass()), Runnable::run, 4)) {
+            sequential = pipeline.generateChunks(5L, positions);
+        }
+
+        List<ChunkPosition> reversed = new ArrayList<>(positions);
+        Collections.reverse(reversed);
+        try (GenerationPipeline pipeline = new GenerationPipeline(
+                new FlatWorldGenerator(), List.of(new TreePass(), new SnowPass()), 4)) {
+            Map<ChunkPosition, Chunk> parallel = pipeline.generateChunks(5L, reversed);
+
+            for (ChunkPosition position : positions) {
+                for (int y = 0; y < S; y++) {
+                    for (int z = 0; z < S; z++) {
+                        for (int x = 0; x < S; x++) {
+                            assertEquals(
+                                    sequential.get(position).getVoxel(x, y, z),
+                                    parallel.get(position).getVoxel(x, y, z)
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void featuresAreContinuousAcrossChunkBorders() {
+        try (GenerationPipeline pipeline = new GenerationPipeline(
+                new FlatWorldGenerator(), List.of(new TreePass()), 2)) {
+            World world = new World(9L, pipeline);
+            for (int cz = -3; cz <= 3; cz++) {
+                for (int cx = -3; cx <= 3; cx++) {
+                    world.loadChunk(new ChunkPosition(cx, 0, cz));
+                    world.loadChunk(new ChunkPosition(cx, 1, cz));
+                }
+            }
+
+            int trees = 0;
+            int crossing = 0;
+            for (int z = -2 * S; z < 2 * S; z++) {
+                for (int x = -2 * S; x < 2 * S; x++) {
+                    if (world.getVoxel(x, S, z) != VoxelType.SOLID || world.getVoxel(x, S + 4, z) != VoxelType.SOLID) {
+                        continue;
+                    }
+                    trees++;
+                    int localX = Math.floorMod(x, S);
+                    int localZ = Math.floorMod(z, S);
+                    if (localX < 2 || localX >= S - 2 || localZ < 2 || localZ >= S - 2) {
+                        crossing++;
+                    }
+                    for (int dz = -2; dz <= 2; dz++) {
+                        for (int dx = -2; dx <= 2; dx++) {
+                            assertNotEquals(VoxelType.AIR, world.getVoxel(x + dx, S + 4, z + dz));
+                        }
+                    }
+                }
+            }
+            assertTrue(trees > 0);
+            assertTrue(crossing > 0, "Some canopies cross a chunk border");
+        }
+    }
+
+    @Test
+    void partialStagesAreSharedBetweenNeighbours() {
+        CountingGenerator base = new CountingGenerator();
+        try (GenerationPipeline pipeline = new GenerationPipeline(
+                base, List.of(new TreePass(), new SnowPass()), 2)) {
+            assertEquals(3, pipeline.getStageCount());
+
+            Chunk first = pipeline.generateChunk(1L, new ChunkPosition(0, 1, 0));
+            assertEquals(27, base.calls.get());
+            assertEquals(27 + 1 + 1, pipeline.getStageEvaluationCount());
+
+            pipeline.generateChunk(1L, new ChunkPosition(1, 1, 0));
+            assertEquals(27 + 9, base.calls.get(), "Shared neighbours are not regenerated");
+            assertEquals(29 + 9 + 1 + 1, pipeline.getStageEvaluationCount());
+
+            // Returned chunks are copies, never the cached stages
+            first.setVoxel(0, 0, 0, VoxelType.LAMP);
+            Chunk again = pipeline.generateChunk(1L, new ChunkPosition(0, 1, 0));
+            assertNotSame(first, again);
+            assertNotEquals(VoxelType.LAMP, again.getVoxel(0, 0, 0));
+            assertEquals(36, base.calls.get());
+        }
+    }
+
+    @Test
+    void partialCacheIsBounded() {
+        CountingGenerator base = new CountingGenerator();
+        try (GenerationPipeline pipeline = new GenerationPipeline(
+                base, List.of(new TreePass()), Runnable::run, 10)) {
+            pipeline.generateChunk(1L, new ChunkPosition(0, 1, 0));
+            assertTrue(pipeline.getCachedPartialCount() <= 10);
+
+            pipeline.generateChunk(1L, new ChunkPosition(1, 1, 0));
+            assertTrue(base.calls.get() > 27 + 9, "Evicted stages are regenerated");
+            assertTrue(pipeline.getCachedPartialCount() <= 10);
+        }
+    }
+
+    @Test
+    void passContractsAreEnforced() {
+        IGenerationPass greedy = new IGenerationPass() {
+            @Override
+            public String getId() {
+                return "greedy";
+            }
+
+            @Override
+            public int getNeighbourRadius() {
+                return 0;
+            }
+
+            @Override
+            public void apply(GenerationRegion region) {
+                region.getVoxel(region.getPosition().x() * S + S, 0, 0);
+            }
+        };
+        try (GenerationPipeline pipeline = new GenerationPipeline(
+                new FlatWorldGenerator(), List.of(greedy), 1)) {
+            assertThrows(IllegalStateException.class, () -> pipeline.generateChunk(0L, new ChunkPosition(0, 0, 0)));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new GenerationPipeline(
+                new FlatWorldGenerator(), List.of(new TreePass(), new TreePass()), 1));
+        assertThrows(IllegalArgumentException.class, () -> new GenerationPipeline(
+                new FlatWorldGenerator(), List.of(new SnowPass()), Runnable::run, 0));
+
+        GenerationPipeline closed = new GenerationPipeline(new FlatWorldGenerator(), List.of(new SnowPass()), 1);
+        closed.close();
+        assertThrows(IllegalStateException.class, () -> closed.generateChunk(0L, new ChunkPosition(0, 0, 0)));
+    }
+}
@@ -0,0 +1,129 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.event.IWorldEventListener;
+import com.voxelsandbox.engine.world.eviction.DistanceBasedChunkEvictionPolicy;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.engine.world.streaming.ChunkChurnStats;
+import com.voxelsandbox.engine.world.streaming.DistanceBasedChunkStreamingController;
+import com.voxelsandbox.engine.world.streaming.HysteresisChunkStreamingController;
+import com.voxelsandbox.engine.world.streaming.IChunkStreamingController;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HysteresisChunkStreamingControllerTest {
+
+    private static final class GenerationCounter implements IWorldEventListener {
+        final AtomicInteger generated = new AtomicInteger();
+
+        @Override
+        public void onChunkGenerated(ChunkPosition position, Chunk chunk) {
+            generated.incrementAndGet();
+        }
+    }
+
+    private static int oscillate(IChunkStreamingController controller, World world) {
+        GenerationCounter counter = new GenerationCounter();
+        world.addEventListener(counter);
+        for (int i = 0; i < 20; i++) {
+            controller.update(world, new ChunkPosition(i % 2, 0, 0));
+        }
+        return counter.generated.get();
+    }
+
+    @Test
+    void oscillatingFocus_doesNotThrash() {
+        int thresholdGenerations = oscillate(
+                new DistanceBasedChunkStreamingController(1, new DistanceBasedChunkEvictionPolicy(1.5)),
+                new World(1L, new FlatWorldGenerator())
+        );
+
+        World world = new World(1L, new FlatWorldGenerator());
+        HysteresisChunkStreamingController controller =
+                new HysteresisChunkStreamingController(1, 2, Duration.ZERO);
+        int hysteresisGenerations = oscillate(controller, world);
+
+        assertTrue(thresholdGenerations > 27 + 9 * 10, "A hard threshold regenerates a slab per crossing");
+        assertEquals(27 + 9, hysteresisGenerations, "Each chunk is generated once");
+        assertEquals(36, world.getChunks().size());
+
+        ChunkChurnStats churn = controller.getChurnStats();
+        assertEquals(36, churn.loads());
+        assertEquals(0, churn.unloads());
+        assertEquals(0, churn.regenerations());
+    }
+
+    @Test
+    void chunksBeyondEvictRadius_stayForMinimumResidency() {
+        AtomicLong clock = new AtomicLong();
+        World world = new World(1L, new FlatWorldGenerator());
+        HysteresisChunkStreamingController controller =
+                new HysteresisChunkStreamingController(0, 0, Duration.ofNanos(100), clock::get);
+        ChunkPosition origin = new ChunkPosition(0, 0, 0);
+
+        controller.update(world, origin);
+        clock.set(50);
+        controller.update(world, new ChunkPosition(5, 0, 0));
+        assertNotNull(world.getChunkIfPresent(origin), "Resident for less than the minimum");
+
+        clock.set(100);
+        controller.update(world, new ChunkPosition(5, 0, 0));
+        assertNull(world.getChunkIfPresent(origin));
+        assertNotNull(world.getChunkIfPresent(new ChunkPosition(5, 0, 0)), "Residency starts at load");
+
+        // Chunks loaded by others are evicted once resident long enough
+        ChunkPosition foreign = new ChunkPosition(-3, 0, 0);
+        world.loadChunk(foreign);
+        controller.update(world, new ChunkPosition(5, 0, 0));
+        assertNotNull(world.getChunkIfPresent(foreign));
+        clock.set(200);
+        controller.update(world, new ChunkPosition(5, 0, 0));
+        assertNull(world.getChunkIfPresent(foreign));
+    }
+
+    @Test
+    void churnStats_countRoundTripsPerSecond() {
+        AtomicLong clock = new AtomicLong();
+        World world = new World(1L, new FlatWorldGenerator());
+        HysteresisChunkStreamingController controller =
+                new HysteresisChunkStreamingController(0, 1, Duration.ZERO, clock::get);
+
+        assertEquals(new ChunkChurnStats(0, 0, 0, 0), controller.getChurnStats());
+
+        controller.update(world, new ChunkPosition(0, 0, 0));
+        controller.update(world, new ChunkPosition(1, 0, 0));
+        controller.update(world, new ChunkPosition(2, 0, 0));
+        controller.update(world, new ChunkPosition(0, 0, 0));
+        clock.set(2_000_000_000L);
+
+        ChunkChurnStats churn = controller.getChurnStats();
+        assertEquals(4, churn.loads());
+        assertEquals(2, churn.unloads());
+        assertEquals(1, churn.regenerations(), "Only the origin came back");
+        assertEquals(2.0, churn.loadsPerSecond(), 1e-9);
+        assertEquals(1.0, churn.unloadsPerSecond(), 1e-9);
+        assertEquals(0.5, churn.regenerationsPerSecond(), 1e-9);
+
+        controller.resetChurnStats();
+        controller.update(world, new ChunkPosition(0, 0, 0));
+        assertEquals(new ChunkChurnStats(0, 0, 0, 0), controller.getChurnStats());
+    }
+
+    @Test
+    void invalidArguments_areRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HysteresisChunkStreamingController(-1, 1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HysteresisChunkStreamingController(2, 1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HysteresisChunkStreamingController(1, 1, Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class,
+                () -> new HysteresisChunkStreamingController(1, 1, null));
+    }
+}
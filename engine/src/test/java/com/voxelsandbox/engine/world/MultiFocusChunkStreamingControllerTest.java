@@ -0,0 +1,124 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.event.IWorldEventListener;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.engine.world.streaming.MultiFocusChunkStreamingController;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiFocusChunkStreamingControllerTest {
+
+    private static final class EventCounter implements IWorldEventListener {
+        final AtomicInteger generated = new AtomicInteger();
+        final AtomicInteger unloaded = new AtomicInteger();
+
+        @Override
+        public void onChunkGenerated(ChunkPosition position, Chunk chunk) {
+            generated.incrementAndGet();
+        }
+
+        @Override
+        public void onChunkUnloaded(ChunkPosition position, Chunk chunk) {
+            unloaded.incrementAndGet();
+        }
+    }
+
+    @Test
+    void sharedChunks_stayLoadedWhileAnyObserverNeedsThem() {
+        World world = new World(1L, new FlatWorldGenerator());
+        MultiFocusChunkStreamingController controller = new MultiFocusChunkStreamingController(1);
+
+        controller.updateObserver(world, "a", new ChunkPosition(0, 0, 0));
+        controller.updateObserver(world, "b", new ChunkPosition(2, 0, 0));
+        assertEquals(27 + 18, world.getChunks().size());
+        assertEquals(2, controller.getInterestCount(new ChunkPosition(1, 1, -1)));
+
+        controller.updateObserver(world, "a", new ChunkPosition(10, 0, 0));
+        assertNotNull(world.getChunkIfPresent(new ChunkPosition(1, 0, 0)), "Still needed by b");
+        assertEquals(1, controller.getInterestCount(new ChunkPosition(1, 0, 0)));
+        assertNull(world.getChunkIfPresent(new ChunkPosition(0, 0, 0)));
+        assertEquals(2 * 27, world.getChunks().size());
+
+        controller.removeObserver(world, "b");
+        controller.removeObserver(world, "unknown");
+        assertEquals(1, controller.getObserverCount());
+        assertEquals(27, world.getChunks().size());
+        assertNotNull(world.getChunkIfPresent(new ChunkPosition(11, 1, 1)));
+    }
+
+    @Test
+    void manyObservers_loadExactlyTheUnionOfTheirRegions() {
+        World world = new World(1L, new FlatWorldGenerator());
+        MultiFocusChunkStreamingController controller = new MultiFocusChunkStreamingController(1);
+        Random random = new Random(3);
+
+        Map<Integer, ChunkPosition> foci = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            foci.put(i, new ChunkPosition(random.nextInt(24), random.nextInt(3), random.nextInt(24)));
+        }
+        controller.update(world, foci);
+
+        for (int tick = 0; tick < 5; tick++) {
+            long before = controller.getInterestUpdateCount();
+            foci.replaceAll((observer, focus) ->
+                    new ChunkPosition(focus.x() + random.nextInt(3) - 1, focus.y(), focus.z()));
+            // Observers come and go between ticks
+            foci.remove(tick);
+            foci.put(1000 + tick, new ChunkPosition(-20, 0, -20));
+            controller.update(world, foci);
+
+            assertTrue(controller.getInterestUpdateCount() - before <= 1000L * 2 * 9 + 2 * 27,
+                    "Moves only count the slabs entering and leaving a region");
+
+            Map<ChunkPosition, Integer> expected = new HashMap<>();
+            for (ChunkPosition focus : foci.values()) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        for (int dz = -1; dz <= 1; dz++) {
+                            expected.merge(new ChunkPosition(focus.x() + dx, focus.y() + dy, focus.z() + dz), 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+            assertEquals(expected.keySet(), world.getChunks().keySet());
+            assertEquals(expected.size(), controller.getInterestedChunkCount());
+            expected.forEach((position, count) -> assertEquals(count.intValue(), controller.getInterestCount(position)));
+        }
+        assertEquals(1000, controller.getObserverCount());
+    }
+
+    @Test
+    void handoverWithinOneUpdate_doesNotChurn() {
+        World world = new World(1L, new FlatWorldGenerator());
+        MultiFocusChunkStreamingController controller = new MultiFocusChunkStreamingController(1);
+        EventCounter events = new EventCounter();
+        world.addEventListener(events);
+
+        controller.update(world, Map.of("a", new ChunkPosition(0, 0, 0)));
+        controller.update(world, Map.of("b", new ChunkPosition(0, 0, 0)));
+        assertEquals(27, events.generated.get());
+        assertEquals(0, events.unloaded.get());
+
+        // The single-focus entry point drives its own observer alongside the others
+        controller.update(world, new ChunkPosition(5, 0, 0));
+        assertEquals(2, controller.getObserverCount());
+        assertEquals(54, world.getChunks().size());
+
+        Set<ChunkPosition> before = new HashSet<>(world.getChunks().keySet());
+        controller.update(world, new ChunkPosition(5, 0, 0));
+        assertEquals(before, world.getChunks().keySet());
+        assertEquals(54, events.generated.get());
+
+        assertThrows(IllegalArgumentException.class, () -> new MultiFocusChunkStreamingController(-1));
+    }
+}
@@ -0,0 +1,246 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.Biome;
+import com.voxelsandbox.engine.world.generation.NoiseTerrainGenerator;
+import com.voxelsandbox.engine.world.generation.TerrainColumn;
+import com.voxelsandbox.engine.world.generation.noise.FractalNoise;
+import com.voxelsandbox.engine.world.generation.noise.GradientNoise;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NoiseTerrainGeneratorTest {
+
+    private static final int S = ChunkDimensions.SIZE_X;
+
+    @Test
+    void gradientNoise_isSeededZeroOnLatticeAndBounded() {
+        GradientNoise noise = new GradientNoise(3L);
+        GradientNoise same = new GradientNoise(3L);
+        GradientNoise other = new GradientNoise(4L);
+        Random random = new Random(1);
+
+        boolean differs = false;
+        for (int i = 0; i < 10_000; i++) {
+            float x = random.nextFloat() * 600f - 300f;
+            float y = random.nextFloat() * 600f - 300f;
+            float z = random.nextFloat() * 600f - 300f;
+
+            float value2 = noise.noise(x, z);
+            float value3 = noise.noise(x, y, z);
+            assertEquals(value2, same.noise(x, z));
+            assertEquals(value3, same.noise(x, y, z));
+            assertTrue(Math.abs(value2) <= 1.5f && Math.abs(value3) <= 1.5f);
+            differs |= value3 != other.noise(x, y, z);
+        }
+        assertTrue(differs);
+
+        assertEquals(0f, noise.noise(-7f, 12f));
+        assertEquals(0f, noise.noise(5f, -3f, 260f));
+        assertEquals(noise.noise(1.25f, 2.5f), noise.noise(1.25f + GradientNoise.PERIOD, 2.5f));
+    }
+
+    @Test
+    void fractalNoise_fillMatchesPointSamples() {
+        FractalNoise noise = new FractalNoise(9L, 4, 1f / 32f, 0.5f);
+        float[] out = new float[S * S];
+        noise.fill(out, -20, 35, S);
+
+        for (int j = 0; j < S; j++) {
+            for (int i = 0; i < S; i++) {
+                assertEquals(noise.sample(-20 + i, 35 + j), out[i + j * S]);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new FractalNoise(1L, 0, 1f, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> noise.fill(new float[10], 0, 0, S));
+    }
+
+    @Test
+    void fractalNoise_volumeFillMatchesPointSamples() {
+        FractalNoise noise = new FractalNoise(9L, 3, 1f / 16f, 0.5f, false);
+        float[] out = new float[S * S * S];
+        noise.fill(out, 40, -70, -5, S);
+
+        for (int y = 0; y < S; y++) {
+            for (int z = 0; z < S; z++) {
+                for (int x = 0; x < S; x++) {
+                    assertEquals(noise.sample(40 + x, -70 + y, -5 + z), out[x + z * S + y * S * S]);
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> noise.fill(new float[S * S], 0, 0, 0, S));
+    }
+
+    @Test
+    void fractalNoise_vectorFillMatchesScalarBitForBit() {
+        if (!FractalNoise.isVectorSupported()) {
+            return;
+        }
+        Random random = new Random(7);
+        for (int size : new int[] {S, 13}) {
+            for (int round = 0; round < 8; round++) {
+                long seed = random.nextLong();
+                int originX = random.nextInt(2000) - 1000;
+                int originY = random.nextInt(2000) - 1000;
+                int originZ = random.nextInt(2000) - 1000;
+                float frequency = 1f / (1 << random.nextInt(8));
+
+                FractalNoise scalar = new FractalNoise(seed, 4, frequency, 0.5f, false);
+                FractalNoise vector = new FractalNoise(seed, 4, frequency, 0.5f, true);
+                assertTrue(vector.isVectorized());
+                assertFalse(scalar.isVectorized());
+
+                float[] expected = new float[size * size * size];
+                float[] actual = new float[size * size * size];
+                scalar.fill(expected, originX, originZ, size);
+                vector.fill(actual, originX, originZ, size);
+                assertBitsEqual(expected, actual, size * size);
+
+                scalar.fill(expected, originX, originY, originZ, size);
+                vector.fill(actual, originX, originY, originZ, size);
+                assertBitsEqual(expected, actual, size * size * size);
+            }
+        }
+    }
+
+    @Test
+    void fractalNoise_vectorBackendRequiresModule() {
+        if (FractalNoise.isVectorSupported()) {
+            return;
+        }
+        assertThrows(IllegalStateException.class, () -> new FractalNoise(1L, 4, 0.05f, 0.5f, true));
+
+        String previous = System.setProperty(FractalNoise.VECTOR_PROPERTY, "true");
+        try {
+            assertFalse(new FractalNoise(1L, 4, 0.05f, 0.5f).isVectorized());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(FractalNoise.VECTOR_PROPERTY);
+            } else {
+                System.setProperty(FractalNoise.VECTOR_PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    void generator_isDeterministicPerSeed() {
+        ChunkPosition position = new ChunkPosition(3, 3, -2);
+        Chunk first = new NoiseTerrainGenerator().generateChunk(11L, position);
+        Chunk second = new NoiseTerrainGenerator().generateChunk(11L, position);
+
+        for (int y = 0; y < S; y++) {
+            for (int z = 0; z < S; z++) {
+                for (int x = 0; x < S; x++) {
+                    assertEquals(first.getVoxel(x, y, z), second.getVoxel(x, y, z));
+                }
+            }
+        }
+
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator();
+        boolean differs = false;
+        for (int cx = 0; cx < 4 && !differs; cx++) {
+            TerrainColumn a = generator.getColumn(11L, cx, 0);
+            TerrainColumn b = generator.getColumn(12L, cx, 0);
+            for (int i = 0; i < S * S; i++) {
+                differs |= a.getHeight(i % S, i / S) != b.getHeight(i % S, i / S);
+            }
+        }
+        assertTrue(differs, "Different seeds produce different terrain");
+    }
+
+    @Test
+    void generator_fillsColumnsUpToTheirHeight() {
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator();
+        TerrainColumn column = generator.getColumn(5L, 1, 2);
+        int bottom = Math.floorDiv(column.getMinHeight(), S) - 1;
+        int top = Math.floorDiv(column.getMaxHeight(), S) + 1;
+
+        for (int cy = bottom; cy <= top; cy++) {
+            Chunk chunk = generator.generateChunk(5L, new ChunkPosition(1, cy, 2));
+            for (int z = 0; z < S; z++) {
+                for (int x = 0; x < S; x++) {
+                    for (int y = 0; y < S; y++) {
+                        boolean solid = cy * S + y <= column.getHeight(x, z);
+                        assertEquals(solid ? VoxelType.SOLID : VoxelType.AIR, chunk.getVoxel(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void columnCache_isSharedByStackedChunksAndBounded() {
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator(4);
+
+        for (int cy = 0; cy < 8; cy++) {
+            generator.generateChunk(1L, new ChunkPosition(0, cy, 0));
+        }
+        assertEquals(1, generator.getColumnEvaluationCount());
+
+        for (int cx = 1; cx <= 4; cx++) {
+            generator.generateChunk(1L, new ChunkPosition(cx, 0, 0));
+        }
+        assertEquals(5, generator.getColumnEvaluationCount());
+
+        generator.generateChunk(1L, new ChunkPosition(0, 1, 0));
+        assertEquals(6, generator.getColumnEvaluationCount(), "Eldest column was evicted");
+
+        generator.generateChunk(2L, new ChunkPosition(0, 1, 0));
+        assertEquals(7, generator.getColumnEvaluationCount(), "Columns are cached per seed");
+
+        assertThrows(IllegalArgumentException.class, () -> new NoiseTerrainGenerator(0));
+    }
+
+    @Test
+    void terrain_isContinuousAndMixesBiomes() {
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator();
+        Set<Biome> biomes = EnumSet.noneOf(Biome.class);
+
+        for (int cx = -48; cx < 48; cx++) {
+            TerrainColumn column = generator.getColumn(42L, cx, 0);
+            TerrainColumn next = generator.getColumn(42L, cx + 1, 0);
+            for (int z = 0; z < S; z++) {
+                for (int x = 0; x < S; x++) {
+                    int neighbour = x + 1 < S ? column.getHeight(x + 1, z) : next.getHeight(0, z);
+                    assertTrue(Math.abs(column.getHeight(x, z) - neighbour) <= 6, "cx = " + cx + ", x = " + x);
+                }
+            }
+        }
+        for (int cx = -16; cx <= 16; cx++) {
+            for (int cz = -16; cz <= 16; cz++) {
+                biomes.add(generator.getColumn(42L, 4 * cx, 4 * cz).getBiome(0, 0));
+            }
+        }
+        assertEquals(EnumSet.allOf(Biome.class), biomes);
+    }
+
+    @Test
+    void world_heightmapMatchesGeneratedTerrain() {
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator();
+        World world = new World(8L, generator);
+        TerrainColumn column = generator.getColumn(8L, 0, 0);
+
+        for (int cy = 0; cy <= Math.floorDiv(column.getMaxHeight(), S) + 1; cy++) {
+            world.loadChunk(new ChunkPosition(0, cy, 0));
+        }
+        for (int z = 0; z < S; z++) {
+            for (int x = 0; x < S; x++) {
+                assertEquals(column.getHeight(x, z), world.getHighestSolidY(x, z));
+            }
+        }
+    }
+
+    private static void assertBitsEqual(float[] expected, float[] actual, int count) {
+        for (int i = 0; i < count; i++) {
+            assertEquals(Float.floatToRawIntBits(expected[i]), Float.floatToRawIntBits(actual[i]), "index " + i);
+        }
+    }
+}
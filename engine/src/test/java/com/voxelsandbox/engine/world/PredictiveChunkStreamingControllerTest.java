@@ -0,0 +1,85 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.eviction.DistanceBasedChunkEvictionPolicy;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.engine.world.streaming.PredictiveChunkStreamingController;
+import com.voxelsandbox.engine.world.streaming.PrefetchStats;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PredictiveChunkStreamingControllerTest {
+
+    @Test
+    void straightMovement_isPrefetchedAhead() {
+        World world = new World(1L, new FlatWorldGenerator());
+        PredictiveChunkStreamingController controller = new PredictiveChunkStreamingController(
+                1, new DistanceBasedChunkEvictionPolicy(1.9), 3, 9);
+
+        for (int x = 0; x < 30; x++) {
+            controller.update(world, new ChunkPosition(x, 0, 0));
+            if (x >= 2) {
+                assertNotNull(world.getChunkIfPresent(new ChunkPosition(x + 2, 1, -1)),
+                        "The next slab is loaded before the focus needs it");
+            }
+        }
+
+        PrefetchStats stats = controller.getPrefetchStats();
+        assertTrue(stats.issued() > 0);
+        assertTrue(stats.hits() >= 9 * 25);
+        assertEquals(0, stats.wasted());
+        assertEquals(1.0, stats.hitRate());
+    }
+
+    @Test
+    void reversal_cancelsQueuedAndWastesPrefetchedChunks() {
+        World world = new World(1L, new FlatWorldGenerator());
+        PredictiveChunkStreamingController controller = new PredictiveChunkStreamingController(
+                1, new DistanceBasedChunkEvictionPolicy(1.9), 3, 4);
+
+        for (int x = 0; x < 10; x++) {
+            controller.update(world, new ChunkPosition(x, 0, 0));
+        }
+        assertTrue(controller.getQueuedPrefetchCount() > 0);
+        for (int x = 10; x > -10; x--) {
+            controller.update(world, new ChunkPosition(x, 0, 0));
+        }
+
+        PrefetchStats stats = controller.getPrefetchStats();
+        assertTrue(stats.cancelled() > 0, "Queued chunks ahead of the old direction are cancelled");
+        assertTrue(stats.wasted() > 0);
+        assertTrue(stats.hits() > 0, "The new direction is prefetched as well");
+        assertTrue(stats.hitRate() > 0.0 && stats.hitRate() < 1.0);
+        assertNull(world.getChunkIfPresent(new ChunkPosition(13, 0, 0)), "Abandoned prefetches are evicted");
+    }
+
+    @Test
+    void requiredChunks_doNotDependOnPrefetching() {
+        World world = new World(1L, new FlatWorldGenerator());
+        PredictiveChunkStreamingController controller = new PredictiveChunkStreamingController(
+                1, new DistanceBasedChunkEvictionPolicy(1.9), 3, 0);
+
+        for (int x = 0; x < 5; x++) {
+            controller.update(world, new ChunkPosition(x, 0, 0));
+        }
+        assertEquals(27, world.getChunks().size());
+        assertEquals(new PrefetchStats(0, 0, 0, 0), controller.getPrefetchStats());
+
+        // A stationary focus predicts nothing
+        PredictiveChunkStreamingController still = new PredictiveChunkStreamingController(
+                1, new DistanceBasedChunkEvictionPolicy(1.9), 3, 9);
+        for (int i = 0; i < 5; i++) {
+            still.update(world, new ChunkPosition(4, 0, 0));
+        }
+        assertEquals(0, still.getQueuedPrefetchCount());
+        assertEquals(27, world.getChunks().size());
+
+        assertThrows(IllegalArgumentException.class, () -> new PredictiveChunkStreamingController(
+                -1, new DistanceBasedChunkEvictionPolicy(1.9), 3, 9));
+        assertThrows(IllegalArgumentException.class, () -> new PredictiveChunkStreamingController(
+                1, new DistanceBasedChunkEvictionPolicy(1.9), -1, 9));
+        assertThrows(IllegalArgumentException.class, () -> new PredictiveChunkStreamingController(
+                1, new DistanceBasedChunkEvictionPolicy(1.9), 3, -1));
+    }
+}
@@ -2,18 +2,44 @@ package com.voxelsandbox.engine.world;
 
 import com.voxelsandbox.engine.world.chunk.Chunk;
 import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.LocalVoxelPosition;
 import com.voxelsandbox.engine.world.event.IWorldEventListener;
 import com.voxelsandbox.engine.world.eviction.DistanceBasedChunkEvictionPolicy;
 import com.voxelsandbox.engine.world.eviction.IChunkEvictionPolicy;
 import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
 import com.voxelsandbox.engine.world.streaming.DistanceBasedChunkStreamingController;
+import com.voxelsandbox.engine.world.type.VoxelType;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class WorldEventTest {
+    @Test
+    void removedListener_receivesNoFurtherEvents() {
+        World world = new World(42L, new FlatWorldGenerator());
+
+        AtomicInteger loadedCount = new AtomicInteger();
+        IWorldEventListener listener = new IWorldEventListener() {
+            @Override
+            public void onChunkLoaded(ChunkPosition position, Chunk chunk) {
+                loadedCount.incrementAndGet();
+                world.removeEventListener(this);
+            }
+        };
+        world.addEventListener(listener);
+
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(1, 0, 0));
+
+        assertEquals(1, loadedCount.get(),
+                "A listener may unregister itself from a callback");
+        assertFalse(world.removeEventListener(listener));
+        assertThrows(NullPointerException.class, () -> world.removeEventListener(null));
+    }
+
     @Test
     void chunkGenerated_isCalledOnlyOnce() {
         World world = new World(42L, new FlatWorldGenerator());
@@ -500,4 +526,33 @@ public class WorldEventTest {
                 "No chunks must be unloaded when focus does not change"
         );
     }
+
+    @Test
+    void chunkModified_isEmittedOnlyWhenVoxelTypeChanges() {
+        World world = new World(42L, new FlatWorldGenerator());
+
+        AtomicInteger modifiedCount = new AtomicInteger();
+        AtomicReference<LocalVoxelPosition> modifiedVoxel = new AtomicReference<>();
+
+        world.addEventListener(new IWorldEventListener() {
+            @Override
+            public void onChunkModified(ChunkPosition position, Chunk chunk, LocalVoxelPosition voxel) {
+                modifiedCount.incrementAndGet();
+                modifiedVoxel.set(voxel);
+            }
+        });
+
+        world.loadChunk(new ChunkPosition(0, 6, 0));
+        VoxelType initial = world.getVoxel(0, 100, 0);
+        VoxelType other = initial == VoxelType.AIR ? VoxelType.SOLID : VoxelType.AIR;
+
+        world.setVoxel(0, 100, 0, initial);
+        assertEquals(0, modifiedCount.get(),
+                "Writing the current type must not emit a modified event");
+
+        world.setVoxel(0, 100, 0, other);
+        assertEquals(1, modifiedCount.get(),
+                "Changing a voxel must emit exactly one modified event");
+        assertEquals(new LocalVoxelPosition(0, 4, 0), modifiedVoxel.get());
+    }
 }
@@ -0,0 +1,157 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.LocalVoxelPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldHeightmapTest {
+
+    private static final int S = ChunkDimensions.SIZE_X;
+
+    private static final IWorldGenerator EMPTY = (seed, position) -> new Chunk(position);
+
+    @Test
+    void chunkSurface_tracksTopVoxelOfEveryColumn() {
+        Chunk chunk = new Chunk(new ChunkPosition(0, 0, 0));
+        assertEquals(-1, chunk.getHighestSolidY(3, 4));
+
+        chunk.setVoxel(new LocalVoxelPosition(3, 5, 4), VoxelType.SOLID);
+        chunk.setVoxel(new LocalVoxelPosition(3, 9, 4), VoxelType.LAMP);
+        assertEquals(9, chunk.getHighestSolidY(3, 4));
+        assertEquals(-1, chunk.getHighestSolidY(4, 3));
+
+        chunk.setVoxel(new LocalVoxelPosition(3, 9, 4), VoxelType.AIR);
+        assertEquals(5, chunk.getHighestSolidY(3, 4));
+        chunk.setVoxel(new LocalVoxelPosition(3, 5, 4), VoxelType.AIR);
+        assertEquals(-1, chunk.getHighestSolidY(3, 4));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> chunk.getHighestSolidY(S, 0));
+    }
+
+    @Test
+    void flatWorld_reportsGroundHeight() {
+        World world = new World(1L, new FlatWorldGenerator());
+        assertEquals(World.MIN_Y - 1, world.getHighestSolidY(5, 5));
+        assertEquals(World.MIN_Y - 1, world.getMaxSolidY());
+
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(0, 1, 0));
+
+        assertEquals(S - 1, world.getHighestSolidY(5, 5));
+        assertEquals(S - 1, world.getMaxSolidY());
+        assertEquals(World.MIN_Y - 1, world.getHighestSolidY(-1, 5), "Unloaded columns are empty");
+    }
+
+    @Test
+    void setVoxel_raisesAndLowersColumn() {
+        World world = new World(1L, new FlatWorldGenerator());
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+
+        world.setVoxel(2, 40, 3, VoxelType.SOLID);
+        assertEquals(40, world.getHighestSolidY(2, 3));
+        assertEquals(40, world.getMaxSolidY());
+        assertEquals(S - 1, world.getHighestSolidY(3, 3));
+
+        world.setVoxel(2, 40, 3, VoxelType.AIR);
+        assertEquals(S - 1, world.getHighestSolidY(2, 3));
+        assertEquals(S - 1, world.getMaxSolidY());
+
+        world.setVoxel(2, S - 1, 3, VoxelType.AIR);
+        world.setVoxel(2, S - 2, 3, VoxelType.AIR);
+        assertEquals(S - 3, world.getHighestSolidY(2, 3));
+    }
+
+    @Test
+    void unloadChunk_dropsItsVoxelsFromTheColumn() {
+        World world = new World(1L, new FlatWorldGenerator());
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.setVoxel(7, 2 * S + 1, 7, VoxelType.SOLID);
+        assertEquals(2 * S + 1, world.getMaxSolidY());
+
+        world.unloadChunk(new ChunkPosition(0, 2, 0));
+        assertEquals(S - 1, world.getHighestSolidY(7, 7));
+        assertEquals(S - 1, world.getMaxSolidY());
+
+        world.unloadChunk(new ChunkPosition(0, 0, 0));
+        assertEquals(World.MIN_Y - 1, world.getHighestSolidY(7, 7));
+        assertEquals(World.MIN_Y - 1, world.getMaxSolidY());
+    }
+
+    @Test
+    void randomEdits_matchVerticalScan() {
+        World world = new World(1L, EMPTY);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 3000; i++) {
+            int x = random.nextInt(2 * S) - S;
+            int y = random.nextInt(3 * S);
+            int z = random.nextInt(S);
+            if (random.nextInt(20) == 0) {
+                world.unloadChunk(new ChunkPosition(Math.floorDiv(x, S), y / S, 0));
+            } else {
+                world.setVoxel(x, y, z, random.nextBoolean() ? VoxelType.SOLID : VoxelType.AIR);
+            }
+        }
+
+        int max = World.MIN_Y - 1;
+        for (int x = -S; x < S; x++) {
+            for (int z = 0; z < S; z++) {
+                int expected = World.MIN_Y - 1;
+                for (int y = 3 * S - 1; y >= World.MIN_Y; y--) {
+                    if (world.getVoxel(x, y, z) != VoxelType.AIR) {
+                        expected = y;
+                        break;
+                    }
+                }
+                assertEquals(expected, world.getHighestSolidY(x, z), "x = " + x + ", z = " + z);
+                max = Math.max(max, expected);
+            }
+        }
+        assertEquals(max, world.getMaxSolidY());
+    }
+
+    @Test
+    void defaultViewMethods_matchTheHeightmap() {
+        World world = new World(1L, new FlatWorldGenerator());
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(0, 1, 0));
+        world.loadChunk(new ChunkPosition(1, 3, 0));
+        world.setVoxel(2, 40, 3, VoxelType.SOLID);
+        world.setVoxel(S + 1, 3 * S + 7, 2, VoxelType.LAMP);
+
+        IWorldView plain = new IWorldView() {
+            @Override
+            public Chunk getChunkIfPresent(ChunkPosition position) {
+                return world.getChunkIfPresent(position);
+            }
+
+            @Override
+            public Map<ChunkPosition, Chunk> getChunks() {
+                return world.getChunks();
+            }
+
+            @Override
+            public VoxelType getVoxel(int worldX, int worldY, int worldZ) {
+                return world.getVoxel(worldX, worldY, worldZ);
+            }
+        };
+
+        for (int z = -1; z <= 3; z++) {
+            for (int x = -1; x <= S + 2; x++) {
+                assertEquals(world.getHighestSolidY(x, z), plain.getHighestSolidY(x, z));
+            }
+        }
+        assertEquals(3 * S + 7, world.getMaxSolidY());
+        assertEquals(World.MAX_Y - 1, plain.getMaxSolidY());
+    }
+}
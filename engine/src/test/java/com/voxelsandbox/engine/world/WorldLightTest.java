@@ -0,0 +1,311 @@
+package com.voxelsandbox.engine.world;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.LocalVoxelPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.engine.world.generation.IWorldGenerator;
+import com.voxelsandbox.engine.world.light.NibbleArray;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldLightTest {
+
+    private static final int S = ChunkDimensions.SIZE_X;
+
+    @Test
+    void nibbleArray_packsTwoValuesPerByte() {
+        NibbleArray array = new NibbleArray(4);
+        array.set(0, 3);
+        array.set(1, 15);
+        array.set(2, 0x1A);
+
+        assertEquals(3, array.get(0));
+        assertEquals(15, array.get(1));
+        assertEquals(0xA, array.get(2));
+        assertEquals(0, array.get(3));
+
+        array.fill(7);
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals(7, array.get(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new NibbleArray(3));
+    }
+
+    @Test
+    void lighting_isDisabledByDefault() {
+        World world = new World(1L, new FlatWorldGenerator());
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.setVoxel(3, 8, 8, VoxelType.LAMP);
+
+        assertFalse(world.isLightingEnabled());
+        assertTrue(new World(1L, new FlatWorldGenerator(), true).isLightingEnabled());
+        assertThrows(IllegalStateException.class, () -> world.getSkyLight(5, S, 5));
+        assertThrows(IllegalStateException.class, () -> world.getBlockLight(3, 8, 8));
+    }
+
+    @Test
+    void flatWorld_isSkyLitAboveGroundAndDarkBelow() {
+        World world = new World(1L, new FlatWorldGenerator(), true);
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(0, 1, 0));
+
+        assertEquals(World.MAX_LIGHT, world.getSkyLight(5, S, 5));
+        assertEquals(World.MAX_LIGHT, world.getSkyLight(5, 2 * S - 1, 5));
+        assertEquals(0, world.getSkyLight(5, S - 1, 5));
+        assertEquals(World.MAX_LIGHT, world.getSkyLight(5, World.MAX_Y, 5));
+        assertEquals(0, world.getSkyLight(100, S, 100), "Unloaded chunks are dark");
+    }
+
+    @Test
+    void lamp_lightsByDistanceAndIsRemovedAgain() {
+        World world = new World(1L, new FlatWorldGenerator(), true);
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(1, 0, 0));
+
+        // Carve a sealed tunnel crossing the chunk border and light one end
+        for (int x = 4; x < 28; x++) {
+            world.setVoxel(x, 8, 8, VoxelType.AIR);
+        }
+        world.setVoxel(3, 8, 8, VoxelType.LAMP);
+
+        assertEquals(15, world.getBlockLight(3, 8, 8));
+        for (int x = 4; x < 18; x++) {
+            assertEquals(15 - (x - 3), world.getBlockLight(x, 8, 8), "x = " + x);
+            assertEquals(0, world.getSkyLight(x, 8, 8));
+        }
+        assertEquals(0, world.getBlockLight(20, 8, 8));
+
+        world.setVoxel(3, 8, 8, VoxelType.SOLID);
+        for (int x = 3; x < 28; x++) {
+            assertEquals(0, world.getBlockLight(x, 8, 8), "x = " + x);
+        }
+    }
+
+    @Test
+    void roof_shadowsColumnAndLightSpreadsBackFromTheSides() {
+        World world = new World(1L, new FlatWorldGenerator(), true);
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(0, 1, 0));
+        world.loadChunk(new ChunkPosition(0, 2, 0));
+
+        world.setVoxel(8, 40, 8, VoxelType.SOLID);
+
+        assertEquals(0, world.getSkyLight(8, 40, 8));
+        assertEquals(14, world.getSkyLight(8, 39, 8));
+        assertEquals(14, world.getSkyLight(8, S, 8));
+        assertEquals(15, world.getSkyLight(9, 39, 8));
+
+        world.setVoxel(8, 40, 8, VoxelType.AIR);
+
+        assertEquals(15, world.getSkyLight(8, S, 8));
+    }
+
+    @Test
+    void loadingChunkAbove_withdrawsAssumedSkyFromChunkBelow() {
+        IWorldGenerator generator = (seed, position) -> {
+            Chunk chunk = new Chunk(position);
+            if (position.y() == 1) {
+                chunk.forEachVoxel((pos, type) -> chunk.setVoxel(pos, VoxelType.SOLID));
+            }
+            return chunk;
+        };
+        World world = new World(1L, generator, true);
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        assertEquals(15, world.getSkyLight(4, 0, 4));
+
+        world.loadChunk(new ChunkPosition(0, 1, 0));
+        assertEquals(0, world.getSkyLight(4, 0, 4));
+        assertEquals(0, world.getSkyLight(4, S - 1, 4));
+
+        world.unloadChunk(new ChunkPosition(0, 1, 0));
+        assertEquals(15, world.getSkyLight(4, 0, 4));
+    }
+
+    @Test
+    void incrementalLight_matchesFullRecomputation() {
+        Random random = new Random(7);
+        World world = new World(3L, new CaveGenerator(), true);
+
+        List<ChunkPosition> positions = new ArrayList<>();
+        for (int x = -1; x <= 1; x++) {
+            for (int y = 0; y <= 2; y++) {
+                for (int z = -1; z <= 1; z++) {
+                    positions.add(new ChunkPosition(x, y, z));
+                }
+            }
+        }
+        Collections.shuffle(positions, random);
+
+        for (ChunkPosition position : positions.subList(0, 20)) {
+            world.loadChunk(position);
+        }
+        assertMatchesRecomputation(world);
+
+        VoxelType[] types = VoxelType.values();
+        for (int i = 0; i < 300; i++) {
+            world.setVoxel(
+                    random.nextInt(3 * S) - S,
+                    random.nextInt(3 * S),
+                    random.nextInt(3 * S) - S,
+                    types[random.nextInt(types.length)]
+            );
+        }
+        assertMatchesRecomputation(world);
+
+        for (ChunkPosition position : positions.subList(0, 6)) {
+            world.unloadChunk(position);
+        }
+        assertMatchesRecomputation(world);
+    }
+
+    @Test
+    void light_isIndependentOfLoadOrder() {
+        List<ChunkPosition> positions = new ArrayList<>();
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                positions.add(new ChunkPosition(x, y, 0));
+            }
+        }
+        World ordered = new World(5L, new CaveGenerator(), true);
+        positions.forEach(ordered::loadChunk);
+
+        World shuffled = new World(5L, new CaveGenerator(), true);
+        Collections.shuffle(positions, new Random(11));
+        positions.forEach(shuffled::loadChunk);
+
+        for (ChunkPosition position : positions) {
+            for (int y = position.y() * S; y < (position.y() + 1) * S; y++) {
+                for (int z = position.z() * S; z < (position.z() + 1) * S; z++) {
+                    for (int x = position.x() * S; x < (position.x() + 1) * S; x++) {
+                        assertEquals(ordered.getSkyLight(x, y, z), shuffled.getSkyLight(x, y, z));
+                        assertEquals(ordered.getBlockLight(x, y, z), shuffled.getBlockLight(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes light of all loaded chunks by relaxing every voxel until
+     * nothing changes and compares it with the stored light.
+     */
+    private static void assertMatchesRecomputation(World world) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (ChunkPosition p : world.getChunks().keySet()) {
+            minX = Math.min(minX, p.x());
+            minY = Math.min(minY, p.y());
+            minZ = Math.min(minZ, p.z());
+            maxX = Math.max(maxX, p.x());
+            maxY = Math.max(maxY, p.y());
+            maxZ = Math.max(maxZ, p.z());
+        }
+        int w = (maxX - minX + 1) * S;
+        int h = (maxY - minY + 1) * S;
+        int d = (maxZ - minZ + 1) * S;
+        int ox = minX * S;
+        int oy = minY * S;
+        int oz = minZ * S;
+
+        int[] sky = new int[w * h * d];
+        int[] block = new int[w * h * d];
+        int[][] dirs = {{1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}};
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int y = 0; y < h; y++) {
+                for (int z = 0; z < d; z++) {
+                    for (int x = 0; x < w; x++) {
+                        Chunk chunk = chunkAt(world, ox + x, oy + y, oz + z);
+                        if (chunk == null) {
+                            continue;
+                        }
+                        VoxelType type = chunk.getVoxel(new LocalVoxelPosition(x % S, y % S, z % S));
+                        int i = (y * d + z) * w + x;
+                        int s = 0;
+                        int b = type.getLightEmission();
+                        if (!type.isOpaque()) {
+                            if (y % S == S - 1 && chunkAt(world, ox + x, oy + y + 1, oz + z) == null) {
+                                s = World.MAX_LIGHT;
+                            }
+                            for (int[] dir : dirs) {
+                                int nx = x - dir[0];
+                                int ny = y - dir[1];
+                                int nz = z - dir[2];
+                                if (nx < 0 || ny < 0 || nz < 0 || nx >= w || ny >= h || nz >= d) {
+                                    continue;
+                                }
+                                int n = (ny * d + nz) * w + nx;
+                                boolean down = dir[1] == -1;
+                                s = Math.max(s, down && sky[n] == World.MAX_LIGHT ? World.MAX_LIGHT : sky[n] - 1);
+                                b = Math.max(b, block[n] - 1);
+                            }
+                        }
+                        if (s != sky[i] || b != block[i]) {
+                            sky[i] = s;
+                            block[i] = b;
+                            changed = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int y = 0; y < h; y++) {
+            for (int z = 0; z < d; z++) {
+                for (int x = 0; x < w; x++) {
+                    if (chunkAt(world, ox + x, oy + y, oz + z) == null) {
+                        continue;
+                    }
+                    int i = (y * d + z) * w + x;
+                    String at = "at " + (ox + x) + ", " + (oy + y) + ", " + (oz + z);
+                    assertEquals(sky[i], world.getSkyLight(ox + x, oy + y, oz + z), "sky " + at);
+                    assertEquals(block[i], world.getBlockLight(ox + x, oy + y, oz + z), "block " + at);
+                }
+            }
+        }
+    }
+
+    private static Chunk chunkAt(World world, int x, int y, int z) {
+        return world.getChunkIfPresent(new ChunkPosition(
+                Math.floorDiv(x, S), Math.floorDiv(y, S), Math.floorDiv(z, S)));
+    }
+
+    /**
+     * Uneven ground around a chunk border with scattered caves and lamps.
+     */
+    private static final class CaveGenerator implements IWorldGenerator {
+        @Override
+        public Chunk generateChunk(long seed, ChunkPosition position) {
+            Chunk chunk = new Chunk(position);
+            chunk.forEachVoxel((pos, type) -> {
+                int x = position.x() * S + pos.x();
+                int y = position.y() * S + pos.y();
+                int z = position.z() * S + pos.z();
+                int hash = hash(seed, x, y, z);
+                int ground = 12 + Math.floorMod(hash(seed, x, 0, z), 12);
+                if (y < ground && Math.floorMod(hash, 5) != 0) {
+                    chunk.setVoxel(pos, Math.floorMod(hash, 97) == 1 ? VoxelType.LAMP : VoxelType.SOLID);
+                }
+            });
+            return chunk;
+        }
+
+        private static int hash(long seed, int x, int y, int z) {
+            long h = seed ^ (x * 0x9E3779B97F4A7C15L) ^ (y * 0xC2B2AE3D27D4EB4FL) ^ (z * 0x165667B19E3779F9L);
+            h ^= h >>> 31;
+            h *= 0xBF58476D1CE4E5B9L;
+            return (int) (h ^ (h >>> 29));
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.voxelsandbox.engine.world.generation.noise;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * {@link NoiseSlabKernel} built on the JDK Vector API
+ * ({@code jdk.incubator.vector}).
+ *
+ * <p>
+ *     Each slab row along x is evaluated in groups of
+ *     {@link FloatVector#SPECIES_PREFERRED} width: 4 samples on SSE, 8 on
+ *     AVX2 and 16, a whole chunk row, on AVX-512. Samples of a group that
+ *     fall in the same lattice cell share their corner hashes and
+ *     gradients, and at terrain frequencies a group spans only a few
+ *     cells. The kernel therefore hashes once per cell in scalar code,
+ *     then spreads the per-cell gradient terms over the lanes with a
+ *     {@link FloatVector#rearrange(VectorShuffle) rearrange} whose
+ *     lane-to-cell shuffle depends on x only and is built once per slab.
+ *     Interpolation runs on full vectors.
+ * </p>
+ *
+ * <p>
+ *     Every arithmetic step mirrors {@link GradientNoise} operation for
+ *     operation, so results are bit-for-bit identical to the scalar
+ *     reference. Groups spanning more cells than there are lanes (sample
+ *     spacing above one lattice cell) and samples left over when the slab
+ *     size is not a multiple of the lane count are evaluated by the
+ *     reference itself.
+ * </p>
+ *
+ * <p>
+ *     Lane gathers ({@code fromArray} with an index map) are deliberately
+ *     not used: they are no faster than the per-cell hashing here, and the
+ *     JDK 17 C2 compiler miscompiles them on AVX-512.
+ * </p>
+ *
+ * <p>
+ *     This class MUST only be loaded when the {@code jdk.incubator.vector}
+ *     module is present; see {@link FractalNoise#isVectorSupported()}.
+ * </p>
+ */
+final class VectorNoiseSlabKernel implements NoiseSlabKernel {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final int LANES = FLOATS.length();
+
+    @Override
+    public void accumulate(
+            GradientNoise noise,
+            float[] out,
+            int size,
+            int originX,
+            int originZ,
+            float scale,
+            float amplitude
+    ) {
+        int[] perm = noise.permutation();
+        Layout layout = new Layout(size, originX, scale);
+
+        // Per-cell gradient terms, corner-major: [corner * LANES + cell]
+        float[] gx = new float[4 * LANES];
+        float[] gz = new float[4 * LANES];
+
+        for (int z = 0; z < size; z++) {
+            float sampleZ = (float) (originZ + z) * scale;
+            int cellZ = GradientNoise.floor(sampleZ);
+            float fz = sampleZ - cellZ;
+            float fz1 = fz - 1f;
+            int iz = cellZ & GradientNoise.MASK;
+            float w = GradientNoise.fade(fz);
+
+            for (int group = 0; group < layout.groups; group++) {
+                int x0 = group * LANES;
+                VectorShuffle<Float> cells = layout.cells[group];
+                if (cells == null) {
+                    for (int x = x0; x < x0 + LANES; x++) {
+                        int k = x + z * size;
+                        out[k] = out[k] + amplitude * noise.noise((float) (originX + x) * scale, sampleZ);
+                    }
+                    continue;
+                }
+
+                for (int cell = 0; cell < layout.cellCounts[group]; cell++) {
+                    int ix = (layout.firstCells[group] + cell) & GradientNoise.MASK;
+                    int a = perm[ix];
+                    int b = perm[ix + 1];
+                    gradient2(perm[a + iz], fz, gx, gz, cell);
+                    gradient2(perm[b + iz], fz, gx, gz, LANES + cell);
+                    gradient2(perm[a + iz + 1], fz1, gx, gz, 2 * LANES + cell);
+                    gradient2(perm[b + iz + 1], fz1, gx, gz, 3 * LANES + cell);
+                }
+
+                FloatVector fx = FloatVector.fromArray(FLOATS, layout.fraction, x0);
+                FloatVector fx1 = FloatVector.fromArray(FLOATS, layout.fraction1, x0);
+                FloatVector n00 = dot(gx, gz, 0, cells, fx);
+                FloatVector n10 = dot(gx, gz, 1, cells, fx1);
+                FloatVector n01 = dot(gx, gz, 2, cells, fx);
+                FloatVector n11 = dot(gx, gz, 3, cells, fx1);
+
+                FloatVector u = FloatVector.fromArray(FLOATS, layout.fade, x0);
+                FloatVector value = lerp(w, lerp(u, n00, n10), lerp(u, n01, n11)).mul(GradientNoise.SCALE_2D);
+
+                int k = x0 + z * size;
+                FloatVector.fromArray(FLOATS, out, k).add(value.mul(amplitude)).intoArray(out, k);
+            }
+            for (int x = layout.groups * LANES; x < size; x++) {
+                int k = x + z * size;
+                out[k] = out[k] + amplitude * noise.noise((float) (originX + x) * scale, sampleZ);
+            }
+        }
+    }
+
+    @Override
+    public void accumulate(
+            GradientNoise noise,
+            float[] out,
+            int size,
+            int originX,
+            int originY,
+            int originZ,
+            float scale,
+            float amplitude
+    ) {
+        int[] perm = noise.permutation();
+        Layout layout = new Layout(size, originX, scale);
+
+        // Per-cell gradient terms, corner-major: [corner * LANES + cell]
+        float[] gx = new float[8 * LANES];
+        float[] gy = new float[8 * LANES];
+        float[] gz = new float[8 * LANES];
+
+        for (int y = 0; y < size; y++) {
+            float sampleY = (float) (originY + y) * scale;
+            int cellY = GradientNoise.floor(sampleY);
+            float fy = sampleY - cellY;
+            float fy1 = fy - 1f;
+            int iy = cellY & GradientNoise.MASK;
+            float v = GradientNoise.fade(fy);
+
+            for (int z = 0; z < size; z++) {
+                float sampleZ = (float) (originZ + z) * scale;
+                int cellZ = GradientNoise.floor(sampleZ);
+                float fz = sampleZ - cellZ;
+                float fz1 = fz - 1f;
+                int iz = cellZ & GradientNoise.MASK;
+                float w = GradientNoise.fade(fz);
+
+                for (int group = 0; group < layout.groups; group++) {
+                    int x0 = group * LANES;
+                    VectorShuffle<Float> cells = layout.cells[group];
+                    if (cells == null) {
+                        for (int x = x0; x < x0 + LANES; x++) {
+                            int k = x + z * size + y * size * size;
+                            out[k] = out[k] + amplitude * noise.noise((float) (originX + x) * scale, sampleY, sampleZ);
+                        }
+                        continue;
+                    }
+
+                    for (int cell = 0; cell < layout.cellCounts[group]; cell++) {
+                        int ix = (layout.firstCells[group] + cell) & GradientNoise.MASK;
+                        int a = perm[ix] + iy;
+                        int b = perm[ix + 1] + iy;
+                        int aa = perm[a] + iz;
+                        int ab = perm[a + 1] + iz;
+                        int ba = perm[b] + iz;
+                        int bb = perm[b + 1] + iz;
+                        gradient3(perm[aa], fy, fz, gx, gy, gz, cell);
+                        gradient3(perm[ba], fy, fz, gx, gy, gz, LANES + cell);
+                        gradient3(perm[ab], fy1, fz, gx, gy, gz, 2 * LANES + cell);
+                        gradient3(perm[bb], fy1, fz, gx, gy, gz, 3 * LANES + cell);
+                        gradient3(perm[aa + 1], fy, fz1, gx, gy, gz, 4 * LANES + cell);
+                        gradient3(perm[ba + 1], fy, fz1, gx, gy, gz, 5 * LANES + cell);
+                        gradient3(perm[ab + 1], fy1, fz1, gx, gy, gz, 6 * LANES + cell);
+                        gradient3(perm[bb + 1], fy1, fz1, gx, gy, gz, 7 * LANES + cell);
+                    }
+
+                    FloatVector fx = FloatVector.fromArray(FLOATS, layout.fraction, x0);
+                    FloatVector fx1 = FloatVector.fromArray(FLOATS, layout.fraction1, x0);
+                    FloatVector n000 = dot(gx, gy, gz, 0, cells, fx);
+                    FloatVector n100 = dot(gx, gy, gz, 1, cells, fx1);
+                    FloatVector n010 = dot(gx, gy, gz, 2, cells, fx);
+                    FloatVector n110 = dot(gx, gy, gz, 3, cells, fx1);
+                    FloatVector n001 = dot(gx, gy, gz, 4, cells, fx);
+                    FloatVector n101 = dot(gx, gy, gz, 5, cells, fx1);
+                    FloatVector n011 = dot(gx, gy, gz, 6, cells, fx);
+                    FloatVector n111 = dot(gx, gy, gz, 7, cells, fx1);
+
+                    FloatVector u = FloatVector.fromArray(FLOATS, layout.fade, x0);
+                    FloatVector value = lerp(w,
+                            lerp(v, lerp(u, n000, n100), lerp(u, n010, n110)),
+                            lerp(v, lerp(u, n001, n101), lerp(u, n011, n111)));
+
+                    int k = x0 + z * size + y * size * size;
+                    FloatVector.fromArray(FLOATS, out, k).add(value.mul(amplitude)).intoArray(out, k);
+                }
+                for (int x = layout.groups * LANES; x < size; x++) {
+                    int k = x + z * size + y * size * size;
+                    out[k] = out[k] + amplitude * noise.noise((float) (originX + x) * scale, sampleY, sampleZ);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the x component of a 2D gradient and its z term, which is
+     * the same for every sample of the row.
+     */
+    private static void gradient2(int hash, float z, float[] gx, float[] gz, int slot) {
+        int g = hash & 7;
+        gx[slot] = GradientNoise.GRAD2_X[g];
+        gz[slot] = GradientNoise.GRAD2_Z[g] * z;
+    }
+
+    /**
+     * Stores the x component of a 3D gradient and its y and z terms. They
+     * are kept apart to preserve the summation order of the reference.
+     */
+    private static void gradient3(int hash, float y, float z, float[] gx, float[] gy, float[] gz, int slot) {
+        int g = hash & 15;
+        gx[slot] = GradientNoise.GRAD3_X[g];
+        gy[slot] = GradientNoise.GRAD3_Y[g] * y;
+        gz[slot] = GradientNoise.GRAD3_Z[g] * z;
+    }
+
+    private static FloatVector dot(float[] gx, float[] gz, int corner, VectorShuffle<Float> cells, FloatVector x) {
+        int offset = corner * LANES;
+        return lanes(gx, offset, cells).mul(x).add(lanes(gz, offset, cells));
+    }
+
+    private static FloatVector dot(
+            float[] gx,
+            float[] gy,
+            float[] gz,
+            int corner,
+            VectorShuffle<Float> cells,
+            FloatVector x
+    ) {
+        int offset = corner * LANES;
+        return lanes(gx, offset, cells).mul(x).add(lanes(gy, offset, cells)).add(lanes(gz, offset, cells));
+    }
+
+    /**
+     * Spreads per-cell values over the lanes of a group.
+     */
+    private static FloatVector lanes(float[] perCell, int offset, VectorShuffle<Float> cells) {
+        return FloatVector.fromArray(FLOATS, perCell, offset).rearrange(cells);
+    }
+
+    private static FloatVector lerp(FloatVector t, FloatVector a, FloatVector b) {
+        return a.add(t.mul(b.sub(a)));
+    }
+
+    private static FloatVector lerp(float t, FloatVector a, FloatVector b) {
+        return a.add(b.sub(a).mul(t));
+    }
+
+    /**
+     * Terms of a slab row that depend on x only, shared by every row.
+     */
+    private static final class Layout {
+        final int groups;
+        final float[] fraction;
+        final float[] fraction1;
+        final float[] fade;
+
+        /**
+         * Per group: first lattice cell, number of cells spanned, and the
+         * lane-to-cell shuffle, or {@code null} if the group spans more
+         * cells than there are lanes.
+         */
+        final int[] firstCells;
+        final int[] cellCounts;
+        final VectorShuffle<Float>[] cells;
+
+        @SuppressWarnings("unchecked")
+        Layout(int size, int originX, float scale) {
+            groups = size / LANES;
+            fraction = new float[size];
+            fraction1 = new float[size];
+            fade = new float[size];
+            firstCells = new int[groups];
+            cellCounts = new int[groups];
+            cells = (VectorShuffle<Float>[]) new VectorShuffle<?>[groups];
+
+            int[] cellX = new int[size];
+            for (int x = 0; x < size; x++) {
+                float sampleX = (float) (originX + x) * scale;
+                cellX[x] = GradientNoise.floor(sampleX);
+                fraction[x] = sampleX - cellX[x];
+                fraction1[x] = fraction[x] - 1f;
+                fade[x] = GradientNoise.fade(fraction[x]);
+            }
+
+            int[] slots = new int[LANES];
+            for (int group = 0; group < groups; group++) {
+                int x0 = group * LANES;
+                firstCells[group] = cellX[x0];
+                cellCounts[group] = cellX[x0 + LANES - 1] - cellX[x0] + 1;
+                if (cellCounts[group] > LANES) {
+                    continue;
+                }
+                for (int lane = 0; lane < LANES; lane++) {
+                    slots[lane] = cellX[x0 + lane] - cellX[x0];
+                }
+                cells[group] = VectorShuffle.fromArray(FLOATS, slots, 0);
+            }
+        }
+    }
+}
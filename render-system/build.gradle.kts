@@ -43,6 +43,72 @@ dependencies {
     testImplementation(libs.junit.jupiter)
 }
 
+// === JDK Vector API (incubator) ===
+// VectorVoxelPacketStepper is the only code compiled against
+// jdk.incubator.vector. It lives in its own source set so that main
+// compiles without --add-modules; PacketVoxelRayTraversal loads it
+// reflectively and only when the module is present at runtime.
+// Applications opt in with --add-modules jdk.incubator.vector and
+// -Dvoxelsandbox.raycast.vector=true.
+val vector by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.jar {
+    from(vector.output)
+}
+
+sourceSets.test {
+    runtimeClasspath += vector.output
+}
+
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+}
+
+// Same tests on a JVM without the module: covers the scalar fallback
+val testWithoutVectorModule by tasks.registering(Test::class) {
+    description = "Runs the tests without the jdk.incubator.vector module."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform()
+}
+
+tasks.check {
+    dependsOn(testWithoutVectorModule)
+}
+
+// === Benchmarks ===
+// Main-class harness in its own source set, kept out of the main jar.
+// Run with ./gradlew :render-system:bench [-Pbench=meshing,...]
+// bench.* and voxelsandbox.* system properties are passed on, e.g.
+// -Dvoxelsandbox.noise.vector=true to measure the vector noise backend.
+val bench by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output + vector.output
+}
+
+configurations[bench.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[bench.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+tasks.register<JavaExec>("bench") {
+    description = "Runs the CPU benchmarks."
+    group = "benchmark"
+    classpath = bench.runtimeClasspath
+    mainClass.set("com.voxelsandbox.rendersystem.bench.BenchmarkRunner")
+    args(providers.gradleProperty("bench").map { it.split(",") }.getOrElse(emptyList()))
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+    systemProperties(providers.systemPropertiesPrefixedBy("bench.").get())
+    systemProperties(providers.systemPropertiesPrefixedBy("voxelsandbox.").get())
+}
+
+// Keep the benchmarks compiling with the code they measure
+tasks.check {
+    dependsOn(tasks.named(bench.classesTaskName))
+}
@@ -0,0 +1,197 @@
+package com.voxelsandbox.rendersystem.bench;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+
+/**
+ * Minimal time-based harness for the CPU benchmarks of this source set.
+ *
+ * <p>
+ *     A measurement runs a {@link Workload} repeatedly in rounds of at
+ *     least {@link #getRoundMillis()} milliseconds. The first
+ *     {@link #getWarmupRounds()} rounds let the JIT compile the workload
+ *     and are discarded; the median throughput of the following
+ *     {@link #getMeasuredRounds()} rounds is reported, together with the
+ *     slowest and fastest round.
+ * </p>
+ *
+ * <p>
+ *     Workloads return a checksum of their output. The harness folds it
+ *     into a value that is printed at the end of each line, so the JIT
+ *     cannot drop the work being measured.
+ * </p>
+ *
+ * <p>
+ *     Round counts and length can be overridden with the system
+ *     properties {@code bench.warmup}, {@code bench.rounds} and
+ *     {@code bench.roundMillis}.
+ * </p>
+ */
+public final class BenchmarkHarness {
+
+    /**
+     * One invocation of the code under measurement.
+     */
+    @FunctionalInterface
+    public interface Workload {
+
+        /**
+         * Runs the workload once.
+         *
+         * @return a value derived from the workload's output
+         */
+        long run();
+    }
+
+    private final int warmupRounds;
+    private final int measuredRounds;
+    private final long roundMillis;
+
+    /**
+     * Creates a harness.
+     *
+     * @param warmupRounds rounds discarded before measuring
+     * @param measuredRounds rounds measured
+     * @param roundMillis minimum duration of a round, in milliseconds
+     * @throws IllegalArgumentException if {@code warmupRounds < 0},
+     *                                  {@code measuredRounds < 1} or
+     *                                  {@code roundMillis < 1}
+     */
+    public BenchmarkHarness(int warmupRounds, int measuredRounds, long roundMillis) {
+        if (warmupRounds < 0 || measuredRounds < 1 || roundMillis < 1) {
+            throw new IllegalArgumentException(
+                    "invalid harness settings: " + warmupRounds + ", " + measuredRounds + ", " + roundMillis
+            );
+        }
+        this.warmupRounds = warmupRounds;
+        this.measuredRounds = measuredRounds;
+        this.roundMillis = roundMillis;
+    }
+
+    /**
+     * Creates a harness configured from system properties, defaulting to
+     * 5 warmup rounds and 5 measured rounds of 500 ms.
+     *
+     * @return configured harness
+     */
+    public static BenchmarkHarness fromSystemProperties() {
+        return new BenchmarkHarness(
+                Integer.getInteger("bench.warmup", 5),
+                Integer.getInteger("bench.rounds", 5),
+                Long.getLong("bench.roundMillis", 500L)
+        );
+    }
+
+    public int getWarmupRounds() {
+        return warmupRounds;
+    }
+
+    public int getMeasuredRounds() {
+        return measuredRounds;
+    }
+
+    public long getRoundMillis() {
+        return roundMillis;
+    }
+
+    /**
+     * Prints a section header.
+     *
+     * @param title section title
+     */
+    public void section(String title) {
+        System.out.println();
+        System.out.println("== " + title);
+    }
+
+    /**
+     * Prints a free-form line, e.g. a size metric of the measured output.
+     *
+     * @param format format string
+     * @param args format arguments
+     */
+    public void note(String format, Object... args) {
+        System.out.println("   " + String.format(Locale.ROOT, format, args));
+    }
+
+    /**
+     * Measures the throughput of a workload and prints one result line.
+     *
+     * @param name case name
+     * @param unitsPerRun work units processed by one invocation, such as chunks
+     * @param unit name of a work unit, used in the printed rate
+     * @param workload code under measurement
+     * @return median throughput, in units per second
+     * @throws IllegalArgumentException if {@code unitsPerRun < 1}
+     */
+    public double measure(String name, int unitsPerRun, String unit, Workload workload) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(unit, "unit must not be null");
+        Objects.requireNonNull(workload, "workload must not be null");
+        if (unitsPerRun < 1) {
+            throw new IllegalArgumentException("unitsPerRun must be >= 1: " + unitsPerRun);
+        }
+
+        long checksum = 0L;
+        for (int i = 0; i < warmupRounds; i++) {
+            checksum += round(workload, unitsPerRun, null);
+        }
+
+        double[] rates = new double[measuredRounds];
+        double[] rate = new double[1];
+        for (int i = 0; i < measuredRounds; i++) {
+            checksum += round(workload, unitsPerRun, rate);
+            rates[i] = rate[0];
+        }
+        Arrays.sort(rates);
+        double median = rates[measuredRounds / 2];
+
+        System.out.println(String.format(
+                Locale.ROOT,
+                "   %-40s %12s %s/s  (%s .. %s)  [%x]",
+                name,
+                format(median),
+                unit,
+                format(rates[0]),
+                format(rates[measuredRounds - 1]),
+                checksum & 0xFFFF
+        ));
+        return median;
+    }
+
+    /**
+     * Runs the workload for at least one round length.
+     *
+     * @param rate if not {@code null}, receives the round's throughput
+     * @return sum of the workload checksums
+     */
+    private long round(Workload workload, int unitsPerRun, double[] rate) {
+        long budget = roundMillis * 1_000_000L;
+        long checksum = 0L;
+        long runs = 0L;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            checksum += workload.run();
+            runs++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < budget);
+
+        if (rate != null) {
+            rate[0] = runs * (double) unitsPerRun * 1e9 / elapsed;
+        }
+        return checksum;
+    }
+
+    private static String format(double rate) {
+        if (rate >= 1e6) {
+            return String.format(Locale.ROOT, "%.2fM", rate / 1e6);
+        }
+        if (rate >= 1e3) {
+            return String.format(Locale.ROOT, "%.1fk", rate / 1e3);
+        }
+        return String.format(Locale.ROOT, "%.1f", rate);
+    }
+}
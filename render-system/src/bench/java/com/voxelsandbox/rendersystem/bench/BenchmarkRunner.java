@@ -0,0 +1,58 @@
+package com.voxelsandbox.rendersystem.bench;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * Entry point running the CPU benchmarks of this source set.
+ *
+ * <p>
+ *     Arguments name the benchmarks to run; without arguments all of them
+ *     run in registration order. From Gradle:
+ * </p>
+ * <pre>
+ *     ./gradlew :render-system:bench -Pbench=meshing
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private static final Map<String, Consumer<BenchmarkHarness>> BENCHMARKS = new LinkedHashMap<>();
+
+    static {
+        BENCHMARKS.put("meshing", ChunkMeshingBenchmark::run);
+        BENCHMARKS.put("light", LightPropagationBenchmark::run);
+        BENCHMARKS.put("terrain", TerrainGenerationBenchmark::run);
+        BENCHMARKS.put("raycast", RayTraversalBenchmark::run);
+    }
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) {
+        BenchmarkHarness harness = BenchmarkHarness.fromSystemProperties();
+
+        System.out.printf(
+                "JVM %s, %d cpus, %d+%d rounds of %d ms%n",
+                Runtime.version(),
+                Runtime.getRuntime().availableProcessors(),
+                harness.getWarmupRounds(),
+                harness.getMeasuredRounds(),
+                harness.getRoundMillis()
+        );
+
+        if (args.length == 0) {
+            BENCHMARKS.values().forEach(benchmark -> benchmark.accept(harness));
+            return;
+        }
+        for (String name : args) {
+            Consumer<BenchmarkHarness> benchmark = BENCHMARKS.get(name);
+            if (benchmark == null) {
+                throw new IllegalArgumentException(
+                        "Unknown benchmark '" + name + "', expected one of " + BENCHMARKS.keySet()
+                );
+            }
+            benchmark.accept(harness);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.voxelsandbox.rendersystem.bench;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.NoiseTerrainGenerator;
+import com.voxelsandbox.engine.world.generation.TerrainColumn;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import com.voxelsandbox.rendersystem.adapter.EngineChunkRenderAdapter;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMesh;
+import com.voxelsandbox.rendersystem.core.mesh.GreedyChunkMesher;
+import com.voxelsandbox.rendersystem.core.mesh.IChunkMesher;
+import com.voxelsandbox.rendersystem.core.mesh.IChunkNeighbours;
+import com.voxelsandbox.rendersystem.core.mesh.NaiveChunkMesher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+
+/**
+ * Compares {@link GreedyChunkMesher} against the one-quad-per-face
+ * {@link NaiveChunkMesher} baseline.
+ *
+ * <p>
+ *     For each input the benchmark reports the triangles produced per
+ *     chunk and the meshing throughput in chunks per second, single
+ *     threaded:
+ * </p>
+ * <ul>
+ *     <li> {@code terrain}: the surface chunks of a 4x4 column area of
+ *          {@link NoiseTerrainGenerator} terrain, meshed against their
+ *          loaded neighbours </li>
+ *     <li> {@code noise}: chunks with 30% of the voxels solid at random,
+ *          the worst case for merging </li>
+ *     <li> {@code empty}: a chunk of air, the fixed per-chunk cost </li>
+ * </ul>
+ */
+public final class ChunkMeshingBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int AREA = 4;
+
+    private ChunkMeshingBenchmark() {}
+
+    public static void main(String[] args) {
+        run(BenchmarkHarness.fromSystemProperties());
+    }
+
+    /**
+     * Runs all cases.
+     *
+     * @param harness harness to measure with
+     */
+    public static void run(BenchmarkHarness harness) {
+        harness.section("Chunk meshing: greedy vs naive");
+
+        Map<ChunkPosition, IRenderChunkView> world = new HashMap<>();
+        List<IRenderChunkView> surface = terrain(world);
+        IChunkNeighbours neighbours = (x, y, z) -> world.get(new ChunkPosition(x, y, z));
+
+        compare(harness, "terrain", surface, neighbours);
+        compare(harness, "noise 30%", noise(8), IChunkNeighbours.NONE);
+        compare(harness, "empty", List.of(new EngineChunkRenderAdapter(new Chunk(new ChunkPosition(0, 0, 0)))),
+                IChunkNeighbours.NONE);
+    }
+
+    private static void compare(
+            BenchmarkHarness harness,
+            String input,
+            List<IRenderChunkView> chunks,
+            IChunkNeighbours neighbours
+    ) {
+        IChunkMesher greedy = new GreedyChunkMesher();
+        IChunkMesher naive = new NaiveChunkMesher();
+
+        harness.note(
+                "%s: %d chunks, triangles per chunk: naive %.0f, greedy %.0f",
+                input,
+                chunks.size(),
+                triangles(naive, chunks, neighbours) / (double) chunks.size(),
+                triangles(greedy, chunks, neighbours) / (double) chunks.size()
+        );
+        harness.measure(input + " / naive", chunks.size(), "chunks", () -> meshAll(naive, chunks, neighbours));
+        harness.measure(input + " / greedy", chunks.size(), "chunks", () -> meshAll(greedy, chunks, neighbours));
+    }
+
+    private static long triangles(IChunkMesher mesher, List<IRenderChunkView> chunks, IChunkNeighbours neighbours) {
+        long triangles = 0L;
+        for (IRenderChunkView chunk : chunks) {
+            triangles += mesher.mesh(chunk, neighbours).getTriangleCount();
+        }
+        return triangles;
+    }
+
+    private static long meshAll(IChunkMesher mesher, List<IRenderChunkView> chunks, IChunkNeighbours neighbours) {
+        long checksum = 0L;
+        for (IRenderChunkView chunk : chunks) {
+            ChunkMesh mesh = mesher.mesh(chunk, neighbours);
+            checksum += mesh.getVertexCount();
+        }
+        return checksum;
+    }
+
+    /**
+     * Generates every chunk of the column area plus a ring of neighbours
+     * into {@code world} and returns the chunks crossed by the surface.
+     */
+    private static List<IRenderChunkView> terrain(Map<ChunkPosition, IRenderChunkView> world) {
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator();
+        List<IRenderChunkView> surface = new ArrayList<>();
+
+        for (int cz = -1; cz <= AREA; cz++) {
+            for (int cx = -1; cx <= AREA; cx++) {
+                TerrainColumn column = generator.getColumn(SEED, cx, cz);
+                int low = Math.max(0, column.getMinHeight() / ChunkDimensions.SIZE_Y - 1);
+                int high = column.getMaxHeight() / ChunkDimensions.SIZE_Y + 1;
+
+                for (int cy = low; cy <= high; cy++) {
+                    ChunkPosition position = new ChunkPosition(cx, cy, cz);
+                    IRenderChunkView chunk = new EngineChunkRenderAdapter(generator.generateChunk(SEED, position));
+                    world.put(position, chunk);
+
+                    boolean inside = cx >= 0 && cx < AREA && cz >= 0 && cz < AREA;
+                    boolean crossed = cy > low && cy < high;
+                    if (inside && crossed) {
+                        surface.add(chunk);
+                    }
+                }
+            }
+        }
+        return surface;
+    }
+
+    private static List<IRenderChunkView> noise(int count) {
+        Random random = new Random(SEED);
+        List<IRenderChunkView> chunks = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Chunk chunk = new Chunk(new ChunkPosition(i, 0, 0));
+            for (int y = 0; y < ChunkDimensions.SIZE_Y; y++) {
+                for (int z = 0; z < ChunkDimensions.SIZE_Z; z++) {
+                    for (int x = 0; x < ChunkDimensions.SIZE_X; x++) {
+                        if (random.nextFloat() < 0.3f) {
+                            chunk.setVoxel(x, y, z, VoxelType.SOLID);
+                        }
+                    }
+                }
+            }
+            chunks.add(new EngineChunkRenderAdapter(chunk));
+        }
+        return chunks;
+    }
+}
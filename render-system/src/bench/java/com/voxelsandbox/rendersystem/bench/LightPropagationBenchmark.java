@@ -0,0 +1,142 @@
+package com.voxelsandbox.rendersystem.bench;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.coordinate.ChunkCoordinateMapper;
+import com.voxelsandbox.engine.world.generation.NoiseTerrainGenerator;
+import com.voxelsandbox.engine.world.generation.TerrainColumn;
+import com.voxelsandbox.engine.world.light.LightPropagator;
+import com.voxelsandbox.engine.world.type.VoxelType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Measures {@link LightPropagator} on {@link NoiseTerrainGenerator} terrain.
+ *
+ * <p>
+ *     Cases, single threaded:
+ * </p>
+ * <ul>
+ *     <li> {@code lightChunk}: lighting every chunk of a 4x4 column area
+ *          from scratch, in chunks per second. Loading top-down lets sky
+ *          light arrive from lit chunks above; loading bottom-up makes
+ *          every new chunk darken the open-sky columns of the chunk
+ *          below, the expensive order. </li>
+ *     <li> {@code updateVoxel}: single voxel edits on a chunk border of
+ *          the lit area, in updates per second. Placing and removing a
+ *          lamp exercises block light, digging and refilling the top
+ *          terrain voxel exercises sky light; both spread into the
+ *          neighbouring chunk. </li>
+ * </ul>
+ */
+public final class LightPropagationBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int AREA = 4;
+    private static final int SIZE = ChunkDimensions.SIZE_X;
+
+    /**
+     * World x of the edited voxels: the last column of chunk x = 1.
+     */
+    private static final int BORDER_X = 2 * SIZE - 1;
+
+    private LightPropagationBenchmark() {}
+
+    public static void main(String[] args) {
+        run(BenchmarkHarness.fromSystemProperties());
+    }
+
+    /**
+     * Runs all cases.
+     *
+     * @param harness harness to measure with
+     */
+    public static void run(BenchmarkHarness harness) {
+        harness.section("Light propagation");
+
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator();
+        Map<ChunkPosition, Chunk> chunks = new HashMap<>();
+        for (int cz = 0; cz < AREA; cz++) {
+            for (int cx = 0; cx < AREA; cx++) {
+                int top = generator.getColumn(SEED, cx, cz).getMaxHeight() / SIZE + 1;
+                for (int cy = 0; cy <= top; cy++) {
+                    ChunkPosition position = new ChunkPosition(cx, cy, cz);
+                    chunks.put(position, generator.generateChunk(SEED, position));
+                }
+            }
+        }
+
+        List<Chunk> topDown = new ArrayList<>(chunks.values());
+        topDown.sort(Comparator.comparingInt((Chunk c) -> -c.getPosition().y())
+                .thenComparingInt(c -> c.getPosition().z())
+                .thenComparingInt(c -> c.getPosition().x()));
+        List<Chunk> bottomUp = new ArrayList<>(topDown);
+        bottomUp.sort(Comparator.comparingInt((Chunk c) -> c.getPosition().y())
+                .thenComparingInt(c -> c.getPosition().z())
+                .thenComparingInt(c -> c.getPosition().x()));
+
+        harness.note("%d chunks in a %dx%d column area", chunks.size(), AREA, AREA);
+        harness.measure("lightChunk / top-down", topDown.size(), "chunks", () -> lightAll(topDown));
+        harness.measure("lightChunk / bottom-up", bottomUp.size(), "chunks", () -> lightAll(bottomUp));
+
+        LightPropagator light = new LightPropagator();
+        topDown.forEach(light::lightChunk);
+
+        // One edit site per voxel row along the border, z inside chunk z = 1
+        TerrainColumn column = generator.getColumn(SEED, 1, 1);
+        int[] surface = new int[SIZE];
+        for (int z = 0; z < SIZE; z++) {
+            surface[z] = column.getHeight(SIZE - 1, z);
+        }
+
+        harness.measure("updateVoxel / lamp on border", 2 * SIZE, "updates",
+                () -> toggle(light, chunks, surface, 2, VoxelType.LAMP, VoxelType.AIR));
+        harness.measure("updateVoxel / dig on border", 2 * SIZE, "updates",
+                () -> toggle(light, chunks, surface, 0, VoxelType.AIR, VoxelType.SOLID));
+    }
+
+    private static long lightAll(List<Chunk> chunks) {
+        LightPropagator light = new LightPropagator();
+        for (Chunk chunk : chunks) {
+            light.lightChunk(chunk);
+        }
+        return light.getSkyLight(BORDER_X, SIZE, SIZE);
+    }
+
+    /**
+     * Sets a voxel {@code offset} above the surface of every border row to
+     * {@code placed} and back to {@code restored}, updating light after
+     * each write.
+     */
+    private static long toggle(
+            LightPropagator light,
+            Map<ChunkPosition, Chunk> chunks,
+            int[] surface,
+            int offset,
+            VoxelType placed,
+            VoxelType restored
+    ) {
+        long checksum = 0L;
+        for (int z = 0; z < SIZE; z++) {
+            int worldY = surface[z] + offset;
+            int worldZ = SIZE + z;
+            Chunk chunk = chunks.get(ChunkCoordinateMapper.toChunkPosition(BORDER_X, worldY, worldZ));
+            int localY = ChunkCoordinateMapper.localY(worldY);
+
+            chunk.setVoxel(SIZE - 1, localY, z, placed);
+            light.updateVoxel(BORDER_X, worldY, worldZ);
+            checksum += light.getBlockLight(BORDER_X, worldY, worldZ)
+                    + light.getSkyLight(BORDER_X, worldY, worldZ);
+
+            chunk.setVoxel(SIZE - 1, localY, z, restored);
+            light.updateVoxel(BORDER_X, worldY, worldZ);
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,211 @@
+package com.voxelsandbox.rendersystem.bench;
+
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.NoiseTerrainGenerator;
+import com.voxelsandbox.engine.world.generation.TerrainColumn;
+import com.voxelsandbox.rendersystem.core.pipeline.ray.RayTileLayout;
+import com.voxelsandbox.rendersystem.core.raycast.CpuVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.IVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.PacketVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitBuffer;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.raycast.WorldVoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+
+
+/**
+ * Compares bulk first-hit queries of {@link CpuVoxelRayTraversal} with the
+ * scalar and vector backends of {@link PacketVoxelRayTraversal}.
+ *
+ * <p>
+ *     A 256x256 view of primary rays, ordered by {@link RayTileLayout}
+ *     tiles so that consecutive rays are coherent, looks down on the
+ *     {@link NoiseTerrainGenerator} terrain of an 8x8 column area. The
+ *     benchmark reports rays per second, single threaded, and checks that
+ *     every backend records the same hits as the reference.
+ * </p>
+ *
+ * <p>
+ *     The vector backend is measured only when the JVM runs with
+ *     {@code --add-modules jdk.incubator.vector}; its lane count follows the
+ *     CPU, e.g. 8 with {@code -XX:UseAVX=2} and 16 on AVX-512.
+ * </p>
+ */
+public final class RayTraversalBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int AREA = 8;
+    private static final int VIEW = 256;
+    private static final float MAX_DISTANCE = 256f;
+
+    private RayTraversalBenchmark() {}
+
+    public static void main(String[] args) {
+        run(BenchmarkHarness.fromSystemProperties());
+    }
+
+    /**
+     * Runs all cases.
+     *
+     * @param harness harness to measure with
+     */
+    public static void run(BenchmarkHarness harness) {
+        harness.section("Ray traversal: bulk first hits");
+
+        TerrainView world = new TerrainView(new NoiseTerrainGenerator());
+        VoxelHitPredicate solid = new WorldVoxelHitPredicate(world);
+
+        int rays = VIEW * VIEW;
+        float[] origins = new float[3 * rays];
+        float[] directions = new float[3 * rays];
+        primaryRays(world.getMaxSolidY() + 24f, origins, directions);
+
+        VoxelHitBuffer expected = new VoxelHitBuffer(rays);
+        IVoxelRayTraversal reference = new CpuVoxelRayTraversal();
+        reference.traceFirstHits(origins, directions, 0, rays, MAX_DISTANCE, world, solid, expected);
+
+        int hits = 0;
+        for (int i = 0; i < rays; i++) {
+            hits += expected.hit[i] ? 1 : 0;
+        }
+        harness.note("%d rays, %.0f%% hit terrain", rays, 100.0 * hits / rays);
+
+        measure(harness, "reference", reference, origins, directions, world, solid, expected);
+        measure(harness, "packet / scalar x8", PacketVoxelRayTraversal.scalar(8),
+                origins, directions, world, solid, expected);
+        if (PacketVoxelRayTraversal.isVectorSupported()) {
+            PacketVoxelRayTraversal vector = PacketVoxelRayTraversal.vectorized();
+            measure(harness, "packet / vector x" + vector.getLaneCount(), vector,
+                    origins, directions, world, solid, expected);
+        } else {
+            harness.note("packet / vector: skipped, run with --add-modules jdk.incubator.vector");
+        }
+    }
+
+    private static void measure(
+            BenchmarkHarness harness,
+            String name,
+            IVoxelRayTraversal traversal,
+            float[] origins,
+            float[] directions,
+            IVoxelWorldView world,
+            VoxelHitPredicate solid,
+            VoxelHitBuffer expected
+    ) {
+        int rays = expected.capacity();
+        VoxelHitBuffer actual = new VoxelHitBuffer(rays);
+
+        traversal.traceFirstHits(origins, directions, 0, rays, MAX_DISTANCE, world, solid, actual);
+        for (int i = 0; i < rays; i++) {
+            if (!sameHit(expected, actual, i)) {
+                throw new IllegalStateException(name + " disagrees with the reference at ray " + i);
+            }
+        }
+
+        harness.measure(name, rays, "rays", () -> {
+            traversal.traceFirstHits(origins, directions, 0, rays, MAX_DISTANCE, world, solid, actual);
+            return actual.voxelY[rays / 2];
+        });
+    }
+
+    private static boolean sameHit(VoxelHitBuffer expected, VoxelHitBuffer actual, int i) {
+        if (expected.hit[i] != actual.hit[i]) {
+            return false;
+        }
+        return !expected.hit[i]
+                || expected.voxelX[i] == actual.voxelX[i]
+                && expected.voxelY[i] == actual.voxelY[i]
+                && expected.voxelZ[i] == actual.voxelZ[i]
+                && expected.t[i] == actual.t[i]
+                && expected.normal[i] == actual.normal[i];
+    }
+
+    /**
+     * Fills tile-ordered pinhole camera rays looking diagonally down on
+     * the terrain from above its corner.
+     */
+    private static void primaryRays(float eyeY, float[] origins, float[] directions) {
+        float[] forward = normalize(1f, -0.6f, 1f);
+        float[] right = normalize(1f, 0f, -1f);
+        float[] up = {
+                right[1] * forward[2] - right[2] * forward[1],
+                right[2] * forward[0] - right[0] * forward[2],
+                right[0] * forward[1] - right[1] * forward[0]
+        };
+        float halfWidth = (float) Math.tan(Math.toRadians(30.0));
+
+        int[] pixels = new RayTileLayout(VIEW, VIEW).pixelIndices();
+        for (int ray = 0; ray < pixels.length; ray++) {
+            int px = pixels[ray] % VIEW;
+            int py = pixels[ray] / VIEW;
+            float u = ((px + 0.5f) / VIEW * 2f - 1f) * halfWidth;
+            float v = (1f - (py + 0.5f) / VIEW * 2f) * halfWidth;
+
+            float[] d = normalize(
+                    forward[0] + u * right[0] + v * up[0],
+                    forward[1] + u * right[1] + v * up[1],
+                    forward[2] + u * right[2] + v * up[2]
+            );
+            origins[3 * ray] = 0.5f;
+            origins[3 * ray + 1] = eyeY;
+            origins[3 * ray + 2] = 0.5f;
+            System.arraycopy(d, 0, directions, 3 * ray, 3);
+        }
+    }
+
+    private static float[] normalize(float x, float y, float z) {
+        float length = (float) Math.sqrt(x * x + y * y + z * z);
+        return new float[] {x / length, y / length, z / length};
+    }
+
+    /**
+     * Height field of the generated terrain, loaded inside the column area.
+     */
+    private static final class TerrainView implements IVoxelWorldView {
+
+        private static final int SIZE = ChunkDimensions.SIZE_X;
+
+        private final int[] heights = new int[AREA * SIZE * AREA * SIZE];
+        private final int maxHeight;
+
+        TerrainView(NoiseTerrainGenerator generator) {
+            int max = 0;
+            for (int cz = 0; cz < AREA; cz++) {
+                for (int cx = 0; cx < AREA; cx++) {
+                    TerrainColumn column = generator.getColumn(SEED, cx, cz);
+                    for (int z = 0; z < SIZE; z++) {
+                        for (int x = 0; x < SIZE; x++) {
+                            heights[index(cx * SIZE + x, cz * SIZE + z)] = column.getHeight(x, z);
+                        }
+                    }
+                    max = Math.max(max, column.getMaxHeight());
+                }
+            }
+            this.maxHeight = max;
+        }
+
+        @Override
+        public boolean isSolid(int x, int y, int z) {
+            return y <= heights[index(x, z)];
+        }
+
+        @Override
+        public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+            return voxelX >= 0 && voxelX < AREA * SIZE && voxelZ >= 0 && voxelZ < AREA * SIZE && voxelY >= 0;
+        }
+
+        @Override
+        public int getHighestSolidY(int x, int z) {
+            return heights[index(x, z)];
+        }
+
+        @Override
+        public int getMaxSolidY() {
+            return maxHeight;
+        }
+
+        private static int index(int x, int z) {
+            return x + z * AREA * SIZE;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.voxelsandbox.rendersystem.bench;
+
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.generation.NoiseTerrainGenerator;
+import com.voxelsandbox.engine.world.generation.noise.FractalNoise;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Measures {@link NoiseTerrainGenerator} throughput with cold and warm
+ * column caches.
+ *
+ * <p>
+ *     Every case generates the chunks of an 8x8 column area from the
+ *     bottom of the world to one chunk above the highest terrain, single
+ *     threaded:
+ * </p>
+ * <ul>
+ *     <li> {@code cold}: a new generator per run, so every column is
+ *          computed once and then served from the cache to the chunks
+ *          stacked above it, as when a region is first explored </li>
+ *     <li> {@code warm}: a generator whose cache already holds every
+ *          column, so only the voxel fill is left, as when chunks are
+ *          regenerated after eviction </li>
+ *     <li> {@code columns}: {@link NoiseTerrainGenerator#getColumn} on a
+ *          new generator, i.e. the noise evaluation alone </li>
+ * </ul>
+ *
+ * <p>
+ *     Noise uses the {@link FractalNoise} backend selected by
+ *     {@value FractalNoise#VECTOR_PROPERTY}; the benchmark prints which.
+ * </p>
+ */
+public final class TerrainGenerationBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int AREA = 8;
+
+    private TerrainGenerationBenchmark() {}
+
+    public static void main(String[] args) {
+        run(BenchmarkHarness.fromSystemProperties());
+    }
+
+    /**
+     * Runs all cases.
+     *
+     * @param harness harness to measure with
+     */
+    public static void run(BenchmarkHarness harness) {
+        harness.section("Terrain generation");
+
+        NoiseTerrainGenerator warm = new NoiseTerrainGenerator();
+        List<ChunkPosition> positions = new ArrayList<>();
+        for (int cz = 0; cz < AREA; cz++) {
+            for (int cx = 0; cx < AREA; cx++) {
+                int top = warm.getColumn(SEED, cx, cz).getMaxHeight() / ChunkDimensions.SIZE_Y + 1;
+                for (int cy = 0; cy <= top; cy++) {
+                    positions.add(new ChunkPosition(cx, cy, cz));
+                }
+            }
+        }
+
+        harness.note(
+                "%d chunks in %d columns, %s noise",
+                positions.size(),
+                AREA * AREA,
+                Boolean.getBoolean(FractalNoise.VECTOR_PROPERTY) && FractalNoise.isVectorSupported()
+                        ? "vector"
+                        : "scalar"
+        );
+        harness.measure("generateChunk / cold cache", positions.size(), "chunks",
+                () -> generateAll(new NoiseTerrainGenerator(), positions));
+        harness.measure("generateChunk / warm cache", positions.size(), "chunks",
+                () -> generateAll(warm, positions));
+        harness.measure("getColumn / cold cache", AREA * AREA, "columns",
+                TerrainGenerationBenchmark::computeColumns);
+    }
+
+    private static long generateAll(NoiseTerrainGenerator generator, List<ChunkPosition> positions) {
+        long checksum = 0L;
+        for (ChunkPosition position : positions) {
+            checksum += generator.generateChunk(SEED, position).getModificationCount();
+        }
+        return checksum;
+    }
+
+    private static long computeColumns() {
+        NoiseTerrainGenerator generator = new NoiseTerrainGenerator();
+        long checksum = 0L;
+        for (int cz = 0; cz < AREA; cz++) {
+            for (int cx = 0; cx < AREA; cx++) {
+                checksum += generator.getColumn(SEED, cx, cz).getMaxHeight();
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,51 @@
+package com.voxelsandbox.rendersystem.adapter;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.LocalVoxelPosition;
+import com.voxelsandbox.engine.world.event.IWorldEventListener;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMeshingService;
+
+import java.util.Objects;
+
+
+/**
+ * World event listener forwarding chunk lifecycle events to a
+ * {@link ChunkMeshingService}.
+ *
+ * <p>
+ *     Engine chunks are exposed to the service through
+ *     {@link EngineChunkRenderAdapter}, keeping the meshing code free of
+ *     engine types.
+ * </p>
+ */
+public final class EngineChunkMeshingListener implements IWorldEventListener {
+
+    private final ChunkMeshingService meshing;
+
+    /**
+     * Creates a listener feeding the given meshing service.
+     *
+     * @param meshing the meshing service
+     *
+     * @throws NullPointerException if {@code meshing} is {@code null}
+     */
+    public EngineChunkMeshingListener(ChunkMeshingService meshing) {
+        this.meshing = Objects.requireNonNull(meshing, "meshing must not be null");
+    }
+
+    @Override
+    public void onChunkLoaded(ChunkPosition position, Chunk chunk) {
+        meshing.chunkLoaded(new EngineChunkRenderAdapter(chunk));
+    }
+
+    @Override
+    public void onChunkModified(ChunkPosition position, Chunk chunk, LocalVoxelPosition voxel) {
+        meshing.chunkModified(new EngineChunkRenderAdapter(chunk), voxel.x(), voxel.y(), voxel.z());
+    }
+
+    @Override
+    public void onChunkUnloaded(ChunkPosition position, Chunk chunk) {
+        meshing.chunkUnloaded(new EngineChunkRenderAdapter(chunk));
+    }
+}
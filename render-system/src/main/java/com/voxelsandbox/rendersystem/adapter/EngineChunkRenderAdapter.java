@@ -88,7 +88,7 @@ public class EngineChunkRenderAdapter implements IRenderChunkView {
      */
     @Override
     public int getChunkSize() {
-        return ChunkDimensions.CHUNK_SIZE;
+        return ChunkDimensions.SIZE_X;
     }
 
     /**
@@ -108,7 +108,9 @@ public class EngineChunkRenderAdapter implements IRenderChunkView {
      * {@inheritDoc}
      *
      * <p>
-     *     The returned identifier is stable for the lifetime of the chunk
+     *     The returned identifier is the packed chunk position
+     *     ({@link com.voxelsandbox.engine.world.chunk.ChunkPosition#pack()}),
+     *     unique per position and stable for the lifetime of the chunk
      *     within a single engine session.
      * </p>
      *
@@ -120,6 +122,18 @@ public class EngineChunkRenderAdapter implements IRenderChunkView {
      */
     @Override
     public long getChunkId() {
-        return chunk.getPosition().hashCode();
+        return chunk.getPosition().pack();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     Reflects {@link Chunk#getModificationCount()}.
+     * </p>
+     */
+    @Override
+    public long getModificationCount() {
+        return chunk.getModificationCount();
     }
 }
@@ -1,14 +1,20 @@
 package com.voxelsandbox.rendersystem.adapter;
 
 import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
 import com.voxelsandbox.engine.world.chunk.config.ChunkDimensions;
+import com.voxelsandbox.engine.world.event.IWorldEventListener;
 import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
 import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 
@@ -37,49 +43,104 @@ import java.util.stream.Collectors;
  * </ul>
  *
  * <p>
- *     The returned views always reflect the current state of the underlying
- *     engine {@link World} at the time of invocation.
+ *     The renderable set is maintained incrementally from world events
+ *     instead of being rebuilt on every call. Each loaded chunk is wrapped
+ *     in a single {@link EngineChunkRenderAdapter} that is reused for as
+ *     long as the chunk stays loaded. Since chunk adapters read through to
+ *     the engine chunk, voxel changes are visible without further work.
+ * </p>
+ *
+ * <p>
+ *     The adapter stays registered as a listener of the world until it is
+ *     {@linkplain #close() closed}. Adapters that are discarded before
+ *     their world must be closed, or the world keeps them reachable.
  * </p>
  *
  * <p>
  *     This class implements the GoF <strong>Adapter</strong> pattern.
  * </p>
  */
-public final class EngineRenderWorldAdapter  implements IRenderWorldView {
+public final class EngineRenderWorldAdapter  implements IRenderWorldView, AutoCloseable {
+
+    private final World world;
 
     /**
-     * Underlying engine world.
+     * Listener keeping {@link #adapters} in sync with the world.
+     */
+    private final IWorldEventListener listener = new IWorldEventListener() {
+        @Override
+        public void onChunkLoaded(ChunkPosition position, Chunk chunk) {
+            add(position, chunk);
+        }
+
+        @Override
+        public void onChunkUnloaded(ChunkPosition position, Chunk chunk) {
+            if (adapters.remove(position) != null) {
+                version.incrementAndGet();
+            }
+        }
+    };
+
+    /**
+     * Reused chunk adapters, indexed by chunk position.
      *
      * <p>
-     *     This reference is used exclusively for read-only access
-     *     to the currently loaded chunks.
+     *     Updated from world event callbacks, which may run on any thread.
      * </p>
      */
-    private final World world;
+    private final Map<ChunkPosition, IRenderChunkView> adapters = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented after every change to {@link #adapters}.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Immutable copy of {@link #adapters}, rebuilt lazily once
+     * {@link #version} moved past the version it was taken at.
+     */
+    private volatile Snapshot snapshot = new Snapshot(-1L, List.of());
 
     /**
      * Creates a render-world adapter for the given engine world.
      *
+     * <p>
+     *     The adapter registers itself as a world event listener and
+     *     indexes the chunks already loaded.
+     * </p>
+     *
      * @param world the engine world to expose to the rendering system
      *
      * @throws NullPointerException if {@code world} is {@code null}
      */
     public EngineRenderWorldAdapter(World world) {
         this.world = Objects.requireNonNull(world, "world must not be null");
+
+        world.addEventListener(listener);
+        world.getChunks().forEach(this::add);
     }
 
     /**
-     * {@inheritDoc}
+     * Unregisters this adapter from the world.
      *
      * <p>
-     *     Returns a collection of renderable chunk views corresponding
-     *     to all chunks currently loaded in the engine world.
+     *     The renderable set is no longer updated afterwards; it keeps
+     *     the chunks loaded at the time of the call. Closing an adapter
+     *     more than once has no further effect.
      * </p>
+     */
+    @Override
+    public void close() {
+        world.removeEventListener(listener);
+    }
+
+    /**
+     * {@inheritDoc}
      *
      * <p>
-     *     Each chunk is wrapped in an {@link EngineChunkRenderAdapter},
-     *     ensuring that the renderer never gains access to engine-internal
-     *     data structures.
+     *     Returns an immutable snapshot of the chunks currently loaded in
+     *     the engine world. The same instance is returned until a chunk is
+     *     loaded or unloaded.
      * </p>
      *
      * <p>
@@ -89,12 +150,70 @@ public final class EngineRenderWorldAdapter  implements IRenderWorldView {
      */
     @Override
     public Collection<IRenderChunkView> getRenderableChunks() {
-        return world.getChunks().values().stream()
-                .map(chunk -> (IRenderChunkView)
-                        new EngineChunkRenderAdapter(chunk))
-                .toList();
+        // Read the version first: a change racing with the copy leaves the
+        // snapshot tagged as outdated
+        long current = version.get();
+        Snapshot cached = snapshot;
+        if (cached.version() != current) {
+            cached = new Snapshot(current, List.copyOf(adapters.values()));
+            snapshot = cached;
+        }
+        return cached.chunks();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     Looks up the chunk positions covered by the box directly when
+     *     they are fewer than the loaded chunks, and filters the loaded
+     *     chunks otherwise, so the cost is bounded by the smaller of the two.
+     * </p>
+     */
+    @Override
+    public Collection<IRenderChunkView> getRenderableChunks(
+            float minX,
+            float minY,
+            float minZ,
+            float maxX,
+            float maxY,
+            float maxZ
+    ) {
+        int minCx = chunkCoordinate(minX, ChunkDimensions.SIZE_X);
+        int minCy = chunkCoordinate(minY, ChunkDimensions.SIZE_Y);
+        int minCz = chunkCoordinate(minZ, ChunkDimensions.SIZE_Z);
+        int maxCx = chunkCoordinate(maxX, ChunkDimensions.SIZE_X);
+        int maxCy = chunkCoordinate(maxY, ChunkDimensions.SIZE_Y);
+        int maxCz = chunkCoordinate(maxZ, ChunkDimensions.SIZE_Z);
+
+        List<IRenderChunkView> result = new ArrayList<>();
+        if (minCx > maxCx || minCy > maxCy || minCz > maxCz) {
+            return result;
+        }
+
+        long cells = (long) (maxCx - minCx + 1) * (maxCy - minCy + 1) * (maxCz - minCz + 1);
+        if (cells <= adapters.size()) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                for (int cy = minCy; cy <= maxCy; cy++) {
+                    for (int cx = minCx; cx <= maxCx; cx++) {
+                        IRenderChunkView chunk = adapters.get(new ChunkPosition(cx, cy, cz));
+                        if (chunk != null) {
+                            result.add(chunk);
+                        }
+                    }
+                }
+            }
+        } else {
+            for (IRenderChunkView chunk : getRenderableChunks()) {
+                if (chunk.getChunkX() >= minCx && chunk.getChunkX() <= maxCx
+                        && chunk.getChunkY() >= minCy && chunk.getChunkY() <= maxCy
+                        && chunk.getChunkZ() >= minCz && chunk.getChunkZ() <= maxCz) {
+                    result.add(chunk);
+                }
+            }
+        }
+        return result;
+    }
 
     /**
      * {@inheritDoc}
@@ -119,4 +238,30 @@ public final class EngineRenderWorldAdapter  implements IRenderWorldView {
     public int getMaxY() {
         return World.MAX_Y;
     }
+
+    /**
+     * Registers an adapter for a chunk unless one already exists.
+     *
+     * <p>
+     *     Load events are repeated for chunks that are already present;
+     *     those leave the adapter and snapshot untouched.
+     * </p>
+     */
+    private void add(ChunkPosition position, Chunk chunk) {
+        if (!adapters.containsKey(position)
+                && adapters.putIfAbsent(position, new EngineChunkRenderAdapter(chunk)) == null) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the chunk coordinate containing a world coordinate, clamped
+     * to the {@code int} range.
+     */
+    private static int chunkCoordinate(float world, int size) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, Math.floor(world / size)));
+    }
+
+    private record Snapshot(long version, List<IRenderChunkView> chunks) {
+    }
 }
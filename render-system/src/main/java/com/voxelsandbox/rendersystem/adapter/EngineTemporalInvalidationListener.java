@@ -0,0 +1,57 @@
+package com.voxelsandbox.rendersystem.adapter;
+
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.chunk.LocalVoxelPosition;
+import com.voxelsandbox.engine.world.event.IWorldEventListener;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.temporal.TemporalHitCache;
+
+import java.util.Objects;
+
+
+/**
+ * World event listener reporting chunk lifecycle events to a
+ * {@link TemporalHitCache}.
+ *
+ * <p>
+ *     Loads, voxel changes and unloads all invalidate the chunk: a loaded
+ *     chunk may occlude cached hits or turn cached misses into hits, and
+ *     an unloaded one removes the voxels its cached hits point at.
+ * </p>
+ *
+ * <p>
+ *     The cache is not thread-safe. Events are forwarded on the thread
+ *     that writes the world, which must therefore be serialized with
+ *     rendering.
+ * </p>
+ */
+public final class EngineTemporalInvalidationListener implements IWorldEventListener {
+
+    private final TemporalHitCache cache;
+
+    /**
+     * Creates a listener invalidating the given cache.
+     *
+     * @param cache the temporal hit cache
+     *
+     * @throws NullPointerException if {@code cache} is {@code null}
+     */
+    public EngineTemporalInvalidationListener(TemporalHitCache cache) {
+        this.cache = Objects.requireNonNull(cache, "cache must not be null");
+    }
+
+    @Override
+    public void onChunkLoaded(ChunkPosition position, Chunk chunk) {
+        cache.invalidateChunk(new EngineChunkRenderAdapter(chunk));
+    }
+
+    @Override
+    public void onChunkModified(ChunkPosition position, Chunk chunk, LocalVoxelPosition voxel) {
+        cache.invalidateChunk(new EngineChunkRenderAdapter(chunk));
+    }
+
+    @Override
+    public void onChunkUnloaded(ChunkPosition position, Chunk chunk) {
+        cache.invalidateChunk(new EngineChunkRenderAdapter(chunk));
+    }
+}
@@ -0,0 +1,66 @@
+package com.voxelsandbox.rendersystem.adapter;
+
+import com.voxelsandbox.engine.world.IWorldView;
+import com.voxelsandbox.engine.world.coordinate.ChunkCoordinateMapper;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+
+import java.util.Objects;
+
+
+/**
+ * Adapter that exposes an engine {@link IWorldView} as a {@link IVoxelWorldView}
+ * for ray traversal.
+ *
+ * <p>
+ *     Every non-air voxel is solid. Column heights are read from the
+ *     engine heightmap, so traversals can end rays that leave the terrain
+ *     without stepping through the empty space above it.
+ * </p>
+ *
+ * <p>
+ *     Like the other engine adapters, this class is strictly read-only and
+ *     never triggers chunk loading or generation.
+ * </p>
+ *
+ * <p>
+ *     This class implements the GoF <strong>Adapter</strong> pattern.
+ * </p>
+ */
+public final class EngineVoxelWorldAdapter implements IVoxelWorldView {
+
+    private final IWorldView world;
+
+    /**
+     * Creates a voxel-world adapter for the given engine world view.
+     *
+     * @param world the engine world view to expose to ray traversal
+     *
+     * @throws NullPointerException if {@code world} is {@code null}
+     */
+    public EngineVoxelWorldAdapter(IWorldView world) {
+        this.world = Objects.requireNonNull(world, "world must not be null");
+    }
+
+    @Override
+    public boolean isSolid(int x, int y, int z) {
+        return world.getVoxel(x, y, z) != VoxelType.AIR;
+    }
+
+    @Override
+    public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+        return world.getChunkIfPresent(
+                ChunkCoordinateMapper.toChunkPosition(voxelX, voxelY, voxelZ)
+        ) != null;
+    }
+
+    @Override
+    public int getHighestSolidY(int x, int z) {
+        return world.getHighestSolidY(x, z);
+    }
+
+    @Override
+    public int getMaxSolidY() {
+        return world.getMaxSolidY();
+    }
+}
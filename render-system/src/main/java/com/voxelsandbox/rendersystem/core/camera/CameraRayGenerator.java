@@ -0,0 +1,223 @@
+package com.voxelsandbox.rendersystem.core.camera;
+
+import com.voxelsandbox.rendersystem.core.math.CpuRay3f;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+
+import java.util.Objects;
+
+
+/**
+ * Precomputed primary ray generator for a fixed camera and viewport.
+ *
+ * <p>
+ *     {@link ICamera3D#generateRay(float, float, float, float)} rebuilds and
+ *     inverts both the projection and the view matrix for every pixel.
+ *     This class performs both inversions exactly once and reduces the
+ *     remaining screen → NDC → view → world chain to an affine function
+ *     of the pixel coordinates:
+ * </p>
+ *
+ * <pre>
+ * direction(x, y) = normalize(base + x * columnStep + y * rowStep)
+ * </pre>
+ *
+ * <p>
+ *     Generating a ray therefore costs a few multiply-adds and a single
+ *     square root, instead of two 4x4 inversions.
+ * </p>
+ *
+ * <p>
+ *     Pixel coordinates are integer pixel indices; rays pass through
+ *     pixel centers ({@code x + 0.5}, {@code y + 0.5}), matching
+ *     {@code CpuRayGenerationStage}.
+ * </p>
+ *
+ * <p>
+ *     Instances are immutable and thread-safe. A new generator must be
+ *     created whenever the camera or the viewport changes.
+ * </p>
+ */
+public final class CameraRayGenerator {
+
+    /**
+     * Ray origin shared by all generated rays.
+     */
+    private final Vec3f origin;
+
+    private final int viewportWidth;
+    private final int viewportHeight;
+
+    /**
+     * Unnormalized world-space direction through the center of pixel (0, 0).
+     */
+    private final float baseX;
+    private final float baseY;
+    private final float baseZ;
+
+    /**
+     * Direction increment when moving one pixel to the right.
+     */
+    private final float columnStepX;
+    private final float columnStepY;
+    private final float columnStepZ;
+
+    /**
+     * Direction increment when moving one pixel down.
+     */
+    private final float rowStepX;
+    private final float rowStepY;
+    private final float rowStepZ;
+
+    /**
+     * Creates a ray generator for the given camera and viewport.
+     *
+     * @param camera camera producing the rays
+     * @param viewportWidth viewport width in pixels
+     * @param viewportHeight viewport height in pixels
+     *
+     * @throws NullPointerException if {@code camera} is {@code null}
+     * @throws IllegalArgumentException if the viewport size is not positive
+     * @throws IllegalStateException if the camera matrices are not invertible
+     */
+    public CameraRayGenerator(ICamera3D camera, int viewportWidth, int viewportHeight) {
+        Objects.requireNonNull(camera, "camera must not be null");
+        if (viewportWidth <= 0 || viewportHeight <= 0) {
+            throw new IllegalArgumentException("viewport size must be > 0");
+        }
+
+        this.origin = Objects.requireNonNull(camera.getPosition(), "camera position must not be null");
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+
+        Mat4f invProj = camera.getProjectionMatrix().inverse();
+        Mat4f invView = camera.getViewMatrix().inverse();
+
+        // Screen → NDC is affine in the pixel center:
+        //   ndcX = sx * (2 / w) - 1,  ndcY = 1 - sy * (2 / h)
+        float ndcPerPixelX = 2f / viewportWidth;
+        float ndcPerPixelY = -2f / viewportHeight;
+        float ndcX0 = 0.5f * ndcPerPixelX - 1f;
+        float ndcY0 = 1f + 0.5f * ndcPerPixelY;
+
+        // NDC → view space (inverse projection, w = 0, view Z forced to -1)
+        float viewX0 = invProj.get(0, 0) * ndcX0 + invProj.get(0, 1) * ndcY0 - invProj.get(0, 2);
+        float viewY0 = invProj.get(1, 0) * ndcX0 + invProj.get(1, 1) * ndcY0 - invProj.get(1, 2);
+        float viewXdx = invProj.get(0, 0) * ndcPerPixelX;
+        float viewYdx = invProj.get(1, 0) * ndcPerPixelX;
+        float viewXdy = invProj.get(0, 1) * ndcPerPixelY;
+        float viewYdy = invProj.get(1, 1) * ndcPerPixelY;
+
+        // View → world space (inverse view, w = 0)
+        this.baseX = invView.get(0, 0) * viewX0 + invView.get(0, 1) * viewY0 - invView.get(0, 2);
+        this.baseY = invView.get(1, 0) * viewX0 + invView.get(1, 1) * viewY0 - invView.get(1, 2);
+        this.baseZ = invView.get(2, 0) * viewX0 + invView.get(2, 1) * viewY0 - invView.get(2, 2);
+
+        this.columnStepX = invView.get(0, 0) * viewXdx + invView.get(0, 1) * viewYdx;
+        this.columnStepY = invView.get(1, 0) * viewXdx + invView.get(1, 1) * viewYdx;
+        this.columnStepZ = invView.get(2, 0) * viewXdx + invView.get(2, 1) * viewYdx;
+
+        this.rowStepX = invView.get(0, 0) * viewXdy + invView.get(0, 1) * viewYdy;
+        this.rowStepY = invView.get(1, 0) * viewXdy + invView.get(1, 1) * viewYdy;
+        this.rowStepZ = invView.get(2, 0) * viewXdy + invView.get(2, 1) * viewYdy;
+    }
+
+    /**
+     * Returns the origin shared by all generated rays.
+     *
+     * @return ray origin in world space
+     */
+    public Vec3f getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Returns the viewport width this generator was built for.
+     *
+     * @return viewport width in pixels
+     */
+    public int getViewportWidth() {
+        return viewportWidth;
+    }
+
+    /**
+     * Returns the viewport height this generator was built for.
+     *
+     * @return viewport height in pixels
+     */
+    public int getViewportHeight() {
+        return viewportHeight;
+    }
+
+    /**
+     * Generates the ray passing through the center of the given pixel.
+     *
+     * @param x pixel column
+     * @param y pixel row
+     * @return world-space ray
+     */
+    public Ray3f generateRay(int x, int y) {
+        return new CpuRay3f(origin, generateDirection(x, y));
+    }
+
+    /**
+     * Generates the normalized direction through the center of the given pixel.
+     *
+     * @param x pixel column
+     * @param y pixel row
+     * @return normalized world-space direction
+     */
+    public Vec3f generateDirection(int x, int y) {
+        float dx = baseX + y * rowStepX + x * columnStepX;
+        float dy = baseY + y * rowStepY + x * columnStepY;
+        float dz = baseZ + y * rowStepZ + x * columnStepZ;
+        float invLength = (float) (1.0 / Math.sqrt(dx * dx + dy * dy + dz * dz));
+        return new CpuVec3f(dx * invLength, dy * invLength, dz * invLength);
+    }
+
+    /**
+     * Writes the normalized directions of the whole viewport into
+     * a caller-owned array.
+     *
+     * <p>
+     *     Directions are written in row-major pixel order as interleaved
+     *     {@code x, y, z} triples: the direction of pixel {@code (x, y)}
+     *     starts at index {@code 3 * (y * width + x)}.
+     * </p>
+     *
+     * <p>
+     *     This method performs no allocations.
+     * </p>
+     *
+     * @param out destination array of length at least {@code 3 * width * height}
+     *
+     * @throws NullPointerException if {@code out} is {@code null}
+     * @throws IllegalArgumentException if {@code out} is too small
+     */
+    public void generateDirections(float[] out) {
+        Objects.requireNonNull(out, "out must not be null");
+        if (out.length < 3 * viewportWidth * viewportHeight) {
+            throw new IllegalArgumentException("out must hold 3 * width * height floats");
+        }
+
+        int i = 0;
+        for (int y = 0; y < viewportHeight; y++) {
+            float rowX = baseX + y * rowStepX;
+            float rowY = baseY + y * rowStepY;
+            float rowZ = baseZ + y * rowStepZ;
+
+            for (int x = 0; x < viewportWidth; x++) {
+                float dx = rowX + x * columnStepX;
+                float dy = rowY + x * columnStepY;
+                float dz = rowZ + x * columnStepZ;
+                float invLength = (float) (1.0 / Math.sqrt(dx * dx + dy * dy + dz * dz));
+
+                out[i++] = dx * invLength;
+                out[i++] = dy * invLength;
+                out[i++] = dz * invLength;
+            }
+        }
+    }
+}
@@ -44,6 +44,22 @@ public interface IRenderChunkView {
      */
     int getChunkSize();
 
+    /**
+     * Edge length of one voxel of this view, in world voxels.
+     *
+     * <p>
+     *     Level-of-detail views cover their chunk with fewer, larger voxels.
+     *     The chunk then occupies
+     *     {@code [c * size * scale, (c + 1) * size * scale)} on each axis.
+     *     World views only expose chunks at full resolution.
+     * </p>
+     *
+     * @return voxel scale, {@code 1} at full resolution
+     */
+    default int getVoxelScale() {
+        return 1;
+    }
+
     /**
      * Returns the voxel type at the given local coordinates.
      *
@@ -71,8 +87,25 @@ public interface IRenderChunkView {
      *     and dirty tracking.
      * </p>
      *
+     * <p>
+     *     Distinct chunks of a world MUST have distinct identifiers.
+     * </p>
+     *
      * @return stable chunk id
      */
     long getChunkId();
 
+    /**
+     * Returns a counter that changes whenever the chunk content changes.
+     *
+     * <p>
+     *     Together with {@link #getChunkId()} this lets render caches check
+     *     whether derived data is still valid with two comparisons. The
+     *     value never decreases for a given chunk.
+     * </p>
+     *
+     * @return modification count
+     */
+    long getModificationCount();
+
 }
@@ -0,0 +1,299 @@
+package com.voxelsandbox.rendersystem.core.lod;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+import java.util.Objects;
+
+
+/**
+ * Downsampled summaries of one chunk's voxels.
+ *
+ * <p>
+ *     Level {@code k} covers the chunk with cells of {@code 2^k} voxels
+ *     per edge, so a 16^3 chunk is summarised as 8^3, 4^3 and 2^3 cells.
+ *     Each level is reduced from the one below it while carrying the exact
+ *     number of solid voxels per cell; a {@link LodReduction} then decides
+ *     from that count whether the cell is solid. A solid cell takes the
+ *     type of the child cells holding most of its solid voxels.
+ * </p>
+ *
+ * <p>
+ *     Summaries are immutable snapshots, tagged with the chunk
+ *     modification count read before the voxels. {@link #getView(int)}
+ *     exposes a level as a chunk of its own, so it can be meshed like any
+ *     other chunk.
+ * </p>
+ */
+public final class ChunkLod {
+
+    /**
+     * Coarsest level, with cells of 8 voxels per edge.
+     */
+    public static final int MAX_LEVEL = 3;
+
+    private final long chunkId;
+    private final long sourceModificationCount;
+    private final int chunkX;
+    private final int chunkY;
+    private final int chunkZ;
+    private final int chunkSize;
+
+    /**
+     * Cell types per level, indexed {@code x + n * (y + n * z)}; entry 0
+     * is unused.
+     */
+    private final int[][] cells;
+    private final LevelView[] views;
+
+    private ChunkLod(IRenderChunkView chunk, long sourceModificationCount, int[][] cells) {
+        this.chunkId = chunk.getChunkId();
+        this.sourceModificationCount = sourceModificationCount;
+        this.chunkX = chunk.getChunkX();
+        this.chunkY = chunk.getChunkY();
+        this.chunkZ = chunk.getChunkZ();
+        this.chunkSize = chunk.getChunkSize();
+        this.cells = cells;
+        this.views = new LevelView[MAX_LEVEL + 1];
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            views[level] = new LevelView(level);
+        }
+    }
+
+    /**
+     * Summarises the current content of a chunk.
+     *
+     * @param chunk chunk to summarise
+     * @param reduction rule deciding which cells are solid
+     * @return the summaries of all levels
+     * @throws IllegalArgumentException if the chunk size is not a positive
+     *                                  multiple of {@code 2^MAX_LEVEL}
+     */
+    public static ChunkLod build(IRenderChunkView chunk, LodReduction reduction) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+        Objects.requireNonNull(reduction, "reduction must not be null");
+
+        int n = chunk.getChunkSize();
+        if (n <= 0 || n % (1 << MAX_LEVEL) != 0) {
+            throw new IllegalArgumentException(
+                    "Chunk size must be a positive multiple of " + (1 << MAX_LEVEL) + ": " + n
+            );
+        }
+
+        // Read before the voxels so that a concurrent edit leaves the
+        // summary tagged with an older count
+        long modificationCount = chunk.getModificationCount();
+
+        int[] types = new int[n * n * n];
+        int[] counts = new int[n * n * n];
+        for (int z = 0; z < n; z++) {
+            for (int y = 0; y < n; y++) {
+                for (int x = 0; x < n; x++) {
+                    int i = x + n * (y + n * z);
+                    types[i] = chunk.getVoxel(x, y, z);
+                    counts[i] = types[i] != 0 ? 1 : 0;
+                }
+            }
+        }
+
+        int[][] cells = new int[MAX_LEVEL + 1][];
+        int[] childTypes = new int[8];
+        int[] childCounts = new int[8];
+
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            int m = n >> 1;
+            int cellVoxels = 1 << (3 * level);
+            int[] levelTypes = new int[m * m * m];
+            int[] levelCounts = new int[m * m * m];
+            int[] levelCells = new int[m * m * m];
+
+            for (int z = 0; z < m; z++) {
+                for (int y = 0; y < m; y++) {
+                    for (int x = 0; x < m; x++) {
+                        int solid = 0;
+                        for (int child = 0; child < 8; child++) {
+                            int i = (2 * x + (child & 1))
+                                    + n * ((2 * y + ((child >> 1) & 1)) + n * (2 * z + (child >> 2)));
+                            childTypes[child] = types[i];
+                            childCounts[child] = counts[i];
+                            solid += counts[i];
+                        }
+
+                        int type = dominantType(childTypes, childCounts);
+                        int cell = x + m * (y + m * z);
+                        levelTypes[cell] = type;
+                        levelCounts[cell] = solid;
+                        levelCells[cell] = solid > 0 && reduction.isSolid(solid, cellVoxels) ? type : 0;
+                    }
+                }
+            }
+
+            cells[level] = levelCells;
+            types = levelTypes;
+            counts = levelCounts;
+            n = m;
+        }
+
+        return new ChunkLod(chunk, modificationCount, cells);
+    }
+
+    public long getChunkId() {
+        return chunkId;
+    }
+
+    /**
+     * Returns the chunk modification count observed before summarising.
+     *
+     * @return source modification count
+     */
+    public long getSourceModificationCount() {
+        return sourceModificationCount;
+    }
+
+    /**
+     * Returns whether these summaries were built from the current content
+     * of the given chunk.
+     *
+     * @param chunk the chunk
+     * @return {@code true} if the summaries match the chunk's id and
+     *         modification count
+     */
+    public boolean isCurrent(IRenderChunkView chunk) {
+        return chunk.getChunkId() == chunkId
+                && chunk.getModificationCount() == sourceModificationCount;
+    }
+
+    /**
+     * Returns the number of cells per edge at a level.
+     *
+     * @param level level, {@code 1 .. MAX_LEVEL}
+     * @return cells per edge
+     */
+    public int getResolution(int level) {
+        return chunkSize >> checkLevel(level);
+    }
+
+    /**
+     * Returns the type of a cell, {@code 0} if the cell is air.
+     *
+     * @param level level, {@code 1 .. MAX_LEVEL}
+     * @param x cell X within the chunk
+     * @param y cell Y within the chunk
+     * @param z cell Z within the chunk
+     * @return cell type
+     */
+    public int getCell(int level, int x, int y, int z) {
+        int n = getResolution(level);
+        return cells[level][x + n * (y + n * z)];
+    }
+
+    /**
+     * Returns a level as a chunk view with {@code 2^level} voxel scale.
+     *
+     * <p>
+     *     The view shares the chunk id of the source chunk and reports
+     *     {@link #getSourceModificationCount()} as its modification count.
+     * </p>
+     *
+     * @param level level, {@code 1 .. MAX_LEVEL}
+     * @return view of the level
+     */
+    public IRenderChunkView getView(int level) {
+        return views[checkLevel(level)];
+    }
+
+    /**
+     * Returns the approximate heap footprint of the summaries.
+     *
+     * @return size in bytes
+     */
+    public long getSizeInBytes() {
+        long bytes = 96L;
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            bytes += 16L + 4L * cells[level].length;
+        }
+        return bytes;
+    }
+
+    private static int checkLevel(int level) {
+        if (level < 1 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("level must be in [1, " + MAX_LEVEL + "]: " + level);
+        }
+        return level;
+    }
+
+    /**
+     * Returns the type covering most solid voxels among eight child cells,
+     * preferring the earliest child on ties, or {@code 0} if all are empty.
+     */
+    private static int dominantType(int[] types, int[] counts) {
+        int best = 0;
+        int bestCount = 0;
+        for (int i = 0; i < 8; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            int total = counts[i];
+            for (int j = i + 1; j < 8; j++) {
+                if (types[j] == types[i]) {
+                    total += counts[j];
+                }
+            }
+            if (total > bestCount) {
+                best = types[i];
+                bestCount = total;
+            }
+        }
+        return best;
+    }
+
+    private final class LevelView implements IRenderChunkView {
+
+        private final int level;
+        private final int resolution;
+
+        LevelView(int level) {
+            this.level = level;
+            this.resolution = chunkSize >> level;
+        }
+
+        @Override
+        public int getChunkX() {
+            return chunkX;
+        }
+
+        @Override
+        public int getChunkY() {
+            return chunkY;
+        }
+
+        @Override
+        public int getChunkZ() {
+            return chunkZ;
+        }
+
+        @Override
+        public int getChunkSize() {
+            return resolution;
+        }
+
+        @Override
+        public int getVoxelScale() {
+            return 1 << level;
+        }
+
+        @Override
+        public int getVoxel(int x, int y, int z) {
+            return cells[level][x + resolution * (y + resolution * z)];
+        }
+
+        @Override
+        public long getChunkId() {
+            return chunkId;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return sourceModificationCount;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.voxelsandbox.rendersystem.core.lod;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Per-chunk cache of {@link ChunkLod} summaries.
+ *
+ * <p>
+ *     Summaries are keyed by {@link IRenderChunkView#getChunkId()} and
+ *     rebuilt on access once the chunk's modification count moved past the
+ *     count they were built from, so edits invalidate them without any
+ *     notification. Entries of unloaded chunks must be dropped with
+ *     {@link #remove(long)}.
+ * </p>
+ *
+ * <p>
+ *     Threading: all methods are thread-safe. Concurrent requests for the
+ *     same outdated chunk may each rebuild it; the last one wins.
+ * </p>
+ */
+public final class ChunkLodCache {
+
+    private final LodReduction reduction;
+    private final Map<Long, ChunkLod> lods = new ConcurrentHashMap<>();
+    private final AtomicLong builds = new AtomicLong();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param reduction rule deciding which cells are solid
+     */
+    public ChunkLodCache(LodReduction reduction) {
+        this.reduction = Objects.requireNonNull(reduction, "reduction must not be null");
+    }
+
+    /**
+     * Returns the summaries of a chunk, rebuilding them if the chunk
+     * changed since they were built.
+     *
+     * @param chunk the chunk
+     * @return current summaries of the chunk
+     * @throws IllegalArgumentException if the chunk size is not supported
+     *                                  by {@link ChunkLod}
+     */
+    public ChunkLod get(IRenderChunkView chunk) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+
+        ChunkLod lod = lods.get(chunk.getChunkId());
+        if (lod != null && lod.isCurrent(chunk)) {
+            return lod;
+        }
+
+        lod = ChunkLod.build(chunk, reduction);
+        lods.put(lod.getChunkId(), lod);
+        builds.incrementAndGet();
+        return lod;
+    }
+
+    /**
+     * Drops the summaries of a chunk.
+     *
+     * @param chunkId id of the chunk
+     */
+    public void remove(long chunkId) {
+        lods.remove(chunkId);
+    }
+
+    public LodReduction getReduction() {
+        return reduction;
+    }
+
+    public int size() {
+        return lods.size();
+    }
+
+    /**
+     * Returns the number of summaries built so far.
+     *
+     * @return build count
+     */
+    public long getBuildCount() {
+        return builds.get();
+    }
+}
@@ -0,0 +1,107 @@
+package com.voxelsandbox.rendersystem.core.lod;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.mesh.IChunkNeighbours;
+import com.voxelsandbox.rendersystem.core.world.ILodVoxelWorldView;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+
+import java.util.Objects;
+
+
+/**
+ * {@link ILodVoxelWorldView} answering coarse queries from cached chunk
+ * summaries.
+ *
+ * <p>
+ *     Full-detail queries are delegated to a base view. Coarse cells are
+ *     looked up in the {@link ChunkLod} of the chunk containing them, so
+ *     the chunk size must be a multiple of {@code 2^MAX_LEVEL} and coarse
+ *     cells never straddle chunks.
+ * </p>
+ */
+public final class ChunkLodWorldView implements ILodVoxelWorldView {
+
+    private final IVoxelWorldView base;
+    private final IChunkNeighbours chunks;
+    private final int chunkSize;
+    private final ChunkLodCache cache;
+
+    /**
+     * Creates a view.
+     *
+     * @param base view answering full-detail queries
+     * @param chunks lookup of loaded chunks by chunk coordinates
+     * @param chunkSize chunk size in voxels
+     * @param cache cache providing the chunk summaries
+     * @throws IllegalArgumentException if {@code chunkSize} is not a
+     *                                  positive multiple of {@code 2^MAX_LEVEL}
+     */
+    public ChunkLodWorldView(
+            IVoxelWorldView base,
+            IChunkNeighbours chunks,
+            int chunkSize,
+            ChunkLodCache cache
+    ) {
+        this.base = Objects.requireNonNull(base, "base must not be null");
+        this.chunks = Objects.requireNonNull(chunks, "chunks must not be null");
+        this.cache = Objects.requireNonNull(cache, "cache must not be null");
+        if (chunkSize <= 0 || chunkSize % (1 << ChunkLod.MAX_LEVEL) != 0) {
+            throw new IllegalArgumentException(
+                    "chunkSize must be a positive multiple of " + (1 << ChunkLod.MAX_LEVEL) + ": " + chunkSize
+            );
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean isSolid(int x, int y, int z) {
+        return base.isSolid(x, y, z);
+    }
+
+    @Override
+    public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+        return base.isChunkLoaded(voxelX, voxelY, voxelZ);
+    }
+
+    @Override
+    public int getHighestSolidY(int x, int z) {
+        return base.getHighestSolidY(x, z);
+    }
+
+    @Override
+    public int getMaxSolidY() {
+        return base.getMaxSolidY();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code level} is outside
+     *                                  {@code [0, MAX_LEVEL]}
+     */
+    @Override
+    public boolean isSolid(int level, int cellX, int cellY, int cellZ) {
+        if (level == 0) {
+            return base.isSolid(cellX, cellY, cellZ);
+        }
+        if (level < 0 || level > ChunkLod.MAX_LEVEL) {
+            throw new IllegalArgumentException("level must be in [0, " + ChunkLod.MAX_LEVEL + "]: " + level);
+        }
+
+        int resolution = chunkSize >> level;
+        IRenderChunkView chunk = chunks.getChunk(
+                Math.floorDiv(cellX, resolution),
+                Math.floorDiv(cellY, resolution),
+                Math.floorDiv(cellZ, resolution)
+        );
+        if (chunk == null) {
+            return false;
+        }
+        return cache.get(chunk).getCell(
+                level,
+                Math.floorMod(cellX, resolution),
+                Math.floorMod(cellY, resolution),
+                Math.floorMod(cellZ, resolution)
+        ) != 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.voxelsandbox.rendersystem.core.lod;
+
+
+/**
+ * Rule deciding whether a level-of-detail cell is solid.
+ *
+ * <p>
+ *     A solid cell takes the voxel type covering most of its solid voxels,
+ *     whichever rule decided that it is solid.
+ * </p>
+ */
+public enum LodReduction {
+
+    /**
+     * A cell is solid when at least half of its voxels are solid.
+     *
+     * <p>
+     *     Keeps the overall volume of the terrain, but thin walls and
+     *     pillars disappear at coarse levels.
+     * </p>
+     */
+    MAJORITY,
+
+    /**
+     * A cell is solid when any of its voxels is solid.
+     *
+     * <p>
+     *     Never opens holes, so distant geometry stays closed, but surfaces
+     *     grow by up to one cell towards the air.
+     * </p>
+     */
+    ANY_SOLID;
+
+    /**
+     * Returns whether a cell is solid.
+     *
+     * @param solidVoxels number of solid voxels in the cell
+     * @param cellVoxels total number of voxels in the cell
+     * @return {@code true} if the cell is solid
+     */
+    boolean isSolid(int solidVoxels, int cellVoxels) {
+        return switch (this) {
+            case MAJORITY -> 2 * solidVoxels >= cellVoxels;
+            case ANY_SOLID -> solidVoxels > 0;
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.voxelsandbox.rendersystem.core.lod;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+
+import java.util.Objects;
+
+
+/**
+ * Selects a level of detail from the distance to the viewer.
+ *
+ * <p>
+ *     Level 0 (full detail) is used up to {@code fullDetailDistance}, and
+ *     every further doubling of the distance selects the next coarser
+ *     level, up to {@link ChunkLod#MAX_LEVEL}:
+ * </p>
+ * <ul>
+ *     <li> level 0: {@code [0, d)} </li>
+ *     <li> level 1: {@code [d, 2d)} </li>
+ *     <li> level 2: {@code [2d, 4d)} </li>
+ *     <li> level 3: {@code [4d, infinity)} </li>
+ * </ul>
+ *
+ * <p>
+ *     Since a cell of level {@code k} is {@code 2^k} voxels wide, cells
+ *     keep roughly the same projected size across levels, and the surface
+ *     drawn per chunk shrinks by about four per level.
+ * </p>
+ *
+ * <p>
+ *     All distances are in world voxels, the unit of camera positions, in
+ *     which a full-resolution voxel has an edge length of {@code 1}. Chunk
+ *     bounds are converted to that unit with
+ *     {@link IRenderChunkView#getVoxelScale()}, so a chunk and its
+ *     level-of-detail views select the same level.
+ * </p>
+ */
+public final class LodSelector {
+
+    private final float fullDetailDistance;
+
+    /**
+     * Creates a selector.
+     *
+     * @param fullDetailDistance distance, in world voxels, up to which level 0
+     *                           is selected
+     * @throws IllegalArgumentException if {@code fullDetailDistance} is not
+     *                                  positive and finite
+     */
+    public LodSelector(float fullDetailDistance) {
+        if (!(fullDetailDistance > 0f) || Float.isInfinite(fullDetailDistance)) {
+            throw new IllegalArgumentException("fullDetailDistance must be positive and finite");
+        }
+        this.fullDetailDistance = fullDetailDistance;
+    }
+
+    public float getFullDetailDistance() {
+        return fullDetailDistance;
+    }
+
+    /**
+     * Returns the level for a distance.
+     *
+     * @param distance distance to the viewer, in world voxels
+     * @return level, {@code 0 .. MAX_LEVEL}
+     */
+    public int selectLevel(float distance) {
+        int level = 0;
+        float limit = fullDetailDistance;
+        while (level < ChunkLod.MAX_LEVEL && distance >= limit) {
+            level++;
+            limit *= 2f;
+        }
+        return level;
+    }
+
+    /**
+     * Returns the distance at which the level after {@code level} starts.
+     *
+     * @param level level, {@code 0 .. MAX_LEVEL}
+     * @return end of the level's distance range, infinite for
+     *         {@link ChunkLod#MAX_LEVEL}
+     */
+    public float getLevelEnd(int level) {
+        if (level < 0 || level > ChunkLod.MAX_LEVEL) {
+            throw new IllegalArgumentException("level must be in [0, " + ChunkLod.MAX_LEVEL + "]: " + level);
+        }
+        return level == ChunkLod.MAX_LEVEL
+                ? Float.POSITIVE_INFINITY
+                : fullDetailDistance * (1 << level);
+    }
+
+    /**
+     * Returns the level for a chunk, from the distance between the eye and
+     * the closest point of the chunk's bounds.
+     *
+     * <p>
+     *     The bounds span {@code getChunkSize() * getVoxelScale()} world
+     *     voxels per axis: a coarse view has fewer cells, but covers the
+     *     same region as its full-resolution chunk.
+     * </p>
+     *
+     * @param chunk the chunk
+     * @param eye viewer position in world voxels
+     * @return level, {@code 0 .. MAX_LEVEL}
+     */
+    public int selectLevel(IRenderChunkView chunk, Vec3f eye) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+        Objects.requireNonNull(eye, "eye must not be null");
+
+        float extent = (float) chunk.getChunkSize() * chunk.getVoxelScale();
+        float dx = axisDistance(chunk.getChunkX() * extent, extent, eye.x());
+        float dy = axisDistance(chunk.getChunkY() * extent, extent, eye.y());
+        float dz = axisDistance(chunk.getChunkZ() * extent, extent, eye.z());
+        return selectLevel((float) Math.sqrt(dx * dx + dy * dy + dz * dz));
+    }
+
+    private static float axisDistance(float min, float extent, float p) {
+        if (p < min) {
+            return min - p;
+        }
+        return Math.max(0f, p - (min + extent));
+    }
+}
@@ -0,0 +1,268 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+
+/**
+ * Immutable quad geometry of one chunk, stored in packed primitive buffers.
+ *
+ * <p>
+ *     Every quad contributes four vertices and six indices (two
+ *     counter-clockwise triangles when seen from outside the voxel).
+ *     Vertices are packed into a single {@code int}:
+ * </p>
+ * <ul>
+ *     <li> bits 0-4: local X (0 .. chunk size) </li>
+ *     <li> bits 5-9: local Y (0 .. chunk size) </li>
+ *     <li> bits 10-14: local Z (0 .. chunk size) </li>
+ *     <li> bits 15-17: face, one of the {@code FACE_*} constants </li>
+ *     <li> bits 18-19: ambient occlusion of the corner, from 0 (open)
+ *          to {@link #MAX_OCCLUSION} </li>
+ *     <li> bits 20-31: voxel type (0 .. 4095) </li>
+ * </ul>
+ *
+ * <p>
+ *     Ambient occlusion follows the usual voxel corner rule: the two
+ *     voxels beside a corner and the one diagonal to it, in the layer the
+ *     face looks into, each add one level, and two solid side voxels
+ *     fully occlude the corner. Each quad is split along the diagonal
+ *     whose corners are less occluded, so occlusion interpolates
+ *     symmetrically across the quad.
+ * </p>
+ *
+ * <p>
+ *     Positions are local to the chunk and measured in voxels of
+ *     {@link #getVoxelScale()} world voxels each; the chunk origin is
+ *     {@code chunkCoordinate * chunkSize * voxelScale} on each axis. Meshes
+ *     of level-of-detail views have a scale above one.
+ * </p>
+ *
+ * <p>
+ *     The arrays returned by {@link #vertices()} and {@link #indices()}
+ *     are exposed without copying so they can be uploaded or rasterized
+ *     directly. They MUST NOT be modified.
+ * </p>
+ */
+public final class ChunkMesh {
+
+    public static final int FACE_POS_X = 0;
+    public static final int FACE_NEG_X = 1;
+    public static final int FACE_POS_Y = 2;
+    public static final int FACE_NEG_Y = 3;
+    public static final int FACE_POS_Z = 4;
+    public static final int FACE_NEG_Z = 5;
+
+    /**
+     * Largest chunk edge length whose coordinates fit the vertex format.
+     */
+    public static final int MAX_CHUNK_SIZE = 31;
+
+    /**
+     * Ambient occlusion of a fully occluded vertex.
+     */
+    public static final int MAX_OCCLUSION = 3;
+
+    /**
+     * Largest voxel type that fits the vertex format.
+     */
+    public static final int MAX_VOXEL_TYPE = 0xFFF;
+
+    private final long chunkId;
+    private final long sourceModificationCount;
+    private final int chunkX;
+    private final int chunkY;
+    private final int chunkZ;
+    private final int chunkSize;
+    private final int voxelScale;
+
+    private final int[] vertices;
+    private final int[] indices;
+
+    ChunkMesh(
+            long chunkId,
+            long sourceModificationCount,
+            int chunkX,
+            int chunkY,
+            int chunkZ,
+            int chunkSize,
+            int voxelScale,
+            int[] vertices,
+            int[] indices
+    ) {
+        this.chunkId = chunkId;
+        this.sourceModificationCount = sourceModificationCount;
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.chunkZ = chunkZ;
+        this.chunkSize = chunkSize;
+        this.voxelScale = voxelScale;
+        this.vertices = vertices;
+        this.indices = indices;
+    }
+
+    public long getChunkId() {
+        return chunkId;
+    }
+
+    /**
+     * Returns the chunk modification count observed before meshing.
+     *
+     * @return source modification count
+     */
+    public long getSourceModificationCount() {
+        return sourceModificationCount;
+    }
+
+    /**
+     * Returns whether this mesh was built from the current content of the
+     * given chunk.
+     *
+     * <p>
+     *     Only the chunk itself is checked; changes to neighbouring chunks
+     *     that affect boundary faces are not detected.
+     * </p>
+     *
+     * @param chunk the chunk
+     * @return {@code true} if the mesh matches the chunk's id and
+     *         modification count
+     */
+    public boolean isCurrent(IRenderChunkView chunk) {
+        return chunk.getChunkId() == chunkId
+                && chunk.getModificationCount() == sourceModificationCount;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    /**
+     * Returns the chunk size in mesh voxels.
+     *
+     * @return voxels per chunk edge
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the edge length of one mesh voxel in world voxels.
+     *
+     * @return voxel scale, {@code 1} for full-detail meshes
+     */
+    public int getVoxelScale() {
+        return voxelScale;
+    }
+
+    /**
+     * Returns the packed vertices.
+     *
+     * @return packed vertex buffer (read-only)
+     */
+    public int[] vertices() {
+        return vertices;
+    }
+
+    /**
+     * Returns the triangle indices into {@link #vertices()}.
+     *
+     * @return index buffer (read-only)
+     */
+    public int[] indices() {
+        return indices;
+    }
+
+    public int getVertexCount() {
+        return vertices.length;
+    }
+
+    public int getQuadCount() {
+        return vertices.length / 4;
+    }
+
+    public int getTriangleCount() {
+        return indices.length / 3;
+    }
+
+    /**
+     * Returns the approximate heap footprint of this mesh.
+     *
+     * @return size in bytes
+     */
+    public long getSizeInBytes() {
+        return 64L + 4L * (vertices.length + indices.length);
+    }
+
+    /**
+     * Returns whether the chunk has no visible faces.
+     *
+     * @return {@code true} if the mesh contains no geometry
+     */
+    public boolean isEmpty() {
+        return vertices.length == 0;
+    }
+
+    /* ==========================================================
+     * Vertex format
+     * ========================================================== */
+
+    /**
+     * Packs a vertex without ambient occlusion.
+     *
+     * @param x local X
+     * @param y local Y
+     * @param z local Z
+     * @param face one of the {@code FACE_*} constants
+     * @param voxelType voxel type
+     * @return packed vertex
+     */
+    public static int packVertex(int x, int y, int z, int face, int voxelType) {
+        return packVertex(x, y, z, face, 0, voxelType);
+    }
+
+    /**
+     * Packs a vertex.
+     *
+     * @param x local X
+     * @param y local Y
+     * @param z local Z
+     * @param face one of the {@code FACE_*} constants
+     * @param occlusion ambient occlusion, 0 .. {@link #MAX_OCCLUSION}
+     * @param voxelType voxel type
+     * @return packed vertex
+     */
+    public static int packVertex(int x, int y, int z, int face, int occlusion, int voxelType) {
+        return x | (y << 5) | (z << 10) | (face << 15) | (occlusion << 18) | (voxelType << 20);
+    }
+
+    public static int vertexX(int vertex) {
+        return vertex & 0x1F;
+    }
+
+    public static int vertexY(int vertex) {
+        return (vertex >>> 5) & 0x1F;
+    }
+
+    public static int vertexZ(int vertex) {
+        return (vertex >>> 10) & 0x1F;
+    }
+
+    public static int vertexFace(int vertex) {
+        return (vertex >>> 15) & 0x7;
+    }
+
+    public static int vertexOcclusion(int vertex) {
+        return (vertex >>> 18) & 0x3;
+    }
+
+    public static int vertexVoxelType(int vertex) {
+        return vertex >>> 20;
+    }
+}
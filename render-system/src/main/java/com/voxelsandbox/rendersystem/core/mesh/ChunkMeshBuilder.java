@@ -0,0 +1,123 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import java.util.Arrays;
+
+
+/**
+ * Growable vertex and index buffers shared by the meshers.
+ *
+ * <p>
+ *     A builder is reused across chunks by its owning mesher; only
+ *     {@link #build} allocates, producing right-sized arrays.
+ * </p>
+ */
+final class ChunkMeshBuilder {
+
+    private int[] vertices = new int[4096];
+    private int[] indices = new int[6144];
+    private int vertexCount;
+    private int indexCount;
+
+    void reset() {
+        vertexCount = 0;
+        indexCount = 0;
+    }
+
+    /**
+     * Appends a quad spanning {@code w x h} voxels on a face plane.
+     *
+     * <p>
+     *     {@code (plane, u, v)} are coordinates along the face axis and the
+     *     two in-plane axes {@code (axis + 1) % 3} and {@code (axis + 2) % 3}.
+     *     Corners are emitted counter-clockwise as seen from the side the
+     *     face points to.
+     * </p>
+     *
+     * <p>
+     *     {@code occlusion} holds the ambient occlusion of the corners
+     *     {@code (u, v)}, {@code (u + w, v)}, {@code (u + w, v + h)} and
+     *     {@code (u, v + h)}, two bits each from the lowest bits up. The
+     *     quad is split along the diagonal with the lower total occlusion.
+     * </p>
+     *
+     * @param axis face axis (0 = X, 1 = Y, 2 = Z)
+     * @param positive whether the face points towards {@code +axis}
+     * @param plane face plane coordinate along {@code axis}
+     * @param u first corner along the first in-plane axis
+     * @param v first corner along the second in-plane axis
+     * @param w extent along the first in-plane axis
+     * @param h extent along the second in-plane axis
+     * @param voxelType voxel type of the quad
+     * @param occlusion packed corner occlusion
+     */
+    void addQuad(int axis, boolean positive, int plane, int u, int v, int w, int h, int voxelType, int occlusion) {
+        ensureCapacity();
+
+        int face = axis * 2 + (positive ? 0 : 1);
+        int base = vertexCount;
+
+        int o00 = occlusion & 0x3;
+        int o10 = (occlusion >>> 2) & 0x3;
+        int o11 = (occlusion >>> 4) & 0x3;
+        int o01 = (occlusion >>> 6) & 0x3;
+
+        vertices[vertexCount++] = corner(axis, plane, u, v, face, o00, voxelType);
+        if (positive) {
+            vertices[vertexCount++] = corner(axis, plane, u + w, v, face, o10, voxelType);
+            vertices[vertexCount++] = corner(axis, plane, u + w, v + h, face, o11, voxelType);
+            vertices[vertexCount++] = corner(axis, plane, u, v + h, face, o01, voxelType);
+        } else {
+            vertices[vertexCount++] = corner(axis, plane, u, v + h, face, o01, voxelType);
+            vertices[vertexCount++] = corner(axis, plane, u + w, v + h, face, o11, voxelType);
+            vertices[vertexCount++] = corner(axis, plane, u + w, v, face, o10, voxelType);
+        }
+
+        // Vertices 0 and 2 hold corners (u, v) and (u + w, v + h) either way
+        int first = o00 + o11 > o10 + o01 ? 1 : 0;
+        indices[indexCount++] = base + first;
+        indices[indexCount++] = base + first + 1;
+        indices[indexCount++] = base + first + 2;
+        indices[indexCount++] = base + first;
+        indices[indexCount++] = base + first + 2;
+        indices[indexCount++] = base + (first + 3) % 4;
+    }
+
+    ChunkMesh build(
+            long chunkId,
+            long modificationCount,
+            int chunkX,
+            int chunkY,
+            int chunkZ,
+            int chunkSize,
+            int voxelScale
+    ) {
+        return new ChunkMesh(
+                chunkId,
+                modificationCount,
+                chunkX,
+                chunkY,
+                chunkZ,
+                chunkSize,
+                voxelScale,
+                Arrays.copyOf(vertices, vertexCount),
+                Arrays.copyOf(indices, indexCount)
+        );
+    }
+
+    private static int corner(int axis, int plane, int u, int v, int face, int occlusion, int voxelType) {
+        return switch (axis) {
+            case 0 -> ChunkMesh.packVertex(plane, u, v, face, occlusion, voxelType);
+            case 1 -> ChunkMesh.packVertex(v, plane, u, face, occlusion, voxelType);
+            default -> ChunkMesh.packVertex(u, v, plane, face, occlusion, voxelType);
+        };
+    }
+
+    private void ensureCapacity() {
+        if (vertexCount + 4 > vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        if (indexCount + 6 > indices.length) {
+            indices = Arrays.copyOf(indices, indices.length * 2);
+        }
+    }
+}
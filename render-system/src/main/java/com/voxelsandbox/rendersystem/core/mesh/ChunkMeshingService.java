@@ -0,0 +1,650 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.lod.ChunkLod;
+import com.voxelsandbox.rendersystem.core.lod.ChunkLodCache;
+import com.voxelsandbox.rendersystem.core.lod.LodReduction;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Meshes chunks in the background and caches the results for the render
+ * thread.
+ *
+ * <p>
+ *     Chunk lifecycle notifications ({@link #chunkLoaded},
+ *     {@link #chunkModified}, {@link #chunkUnloaded}) bump a content
+ *     version per chunk and level of detail and schedule the chunk, and its loaded neighbours
+ *     whose boundary faces or ambient occlusion may change, for remeshing
+ *     on the worker executor. Repeated notifications for a chunk that is still
+ *     queued are coalesced into a single meshing.
+ * </p>
+ *
+ * <p>
+ *     Finished meshes are handed over through a lock-free queue. The render
+ *     thread installs them with {@link #pollCompleted()}, which never
+ *     blocks. A result is discarded if its chunk was unloaded or its
+ *     content version changed while it was being meshed; the newer version
+ *     is already scheduled. Until then {@link #getMesh} keeps returning the
+ *     previous mesh.
+ * </p>
+ *
+ * <p>
+ *     Coarser levels of detail are meshed on demand: the first
+ *     {@link #getMesh(IRenderChunkView, int)} for a level schedules it, and
+ *     from then on it is remeshed with the chunk's other levels while the
+ *     chunk stays loaded. Level meshes are built from the chunk summaries of
+ *     {@link #getLodCache()}, with neighbours at the same level. Adjacent
+ *     chunks drawn at different levels may leave small gaps along their
+ *     shared boundary.
+ * </p>
+ *
+ * <p>
+ *     A meshing task that throws keeps its unfinished levels dirty and is
+ *     retried up to {@value #MAX_RETRIES} times; every failure is reported
+ *     to the {@linkplain #setFailureHandler failure handler}. A chunk that
+ *     still fails keeps its previous meshes until it changes again.
+ * </p>
+ *
+ * <p>
+ *     Installed meshes are kept in a cache keyed by
+ *     {@link IRenderChunkView#getChunkId()} and level, bounded by total mesh
+ *     size with least-recently-used eviction. A mesh that was evicted is
+ *     rebuilt the next time it is requested.
+ * </p>
+ *
+ * <p>
+ *     Threading: the notification methods are thread-safe.
+ *     {@link #pollCompleted()}, {@link #getMesh} and the cache statistics
+ *     must be called from a single thread, normally the render thread.
+ * </p>
+ */
+public final class ChunkMeshingService implements AutoCloseable {
+
+    /**
+     * Number of times a failed meshing task is rescheduled before the
+     * chunk is left alone until its next change.
+     */
+    public static final int MAX_RETRIES = 3;
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final ThreadLocal<IChunkMesher> meshers;
+    private final long maxCacheBytes;
+    private final ChunkLodCache lodCache = new ChunkLodCache(LodReduction.MAJORITY);
+
+    // Registered chunks by chunk id, and the same entries by coordinates
+    // for neighbour lookups
+    private final Map<Long, ChunkEntry> chunks = new ConcurrentHashMap<>();
+    private final Map<ChunkCoordinates, ChunkEntry> positions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<MeshResult> completed = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> released = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile BiConsumer<IRenderChunkView, RuntimeException> failureHandler =
+            ChunkMeshingService::reportUncaught;
+    private volatile boolean closed;
+
+    // Render thread state
+    private final LinkedHashMap<MeshKey, ChunkMesh> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private final Set<MeshKey> evicted = new HashSet<>();
+    private long cachedBytes;
+    private long droppedStale;
+
+    /**
+     * Creates a service with its own pool of daemon worker threads running
+     * {@link GreedyChunkMesher}.
+     *
+     * @param workerThreads number of worker threads
+     * @param maxCacheBytes mesh cache budget in bytes
+     * @throws IllegalArgumentException if {@code workerThreads} or
+     *                                  {@code maxCacheBytes} is not positive
+     */
+    public ChunkMeshingService(int workerThreads, long maxCacheBytes) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("workerThreads must be positive");
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "chunk-mesher-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.executor = pool;
+        this.ownedExecutor = pool;
+        this.meshers = ThreadLocal.withInitial(GreedyChunkMesher::new);
+        this.maxCacheBytes = checkBudget(maxCacheBytes);
+    }
+
+    /**
+     * Creates a service running on a caller-owned executor.
+     *
+     * <p>
+     *     Each executor thread obtains its own mesher from
+     *     {@code mesherFactory}. The executor is not shut down by
+     *     {@link #close()}.
+     * </p>
+     *
+     * @param executor executor running meshing tasks
+     * @param mesherFactory supplier of per-thread meshers
+     * @param maxCacheBytes mesh cache budget in bytes
+     * @throws IllegalArgumentException if {@code maxCacheBytes} is not positive
+     */
+    public ChunkMeshingService(
+            Executor executor,
+            Supplier<? extends IChunkMesher> mesherFactory,
+            long maxCacheBytes
+    ) {
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        Objects.requireNonNull(mesherFactory, "mesherFactory must not be null");
+        this.ownedExecutor = null;
+        this.meshers = ThreadLocal.withInitial(mesherFactory);
+        this.maxCacheBytes = checkBudget(maxCacheBytes);
+    }
+
+    /* ==========================================================
+     * Chunk lifecycle (thread-safe)
+     * ========================================================== */
+
+    /**
+     * Registers a chunk that became available and schedules it for meshing.
+     *
+     * <p>
+     *     Notifications for a chunk that is already registered are ignored;
+     *     content changes must be reported through {@link #chunkModified}.
+     * </p>
+     *
+     * @param chunk the loaded chunk
+     */
+    public void chunkLoaded(IRenderChunkView chunk) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+
+        ChunkEntry entry = new ChunkEntry(chunk);
+        if (chunks.putIfAbsent(entry.id, entry) != null) {
+            return;
+        }
+        positions.put(entry.position, entry);
+        schedule(entry, entry.levels.get(), true);
+        scheduleNeighbours(chunk);
+    }
+
+    /**
+     * Schedules a modified chunk, and all its loaded neighbours, for
+     * remeshing.
+     *
+     * <p>
+     *     Use this variant when the changed voxels are not known. An
+     *     unregistered chunk is registered as if it had been loaded.
+     * </p>
+     *
+     * @param chunk the modified chunk
+     */
+    public void chunkModified(IRenderChunkView chunk) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+
+        ChunkEntry entry = chunks.get(chunk.getChunkId());
+        if (entry == null) {
+            chunkLoaded(chunk);
+            return;
+        }
+        schedule(entry, entry.levels.get(), true);
+        scheduleNeighbours(chunk);
+    }
+
+    /**
+     * Schedules a chunk in which a single voxel changed for remeshing,
+     * together with the loaded neighbours whose meshes read that voxel.
+     *
+     * <p>
+     *     A neighbour mesh reads the one-voxel layer of this chunk that
+     *     borders it, or the layer of border cells for a coarser level of
+     *     detail. Only the face, edge and corner neighbours whose layer
+     *     contains the voxel are remeshed, at the levels concerned; an
+     *     edit in the interior of the chunk remeshes the chunk alone. An
+     *     unregistered chunk is registered as if it had been loaded.
+     * </p>
+     *
+     * @param chunk the modified chunk
+     * @param localX local x coordinate of the changed voxel
+     * @param localY local y coordinate of the changed voxel
+     * @param localZ local z coordinate of the changed voxel
+     */
+    public void chunkModified(IRenderChunkView chunk, int localX, int localY, int localZ) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+
+        ChunkEntry entry = chunks.get(chunk.getChunkId());
+        if (entry == null) {
+            chunkLoaded(chunk);
+            return;
+        }
+        schedule(entry, entry.levels.get(), true);
+
+        int size = chunk.getChunkSize();
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx == 0 && dy == 0 && dz == 0) {
+                        continue;
+                    }
+                    int levels = 0;
+                    for (int level = 0; level <= ChunkLod.MAX_LEVEL; level++) {
+                        if (onBorder(localX, dx, size, level)
+                                && onBorder(localY, dy, size, level)
+                                && onBorder(localZ, dz, size, level)) {
+                            levels |= 1 << level;
+                        }
+                    }
+                    if (levels != 0) {
+                        scheduleIfPresent(chunk.getChunkX() + dx, chunk.getChunkY() + dy, chunk.getChunkZ() + dz, levels);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Unregisters a chunk, releasing its mesh on the next
+     * {@link #pollCompleted()} and remeshing its loaded neighbours.
+     *
+     * @param chunk the unloaded chunk
+     */
+    public void chunkUnloaded(IRenderChunkView chunk) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+
+        ChunkEntry entry = chunks.remove(chunk.getChunkId());
+        if (entry == null) {
+            return;
+        }
+        positions.remove(entry.position, entry);
+        for (int level = 0; level <= ChunkLod.MAX_LEVEL; level++) {
+            entry.versions.incrementAndGet(level);
+        }
+        released.add(chunk.getChunkId());
+        lodCache.remove(chunk.getChunkId());
+        scheduleNeighbours(chunk);
+    }
+
+    /**
+     * Returns the number of chunks queued or being meshed.
+     *
+     * @return pending meshing tasks
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Returns the number of meshing tasks that failed with an exception,
+     * retries included.
+     *
+     * @return failed meshing count
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Sets the handler notified, on the worker thread, of every meshing
+     * task that fails.
+     *
+     * <p>
+     *     By default failures are passed to the uncaught exception handler
+     *     of the worker thread without terminating it.
+     * </p>
+     *
+     * @param handler receives the chunk and the exception; must be thread-safe
+     */
+    public void setFailureHandler(BiConsumer<IRenderChunkView, RuntimeException> handler) {
+        this.failureHandler = Objects.requireNonNull(handler, "handler must not be null");
+    }
+
+    /* ==========================================================
+     * Render thread
+     * ========================================================== */
+
+    /**
+     * Installs finished meshes into the cache without blocking.
+     *
+     * @return number of meshes installed
+     */
+    public int pollCompleted() {
+        Long releasedId;
+        while ((releasedId = released.poll()) != null) {
+            for (int level = 0; level <= ChunkLod.MAX_LEVEL; level++) {
+                MeshKey key = new MeshKey(releasedId, level);
+                ChunkMesh removed = cache.remove(key);
+                if (removed != null) {
+                    cachedBytes -= removed.getSizeInBytes();
+                }
+                evicted.remove(key);
+            }
+        }
+
+        int installed = 0;
+        MeshResult result;
+        while ((result = completed.poll()) != null) {
+            ChunkEntry entry = result.entry;
+            if (chunks.get(entry.id) != entry || entry.versions.get(result.level) != result.version) {
+                droppedStale++;
+                continue;
+            }
+
+            MeshKey key = new MeshKey(result.mesh.getChunkId(), result.level);
+            ChunkMesh previous = cache.put(key, result.mesh);
+            if (previous != null) {
+                cachedBytes -= previous.getSizeInBytes();
+            }
+            cachedBytes += result.mesh.getSizeInBytes();
+            evicted.remove(key);
+            installed++;
+        }
+
+        evictToBudget();
+        return installed;
+    }
+
+    /**
+     * Returns the latest installed full-detail mesh of a chunk.
+     *
+     * <p>
+     *     The mesh may lag behind the chunk content while a newer version
+     *     is being meshed. Counts as a use for LRU eviction.
+     * </p>
+     *
+     * @param chunk the chunk
+     * @return the mesh, or {@code null} if none is available yet
+     */
+    public ChunkMesh getMesh(IRenderChunkView chunk) {
+        return getMesh(chunk, 0);
+    }
+
+    /**
+     * Returns the latest installed mesh of a chunk at a level of detail.
+     *
+     * <p>
+     *     Requesting a coarse level for the first time schedules it for
+     *     meshing. Level meshes have a {@link ChunkMesh#getVoxelScale()} of
+     *     {@code 2^level} and require chunk sizes supported by
+     *     {@link ChunkLod}. Counts as a use for LRU eviction.
+     * </p>
+     *
+     * @param chunk the chunk
+     * @param level level of detail, {@code 0 .. ChunkLod.MAX_LEVEL}
+     * @return the mesh, or {@code null} if none is available yet
+     * @throws IllegalArgumentException if {@code level} is out of range
+     */
+    public ChunkMesh getMesh(IRenderChunkView chunk, int level) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+        if (level < 0 || level > ChunkLod.MAX_LEVEL) {
+            throw new IllegalArgumentException("level must be in [0, " + ChunkLod.MAX_LEVEL + "]: " + level);
+        }
+
+        MeshKey meshKey = new MeshKey(chunk.getChunkId(), level);
+        ChunkMesh mesh = cache.get(meshKey);
+        if (mesh == null) {
+            boolean wasEvicted = evicted.remove(meshKey);
+            ChunkEntry entry = chunks.get(chunk.getChunkId());
+            if (entry != null && (entry.request(level) || wasEvicted)) {
+                schedule(entry, 1 << level, false);
+            }
+        }
+        return mesh;
+    }
+
+    /**
+     * Returns the cache of chunk summaries used for level meshes.
+     *
+     * <p>
+     *     It can be shared with other consumers of the same chunks, such as
+     *     a {@link com.voxelsandbox.rendersystem.core.lod.ChunkLodWorldView}.
+     *     Entries of unloaded chunks are dropped by {@link #chunkUnloaded}.
+     * </p>
+     *
+     * @return the summary cache
+     */
+    public ChunkLodCache getLodCache() {
+        return lodCache;
+    }
+
+    public int getCachedMeshCount() {
+        return cache.size();
+    }
+
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * Returns the number of finished meshes discarded because their chunk
+     * changed or was unloaded during meshing.
+     *
+     * @return stale result count
+     */
+    public long getDroppedStaleCount() {
+        return droppedStale;
+    }
+
+    /**
+     * Stops accepting work and shuts down the owned worker pool, if any.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    /* ==========================================================
+     * Internals
+     * ========================================================== */
+
+    private void schedule(ChunkEntry entry, int levels, boolean contentChanged) {
+        if (contentChanged) {
+            entry.failures.set(0);
+            for (int level = 0; level <= ChunkLod.MAX_LEVEL; level++) {
+                if ((levels & (1 << level)) != 0) {
+                    entry.versions.incrementAndGet(level);
+                }
+            }
+        }
+        entry.dirty.getAndAccumulate(levels, (a, b) -> a | b);
+        if (closed || !entry.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        pending.incrementAndGet();
+        executor.execute(() -> run(entry));
+    }
+
+    private void run(ChunkEntry entry) {
+        int remaining = 0;
+        try {
+            // Clear the flag, then the levels, then read the versions: a
+            // concurrent change is either meshed here under its new version
+            // or left dirty for the task it schedules
+            entry.scheduled.set(false);
+            remaining = entry.dirty.getAndSet(0);
+            if (closed || chunks.get(entry.id) != entry) {
+                return;
+            }
+
+            IChunkMesher mesher = meshers.get();
+            for (int level = 0; level <= ChunkLod.MAX_LEVEL; level++) {
+                if ((remaining & (1 << level)) == 0) {
+                    continue;
+                }
+                long version = entry.versions.get(level);
+                ChunkMesh mesh = level == 0
+                        ? mesher.mesh(entry.chunk, this::neighbour)
+                        : mesher.mesh(lod(entry).getView(level), levelNeighbours(level));
+                completed.add(new MeshResult(entry, version, level, mesh));
+                remaining &= ~(1 << level);
+            }
+            entry.failures.set(0);
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            // Keep the unfinished levels dirty; they are retried now or
+            // with the chunk's next change
+            if (entry.failures.incrementAndGet() <= MAX_RETRIES) {
+                schedule(entry, remaining, false);
+            } else {
+                entry.dirty.getAndAccumulate(remaining, (a, b) -> a | b);
+            }
+            failureHandler.accept(entry.chunk, e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private IRenderChunkView neighbour(int chunkX, int chunkY, int chunkZ) {
+        ChunkEntry entry = positions.get(new ChunkCoordinates(chunkX, chunkY, chunkZ));
+        return entry == null ? null : entry.chunk;
+    }
+
+    private IChunkNeighbours levelNeighbours(int level) {
+        return (chunkX, chunkY, chunkZ) -> {
+            ChunkEntry entry = positions.get(new ChunkCoordinates(chunkX, chunkY, chunkZ));
+            return entry == null ? null : lod(entry).getView(level);
+        };
+    }
+
+    /**
+     * Returns the summaries of a chunk without leaving them cached if the
+     * chunk was unloaded meanwhile.
+     *
+     * <p>
+     *     {@link #chunkUnloaded} unregisters a chunk before dropping its
+     *     summaries, so summaries cached by a worker after that drop are
+     *     found here and dropped again.
+     * </p>
+     */
+    private ChunkLod lod(ChunkEntry entry) {
+        ChunkLod lod = lodCache.get(entry.chunk);
+        if (chunks.get(entry.id) != entry) {
+            lodCache.remove(entry.id);
+        }
+        return lod;
+    }
+
+    private void scheduleNeighbours(IRenderChunkView chunk) {
+        int cx = chunk.getChunkX();
+        int cy = chunk.getChunkY();
+        int cz = chunk.getChunkZ();
+        // Edge and corner neighbours read this chunk for ambient occlusion
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx != 0 || dy != 0 || dz != 0) {
+                        scheduleIfPresent(cx + dx, cy + dy, cz + dz);
+                    }
+                }
+            }
+        }
+    }
+
+    private void scheduleIfPresent(int chunkX, int chunkY, int chunkZ) {
+        scheduleIfPresent(chunkX, chunkY, chunkZ, ~0);
+    }
+
+    /**
+     * Schedules the given levels of a loaded chunk, restricted to the
+     * levels it keeps meshed.
+     */
+    private void scheduleIfPresent(int chunkX, int chunkY, int chunkZ, int levels) {
+        ChunkEntry entry = positions.get(new ChunkCoordinates(chunkX, chunkY, chunkZ));
+        if (entry != null) {
+            int kept = entry.levels.get() & levels;
+            if (kept != 0) {
+                schedule(entry, kept, true);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a local coordinate lies in the layer of cells, at a
+     * level of detail, that the neighbour in direction {@code d} reads.
+     */
+    private static boolean onBorder(int local, int d, int size, int level) {
+        return d == 0
+                || d < 0 && local >> level == 0
+                || d > 0 && local >> level == (size >> level) - 1;
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<MeshKey, ChunkMesh>> eldest = cache.entrySet().iterator();
+        while (cachedBytes > maxCacheBytes && eldest.hasNext()) {
+            Map.Entry<MeshKey, ChunkMesh> entry = eldest.next();
+            cachedBytes -= entry.getValue().getSizeInBytes();
+            evicted.add(entry.getKey());
+            eldest.remove();
+        }
+    }
+
+    private static long checkBudget(long maxCacheBytes) {
+        if (maxCacheBytes <= 0) {
+            throw new IllegalArgumentException("maxCacheBytes must be positive");
+        }
+        return maxCacheBytes;
+    }
+
+    private static void reportUncaught(IRenderChunkView chunk, RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    private static final class ChunkEntry {
+        final IRenderChunkView chunk;
+        final long id;
+        final ChunkCoordinates position;
+        final AtomicLongArray versions = new AtomicLongArray(ChunkLod.MAX_LEVEL + 1);
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        // Bit masks of levels kept meshed and of levels to mesh next
+        final AtomicInteger levels = new AtomicInteger(1);
+        final AtomicInteger dirty = new AtomicInteger();
+        // Consecutive failed meshing tasks since the last success or change
+        final AtomicInteger failures = new AtomicInteger();
+
+        ChunkEntry(IRenderChunkView chunk) {
+            this.chunk = chunk;
+            this.id = chunk.getChunkId();
+            this.position = new ChunkCoordinates(chunk.getChunkX(), chunk.getChunkY(), chunk.getChunkZ());
+        }
+
+        /**
+         * Adds a level to the kept levels.
+         *
+         * @return {@code true} if the level was not kept yet
+         */
+        boolean request(int level) {
+            int bit = 1 << level;
+            return (levels.getAndAccumulate(bit, (a, b) -> a | b) & bit) == 0;
+        }
+    }
+
+    private record ChunkCoordinates(int x, int y, int z) {
+    }
+
+    private record MeshKey(long chunkId, int level) {
+    }
+
+    private record MeshResult(ChunkEntry entry, long version, int level, ChunkMesh mesh) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+import java.util.Objects;
+
+
+/**
+ * Chunk mesher merging coplanar faces of the same voxel type and ambient
+ * occlusion into rectangles.
+ *
+ * <p>
+ *     A single pass over the chunk records every visible face, together
+ *     with the occlusion of its four corners, in a per-slice mask for its
+ *     direction. Each non-empty slice is then covered greedily: a run is
+ *     grown along the first in-plane axis, then extended along the second
+ *     while every row matches. Each rectangle becomes a single quad. Only
+ *     faces with identical corner occlusion merge, so a quad shades
+ *     exactly like the unit faces it replaces.
+ * </p>
+ *
+ * <p>
+ *     Instances reuse their scratch buffers between calls and are not
+ *     thread-safe.
+ * </p>
+ */
+public final class GreedyChunkMesher implements IChunkMesher {
+
+    private final PaddedChunkVolume volume = new PaddedChunkVolume();
+    private final ChunkMeshBuilder builder = new ChunkMeshBuilder();
+
+    // Mask entries hold the voxel type in the low bits and the corner
+    // occlusion above it
+    private static final int OCCLUSION_SHIFT = 12;
+    private static final int TYPE_MASK = (1 << OCCLUSION_SHIFT) - 1;
+
+    /**
+     * Visible faces per face and slice, laid out as
+     * {@code [face][slice][v * n + u]}. Merging consumes every entry, so
+     * the masks are all zero between calls.
+     */
+    private int[] masks = new int[0];
+    private int[] sliceFaceCounts = new int[0];
+
+    @Override
+    public ChunkMesh mesh(IRenderChunkView chunk, IChunkNeighbours neighbours) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+        Objects.requireNonNull(neighbours, "neighbours must not be null");
+
+        // Read before the voxels so that a concurrent edit leaves the mesh
+        // tagged with an older count
+        long modificationCount = chunk.getModificationCount();
+
+        volume.load(chunk, neighbours);
+        builder.reset();
+
+        int n = volume.size();
+        if (sliceFaceCounts.length < 6 * n) {
+            masks = new int[6 * n * n * n];
+            sliceFaceCounts = new int[6 * n];
+        }
+
+        buildMasks(n);
+
+        for (int face = 0; face < 6; face++) {
+            int axis = face / 2;
+            boolean positive = face % 2 == 0;
+            for (int k = 0; k < n; k++) {
+                if (sliceFaceCounts[face * n + k] == 0) {
+                    continue;
+                }
+                sliceFaceCounts[face * n + k] = 0;
+                mergeSlice((face * n + k) * n * n, n, axis, positive, positive ? k + 1 : k);
+            }
+        }
+
+        return builder.build(
+                chunk.getChunkId(),
+                modificationCount,
+                chunk.getChunkX(),
+                chunk.getChunkY(),
+                chunk.getChunkZ(),
+                n,
+                chunk.getVoxelScale()
+        );
+    }
+
+    /**
+     * Records every visible face in a single pass over the volume in
+     * memory order, skipping air cells.
+     */
+    private void buildMasks(int n) {
+        int[] cells = volume.cells();
+        int sx = volume.stride(0);
+        int sy = volume.stride(1);
+        int sz = volume.stride(2);
+        int area = n * n;
+
+        for (int z = 0; z < n; z++) {
+            for (int y = 0; y < n; y++) {
+                int cell = volume.index(0, y, z);
+                for (int x = 0; x < n; x++, cell++) {
+                    int type = cells[cell];
+                    if (type == 0) {
+                        continue;
+                    }
+
+                    // In-plane (u, v) per axis: X -> (y, z), Y -> (z, x), Z -> (x, y)
+                    int maskX = y + z * n;
+                    int maskY = z + x * n;
+                    int maskZ = x + y * n;
+
+                    if (cells[cell + sx] == 0) {
+                        mark(ChunkMesh.FACE_POS_X, x, maskX, type, volume.faceOcclusion(cell, 0, true), n, area);
+                    }
+                    if (cells[cell - sx] == 0) {
+                        mark(ChunkMesh.FACE_NEG_X, x, maskX, type, volume.faceOcclusion(cell, 0, false), n, area);
+                    }
+                    if (cells[cell + sy] == 0) {
+                        mark(ChunkMesh.FACE_POS_Y, y, maskY, type, volume.faceOcclusion(cell, 1, true), n, area);
+                    }
+                    if (cells[cell - sy] == 0) {
+                        mark(ChunkMesh.FACE_NEG_Y, y, maskY, type, volume.faceOcclusion(cell, 1, false), n, area);
+                    }
+                    if (cells[cell + sz] == 0) {
+                        mark(ChunkMesh.FACE_POS_Z, z, maskZ, type, volume.faceOcclusion(cell, 2, true), n, area);
+                    }
+                    if (cells[cell - sz] == 0) {
+                        mark(ChunkMesh.FACE_NEG_Z, z, maskZ, type, volume.faceOcclusion(cell, 2, false), n, area);
+                    }
+                }
+            }
+        }
+    }
+
+    private void mark(int face, int slice, int maskIndex, int type, int occlusion, int n, int area) {
+        int sliceIndex = face * n + slice;
+        masks[sliceIndex * area + maskIndex] = type | (occlusion << OCCLUSION_SHIFT);
+        sliceFaceCounts[sliceIndex]++;
+    }
+
+    private void mergeSlice(int base, int n, int axis, boolean positive, int plane) {
+        for (int v = 0; v < n; v++) {
+            int row = base + v * n;
+            int u = 0;
+            while (u < n) {
+                int key = masks[row + u];
+                if (key == 0) {
+                    u++;
+                    continue;
+                }
+
+                int w = 1;
+                while (u + w < n && masks[row + u + w] == key) {
+                    w++;
+                }
+
+                int h = 1;
+                grow:
+                while (v + h < n) {
+                    int next = base + (v + h) * n + u;
+                    for (int i = 0; i < w; i++) {
+                        if (masks[next + i] != key) {
+                            break grow;
+                        }
+                    }
+                    h++;
+                }
+
+                for (int j = 0; j < h; j++) {
+                    int clear = base + (v + j) * n + u;
+                    for (int i = 0; i < w; i++) {
+                        masks[clear + i] = 0;
+                    }
+                }
+
+                builder.addQuad(axis, positive, plane, u, v, w, h, key & TYPE_MASK, key >>> OCCLUSION_SHIFT);
+                u += w;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+
+/**
+ * Builds renderable geometry from a chunk's voxels.
+ *
+ * <p>
+ *     A face is emitted wherever a non-air voxel (type other than
+ *     {@code 0}) borders an air voxel. Faces on the chunk boundary are
+ *     culled against the neighbouring chunk; a neighbour that is not
+ *     loaded is treated as air, so the boundary stays closed until it
+ *     arrives.
+ * </p>
+ *
+ * <p>
+ *     Implementations may keep reusable scratch buffers and are not
+ *     required to be thread-safe; use one instance per thread.
+ * </p>
+ */
+public interface IChunkMesher {
+
+    /**
+     * Meshes a chunk.
+     *
+     * @param chunk chunk to mesh
+     * @param neighbours lookup of adjacent chunks
+     * @return the chunk geometry
+     * @throws IllegalArgumentException if the chunk size or a voxel type
+     *                                  does not fit {@link ChunkMesh}'s
+     *                                  vertex format
+     */
+    ChunkMesh mesh(IRenderChunkView chunk, IChunkNeighbours neighbours);
+}
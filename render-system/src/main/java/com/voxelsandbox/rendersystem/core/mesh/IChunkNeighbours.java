@@ -0,0 +1,33 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+
+/**
+ * Lookup of chunks adjacent to the chunk being meshed.
+ *
+ * <p>
+ *     Meshers only read the single voxel layer bordering the meshed
+ *     chunk, from face neighbours and, for ambient occlusion, from edge
+ *     and corner neighbours. Implementations MUST NOT trigger chunk
+ *     loading or generation.
+ * </p>
+ */
+@FunctionalInterface
+public interface IChunkNeighbours {
+
+    /**
+     * Neighbour lookup reporting every neighbour as not loaded.
+     */
+    IChunkNeighbours NONE = (chunkX, chunkY, chunkZ) -> null;
+
+    /**
+     * Returns the chunk at the given chunk coordinates.
+     *
+     * @param chunkX chunk X
+     * @param chunkY chunk Y
+     * @param chunkZ chunk Z
+     * @return the chunk, or {@code null} if it is not loaded
+     */
+    IRenderChunkView getChunk(int chunkX, int chunkY, int chunkZ);
+}
@@ -0,0 +1,79 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+import java.util.Objects;
+
+
+/**
+ * Reference chunk mesher emitting one quad per visible voxel face.
+ *
+ * <p>
+ *     Applies the same face culling and ambient occlusion as
+ *     {@link GreedyChunkMesher} without merging, and serves as its correctness and performance baseline.
+ * </p>
+ *
+ * <p>
+ *     Instances reuse their scratch buffers between calls and are not
+ *     thread-safe.
+ * </p>
+ */
+public final class NaiveChunkMesher implements IChunkMesher {
+
+    private final PaddedChunkVolume volume = new PaddedChunkVolume();
+    private final ChunkMeshBuilder builder = new ChunkMeshBuilder();
+
+    @Override
+    public ChunkMesh mesh(IRenderChunkView chunk, IChunkNeighbours neighbours) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+        Objects.requireNonNull(neighbours, "neighbours must not be null");
+
+        // Read before the voxels so that a concurrent edit leaves the mesh
+        // tagged with an older count
+        long modificationCount = chunk.getModificationCount();
+
+        volume.load(chunk, neighbours);
+        builder.reset();
+
+        int n = volume.size();
+        int[] cells = volume.cells();
+
+        for (int z = 0; z < n; z++) {
+            for (int y = 0; y < n; y++) {
+                for (int x = 0; x < n; x++) {
+                    int cell = volume.index(x, y, z);
+                    int type = cells[cell];
+                    if (type == 0) {
+                        continue;
+                    }
+
+                    for (int axis = 0; axis < 3; axis++) {
+                        int stride = volume.stride(axis);
+                        int k = axis == 0 ? x : axis == 1 ? y : z;
+                        int u = axis == 0 ? y : axis == 1 ? z : x;
+                        int v = axis == 0 ? z : axis == 1 ? x : y;
+
+                        if (cells[cell + stride] == 0) {
+                            builder.addQuad(axis, true, k + 1, u, v, 1, 1, type,
+                                    volume.faceOcclusion(cell, axis, true));
+                        }
+                        if (cells[cell - stride] == 0) {
+                            builder.addQuad(axis, false, k, u, v, 1, 1, type,
+                                    volume.faceOcclusion(cell, axis, false));
+                        }
+                    }
+                }
+            }
+        }
+
+        return builder.build(
+                chunk.getChunkId(),
+                modificationCount,
+                chunk.getChunkX(),
+                chunk.getChunkY(),
+                chunk.getChunkZ(),
+                n,
+                chunk.getVoxelScale()
+        );
+    }
+}
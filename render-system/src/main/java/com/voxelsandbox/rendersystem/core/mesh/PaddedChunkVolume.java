@@ -0,0 +1,177 @@
+package com.voxelsandbox.rendersystem.core.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+import java.util.Arrays;
+
+
+/**
+ * Dense copy of a chunk surrounded by a one-voxel border taken from its
+ * 26 neighbours.
+ *
+ * <p>
+ *     Copying once keeps the meshing loops free of interface calls and
+ *     boundary checks. Cells are addressed by flat index
+ *     {@code (x + 1) + (y + 1) * stride(1) + (z + 1) * stride(2)} for
+ *     local coordinates in {@code [-1, size]}. Face cells of the border
+ *     decide face visibility; edge and corner cells are only read for
+ *     ambient occlusion. Border cells of neighbours that are not loaded
+ *     stay air.
+ * </p>
+ */
+final class PaddedChunkVolume {
+
+    private int size;
+    private int padded;
+    private int[] cells = new int[0];
+
+    /**
+     * Loads the chunk and the facing layers of its neighbours.
+     *
+     * @param chunk chunk to copy
+     * @param neighbours neighbour lookup
+     */
+    void load(IRenderChunkView chunk, IChunkNeighbours neighbours) {
+        int n = chunk.getChunkSize();
+        if (n < 1 || n > ChunkMesh.MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException(
+                    "Chunk size must be in [1, " + ChunkMesh.MAX_CHUNK_SIZE + "]: " + n
+            );
+        }
+
+        size = n;
+        padded = n + 2;
+        int volume = padded * padded * padded;
+        if (cells.length < volume) {
+            cells = new int[volume];
+        } else {
+            Arrays.fill(cells, 0, volume, 0);
+        }
+
+        for (int z = 0; z < n; z++) {
+            for (int y = 0; y < n; y++) {
+                int row = index(0, y, z);
+                for (int x = 0; x < n; x++) {
+                    cells[row + x] = checkType(chunk.getVoxel(x, y, z));
+                }
+            }
+        }
+
+        int cx = chunk.getChunkX();
+        int cy = chunk.getChunkY();
+        int cz = chunk.getChunkZ();
+
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx != 0 || dy != 0 || dz != 0) {
+                        copyBorder(neighbours, cx, cy, cz, dx, dy, dz);
+                    }
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] cells() {
+        return cells;
+    }
+
+    /**
+     * Returns the flat index step for one voxel along an axis.
+     *
+     * @param axis 0 = X, 1 = Y, 2 = Z
+     * @return index stride
+     */
+    int stride(int axis) {
+        return switch (axis) {
+            case 0 -> 1;
+            case 1 -> padded;
+            default -> padded * padded;
+        };
+    }
+
+    int index(int x, int y, int z) {
+        return (x + 1) + (y + 1) * padded + (z + 1) * padded * padded;
+    }
+
+    /**
+     * Returns the ambient occlusion of the four corners of a voxel face,
+     * packed as expected by {@link ChunkMeshBuilder#addQuad}.
+     *
+     * <p>
+     *     The voxels around each corner are taken from the layer in front
+     *     of the face, which must be air.
+     * </p>
+     *
+     * @param cell flat index of the voxel
+     * @param axis face axis (0 = X, 1 = Y, 2 = Z)
+     * @param positive whether the face points towards {@code +axis}
+     * @return corner occlusion, two bits per corner
+     */
+    int faceOcclusion(int cell, int axis, boolean positive) {
+        int front = positive ? cell + stride(axis) : cell - stride(axis);
+        int su = stride((axis + 1) % 3);
+        int sv = stride((axis + 2) % 3);
+
+        boolean uMinus = cells[front - su] != 0;
+        boolean uPlus = cells[front + su] != 0;
+        boolean vMinus = cells[front - sv] != 0;
+        boolean vPlus = cells[front + sv] != 0;
+
+        return cornerOcclusion(uMinus, vMinus, cells[front - su - sv] != 0)
+                | cornerOcclusion(uPlus, vMinus, cells[front + su - sv] != 0) << 2
+                | cornerOcclusion(uPlus, vPlus, cells[front + su + sv] != 0) << 4
+                | cornerOcclusion(uMinus, vPlus, cells[front - su + sv] != 0) << 6;
+    }
+
+    private static int cornerOcclusion(boolean side1, boolean side2, boolean diagonal) {
+        if (side1 && side2) {
+            return ChunkMesh.MAX_OCCLUSION;
+        }
+        return (side1 ? 1 : 0) + (side2 ? 1 : 0) + (diagonal ? 1 : 0);
+    }
+
+    /**
+     * Copies the part of a neighbour that touches this chunk: a face layer,
+     * an edge row or a corner voxel, depending on how many of the offsets
+     * are non-zero.
+     */
+    private void copyBorder(IChunkNeighbours neighbours, int cx, int cy, int cz, int dx, int dy, int dz) {
+        IRenderChunkView neighbour = neighbours.getChunk(cx + dx, cy + dy, cz + dz);
+        if (neighbour == null) {
+            return;
+        }
+        if (neighbour.getChunkSize() != size) {
+            throw new IllegalArgumentException(
+                    "Neighbour chunk size " + neighbour.getChunkSize() + " differs from " + size
+            );
+        }
+
+        // Range of local coordinates covered on each axis
+        int x0 = dx < 0 ? -1 : dx > 0 ? size : 0;
+        int x1 = dx == 0 ? size - 1 : x0;
+        int y0 = dy < 0 ? -1 : dy > 0 ? size : 0;
+        int y1 = dy == 0 ? size - 1 : y0;
+        int z0 = dz < 0 ? -1 : dz > 0 ? size : 0;
+        int z1 = dz == 0 ? size - 1 : z0;
+
+        for (int z = z0; z <= z1; z++) {
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    cells[index(x, y, z)] = checkType(neighbour.getVoxel(x - dx * size, y - dy * size, z - dz * size));
+                }
+            }
+        }
+    }
+
+    private static int checkType(int voxel) {
+        if (voxel < 0 || voxel > ChunkMesh.MAX_VOXEL_TYPE) {
+            throw new IllegalArgumentException("Voxel type out of range: " + voxel);
+        }
+        return voxel;
+    }
+}
@@ -6,15 +6,22 @@ import com.voxelsandbox.rendersystem.core.pipeline.stage.IRenderStage;
 import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CameraViewportFrameKeys;
 import com.voxelsandbox.rendersystem.core.pipeline.stage.geometry.CameraRayFrameKeys;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 
+/**
+ * Groups generated rays into one {@link RayBatch} per screen tile.
+ *
+ * <p>
+ *     Batches follow the {@link RayTileLayout} also used by
+ *     {@code CpuRayGenerationStage}, so the range
+ *     {@code offset .. offset + count} of a batch holds exactly the
+ *     rays of one tile.
+ * </p>
+ */
 public final class CpuRayBatchingStage implements IRenderStage {
 
-    private static final int TILE_SIZE = 16;
-
     @Override
     public String getId() {
         return "ray.batching";
@@ -41,23 +48,7 @@ public final class CpuRayBatchingStage implements IRenderStage {
         int width = frame.get(CameraViewportFrameKeys.VIEWPORT_WIDTH).orElseThrow();
         int height = frame.get(CameraViewportFrameKeys.VIEWPORT_HEIGHT).orElseThrow();
 
-        List<RayBatch> batches = new ArrayList<>();
-
-        int index = 0;
-
-        for (int y = 0; y < height; y += TILE_SIZE) {
-            for (int x = 0; x < width; x += TILE_SIZE) {
-
-                int tileWidth = Math.min(TILE_SIZE, width - x);
-                int tileHeight = Math.min(TILE_SIZE, height - y);
-
-                int count = tileWidth * tileHeight;
-
-                batches.add(new RayBatch(index, count));
-
-                index += count;
-            }
-        }
+        List<RayBatch> batches = new RayTileLayout(width, height).batches();
 
         frame.put(CameraRayFrameKeys.RAY_BATCHES, batches);
     }
@@ -0,0 +1,142 @@
+package com.voxelsandbox.rendersystem.core.pipeline.ray;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Tile-major ordering of the rays of a viewport.
+ *
+ * <p>
+ *     The viewport is split into square tiles of {@link #getTileSize()}
+ *     pixels, visited in row-major order. Inside a tile, pixels are also
+ *     visited in row-major order. Edge tiles are clipped to the viewport.
+ * </p>
+ *
+ * <p>
+ *     Ray generation and ray batching stages share this layout so that
+ *     every {@link RayBatch} covers exactly one screen tile. Rays of a
+ *     batch are therefore spatially coherent, which improves chunk
+ *     lookup locality.
+ * </p>
+ *
+ * <p>
+ *     Instances are immutable.
+ * </p>
+ */
+public final class RayTileLayout {
+
+    /**
+     * Tile edge length used by the CPU ray stages.
+     */
+    public static final int DEFAULT_TILE_SIZE = 16;
+
+    private final int width;
+    private final int height;
+    private final int tileSize;
+
+    /**
+     * Creates a layout with {@link #DEFAULT_TILE_SIZE} tiles.
+     *
+     * @param width viewport width in pixels
+     * @param height viewport height in pixels
+     *
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public RayTileLayout(int width, int height) {
+        this(width, height, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Creates a layout.
+     *
+     * @param width viewport width in pixels
+     * @param height viewport height in pixels
+     * @param tileSize tile edge length in pixels
+     *
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public RayTileLayout(int width, int height, int tileSize) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("viewport dimensions must be > 0");
+        }
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("tileSize must be > 0");
+        }
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Returns the total number of rays (one per pixel).
+     *
+     * @return ray count
+     */
+    public int getRayCount() {
+        return width * height;
+    }
+
+    /**
+     * Returns the ray batches, one per tile, in ray order.
+     *
+     * @return immutable list of batches
+     */
+    public List<RayBatch> batches() {
+        List<RayBatch> batches = new ArrayList<>();
+
+        int offset = 0;
+        for (int tileY = 0; tileY < height; tileY += tileSize) {
+            for (int tileX = 0; tileX < width; tileX += tileSize) {
+                int count = Math.min(tileSize, width - tileX) * Math.min(tileSize, height - tileY);
+                batches.add(new RayBatch(offset, count));
+                offset += count;
+            }
+        }
+
+        return Collections.unmodifiableList(batches);
+    }
+
+    /**
+     * Returns the map from ray index to linear pixel index.
+     *
+     * <p>
+     *     Entry {@code i} holds {@code y * width + x} of the pixel traced
+     *     by ray {@code i}. Results stored in ray order can be written
+     *     back to a row-major image through this map.
+     * </p>
+     *
+     * @return new array of length {@link #getRayCount()}
+     */
+    public int[] pixelIndices() {
+        int[] indices = new int[getRayCount()];
+
+        int ray = 0;
+        for (int tileY = 0; tileY < height; tileY += tileSize) {
+            int endY = Math.min(tileY + tileSize, height);
+            for (int tileX = 0; tileX < width; tileX += tileSize) {
+                int endX = Math.min(tileX + tileSize, width);
+                for (int y = tileY; y < endY; y++) {
+                    for (int x = tileX; x < endX; x++) {
+                        indices[ray++] = y * width + x;
+                    }
+                }
+            }
+        }
+
+        return indices;
+    }
+}
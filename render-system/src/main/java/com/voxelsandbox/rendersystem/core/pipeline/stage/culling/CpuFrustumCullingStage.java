@@ -0,0 +1,90 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.IRenderStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CameraFrameKeys;
+import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * CPU render stage selecting the chunks inside the view frustum.
+ *
+ * <p>
+ *     The frustum is extracted from the frame's view and projection
+ *     matrices and applied to the world supplied through
+ *     {@link CullingFrameKeys#WORLD_VIEW} using a {@link FrustumChunkCuller}.
+ *     The stage publishes:
+ * </p>
+ * <ul>
+ *     <li> {@link CullingFrameKeys#VISIBLE_CHUNKS}: chunks intersecting the frustum </li>
+ *     <li> {@link CullingFrameKeys#FRUSTUM_STATS}: cull time and culled ratio </li>
+ * </ul>
+ */
+public final class CpuFrustumCullingStage implements IRenderStage {
+
+    private static final String ID = "culling.frustum";
+
+    private final FrustumChunkCuller culler;
+
+    public CpuFrustumCullingStage() {
+        this(new FrustumChunkCuller());
+    }
+
+    /**
+     * Creates a stage using the given culler.
+     *
+     * @param culler the culler
+     */
+    public CpuFrustumCullingStage(FrustumChunkCuller culler) {
+        this.culler = Objects.requireNonNull(culler, "culler must not be null");
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public Set<FrameKey<?>> getRequiredInputs() {
+        return Set.of(
+                CameraFrameKeys.VIEW_MATRIX,
+                CameraFrameKeys.PROJECTION_MATRIX,
+                CullingFrameKeys.WORLD_VIEW
+        );
+    }
+
+    @Override
+    public Set<FrameKey<?>> getProducedOutputs() {
+        return Set.of(
+                CullingFrameKeys.VISIBLE_CHUNKS,
+                CullingFrameKeys.FRUSTUM_STATS
+        );
+    }
+
+    @Override
+    public void execute(RenderFrame frame) {
+
+        Mat4f view = frame.get(CameraFrameKeys.VIEW_MATRIX)
+                .orElseThrow(() -> new IllegalStateException("View matrix missing"));
+
+        Mat4f projection = frame.get(CameraFrameKeys.PROJECTION_MATRIX)
+                .orElseThrow(() -> new IllegalStateException("Projection matrix missing"));
+
+        IRenderWorldView world = frame.get(CullingFrameKeys.WORLD_VIEW)
+                .orElseThrow(() -> new IllegalStateException("World view missing"));
+
+        List<IRenderChunkView> visible = new ArrayList<>();
+        FrustumCullingStats stats = culler.cull(Frustum.fromCamera(view, projection), world, visible);
+
+        frame.put(CullingFrameKeys.VISIBLE_CHUNKS, List.copyOf(visible));
+        frame.put(CullingFrameKeys.FRUSTUM_STATS, stats);
+    }
+}
@@ -0,0 +1,82 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.IRenderStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CameraFrameKeys;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * CPU render stage removing frustum-visible chunks hidden behind solid
+ * voxels.
+ *
+ * <p>
+ *     This stage tests {@link CullingFrameKeys#VISIBLE_CHUNKS} against a
+ *     hierarchical depth buffer built by the frame's
+ *     {@link OcclusionCuller} and publishes:
+ * </p>
+ * <ul>
+ *     <li> {@link CullingFrameKeys#UNOCCLUDED_CHUNKS}: chunks that may be visible </li>
+ *     <li> {@link CullingFrameKeys#OCCLUSION_STATS}: occluder count and occluded ratio </li>
+ * </ul>
+ *
+ * <p>
+ *     The stage itself is stateless; the culler and its buffers are
+ *     supplied through {@link CullingFrameKeys#OCCLUSION_CULLER}.
+ * </p>
+ */
+public final class CpuOcclusionCullingStage implements IRenderStage {
+
+    private static final String ID = "culling.occlusion";
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public Set<FrameKey<?>> getRequiredInputs() {
+        return Set.of(
+                CameraFrameKeys.VIEW_MATRIX,
+                CameraFrameKeys.PROJECTION_MATRIX,
+                CullingFrameKeys.VISIBLE_CHUNKS,
+                CullingFrameKeys.OCCLUSION_CULLER
+        );
+    }
+
+    @Override
+    public Set<FrameKey<?>> getProducedOutputs() {
+        return Set.of(
+                CullingFrameKeys.UNOCCLUDED_CHUNKS,
+                CullingFrameKeys.OCCLUSION_STATS
+        );
+    }
+
+    @Override
+    public void execute(RenderFrame frame) {
+
+        Mat4f view = frame.get(CameraFrameKeys.VIEW_MATRIX)
+                .orElseThrow(() -> new IllegalStateException("View matrix missing"));
+
+        Mat4f projection = frame.get(CameraFrameKeys.PROJECTION_MATRIX)
+                .orElseThrow(() -> new IllegalStateException("Projection matrix missing"));
+
+        List<IRenderChunkView> candidates = frame.get(CullingFrameKeys.VISIBLE_CHUNKS)
+                .orElseThrow(() -> new IllegalStateException("Visible chunks missing"));
+
+        OcclusionCuller culler = frame.get(CullingFrameKeys.OCCLUSION_CULLER)
+                .orElseThrow(() -> new IllegalStateException("Occlusion culler missing"));
+
+        List<IRenderChunkView> unoccluded = new ArrayList<>();
+        OcclusionCullingStats stats = culler.cull(view, projection, candidates, unoccluded);
+
+        frame.put(CullingFrameKeys.UNOCCLUDED_CHUNKS, List.copyOf(unoccluded));
+        frame.put(CullingFrameKeys.OCCLUSION_STATS, stats);
+    }
+}
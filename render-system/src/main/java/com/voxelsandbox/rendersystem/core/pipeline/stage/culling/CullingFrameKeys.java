@@ -0,0 +1,53 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
+
+import java.util.List;
+
+
+/**
+ * Frame keys used by visibility culling stages.
+ */
+public final class CullingFrameKeys {
+
+    private CullingFrameKeys() {}
+
+    /**
+     * World to cull, supplied by the caller.
+     */
+    public static final FrameKey<IRenderWorldView> WORLD_VIEW =
+            FrameKey.of("culling.worldView");
+
+    /**
+     * Chunks intersecting the view frustum.
+     */
+    public static final FrameKey<List<IRenderChunkView>> VISIBLE_CHUNKS =
+            FrameKey.of("culling.visibleChunks");
+
+    /**
+     * Metrics of the frustum culling pass.
+     */
+    public static final FrameKey<FrustumCullingStats> FRUSTUM_STATS =
+            FrameKey.of("culling.frustumStats");
+
+    /**
+     * Caller-owned occlusion culler, carrying depth buffers and occluder
+     * data across frames.
+     */
+    public static final FrameKey<OcclusionCuller> OCCLUSION_CULLER =
+            FrameKey.of("culling.occlusionCuller");
+
+    /**
+     * Frustum-visible chunks that are not hidden behind solid voxels.
+     */
+    public static final FrameKey<List<IRenderChunkView>> UNOCCLUDED_CHUNKS =
+            FrameKey.of("culling.unoccludedChunks");
+
+    /**
+     * Metrics of the occlusion culling pass.
+     */
+    public static final FrameKey<OcclusionCullingStats> OCCLUSION_STATS =
+            FrameKey.of("culling.occlusionStats");
+}
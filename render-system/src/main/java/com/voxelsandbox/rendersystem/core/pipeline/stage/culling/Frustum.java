@@ -0,0 +1,180 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+
+import java.util.Objects;
+
+
+/**
+ * View frustum described by six world-space planes.
+ *
+ * <p>
+ *     Planes are extracted from a combined view-projection matrix
+ *     following the OpenGL clip-space convention
+ *     ({@code -w <= x, y, z <= w}). Each plane is stored as
+ *     {@code (a, b, c, d)} with the normal pointing into the frustum, so a
+ *     point {@code p} is inside when {@code a*x + b*y + c*z + d >= 0} for
+ *     every plane.
+ * </p>
+ *
+ * <p>
+ *     Box tests take a plane mask so that hierarchical culling can skip
+ *     planes a parent box is already entirely inside of.
+ * </p>
+ */
+public final class Frustum {
+
+    /**
+     * Mask selecting all six planes.
+     */
+    public static final int ALL_PLANES = 0b111111;
+
+    /**
+     * Result of {@link #classify} for boxes entirely outside the frustum.
+     */
+    public static final int OUTSIDE = -1;
+
+    private static final int PLANE_COUNT = 6;
+
+    private final float[] planes = new float[PLANE_COUNT * 4];
+    private final float[] bounds = new float[6];
+
+    private Frustum(Mat4f viewProjection) {
+        for (int i = 0; i < PLANE_COUNT; i++) {
+            int row = i / 2;
+            float sign = i % 2 == 0 ? 1f : -1f;
+
+            float a = viewProjection.get(3, 0) + sign * viewProjection.get(row, 0);
+            float b = viewProjection.get(3, 1) + sign * viewProjection.get(row, 1);
+            float c = viewProjection.get(3, 2) + sign * viewProjection.get(row, 2);
+            float d = viewProjection.get(3, 3) + sign * viewProjection.get(row, 3);
+
+            float length = (float) Math.sqrt(a * a + b * b + c * c);
+            if (length == 0f) {
+                throw new IllegalArgumentException("Degenerate view-projection matrix");
+            }
+            planes[i * 4] = a / length;
+            planes[i * 4 + 1] = b / length;
+            planes[i * 4 + 2] = c / length;
+            planes[i * 4 + 3] = d / length;
+        }
+
+        computeBounds(viewProjection.inverse());
+    }
+
+    /**
+     * Creates the frustum of a combined view-projection matrix.
+     *
+     * @param viewProjection {@code projection * view}
+     * @return the frustum
+     * @throws IllegalArgumentException if the matrix is degenerate
+     */
+    public static Frustum fromViewProjection(Mat4f viewProjection) {
+        Objects.requireNonNull(viewProjection, "viewProjection must not be null");
+        return new Frustum(viewProjection);
+    }
+
+    /**
+     * Creates the frustum of a camera.
+     *
+     * @param view view matrix
+     * @param projection projection matrix
+     * @return the frustum
+     * @throws IllegalArgumentException if the matrices are degenerate
+     */
+    public static Frustum fromCamera(Mat4f view, Mat4f projection) {
+        Objects.requireNonNull(view, "view must not be null");
+        Objects.requireNonNull(projection, "projection must not be null");
+        return new Frustum(projection.multiply(view));
+    }
+
+    /**
+     * Classifies an axis-aligned box against the planes selected by
+     * {@code planeMask}.
+     *
+     * @param planeMask planes to test, bit {@code i} selects plane {@code i}
+     * @return {@link #OUTSIDE}, or the subset of {@code planeMask} whose
+     *         planes the box straddles ({@code 0} if fully inside)
+     */
+    public int classify(
+            float minX,
+            float minY,
+            float minZ,
+            float maxX,
+            float maxY,
+            float maxZ,
+            int planeMask
+    ) {
+        int straddling = 0;
+        for (int i = 0; i < PLANE_COUNT; i++) {
+            int bit = 1 << i;
+            if ((planeMask & bit) == 0) {
+                continue;
+            }
+            float a = planes[i * 4];
+            float b = planes[i * 4 + 1];
+            float c = planes[i * 4 + 2];
+            float d = planes[i * 4 + 3];
+
+            // Corner furthest along the plane normal
+            float far = a * (a >= 0f ? maxX : minX)
+                    + b * (b >= 0f ? maxY : minY)
+                    + c * (c >= 0f ? maxZ : minZ)
+                    + d;
+            if (far < 0f) {
+                return OUTSIDE;
+            }
+
+            float near = a * (a >= 0f ? minX : maxX)
+                    + b * (b >= 0f ? minY : maxY)
+                    + c * (c >= 0f ? minZ : maxZ)
+                    + d;
+            if (near < 0f) {
+                straddling |= bit;
+            }
+        }
+        return straddling;
+    }
+
+    /**
+     * Returns whether an axis-aligned box is at least partially inside.
+     *
+     * @return {@code true} unless the box is entirely outside
+     */
+    public boolean intersects(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        return classify(minX, minY, minZ, maxX, maxY, maxZ, ALL_PLANES) != OUTSIDE;
+    }
+
+    /**
+     * Returns the world-space bounding box of the frustum as
+     * {@code minX, minY, minZ, maxX, maxY, maxZ}.
+     *
+     * @param out destination array of at least six elements
+     * @return {@code out}
+     */
+    public float[] getBounds(float[] out) {
+        System.arraycopy(bounds, 0, out, 0, 6);
+        return out;
+    }
+
+    private void computeBounds(Mat4f inverseViewProjection) {
+        bounds[0] = bounds[1] = bounds[2] = Float.POSITIVE_INFINITY;
+        bounds[3] = bounds[4] = bounds[5] = Float.NEGATIVE_INFINITY;
+
+        for (int corner = 0; corner < 8; corner++) {
+            Vec3f p = inverseViewProjection.transformPosition(new CpuVec3f(
+                    (corner & 1) == 0 ? -1f : 1f,
+                    (corner & 2) == 0 ? -1f : 1f,
+                    (corner & 4) == 0 ? -1f : 1f
+            ));
+            bounds[0] = Math.min(bounds[0], p.x());
+            bounds[1] = Math.min(bounds[1], p.y());
+            bounds[2] = Math.min(bounds[2], p.z());
+            bounds[3] = Math.max(bounds[3], p.x());
+            bounds[4] = Math.max(bounds[4], p.y());
+            bounds[5] = Math.max(bounds[5], p.z());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Hierarchical frustum culling of renderable chunks.
+ *
+ * <p>
+ *     Culling proceeds in three levels:
+ * </p>
+ * <ul>
+ *     <li> the world is queried for chunks overlapping the frustum's
+ *          bounding box </li>
+ *     <li> the candidates are grouped into cubic regions of
+ *          {@code regionSize} chunks per axis; a region outside the
+ *          frustum is rejected as a whole and a region inside is accepted
+ *          as a whole </li>
+ *     <li> chunks of straddling regions are tested individually, only
+ *          against the planes their region straddles </li>
+ * </ul>
+ *
+ * <p>
+ *     The culler holds no per-frame state and may be shared between threads.
+ * </p>
+ */
+public final class FrustumChunkCuller {
+
+    /**
+     * Default region edge length, in chunks.
+     */
+    public static final int DEFAULT_REGION_SIZE = 4;
+
+    private final int regionSize;
+    private final LongSupplier clock;
+
+    public FrustumChunkCuller() {
+        this(DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Creates a culler grouping chunks into regions of the given size.
+     *
+     * @param regionSize region edge length in chunks
+     * @throws IllegalArgumentException if {@code regionSize} is not positive
+     */
+    public FrustumChunkCuller(int regionSize) {
+        this(regionSize, System::nanoTime);
+    }
+
+    FrustumChunkCuller(int regionSize, LongSupplier clock) {
+        if (regionSize <= 0) {
+            throw new IllegalArgumentException("regionSize must be positive");
+        }
+        this.regionSize = regionSize;
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    /**
+     * Collects the renderable chunks intersecting the frustum.
+     *
+     * @param frustum the view frustum
+     * @param world the world to cull
+     * @param visible destination for visible chunks
+     * @return culling metrics
+     */
+    public FrustumCullingStats cull(Frustum frustum, IRenderWorldView world, List<IRenderChunkView> visible) {
+        Objects.requireNonNull(frustum, "frustum must not be null");
+        Objects.requireNonNull(world, "world must not be null");
+        Objects.requireNonNull(visible, "visible must not be null");
+
+        long start = clock.getAsLong();
+        int visibleBefore = visible.size();
+
+        float[] b = frustum.getBounds(new float[6]);
+        Collection<IRenderChunkView> candidates = world.getRenderableChunks(b[0], b[1], b[2], b[3], b[4], b[5]);
+
+        Map<Long, List<IRenderChunkView>> regions = new HashMap<>();
+        for (IRenderChunkView chunk : candidates) {
+            long key = regionKey(
+                    Math.floorDiv(chunk.getChunkX(), regionSize),
+                    Math.floorDiv(chunk.getChunkY(), regionSize),
+                    Math.floorDiv(chunk.getChunkZ(), regionSize)
+            );
+            regions.computeIfAbsent(key, k -> new ArrayList<>()).add(chunk);
+        }
+
+        int testedChunks = 0;
+        for (List<IRenderChunkView> region : regions.values()) {
+            IRenderChunkView first = region.get(0);
+            int size = first.getChunkSize();
+            float extent = (float) regionSize * size;
+            float minX = Math.floorDiv(first.getChunkX(), regionSize) * extent;
+            float minY = Math.floorDiv(first.getChunkY(), regionSize) * extent;
+            float minZ = Math.floorDiv(first.getChunkZ(), regionSize) * extent;
+
+            int mask = frustum.classify(
+                    minX, minY, minZ, minX + extent, minY + extent, minZ + extent, Frustum.ALL_PLANES
+            );
+            if (mask == Frustum.OUTSIDE) {
+                continue;
+            }
+            if (mask == 0) {
+                visible.addAll(region);
+                continue;
+            }
+
+            for (IRenderChunkView chunk : region) {
+                int chunkSize = chunk.getChunkSize();
+                float x = (float) chunk.getChunkX() * chunkSize;
+                float y = (float) chunk.getChunkY() * chunkSize;
+                float z = (float) chunk.getChunkZ() * chunkSize;
+                testedChunks++;
+                if (frustum.classify(x, y, z, x + chunkSize, y + chunkSize, z + chunkSize, mask)
+                        != Frustum.OUTSIDE) {
+                    visible.add(chunk);
+                }
+            }
+        }
+
+        long elapsed = clock.getAsLong() - start;
+
+        return new FrustumCullingStats(
+                world.getRenderableChunks().size(),
+                visible.size() - visibleBefore,
+                regions.size(),
+                testedChunks,
+                elapsed
+        );
+    }
+
+    private static long regionKey(int x, int y, int z) {
+        return ((x & 0x1FFFFFL) << 42) | ((y & 0x1FFFFFL) << 21) | (z & 0x1FFFFFL);
+    }
+}
@@ -0,0 +1,32 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+
+/**
+ * Metrics of one frustum culling pass.
+ *
+ * @param renderableChunks chunks available for rendering
+ * @param visibleChunks chunks intersecting the frustum
+ * @param testedRegions chunk regions tested against the frustum
+ * @param testedChunks individual chunks tested against the frustum
+ * @param cullNanos time spent culling, in nanoseconds
+ */
+public record FrustumCullingStats(
+        int renderableChunks,
+        int visibleChunks,
+        int testedRegions,
+        int testedChunks,
+        long cullNanos
+) {
+
+    /**
+     * Returns the fraction of renderable chunks that were culled.
+     *
+     * @return culled ratio in {@code [0, 1]}
+     */
+    public double culledRatio() {
+        if (renderableChunks == 0) {
+            return 0.0;
+        }
+        return 1.0 - (double) visibleChunks / renderableChunks;
+    }
+}
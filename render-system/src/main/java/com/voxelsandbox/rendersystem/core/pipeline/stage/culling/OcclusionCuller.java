@@ -0,0 +1,644 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Occlusion culling of chunks against a CPU hierarchical depth buffer.
+ *
+ * <p>
+ *     Each pass:
+ * </p>
+ * <ul>
+ *     <li> derives, for every candidate chunk, the largest box of fully
+ *          solid voxel slabs it contains (cached per chunk until the chunk
+ *          is modified) </li>
+ *     <li> rasterizes the boxes of the nearest chunks into a
+ *          low-resolution depth buffer </li>
+ *     <li> reduces the buffer into a pyramid where every texel holds the
+ *          farthest depth of the texels it covers </li>
+ *     <li> rejects candidates whose bounding box lies entirely behind the
+ *          pyramid texels covering its screen rectangle </li>
+ * </ul>
+ *
+ * <p>
+ *     All approximations are conservative: occluders only cover pixels
+ *     they cover entirely, write the farthest depth they reach inside
+ *     each pixel, and boxes crossing the near plane are never rejected.
+ *     A chunk is therefore only culled if it is hidden behind solid
+ *     voxels. Depth is stored as {@code -1 / w} of clip space, which is
+ *     affine in screen space and grows with distance.
+ * </p>
+ *
+ * <p>
+ *     A culler keeps its buffers and occluder cache across frames and is
+ *     intended to be owned by the caller, like
+ *     {@link com.voxelsandbox.rendersystem.core.pipeline.stage.temporal.TemporalHitCache}.
+ *     It is not thread-safe. Results depend only on the inputs, not on
+ *     timing or iteration order of the candidates.
+ * </p>
+ */
+public final class OcclusionCuller {
+
+    public static final int DEFAULT_WIDTH = 128;
+    public static final int DEFAULT_HEIGHT = 64;
+
+    /**
+     * Default number of chunks rasterized as occluders per pass.
+     */
+    public static final int DEFAULT_MAX_OCCLUDERS = 48;
+
+    /**
+     * Frames an unused occluder cache entry is kept for.
+     */
+    private static final int CACHE_RETENTION_FRAMES = 64;
+
+    /**
+     * Smallest clip-space {@code w} treated as in front of the camera.
+     */
+    private static final float MIN_W = 1e-5f;
+
+    private final int width;
+    private final int height;
+    private final int maxOccluders;
+    private final LongSupplier clock;
+
+    private final float[][] levels;
+    private final int[] levelWidths;
+    private final int[] levelHeights;
+
+    private final Map<Long, Occluder> occluders = new HashMap<>();
+    private final List<Occluder> selected = new ArrayList<>();
+    private long frame;
+
+    // Per-box scratch state
+    private final float[] m = new float[16];
+    private final float[] screenX = new float[8];
+    private final float[] screenY = new float[8];
+    private final float[] depth = new float[8];
+    private final float[] hullX = new float[16];
+    private final float[] hullY = new float[16];
+    private final int[] order = new int[8];
+    private final float[] planes = new float[9];
+
+    public OcclusionCuller() {
+        this(DEFAULT_WIDTH, DEFAULT_HEIGHT, DEFAULT_MAX_OCCLUDERS);
+    }
+
+    /**
+     * Creates a culler with the given depth buffer resolution.
+     *
+     * @param width depth buffer width in pixels
+     * @param height depth buffer height in pixels
+     * @param maxOccluders chunks rasterized as occluders per pass
+     * @throws IllegalArgumentException if an argument is not positive
+     */
+    public OcclusionCuller(int width, int height, int maxOccluders) {
+        this(width, height, maxOccluders, System::nanoTime);
+    }
+
+    OcclusionCuller(int width, int height, int maxOccluders, LongSupplier clock) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Depth buffer size must be positive");
+        }
+        if (maxOccluders <= 0) {
+            throw new IllegalArgumentException("maxOccluders must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.maxOccluders = maxOccluders;
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+
+        int count = 1;
+        for (int w = width, h = height; w > 1 || h > 1; w = (w + 1) / 2, h = (h + 1) / 2) {
+            count++;
+        }
+        levels = new float[count][];
+        levelWidths = new int[count];
+        levelHeights = new int[count];
+        for (int level = 0, w = width, h = height; level < count; level++, w = (w + 1) / 2, h = (h + 1) / 2) {
+            levels[level] = new float[w * h];
+            levelWidths[level] = w;
+            levelHeights[level] = h;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the number of chunks whose occluder box is cached.
+     *
+     * @return cached occluder count
+     */
+    public int getCachedOccluderCount() {
+        return occluders.size();
+    }
+
+    /**
+     * Collects the candidates that are not hidden behind solid voxels of
+     * other candidates.
+     *
+     * @param view view matrix
+     * @param projection projection matrix
+     * @param candidates chunks to test, typically the frustum-visible set
+     * @param visible destination for chunks that are not occluded
+     * @return culling metrics
+     */
+    public OcclusionCullingStats cull(
+            Mat4f view,
+            Mat4f projection,
+            Collection<IRenderChunkView> candidates,
+            List<IRenderChunkView> visible
+    ) {
+        Objects.requireNonNull(view, "view must not be null");
+        Objects.requireNonNull(projection, "projection must not be null");
+        Objects.requireNonNull(candidates, "candidates must not be null");
+        Objects.requireNonNull(visible, "visible must not be null");
+
+        long start = clock.getAsLong();
+        frame++;
+
+        Mat4f viewProjection = projection.multiply(view);
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                m[row * 4 + col] = viewProjection.get(row, col);
+            }
+        }
+        Vec3f eye = view.inverse().transformPosition(new CpuVec3f(0f, 0f, 0f));
+
+        selectOccluders(candidates, eye);
+
+        Arrays.fill(levels[0], Float.POSITIVE_INFINITY);
+        int rasterized = 0;
+        for (Occluder occluder : selected) {
+            if (rasterized == maxOccluders) {
+                break;
+            }
+            if (rasterizeOccluder(occluder, eye)) {
+                rasterized++;
+            }
+        }
+        buildPyramid();
+
+        int occluded = 0;
+        for (IRenderChunkView chunk : candidates) {
+            int size = chunk.getChunkSize();
+            float x = (float) chunk.getChunkX() * size;
+            float y = (float) chunk.getChunkY() * size;
+            float z = (float) chunk.getChunkZ() * size;
+            if (rasterized > 0 && isOccluded(x, y, z, x + size, y + size, z + size)) {
+                occluded++;
+            } else {
+                visible.add(chunk);
+            }
+        }
+
+        if (frame % CACHE_RETENTION_FRAMES == 0) {
+            pruneCache();
+        }
+
+        return new OcclusionCullingStats(
+                candidates.size(),
+                rasterized,
+                occluded,
+                clock.getAsLong() - start
+        );
+    }
+
+    /* ==========================================================
+     * Occluders
+     * ========================================================== */
+
+    private void selectOccluders(Collection<IRenderChunkView> candidates, Vec3f eye) {
+        selected.clear();
+        for (IRenderChunkView chunk : candidates) {
+            Occluder occluder = occluders.get(chunk.getChunkId());
+            if (occluder == null || occluder.modificationCount != chunk.getModificationCount()) {
+                occluder = Occluder.of(chunk);
+                occluders.put(chunk.getChunkId(), occluder);
+            }
+            occluder.lastUsedFrame = frame;
+            if (occluder.isEmpty()) {
+                continue;
+            }
+
+            float half = chunk.getChunkSize() * 0.5f;
+            float dx = (float) chunk.getChunkX() * chunk.getChunkSize() + half - eye.x();
+            float dy = (float) chunk.getChunkY() * chunk.getChunkSize() + half - eye.y();
+            float dz = (float) chunk.getChunkZ() * chunk.getChunkSize() + half - eye.z();
+            occluder.chunk = chunk;
+            occluder.distance = dx * dx + dy * dy + dz * dz;
+            selected.add(occluder);
+        }
+        selected.sort(Comparator
+                .comparingDouble((Occluder o) -> o.distance)
+                .thenComparingLong(o -> o.chunkId));
+    }
+
+    private void pruneCache() {
+        Iterator<Occluder> it = occluders.values().iterator();
+        while (it.hasNext()) {
+            Occluder occluder = it.next();
+            if (frame - occluder.lastUsedFrame >= CACHE_RETENTION_FRAMES) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Rasterizes an occluder box, skipping boxes that contain the camera,
+     * cross the near plane or are seen exactly edge-on.
+     *
+     * @return whether the box was rasterized
+     */
+    private boolean rasterizeOccluder(Occluder occluder, Vec3f eye) {
+        IRenderChunkView chunk = occluder.chunk;
+        int size = chunk.getChunkSize();
+        float ox = (float) chunk.getChunkX() * size;
+        float oy = (float) chunk.getChunkY() * size;
+        float oz = (float) chunk.getChunkZ() * size;
+
+        float minX = ox + occluder.minX;
+        float minY = oy + occluder.minY;
+        float minZ = oz + occluder.minZ;
+        float maxX = ox + occluder.maxX;
+        float maxY = oy + occluder.maxY;
+        float maxZ = oz + occluder.maxZ;
+
+        if (!projectCorners(minX, minY, minZ, maxX, maxY, maxZ)) {
+            return false;
+        }
+
+        // Depth planes of the faces turned towards the camera: a ray enters
+        // the box where it crosses the last of them
+        int planeCount = 0;
+        float[] eyeAxes = { eye.x(), eye.y(), eye.z() };
+        float[] mins = { minX, minY, minZ };
+        float[] maxs = { maxX, maxY, maxZ };
+        for (int axis = 0; axis < 3; axis++) {
+            int side;
+            if (eyeAxes[axis] < mins[axis]) {
+                side = 0;
+            } else if (eyeAxes[axis] > maxs[axis]) {
+                side = 1;
+            } else {
+                continue;
+            }
+            if (!facePlane(axis, side, planeCount * 3)) {
+                return false;
+            }
+            planeCount++;
+        }
+        if (planeCount == 0) {
+            // Camera inside the box
+            return false;
+        }
+
+        int hullSize = convexHull();
+        if (hullSize < 3) {
+            return false;
+        }
+
+        float boundsMinX = Float.POSITIVE_INFINITY;
+        float boundsMinY = Float.POSITIVE_INFINITY;
+        float boundsMaxX = Float.NEGATIVE_INFINITY;
+        float boundsMaxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < hullSize; i++) {
+            boundsMinX = Math.min(boundsMinX, hullX[i]);
+            boundsMinY = Math.min(boundsMinY, hullY[i]);
+            boundsMaxX = Math.max(boundsMaxX, hullX[i]);
+            boundsMaxY = Math.max(boundsMaxY, hullY[i]);
+        }
+        int x0 = Math.max(0, (int) Math.floor(boundsMinX));
+        int y0 = Math.max(0, (int) Math.floor(boundsMinY));
+        int x1 = Math.min(width - 1, (int) Math.floor(boundsMaxX));
+        int y1 = Math.min(height - 1, (int) Math.floor(boundsMaxY));
+
+        float[] buffer = levels[0];
+        for (int py = y0; py <= y1; py++) {
+            float cy = py + 0.5f;
+            for (int px = x0; px <= x1; px++) {
+                float cx = px + 0.5f;
+                if (!pixelInsideHull(cx, cy, hullSize)) {
+                    continue;
+                }
+                float d = Float.NEGATIVE_INFINITY;
+                for (int p = 0; p < planeCount * 3; p += 3) {
+                    float a = planes[p];
+                    float b = planes[p + 1];
+                    // Farthest depth of the plane within the pixel
+                    d = Math.max(d, a * cx + b * cy + planes[p + 2] + 0.5f * (Math.abs(a) + Math.abs(b)));
+                }
+                int index = py * width + px;
+                if (d < buffer[index]) {
+                    buffer[index] = d;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fits {@code depth = a * x + b * y + c} over the projected corners of
+     * one box face.
+     *
+     * @return {@code false} if the face is seen edge-on
+     */
+    private boolean facePlane(int axis, int side, int offset) {
+        int bit = 1 << axis;
+        int u = 1 << ((axis + 1) % 3);
+        int v = 1 << ((axis + 2) % 3);
+        int c0 = side == 0 ? 0 : bit;
+        int c1 = c0 | u;
+        int c2 = c0 | v;
+
+        float e1x = screenX[c1] - screenX[c0];
+        float e1y = screenY[c1] - screenY[c0];
+        float e1d = depth[c1] - depth[c0];
+        float e2x = screenX[c2] - screenX[c0];
+        float e2y = screenY[c2] - screenY[c0];
+        float e2d = depth[c2] - depth[c0];
+
+        float nx = e1y * e2d - e1d * e2y;
+        float ny = e1d * e2x - e1x * e2d;
+        float nd = e1x * e2y - e1y * e2x;
+        if (Math.abs(nd) < 1e-4f) {
+            return false;
+        }
+
+        float a = -nx / nd;
+        float b = -ny / nd;
+        planes[offset] = a;
+        planes[offset + 1] = b;
+        planes[offset + 2] = depth[c0] - a * screenX[c0] - b * screenY[c0];
+        return true;
+    }
+
+    /**
+     * Builds the counter-clockwise convex hull of the projected corners.
+     *
+     * @return number of hull vertices
+     */
+    private int convexHull() {
+        for (int i = 0; i < 8; i++) {
+            order[i] = i;
+        }
+        // Insertion sort by (x, y); eight points
+        for (int i = 1; i < 8; i++) {
+            int current = order[i];
+            int j = i - 1;
+            while (j >= 0 && (screenX[order[j]] > screenX[current]
+                    || (screenX[order[j]] == screenX[current] && screenY[order[j]] > screenY[current]))) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+
+        int k = 0;
+        for (int i = 0; i < 8; i++) {
+            k = pushHullPoint(k, 2, order[i]);
+        }
+        for (int i = 6, lower = k + 1; i >= 0; i--) {
+            k = pushHullPoint(k, lower, order[i]);
+        }
+        return k - 1;
+    }
+
+    private int pushHullPoint(int k, int min, int point) {
+        float x = screenX[point];
+        float y = screenY[point];
+        while (k >= min) {
+            float cross = (hullX[k - 1] - hullX[k - 2]) * (y - hullY[k - 2])
+                    - (hullY[k - 1] - hullY[k - 2]) * (x - hullX[k - 2]);
+            if (cross > 0f) {
+                break;
+            }
+            k--;
+        }
+        hullX[k] = x;
+        hullY[k] = y;
+        return k + 1;
+    }
+
+    /**
+     * Returns whether the whole pixel centred at {@code (cx, cy)} lies
+     * inside the hull.
+     */
+    private boolean pixelInsideHull(float cx, float cy, int hullSize) {
+        for (int i = 0; i < hullSize; i++) {
+            int next = i + 1 == hullSize ? 0 : i + 1;
+            float a = hullY[i] - hullY[next];
+            float b = hullX[next] - hullX[i];
+            float e = a * (cx - hullX[i]) + b * (cy - hullY[i]);
+            if (e < 0.5f * (Math.abs(a) + Math.abs(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* ==========================================================
+     * Hierarchical depth
+     * ========================================================== */
+
+    private void buildPyramid() {
+        for (int level = 1; level < levels.length; level++) {
+            float[] src = levels[level - 1];
+            float[] dst = levels[level];
+            int srcWidth = levelWidths[level - 1];
+            int srcHeight = levelHeights[level - 1];
+            int dstWidth = levelWidths[level];
+            int dstHeight = levelHeights[level];
+
+            for (int y = 0; y < dstHeight; y++) {
+                int sy0 = 2 * y;
+                int sy1 = Math.min(sy0 + 1, srcHeight - 1);
+                for (int x = 0; x < dstWidth; x++) {
+                    int sx0 = 2 * x;
+                    int sx1 = Math.min(sx0 + 1, srcWidth - 1);
+                    dst[y * dstWidth + x] = Math.max(
+                            Math.max(src[sy0 * srcWidth + sx0], src[sy0 * srcWidth + sx1]),
+                            Math.max(src[sy1 * srcWidth + sx0], src[sy1 * srcWidth + sx1])
+                    );
+                }
+            }
+        }
+    }
+
+    private boolean isOccluded(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        if (!projectCorners(minX, minY, minZ, maxX, maxY, maxZ)) {
+            return false;
+        }
+
+        float rectMinX = Float.POSITIVE_INFINITY;
+        float rectMinY = Float.POSITIVE_INFINITY;
+        float rectMaxX = Float.NEGATIVE_INFINITY;
+        float rectMaxY = Float.NEGATIVE_INFINITY;
+        float nearest = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < 8; i++) {
+            rectMinX = Math.min(rectMinX, screenX[i]);
+            rectMinY = Math.min(rectMinY, screenY[i]);
+            rectMaxX = Math.max(rectMaxX, screenX[i]);
+            rectMaxY = Math.max(rectMaxY, screenY[i]);
+            nearest = Math.min(nearest, depth[i]);
+        }
+        if (rectMaxX < 0f || rectMaxY < 0f || rectMinX >= width || rectMinY >= height) {
+            return false;
+        }
+
+        int x0 = Math.max(0, (int) Math.floor(rectMinX));
+        int y0 = Math.max(0, (int) Math.floor(rectMinY));
+        int x1 = Math.min(width - 1, (int) Math.floor(rectMaxX));
+        int y1 = Math.min(height - 1, (int) Math.floor(rectMaxY));
+
+        // Coarsest level at which the rectangle spans at most 4 x 4 texels
+        int level = 0;
+        while (level + 1 < levels.length
+                && ((x1 >> level) - (x0 >> level) >= 4 || (y1 >> level) - (y0 >> level) >= 4)) {
+            level++;
+        }
+
+        float[] texels = levels[level];
+        int levelWidth = levelWidths[level];
+        for (int ty = y0 >> level; ty <= y1 >> level; ty++) {
+            for (int tx = x0 >> level; tx <= x1 >> level; tx++) {
+                if (texels[ty * levelWidth + tx] >= nearest) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Projects the corners of a box into screen space. Corner {@code i}
+     * takes the maximum along X, Y and Z when bits 0, 1 and 2 are set.
+     *
+     * @return {@code false} if a corner is not in front of the camera
+     */
+    private boolean projectCorners(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        for (int i = 0; i < 8; i++) {
+            float x = (i & 1) == 0 ? minX : maxX;
+            float y = (i & 2) == 0 ? minY : maxY;
+            float z = (i & 4) == 0 ? minZ : maxZ;
+
+            float cw = m[12] * x + m[13] * y + m[14] * z + m[15];
+            if (cw < MIN_W) {
+                return false;
+            }
+            float cx = m[0] * x + m[1] * y + m[2] * z + m[3];
+            float cy = m[4] * x + m[5] * y + m[6] * z + m[7];
+            float inverseW = 1f / cw;
+
+            screenX[i] = (cx * inverseW * 0.5f + 0.5f) * width;
+            screenY[i] = (cy * inverseW * 0.5f + 0.5f) * height;
+            depth[i] = -inverseW;
+        }
+        return true;
+    }
+
+    /**
+     * Cached occluder box of one chunk, in local voxel coordinates.
+     */
+    private static final class Occluder {
+
+        final long chunkId;
+        final long modificationCount;
+        final int minX;
+        final int minY;
+        final int minZ;
+        final int maxX;
+        final int maxY;
+        final int maxZ;
+
+        long lastUsedFrame;
+        IRenderChunkView chunk;
+        double distance;
+
+        private Occluder(long chunkId, long modificationCount, int axis, int from, int to, int size) {
+            this.chunkId = chunkId;
+            this.modificationCount = modificationCount;
+            this.minX = axis == 0 ? from : 0;
+            this.minY = axis == 1 ? from : 0;
+            this.minZ = axis == 2 ? from : 0;
+            this.maxX = axis == 0 ? to : size;
+            this.maxY = axis == 1 ? to : size;
+            this.maxZ = axis == 2 ? to : size;
+        }
+
+        boolean isEmpty() {
+            return minX >= maxX || minY >= maxY || minZ >= maxZ;
+        }
+
+        /**
+         * Finds the longest run of fully solid slabs along any axis.
+         * Vertical runs win ties, as they match layered terrain.
+         */
+        static Occluder of(IRenderChunkView chunk) {
+            long modificationCount = chunk.getModificationCount();
+            int size = chunk.getChunkSize();
+            int[][] solid = new int[3][size];
+
+            for (int z = 0; z < size; z++) {
+                for (int y = 0; y < size; y++) {
+                    for (int x = 0; x < size; x++) {
+                        if (chunk.getVoxel(x, y, z) != 0) {
+                            solid[0][x]++;
+                            solid[1][y]++;
+                            solid[2][z]++;
+                        }
+                    }
+                }
+            }
+
+            int full = size * size;
+            int bestAxis = 1;
+            int bestFrom = 0;
+            int bestLength = 0;
+            for (int axis : new int[] { 1, 0, 2 }) {
+                int runStart = 0;
+                for (int i = 0; i <= size; i++) {
+                    if (i < size && solid[axis][i] == full) {
+                        continue;
+                    }
+                    if (i - runStart > bestLength) {
+                        bestAxis = axis;
+                        bestFrom = runStart;
+                        bestLength = i - runStart;
+                    }
+                    runStart = i + 1;
+                }
+            }
+
+            return new Occluder(
+                    chunk.getChunkId(),
+                    modificationCount,
+                    bestAxis,
+                    bestFrom,
+                    bestFrom + bestLength,
+                    size
+            );
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.culling;
+
+
+/**
+ * Metrics of one occlusion culling pass.
+ *
+ * @param candidateChunks chunks tested for occlusion
+ * @param occluders chunks rasterized into the depth buffer
+ * @param occludedChunks chunks rejected as hidden
+ * @param cullNanos time spent culling, in nanoseconds
+ */
+public record OcclusionCullingStats(
+        int candidateChunks,
+        int occluders,
+        int occludedChunks,
+        long cullNanos
+) {
+
+    /**
+     * Returns the fraction of candidates that were occluded.
+     *
+     * @return occluded ratio in {@code [0, 1]}
+     */
+    public double occludedRatio() {
+        if (candidateChunks == 0) {
+            return 0.0;
+        }
+        return (double) occludedChunks / candidateChunks;
+    }
+}
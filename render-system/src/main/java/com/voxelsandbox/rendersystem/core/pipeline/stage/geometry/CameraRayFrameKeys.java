@@ -31,6 +31,17 @@ public final class CameraRayFrameKeys {
     public static final FrameKey<List<Vec3f>> RAY_DIRECTIONS =
             FrameKey.of("ray.directions");
 
+    /**
+     * Map from ray index to linear pixel index ({@code y * width + x}).
+     *
+     * <p>
+     *     Rays are not generated in row-major pixel order; see
+     *     {@link com.voxelsandbox.rendersystem.core.pipeline.ray.RayTileLayout}.
+     * </p>
+     */
+    public static final FrameKey<int[]> RAY_PIXEL_INDICES =
+            FrameKey.of("ray.pixelIndices");
+
     /**
      * Ray batches describing logical groupings of generated rays.
      */
@@ -1,10 +1,11 @@
 package com.voxelsandbox.rendersystem.core.pipeline.stage.geometry.cpu;
 
+import com.voxelsandbox.rendersystem.core.camera.CameraRayGenerator;
 import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
 import com.voxelsandbox.rendersystem.core.frame.FrameKey;
 import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
-import com.voxelsandbox.rendersystem.core.math.Ray3f;
 import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.pipeline.ray.RayTileLayout;
 import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CameraViewportFrameKeys;
 import com.voxelsandbox.rendersystem.core.pipeline.stage.geometry.IRayGenerationStage;
 import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CameraFrameKeys;
@@ -36,6 +37,19 @@ import java.util.Set;
  * The generated ray is deterministic and allocation-free
  * (except for the output container).
  * </p>
+ *
+ * <p>
+ * Camera matrices are inverted once per frame through a
+ * {@link CameraRayGenerator}; per-pixel work is reduced to
+ * a few multiply-adds and a normalization.
+ * </p>
+ *
+ * <p>
+ * Rays are emitted in tile-major order ({@link RayTileLayout}),
+ * matching the batches of {@code CpuRayBatchingStage}.
+ * {@link CameraRayFrameKeys#RAY_PIXEL_INDICES} maps each ray
+ * back to its pixel.
+ * </p>
  */
 public final class CpuRayGenerationStage implements IRayGenerationStage {
 
@@ -59,7 +73,8 @@ public final class CpuRayGenerationStage implements IRayGenerationStage {
     public Set<FrameKey<?>> getProducedOutputs() {
         return Set.of(
                 CameraRayFrameKeys.RAY_ORIGINS,
-                CameraRayFrameKeys.RAY_DIRECTIONS
+                CameraRayFrameKeys.RAY_DIRECTIONS,
+                CameraRayFrameKeys.RAY_PIXEL_INDICES
         );
     }
 
@@ -75,28 +90,22 @@ public final class CpuRayGenerationStage implements IRayGenerationStage {
         int height = frame.get(CameraViewportFrameKeys.VIEWPORT_HEIGHT)
                 .orElseThrow(() -> new IllegalStateException("Viewport height missing"));
 
-        List<Vec3f> origins = new ArrayList<>(width * height);
-        List<Vec3f> directions = new ArrayList<>(width * height);
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
+        CameraRayGenerator generator = new CameraRayGenerator(camera, width, height);
+        Vec3f origin = generator.getOrigin();
 
-                float sx = (x + 0.5f);
-                float sy = (y + 0.5f);
+        RayTileLayout layout = new RayTileLayout(width, height);
+        int[] pixelIndices = layout.pixelIndices();
 
-                Ray3f ray = camera.generateRay(
-                        sx,
-                        sy,
-                        width,
-                        height
-                );
+        List<Vec3f> origins = new ArrayList<>(pixelIndices.length);
+        List<Vec3f> directions = new ArrayList<>(pixelIndices.length);
 
-                origins.add(ray.origin());
-                directions.add(ray.direction());
-            }
+        for (int pixel : pixelIndices) {
+            origins.add(origin);
+            directions.add(generator.generateDirection(pixel % width, pixel / width));
         }
 
         frame.put(CameraRayFrameKeys.RAY_ORIGINS, origins);
         frame.put(CameraRayFrameKeys.RAY_DIRECTIONS, directions);
+        frame.put(CameraRayFrameKeys.RAY_PIXEL_INDICES, pixelIndices);
     }
 }
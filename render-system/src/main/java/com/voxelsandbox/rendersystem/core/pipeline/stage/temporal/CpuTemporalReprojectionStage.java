@@ -0,0 +1,94 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.temporal;
+
+import com.voxelsandbox.rendersystem.core.camera.CameraRayGenerator;
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.IRenderStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CameraFrameKeys;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CameraViewportFrameKeys;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitBuffer;
+
+import java.util.Set;
+
+
+/**
+ * CPU render stage reusing primary ray hits of the previous frame.
+ *
+ * <p>
+ *     This stage reprojects the hits held by the frame's
+ *     {@link TemporalHitCache} into the current view and publishes:
+ * </p>
+ * <ul>
+ *     <li> {@link TemporalFrameKeys#REPROJECTED_HITS}: reused per-pixel hits </li>
+ *     <li> {@link TemporalFrameKeys#RETRACE_MASK}: pixels that must be traced </li>
+ * </ul>
+ *
+ * <p>
+ *     The stage itself is stateless; cross-frame state, including the
+ *     output buffers reused from frame to frame, lives in the cache
+ *     supplied through {@link TemporalFrameKeys#HIT_CACHE}. Once the
+ *     flagged pixels have been traced, the caller records the completed
+ *     frame with {@link TemporalHitCache#store}.
+ * </p>
+ */
+public final class CpuTemporalReprojectionStage implements IRenderStage {
+
+    private static final String ID = "temporal.reprojection";
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public Set<FrameKey<?>> getRequiredInputs() {
+        return Set.of(
+                CameraFrameKeys.CAMERA,
+                CameraFrameKeys.VIEW_MATRIX,
+                CameraFrameKeys.PROJECTION_MATRIX,
+                CameraViewportFrameKeys.VIEWPORT_WIDTH,
+                CameraViewportFrameKeys.VIEWPORT_HEIGHT,
+                TemporalFrameKeys.HIT_CACHE
+        );
+    }
+
+    @Override
+    public Set<FrameKey<?>> getProducedOutputs() {
+        return Set.of(
+                TemporalFrameKeys.REPROJECTED_HITS,
+                TemporalFrameKeys.RETRACE_MASK
+        );
+    }
+
+    @Override
+    public void execute(RenderFrame frame) {
+
+        ICamera3D camera = frame.get(CameraFrameKeys.CAMERA)
+                .orElseThrow(() -> new IllegalStateException("Camera missing"));
+
+        Mat4f view = frame.get(CameraFrameKeys.VIEW_MATRIX)
+                .orElseThrow(() -> new IllegalStateException("View matrix missing"));
+
+        Mat4f projection = frame.get(CameraFrameKeys.PROJECTION_MATRIX)
+                .orElseThrow(() -> new IllegalStateException("Projection matrix missing"));
+
+        int width = frame.get(CameraViewportFrameKeys.VIEWPORT_WIDTH)
+                .orElseThrow(() -> new IllegalStateException("Viewport width missing"));
+
+        int height = frame.get(CameraViewportFrameKeys.VIEWPORT_HEIGHT)
+                .orElseThrow(() -> new IllegalStateException("Viewport height missing"));
+
+        TemporalHitCache cache = frame.get(TemporalFrameKeys.HIT_CACHE)
+                .orElseThrow(() -> new IllegalStateException("Temporal hit cache missing"));
+
+        VoxelHitBuffer hits = cache.reprojectedHits(width * height);
+        boolean[] retrace = cache.retraceMask(width * height);
+
+        cache.reproject(view, projection, new CameraRayGenerator(camera, width, height), hits, retrace);
+
+        frame.put(TemporalFrameKeys.REPROJECTED_HITS, hits);
+        frame.put(TemporalFrameKeys.RETRACE_MASK, retrace);
+    }
+}
@@ -0,0 +1,42 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.temporal;
+
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitBuffer;
+
+
+/**
+ * Frame keys used by temporal reprojection.
+ *
+ * <p>
+ * The {@link #HIT_CACHE} is provided by the caller (or a bootstrap stage)
+ * and outlives the frame; the other keys are frame-scoped outputs.
+ * </p>
+ */
+public final class TemporalFrameKeys {
+
+    private TemporalFrameKeys() {}
+
+    /**
+     * Cache holding the hits of the previous frame.
+     */
+    public static final FrameKey<TemporalHitCache> HIT_CACHE =
+            FrameKey.of("temporal.hitCache");
+
+    /**
+     * Hits reused from the previous frame, indexed by pixel ({@code y * width + x}).
+     *
+     * <p>
+     *     Entries whose {@link #RETRACE_MASK} flag is set are undefined.
+     *     The buffer belongs to the {@link #HIT_CACHE} and is overwritten
+     *     by the next frame of the same size.
+     * </p>
+     */
+    public static final FrameKey<VoxelHitBuffer> REPROJECTED_HITS =
+            FrameKey.of("temporal.reprojectedHits");
+
+    /**
+     * Pixels that must be traced this frame, indexed by pixel ({@code y * width + x}).
+     */
+    public static final FrameKey<boolean[]> RETRACE_MASK =
+            FrameKey.of("temporal.retraceMask");
+}
@@ -0,0 +1,775 @@
+package com.voxelsandbox.rendersystem.core.pipeline.stage.temporal;
+
+import com.voxelsandbox.rendersystem.core.camera.CameraRayGenerator;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitBuffer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Cross-frame cache of primary ray hits used for temporal reprojection.
+ *
+ * <p>
+ *     After a frame has been traced, its per-pixel hits are recorded with
+ *     {@link #store}. On the next frame, {@link #reproject} maps every
+ *     cached hit point into the new view and proposes it as the hit of the
+ *     pixel it lands on. Only pixels without an acceptable proposal have
+ *     to be traced again.
+ * </p>
+ *
+ * <p>
+ *     A proposal is accepted for a pixel only if:
+ * </p>
+ * <ul>
+ *     <li> the pixel's new primary ray intersects the cached voxel </li>
+ *     <li> the ray enters the voxel through the same face as before </li>
+ *     <li> the voxel's chunk was not invalidated since the last {@link #store} </li>
+ *     <li> no other proposal for that pixel is closer to the camera </li>
+ *     <li> no neighbouring pixel shows a voxel lying in front of it on the new ray </li>
+ * </ul>
+ *
+ * <p>
+ *     Pixels left uncovered by the forward splat (holes opened by
+ *     magnification) first try the voxels accepted by their direct
+ *     neighbours. The last check is a cheap disocclusion test: for every
+ *     neighbour whose reprojected depth is smaller, the neighbour's voxel
+ *     is intersected with the pixel's own ray. A pixel found behind it is
+ *     re-traced and passes the voxel on to its own neighbours, so the test
+ *     spreads across surfaces revealed by the motion, such as the sides of
+ *     a column the camera moves around. Geometry that was neither visible
+ *     nor adjacent to a visible voxel in the previous frame is not
+ *     detected. Reused hits are stored and reprojected again, so such an
+ *     error can last as long as the camera keeps moving.
+ * </p>
+ *
+ * <p>
+ *     The test relies on occluders being sampled by neighbouring pixels,
+ *     so a moving camera only reuses hits close enough for a voxel to
+ *     cover two pixels. Farther away, thin geometry can fall between the
+ *     samples of both frames.
+ * </p>
+ *
+ * <p>
+ *     Only traced hits are reused by an unchanged camera. The cache
+ *     remembers which stored pixels a moving camera accepted instead of
+ *     tracing them, and the first frame after the camera stops re-traces
+ *     them, so a missed occluder is corrected as soon as the camera stops.
+ * </p>
+ *
+ * <p>
+ *     Hit distance and face are recomputed exactly for the new ray.
+ *     Pixels receiving no proposal (disocclusions, screen edges, previous
+ *     misses) are flagged for re-tracing.
+ * </p>
+ *
+ * <p>
+ *     A hit is also re-traced if the segment from the camera to it crosses
+ *     a chunk invalidated since the last {@link #store}, since an edit
+ *     there may have placed an occluder. With an unchanged camera, misses
+ *     are reused unless a chunk was invalidated. World edits, chunk loads
+ *     and chunk unloads MUST therefore all be reported through
+ *     {@link #invalidateChunk}; a load may occlude a cached hit or turn a
+ *     cached miss into a hit, and an unload removes the voxels cached hits
+ *     point at.
+ * </p>
+ *
+ * <p>
+ *     Invalidations are keyed on {@link IRenderChunkView#getChunkId()}, so
+ *     reporting the same chunk several times between two frames costs a
+ *     single entry.
+ * </p>
+ *
+ * <p>
+ *     Instances are owned by the caller, mutable and not thread-safe.
+ * </p>
+ */
+public final class TemporalHitCache {
+
+    /**
+     * Relative tolerance below the reprojected depth within which a
+     * neighbouring voxel is not considered in front of a hit.
+     */
+    private static final float OCCLUSION_EPSILON = 1e-4f;
+
+    /**
+     * Smallest on-screen size, in pixels, a voxel may have for its hit to
+     * be reused by a moving camera.
+     */
+    private static final float MIN_VOXEL_PIXELS = 2f;
+
+    private int width;
+    private int height;
+    private float[] view;
+    private float[] projection;
+    private VoxelHitBuffer hits;
+    private float[] hitPoints;
+
+    private final Map<Long, ChunkBounds> invalidatedChunks = new HashMap<>();
+
+    private float[] directions = new float[0];
+    private float[] depth = new float[0];
+    private boolean[] blocked = new boolean[0];
+
+    private VoxelHitBuffer reprojectedHits;
+    private boolean[] retraceMask = new boolean[0];
+
+    /**
+     * Per stored pixel, whether its hit was reprojected by a moving camera
+     * rather than traced.
+     */
+    private boolean[] reprojectedOnly = new boolean[0];
+
+    /**
+     * Per pixel of the last moving-camera {@link #reproject}, whether a
+     * hit was accepted. Valid for {@link #acceptedPixels} pixels, or none
+     * if {@code -1}.
+     */
+    private boolean[] accepted = new boolean[0];
+    private int acceptedPixels = -1;
+
+    private int lastReusedCount;
+
+    /**
+     * Marks a chunk as modified, loaded or unloaded since the last
+     * {@link #store}.
+     *
+     * <p>
+     *     Cached hits inside the chunk, and hits whose ray crosses it, are
+     *     not reused.
+     * </p>
+     *
+     * @param chunk the modified, loaded or unloaded chunk
+     *
+     * @throws NullPointerException if {@code chunk} is {@code null}
+     */
+    public void invalidateChunk(IRenderChunkView chunk) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+
+        int extent = chunk.getChunkSize() * chunk.getVoxelScale();
+        invalidatedChunks.put(chunk.getChunkId(), new ChunkBounds(
+                chunk.getChunkX() * extent,
+                chunk.getChunkY() * extent,
+                chunk.getChunkZ() * extent,
+                extent
+        ));
+    }
+
+    /**
+     * Discards all cached hits.
+     */
+    public void invalidateAll() {
+        hits = null;
+        hitPoints = null;
+        acceptedPixels = -1;
+        invalidatedChunks.clear();
+    }
+
+    /**
+     * Returns whether the cache holds hits of a previous frame.
+     *
+     * @return {@code true} if {@link #store} was called since the last
+     *         {@link #invalidateAll()}
+     */
+    public boolean isEmpty() {
+        return hits == null;
+    }
+
+    /**
+     * Returns the number of pixels reused by the last {@link #reproject} call.
+     *
+     * @return reused pixel count
+     */
+    public int getLastReusedCount() {
+        return lastReusedCount;
+    }
+
+    /**
+     * Returns the cache-owned output buffer for {@link #reproject}.
+     *
+     * <p>
+     *     The buffer is reused while the pixel count is unchanged, so its
+     *     content is only valid until the next reprojection.
+     * </p>
+     *
+     * @param pixels number of viewport pixels
+     * @return hit buffer of exactly {@code pixels} entries
+     *
+     * @throws IllegalArgumentException if {@code pixels < 0}
+     */
+    public VoxelHitBuffer reprojectedHits(int pixels) {
+        if (pixels < 0) {
+            throw new IllegalArgumentException("pixels must be >= 0");
+        }
+        if (reprojectedHits == null || reprojectedHits.capacity() != pixels) {
+            reprojectedHits = new VoxelHitBuffer(pixels);
+        }
+        return reprojectedHits;
+    }
+
+    /**
+     * Returns the cache-owned re-trace mask for {@link #reproject}.
+     *
+     * <p>
+     *     The mask is reused while the pixel count is unchanged, so its
+     *     content is only valid until the next reprojection.
+     * </p>
+     *
+     * @param pixels number of viewport pixels
+     * @return mask of exactly {@code pixels} entries
+     *
+     * @throws IllegalArgumentException if {@code pixels < 0}
+     */
+    public boolean[] retraceMask(int pixels) {
+        if (pixels < 0) {
+            throw new IllegalArgumentException("pixels must be >= 0");
+        }
+        if (retraceMask.length != pixels) {
+            retraceMask = new boolean[pixels];
+        }
+        return retraceMask;
+    }
+
+    /**
+     * Reprojects the cached hits into a new view.
+     *
+     * <p>
+     *     Both output arrays are indexed by pixel ({@code y * width + x}).
+     *     For every pixel, either {@code retrace} is {@code false} and
+     *     {@code out} holds the reused hit (or miss), or {@code retrace}
+     *     is {@code true} and the entry of {@code out} is undefined.
+     * </p>
+     *
+     * @param view view matrix of the new frame
+     * @param projection projection matrix of the new frame
+     * @param rays primary ray generator of the new frame
+     * @param out destination for reused hits
+     * @param retrace destination for the re-trace mask
+     * @return number of pixels that must be traced
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if an output is smaller than the viewport
+     */
+    public int reproject(
+            Mat4f view,
+            Mat4f projection,
+            CameraRayGenerator rays,
+            VoxelHitBuffer out,
+            boolean[] retrace
+    ) {
+        Objects.requireNonNull(view, "view must not be null");
+        Objects.requireNonNull(projection, "projection must not be null");
+        Objects.requireNonNull(rays, "rays must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        Objects.requireNonNull(retrace, "retrace must not be null");
+
+        int w = rays.getViewportWidth();
+        int h = rays.getViewportHeight();
+        int pixels = w * h;
+        if (out.capacity() < pixels || retrace.length < pixels) {
+            throw new IllegalArgumentException("outputs must hold width * height entries");
+        }
+
+        Arrays.fill(retrace, 0, pixels, true);
+        lastReusedCount = 0;
+        acceptedPixels = -1;
+
+        if (hits == null || w != width || h != height) {
+            return pixels;
+        }
+
+        ChunkBounds[] invalidated = invalidatedChunks.values().toArray(new ChunkBounds[0]);
+
+        if (Arrays.equals(view.toArray(), this.view)
+                && Arrays.equals(projection.toArray(), this.projection)) {
+            reuseInPlace(rays, invalidated, out, retrace);
+        } else {
+            scatter(view, projection, rays, invalidated, out, retrace);
+            recordAccepted(retrace, pixels);
+        }
+
+        int remaining = 0;
+        for (int p = 0; p < pixels; p++) {
+            if (retrace[p]) {
+                remaining++;
+            }
+        }
+        lastReusedCount = pixels - remaining;
+        return remaining;
+    }
+
+    /**
+     * Records the final hits of a frame for reprojection in the next one.
+     *
+     * <p>
+     *     Pending chunk invalidations are cleared, since the stored hits
+     *     are assumed to be up to date. Pixels the last {@link #reproject}
+     *     accepted for a moving camera are recorded as not traced, and
+     *     are re-traced once the camera stops.
+     * </p>
+     *
+     * @param view view matrix the hits were traced with
+     * @param projection projection matrix the hits were traced with
+     * @param rays primary ray generator the hits were traced with
+     * @param frameHits per-pixel hits of the frame
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code frameHits} is smaller than the viewport
+     */
+    public void store(Mat4f view, Mat4f projection, CameraRayGenerator rays, VoxelHitBuffer frameHits) {
+        Objects.requireNonNull(view, "view must not be null");
+        Objects.requireNonNull(projection, "projection must not be null");
+        Objects.requireNonNull(rays, "rays must not be null");
+        Objects.requireNonNull(frameHits, "frameHits must not be null");
+
+        int w = rays.getViewportWidth();
+        int h = rays.getViewportHeight();
+        int pixels = w * h;
+        if (frameHits.capacity() < pixels) {
+            throw new IllegalArgumentException("frameHits must hold width * height entries");
+        }
+
+        if (hits == null || hits.capacity() != pixels) {
+            hits = new VoxelHitBuffer(pixels);
+            hitPoints = new float[3 * pixels];
+        }
+        width = w;
+        height = h;
+        this.view = view.toArray();
+        this.projection = projection.toArray();
+
+        float[] dirs = directions(rays, pixels);
+        Vec3f origin = rays.getOrigin();
+
+        if (reprojectedOnly.length != pixels) {
+            reprojectedOnly = new boolean[pixels];
+        }
+        boolean afterMotion = acceptedPixels == pixels;
+
+        for (int p = 0; p < pixels; p++) {
+            hits.copy(frameHits, p, p);
+            reprojectedOnly[p] = afterMotion && accepted[p];
+            if (frameHits.hit[p]) {
+                float t = frameHits.t[p];
+                hitPoints[3 * p] = origin.x() + t * dirs[3 * p];
+                hitPoints[3 * p + 1] = origin.y() + t * dirs[3 * p + 1];
+                hitPoints[3 * p + 2] = origin.z() + t * dirs[3 * p + 2];
+            }
+        }
+
+        acceptedPixels = -1;
+        invalidatedChunks.clear();
+    }
+
+    /* ==========================================================
+     * Reprojection
+     * ========================================================== */
+
+    /**
+     * Unchanged camera: every traced pixel keeps its previous outcome
+     * unless its ray, up to the hit, crosses an invalidated chunk. Pixels
+     * only reprojected by the previous, moving camera are re-traced.
+     */
+    private void reuseInPlace(CameraRayGenerator rays, ChunkBounds[] invalidated, VoxelHitBuffer out, boolean[] retrace) {
+        int pixels = width * height;
+        boolean worldChanged = invalidated.length > 0;
+        float[] dirs = worldChanged ? directions(rays, pixels) : null;
+        Vec3f origin = rays.getOrigin();
+
+        for (int p = 0; p < pixels; p++) {
+            if (reprojectedOnly[p]) {
+                continue;
+            }
+            if (hits.hit[p]) {
+                if (!worldChanged || !isInvalidated(invalidated, hits.voxelX[p], hits.voxelY[p], hits.voxelZ[p])
+                        && !crossesInvalidated(
+                                invalidated,
+                                origin.x(), origin.y(), origin.z(),
+                                dirs[3 * p], dirs[3 * p + 1], dirs[3 * p + 2],
+                                hits.t[p]
+                        )) {
+                    out.copy(hits, p, p);
+                    retrace[p] = false;
+                }
+            } else if (!worldChanged) {
+                out.setMiss(p);
+                retrace[p] = false;
+            }
+        }
+    }
+
+    /**
+     * Moving camera: forward-project every cached hit point, validate it
+     * against the new primary ray of the pixel it lands on, then reject
+     * proposals a neighbouring voxel lies in front of.
+     */
+    private void scatter(
+            Mat4f view,
+            Mat4f projection,
+            CameraRayGenerator rays,
+            ChunkBounds[] invalidated,
+            VoxelHitBuffer out,
+            boolean[] retrace
+    ) {
+        int pixels = width * height;
+        float[] dirs = directions(rays, pixels);
+
+        if (depth.length < pixels) {
+            depth = new float[pixels];
+            blocked = new boolean[pixels];
+        }
+        Arrays.fill(depth, 0, pixels, Float.POSITIVE_INFINITY);
+        Arrays.fill(blocked, 0, pixels, false);
+
+        Mat4f m = projection.multiply(view);
+        float m00 = m.get(0, 0), m01 = m.get(0, 1), m02 = m.get(0, 2), m03 = m.get(0, 3);
+        float m10 = m.get(1, 0), m11 = m.get(1, 1), m12 = m.get(1, 2), m13 = m.get(1, 3);
+        float m30 = m.get(3, 0), m31 = m.get(3, 1), m32 = m.get(3, 2), m33 = m.get(3, 3);
+
+        Vec3f origin = rays.getOrigin();
+        float ox = origin.x();
+        float oy = origin.y();
+        float oz = origin.z();
+        float maxDepth = 1f / (MIN_VOXEL_PIXELS * pixelAngle(dirs));
+
+        for (int q = 0; q < pixels; q++) {
+            if (!hits.hit[q] || hits.normal[q] == VoxelHitBuffer.NORMAL_NONE) {
+                continue;
+            }
+
+            int vx = hits.voxelX[q];
+            int vy = hits.voxelY[q];
+            int vz = hits.voxelZ[q];
+            if (isInvalidated(invalidated, vx, vy, vz)) {
+                continue;
+            }
+
+            float px = hitPoints[3 * q];
+            float py = hitPoints[3 * q + 1];
+            float pz = hitPoints[3 * q + 2];
+
+            float cw = m30 * px + m31 * py + m32 * pz + m33;
+            if (cw <= 0f) {
+                continue; // behind the camera
+            }
+            float ndcX = (m00 * px + m01 * py + m02 * pz + m03) / cw;
+            float ndcY = (m10 * px + m11 * py + m12 * pz + m13) / cw;
+
+            int x = (int) Math.floor((ndcX + 1f) * 0.5f * width);
+            int y = (int) Math.floor((1f - ndcY) * 0.5f * height);
+            if (x < 0 || x >= width || y < 0 || y >= height) {
+                continue;
+            }
+
+            int p = y * width + x;
+            float t = entryDistance(
+                    ox, oy, oz,
+                    dirs[3 * p], dirs[3 * p + 1], dirs[3 * p + 2],
+                    vx, vy, vz,
+                    hits.normal[q]
+            );
+
+            if (t < depth[p] && t <= maxDepth) {
+                depth[p] = t;
+                out.set(p, vx, vy, vz, t, hits.normal[q]);
+                retrace[p] = false;
+            }
+        }
+
+        fillHoles(ox, oy, oz, dirs, out, retrace);
+
+        // Forward then backward, so occluders spread in every direction
+        for (int p = 0; p < pixels; p++) {
+            rejectOccluded(p, ox, oy, oz, dirs, out, retrace);
+        }
+        for (int p = pixels - 1; p >= 0; p--) {
+            rejectOccluded(p, ox, oy, oz, dirs, out, retrace);
+        }
+
+        if (invalidated.length > 0) {
+            for (int p = 0; p < pixels; p++) {
+                if (!retrace[p] && crossesInvalidated(
+                        invalidated,
+                        ox, oy, oz,
+                        dirs[3 * p], dirs[3 * p + 1], dirs[3 * p + 2],
+                        out.t[p]
+                )) {
+                    retrace[p] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gather pass: a pixel left without a proposal (typically a hole
+     * opened by magnification) tries the voxels accepted by its four
+     * direct neighbours, validated against its own ray. Pixels filled
+     * earlier in scan order may in turn serve as candidates.
+     */
+    private void fillHoles(
+            float ox, float oy, float oz,
+            float[] dirs,
+            VoxelHitBuffer out,
+            boolean[] retrace
+    ) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int p = y * width + x;
+                if (!retrace[p]) {
+                    continue;
+                }
+
+                if (x > 0) {
+                    tryNeighbour(p, p - 1, ox, oy, oz, dirs, out, retrace);
+                }
+                if (y > 0) {
+                    tryNeighbour(p, p - width, ox, oy, oz, dirs, out, retrace);
+                }
+                if (x + 1 < width) {
+                    tryNeighbour(p, p + 1, ox, oy, oz, dirs, out, retrace);
+                }
+                if (y + 1 < height) {
+                    tryNeighbour(p, p + width, ox, oy, oz, dirs, out, retrace);
+                }
+            }
+        }
+    }
+
+    private void tryNeighbour(
+            int p,
+            int neighbour,
+            float ox, float oy, float oz,
+            float[] dirs,
+            VoxelHitBuffer out,
+            boolean[] retrace
+    ) {
+        if (retrace[neighbour]) {
+            return;
+        }
+
+        float t = entryDistance(
+                ox, oy, oz,
+                dirs[3 * p], dirs[3 * p + 1], dirs[3 * p + 2],
+                out.voxelX[neighbour], out.voxelY[neighbour], out.voxelZ[neighbour],
+                out.normal[neighbour]
+        );
+
+        if (t < depth[p]) {
+            depth[p] = t;
+            out.set(p, out.voxelX[neighbour], out.voxelY[neighbour], out.voxelZ[neighbour], t, out.normal[neighbour]);
+            retrace[p] = false;
+        }
+    }
+
+    /**
+     * Disocclusion test of one accepted pixel: every neighbour with a
+     * smaller depth, accepted or itself rejected, has its voxel
+     * intersected with this pixel's ray. If the ray enters it before the
+     * reprojected hit, the pixel is flagged for re-tracing and keeps that
+     * voxel, at its depth along this ray, as a candidate for its own
+     * neighbours.
+     */
+    private void rejectOccluded(
+            int p,
+            float ox, float oy, float oz,
+            float[] dirs,
+            VoxelHitBuffer out,
+            boolean[] retrace
+    ) {
+        if (retrace[p]) {
+            return;
+        }
+
+        int x = p % width;
+        int y = p / width;
+        float limit = depth[p] - OCCLUSION_EPSILON * Math.max(1f, depth[p]);
+
+        for (int ny = Math.max(0, y - 1); ny <= Math.min(height - 1, y + 1); ny++) {
+            for (int nx = Math.max(0, x - 1); nx <= Math.min(width - 1, x + 1); nx++) {
+                int q = ny * width + nx;
+                if (depth[q] >= limit || retrace[q] && !blocked[q]) {
+                    continue;
+                }
+
+                float t = entryDistance(
+                        ox, oy, oz,
+                        dirs[3 * p], dirs[3 * p + 1], dirs[3 * p + 2],
+                        out.voxelX[q], out.voxelY[q], out.voxelZ[q],
+                        VoxelHitBuffer.NORMAL_NONE
+                );
+                if (t < limit) {
+                    depth[p] = t;
+                    out.set(p, out.voxelX[q], out.voxelY[q], out.voxelZ[q], t, out.normal[q]);
+                    retrace[p] = true;
+                    blocked[p] = true;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the distance at which a ray enters a unit voxel through the
+     * given face, or {@code +Infinity} if it misses the voxel or enters
+     * through another face. {@link VoxelHitBuffer#NORMAL_NONE} accepts
+     * any face.
+     */
+    private static float entryDistance(
+            float ox, float oy, float oz,
+            float dx, float dy, float dz,
+            int vx, int vy, int vz,
+            byte face
+    ) {
+        float invX = 1f / dx;
+        float invY = 1f / dy;
+        float invZ = 1f / dz;
+
+        float tx0 = (vx - ox) * invX, tx1 = (vx + 1 - ox) * invX;
+        float ty0 = (vy - oy) * invY, ty1 = (vy + 1 - oy) * invY;
+        float tz0 = (vz - oz) * invZ, tz1 = (vz + 1 - oz) * invZ;
+
+        float enterX = Math.min(tx0, tx1), exitX = Math.max(tx0, tx1);
+        float enterY = Math.min(ty0, ty1), exitY = Math.max(ty0, ty1);
+        float enterZ = Math.min(tz0, tz1), exitZ = Math.max(tz0, tz1);
+
+        float enter = Math.max(enterX, Math.max(enterY, enterZ));
+        float exit = Math.min(exitX, Math.min(exitY, exitZ));
+        if (!(enter <= exit) || enter <= 0f) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        byte entered;
+        if (enter == enterX) {
+            entered = dx > 0f ? VoxelHitBuffer.NORMAL_NEG_X : VoxelHitBuffer.NORMAL_POS_X;
+        } else if (enter == enterY) {
+            entered = dy > 0f ? VoxelHitBuffer.NORMAL_NEG_Y : VoxelHitBuffer.NORMAL_POS_Y;
+        } else {
+            entered = dz > 0f ? VoxelHitBuffer.NORMAL_NEG_Z : VoxelHitBuffer.NORMAL_POS_Z;
+        }
+
+        return face == VoxelHitBuffer.NORMAL_NONE || entered == face ? enter : Float.POSITIVE_INFINITY;
+    }
+
+    /* ==========================================================
+     * Helpers
+     * ========================================================== */
+
+    private void recordAccepted(boolean[] retrace, int pixels) {
+        if (accepted.length < pixels) {
+            accepted = new boolean[pixels];
+        }
+        for (int p = 0; p < pixels; p++) {
+            accepted[p] = !retrace[p];
+        }
+        acceptedPixels = pixels;
+    }
+
+    private float[] directions(CameraRayGenerator rays, int pixels) {
+        if (directions.length < 3 * pixels) {
+            directions = new float[3 * pixels];
+        }
+        rays.generateDirections(directions);
+        return directions;
+    }
+
+    /**
+     * Returns the angle, in radians, between the rays of the two central
+     * pixels of a row or column, whichever is larger.
+     */
+    private float pixelAngle(float[] dirs) {
+        int centre = (height / 2) * width + width / 2;
+        float angle = 0f;
+        if (width > 1) {
+            angle = Math.max(angle, angleBetween(dirs, centre - 1, centre));
+        }
+        if (height > 1) {
+            angle = Math.max(angle, angleBetween(dirs, centre - width, centre));
+        }
+        return angle;
+    }
+
+    private static float angleBetween(float[] dirs, int a, int b) {
+        float dot = dirs[3 * a] * dirs[3 * b] + dirs[3 * a + 1] * dirs[3 * b + 1] + dirs[3 * a + 2] * dirs[3 * b + 2];
+        float lengths = (float) Math.sqrt(
+                (dirs[3 * a] * dirs[3 * a] + dirs[3 * a + 1] * dirs[3 * a + 1] + dirs[3 * a + 2] * dirs[3 * a + 2])
+                        * (dirs[3 * b] * dirs[3 * b] + dirs[3 * b + 1] * dirs[3 * b + 1] + dirs[3 * b + 2] * dirs[3 * b + 2])
+        );
+        return (float) Math.acos(Math.min(1f, dot / lengths));
+    }
+
+    /**
+     * Returns whether the segment of a ray up to distance {@code t}
+     * touches any invalidated chunk.
+     */
+    private static boolean crossesInvalidated(
+            ChunkBounds[] chunks,
+            float ox, float oy, float oz,
+            float dx, float dy, float dz,
+            float t
+    ) {
+        float invX = 1f / dx;
+        float invY = 1f / dy;
+        float invZ = 1f / dz;
+
+        for (ChunkBounds chunk : chunks) {
+            float minX = chunk.minX();
+            float minY = chunk.minY();
+            float minZ = chunk.minZ();
+            float size = chunk.size();
+
+            // A ray parallel to a slab misses the box unless it lies within it
+            if (dx == 0f && (ox < minX || ox > minX + size)
+                    || dy == 0f && (oy < minY || oy > minY + size)
+                    || dz == 0f && (oz < minZ || oz > minZ + size)) {
+                continue;
+            }
+
+            float enter = 0f;
+            float exit = t;
+            if (dx != 0f) {
+                float t0 = (minX - ox) * invX;
+                float t1 = (minX + size - ox) * invX;
+                enter = Math.max(enter, Math.min(t0, t1));
+                exit = Math.min(exit, Math.max(t0, t1));
+            }
+            if (dy != 0f) {
+                float t0 = (minY - oy) * invY;
+                float t1 = (minY + size - oy) * invY;
+                enter = Math.max(enter, Math.min(t0, t1));
+                exit = Math.min(exit, Math.max(t0, t1));
+            }
+            if (dz != 0f) {
+                float t0 = (minZ - oz) * invZ;
+                float t1 = (minZ + size - oz) * invZ;
+                enter = Math.max(enter, Math.min(t0, t1));
+                exit = Math.min(exit, Math.max(t0, t1));
+            }
+            if (enter <= exit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInvalidated(ChunkBounds[] chunks, int voxelX, int voxelY, int voxelZ) {
+        for (ChunkBounds chunk : chunks) {
+            if (voxelX >= chunk.minX() && voxelX < chunk.minX() + chunk.size()
+                    && voxelY >= chunk.minY() && voxelY < chunk.minY() + chunk.size()
+                    && voxelZ >= chunk.minZ() && voxelZ < chunk.minZ() + chunk.size()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Voxel-space bounds of an invalidated chunk.
+     */
+    private record ChunkBounds(int minX, int minY, int minZ, int size) {
+    }
+}
@@ -1,8 +1,6 @@
 package com.voxelsandbox.rendersystem.core.raycast;
 
-import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
 import com.voxelsandbox.rendersystem.core.math.Ray3f;
-import com.voxelsandbox.rendersystem.core.math.Vec3f;
 import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
 
 import java.util.Objects;
@@ -33,6 +31,7 @@ import java.util.Optional;
  * <ul>
  *     <li> deterministic traversal order </li>
  *     <li> no allocations during traversal </li>
+ *     <li> allocation-free bulk hit queries via {@link VoxelHitBuffer} </li>
  *     <li> support for infinite worlds via {@link IVoxelWorldView} </li>
  *     <li> early exit on chunk boundaries, hits or visitor termination </li>
  * </ul>
@@ -140,6 +139,8 @@ public final class CpuVoxelRayTraversal implements IVoxelRayTraversal {
      *     <li> first solid voxel hit </li>
      *     <li> leaving loaded world regions </li>
      *     <li> exceeding {@code maxDistance} </li>
+     *     <li> rising above {@link IVoxelWorldView#getMaxSolidY()}, if the
+     *          predicate {@link VoxelHitPredicate#hitsOnlySolidVoxels()} </li>
      * </ul>
      */
     @Override
@@ -149,20 +150,83 @@ public final class CpuVoxelRayTraversal implements IVoxelRayTraversal {
             IVoxelWorldView worldView,
             VoxelHitPredicate hitPredicate
     ) {
-        VoxelRayTraversalState state =
-                VoxelRayInitializer.initialize(ray);
+        VoxelRayTraversalState state = VoxelRayInitializer.initialize(ray);
+
+        long outcome = trace(state, maxDistance, worldView, hitPredicate);
+
+        return VoxelHitBuffer.result(outcome, state);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     A single {@link VoxelRayTraversalState} is re-initialized for
+     *     every ray, so the call allocates nothing per ray.
+     * </p>
+     */
+    @Override
+    public void traceFirstHits(
+            float[] origins,
+            float[] directions,
+            int offset,
+            int count,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate,
+            VoxelHitBuffer hits
+    ) {
+        Objects.requireNonNull(hits, "hits must not be null");
+        Objects.requireNonNull(worldView, "worldView must not be null");
+        Objects.requireNonNull(hitPredicate, "hitPredicate must not be null");
+        hits.checkBulkRange(origins, directions, offset, count);
+
+        VoxelRayTraversalState state = new VoxelRayTraversalState();
+
+        for (int i = offset; i < offset + count; i++) {
+            int base = 3 * i;
 
+            VoxelRayInitializer.initialize(
+                    origins[base], origins[base + 1], origins[base + 2],
+                    directions[base], directions[base + 1], directions[base + 2],
+                    state
+            );
+
+            hits.set(i, trace(state, maxDistance, worldView, hitPredicate), state);
+        }
+    }
+
+    /**
+     * Traces an initialized state until the first hit, leaving the state
+     * at the hit voxel.
+     *
+     * @return {@link VoxelHitBuffer#MISS} or the hit packed by
+     *         {@link VoxelHitBuffer#packHit}
+     */
+    private static long trace(
+            VoxelRayTraversalState state,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate
+    ) {
         float t = 0f;
-        Axis lastAxis = null;
+        int lastAxis = VoxelHitBuffer.AXIS_NONE;
+        int ceiling = terrainCeiling(worldView, hitPredicate);
 
         while (t <= maxDistance) {
 
+            // Nothing is solid above the ceiling, so a ray there that does
+            // not descend cannot hit anymore
+            if (state.voxelY > ceiling && state.stepY >= 0) {
+                return VoxelHitBuffer.MISS;
+            }
+
             if (!worldView.isChunkLoaded(
                     state.voxelX,
                     state.voxelY,
                     state.voxelZ
             )) {
-                return Optional.empty();
+                return VoxelHitBuffer.MISS;
             }
 
             if (hitPredicate.isHit(
@@ -170,23 +234,7 @@ public final class CpuVoxelRayTraversal implements IVoxelRayTraversal {
                     state.voxelY,
                     state.voxelZ
             )) {
-
-                Vec3f normal = switch (lastAxis) {
-                    case X -> new CpuVec3f(-state.stepX, 0, 0);
-                    case Y -> new CpuVec3f(0, -state.stepY, 0);
-                    case Z -> new CpuVec3f(0, 0, -state.stepZ);
-                    default -> new CpuVec3f(0, 0, 0); // starting voxel
-                };
-
-                return Optional.of(
-                        new VoxelHitResult(
-                                state.voxelX,
-                                state.voxelY,
-                                state.voxelZ,
-                                t,
-                                normal
-                        )
-                );
+                return VoxelHitBuffer.packHit(t, lastAxis);
             }
 
             // Snapshot tMax BEFORE stepping
@@ -198,22 +246,25 @@ public final class CpuVoxelRayTraversal implements IVoxelRayTraversal {
 
             // Determine which axis advanced
             if (state.tMaxX != prevX) {
-                lastAxis = Axis.X;
+                lastAxis = VoxelHitBuffer.AXIS_X;
                 t = prevX;
             } else if (state.tMaxY != prevY) {
-                lastAxis = Axis.Y;
+                lastAxis = VoxelHitBuffer.AXIS_Y;
                 t = prevY;
             } else {
-                lastAxis = Axis.Z;
+                lastAxis = VoxelHitBuffer.AXIS_Z;
                 t = prevZ;
             }
         }
 
-        return Optional.empty();
+        return VoxelHitBuffer.MISS;
     }
 
-    private enum Axis {
-        X, Y, Z
+    /**
+     * Returns the height above which a non-descending ray can end, or
+     * {@link Integer#MAX_VALUE} unless the predicate only hits solid voxels.
+     */
+    static int terrainCeiling(IVoxelWorldView worldView, VoxelHitPredicate hitPredicate) {
+        return hitPredicate.hitsOnlySolidVoxels() ? worldView.getMaxSolidY() : Integer.MAX_VALUE;
     }
 }
-
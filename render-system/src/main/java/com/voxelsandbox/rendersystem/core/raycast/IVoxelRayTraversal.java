@@ -1,9 +1,12 @@
 package com.voxelsandbox.rendersystem.core.raycast;
 
 
+import com.voxelsandbox.rendersystem.core.math.CpuRay3f;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
 import com.voxelsandbox.rendersystem.core.math.Ray3f;
 import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
 
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -86,6 +89,13 @@ public interface IVoxelRayTraversal {
      * </p>
      *
      * <p>
+     *     If the predicate declares {@link VoxelHitPredicate#hitsOnlySolidVoxels()},
+     *     a ray that is above {@link IVoxelWorldView#getMaxSolidY()} and
+     *     not descending can no longer hit anything and may end as a miss
+     *     there. Other predicates are traced without that bound.
+     * </p>
+     *
+     * <p>
      *     The returned hit result contains:
      * </p>
      * <ul>
@@ -111,4 +121,70 @@ public interface IVoxelRayTraversal {
             IVoxelWorldView worldView,
             VoxelHitPredicate hitPredicate
     );
+
+    /**
+     * Traces a range of rays and writes their first hits into a
+     * caller-owned {@link VoxelHitBuffer}.
+     *
+     * <p>
+     *     This is the bulk, allocation-free form of {@link #traceFirstHit}.
+     *     Rays are stored as interleaved {@code xyz} triples: ray {@code i}
+     *     has origin {@code origins[3i .. 3i+2]} and direction
+     *     {@code directions[3i .. 3i+2]}. Its outcome is written to entry
+     *     {@code i} of {@code hits}, so a buffer sized for a whole frame can
+     *     be filled batch by batch (see {@code RayBatch}).
+     * </p>
+     *
+     * <p>
+     *     For every ray, the recorded hit is identical to the one
+     *     {@link #traceFirstHit} would return.
+     * </p>
+     *
+     * <p>
+     *     The default implementation calls {@link #traceFirstHit} once per
+     *     ray and therefore allocates per ray. Implementations that trace
+     *     many rays per frame should override it with an allocation-free
+     *     loop, as {@link CpuVoxelRayTraversal} does.
+     * </p>
+     *
+     * @param origins interleaved ray origins
+     * @param directions interleaved normalized ray directions
+     * @param offset index of the first ray to trace
+     * @param count number of rays to trace
+     * @param maxDistance maximum traversal distance
+     * @param worldView world view used to determine chunk availability
+     * @param hitPredicate predicate defining solid or hittable voxels
+     * @param hits destination buffer, indexed like the rays
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the range exceeds the arrays or the buffer
+     */
+    default void traceFirstHits(
+            float[] origins,
+            float[] directions,
+            int offset,
+            int count,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate,
+            VoxelHitBuffer hits
+    ) {
+        Objects.requireNonNull(hits, "hits must not be null");
+        hits.checkBulkRange(origins, directions, offset, count);
+
+        for (int i = offset; i < offset + count; i++) {
+            int base = 3 * i;
+            Ray3f ray = new CpuRay3f(
+                    new CpuVec3f(origins[base], origins[base + 1], origins[base + 2]),
+                    new CpuVec3f(directions[base], directions[base + 1], directions[base + 2])
+            );
+
+            Optional<VoxelHitResult> hit = traceFirstHit(ray, maxDistance, worldView, hitPredicate);
+            if (hit.isPresent()) {
+                hits.set(i, hit.get());
+            } else {
+                hits.setMiss(i);
+            }
+        }
+    }
 }
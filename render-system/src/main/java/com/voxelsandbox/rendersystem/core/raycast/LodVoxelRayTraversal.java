@@ -0,0 +1,223 @@
+package com.voxelsandbox.rendersystem.core.raycast;
+
+import com.voxelsandbox.rendersystem.core.lod.LodSelector;
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.world.ILodVoxelWorldView;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * DDA voxel traversal that switches to coarser grids with distance.
+ *
+ * <p>
+ *     The ray is split at the distances where {@link LodSelector} changes
+ *     level. Each segment is traversed with a DDA on the grid of its level,
+ *     whose cells are {@code 2^level} voxels wide, so a ray crosses about
+ *     as many cells per segment as the full-detail grid in the first one.
+ *     Far rays therefore cost a small multiple of the full-detail distance
+ *     instead of growing with the view distance.
+ * </p>
+ *
+ * <p>
+ *     Coarse levels are only used when the world view is an
+ *     {@link ILodVoxelWorldView}; coarse cells are then tested with
+ *     {@link ILodVoxelWorldView#isSolid(int, int, int, int)} instead of the
+ *     hit predicate. Other views are traced at full detail, exactly like
+ *     {@link CpuVoxelRayTraversal}.
+ * </p>
+ *
+ * <p>
+ *     A coarse hit reports the minimum voxel of the hit cell and the
+ *     distance at which the ray entered it. A cell entered when a segment
+ *     starts reports the segment start and the last crossed axis.
+ * </p>
+ *
+ * <p>
+ *     {@link #traverse} always runs at full detail, since visitors observe
+ *     individual voxels.
+ * </p>
+ */
+public final class LodVoxelRayTraversal implements IVoxelRayTraversal {
+
+    private final LodSelector selector;
+    private final CpuVoxelRayTraversal fullDetail = new CpuVoxelRayTraversal();
+
+    /**
+     * Creates a traversal.
+     *
+     * @param selector selector mapping ray distances to levels
+     */
+    public LodVoxelRayTraversal(LodSelector selector) {
+        this.selector = Objects.requireNonNull(selector, "selector must not be null");
+    }
+
+    @Override
+    public void traverse(
+            Ray3f ray,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate,
+            VoxelVisitor visitor
+    ) {
+        fullDetail.traverse(ray, maxDistance, worldView, hitPredicate, visitor);
+    }
+
+    @Override
+    public Optional<VoxelHitResult> traceFirstHit(
+            Ray3f ray,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate
+    ) {
+        Objects.requireNonNull(ray, "ray must not be null");
+        Objects.requireNonNull(worldView, "worldView must not be null");
+        Objects.requireNonNull(hitPredicate, "hitPredicate must not be null");
+
+        VoxelRayTraversalState state = new VoxelRayTraversalState();
+        long outcome = trace(
+                ray.origin().x(), ray.origin().y(), ray.origin().z(),
+                ray.direction().x(), ray.direction().y(), ray.direction().z(),
+                maxDistance,
+                worldView,
+                hitPredicate,
+                state
+        );
+        return VoxelHitBuffer.result(outcome, state);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     A single {@link VoxelRayTraversalState} is re-initialized for
+     *     every segment of every ray, so the call allocates nothing per ray.
+     * </p>
+     */
+    @Override
+    public void traceFirstHits(
+            float[] origins,
+            float[] directions,
+            int offset,
+            int count,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate,
+            VoxelHitBuffer hits
+    ) {
+        Objects.requireNonNull(hits, "hits must not be null");
+        Objects.requireNonNull(worldView, "worldView must not be null");
+        Objects.requireNonNull(hitPredicate, "hitPredicate must not be null");
+        hits.checkBulkRange(origins, directions, offset, count);
+
+        VoxelRayTraversalState state = new VoxelRayTraversalState();
+
+        for (int i = offset; i < offset + count; i++) {
+            int base = 3 * i;
+            long outcome = trace(
+                    origins[base], origins[base + 1], origins[base + 2],
+                    directions[base], directions[base + 1], directions[base + 2],
+                    maxDistance,
+                    worldView,
+                    hitPredicate,
+                    state
+            );
+            hits.set(i, outcome, state);
+        }
+    }
+
+    /**
+     * Traces one ray segment by segment. On a hit the state is left at
+     * the hit voxel, in level-0 voxel coordinates.
+     *
+     * @return {@link VoxelHitBuffer#MISS} or the hit packed by
+     *         {@link VoxelHitBuffer#packHit}
+     */
+    private long trace(
+            float originX,
+            float originY,
+            float originZ,
+            float dirX,
+            float dirY,
+            float dirZ,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate,
+            VoxelRayTraversalState state
+    ) {
+        ILodVoxelWorldView lodView = worldView instanceof ILodVoxelWorldView lod ? lod : null;
+
+        float t = 0f;
+        int lastAxis = VoxelHitBuffer.AXIS_NONE;
+        int level = 0;
+        int ceiling = CpuVoxelRayTraversal.terrainCeiling(worldView, hitPredicate);
+
+        while (true) {
+            float end = lodView == null
+                    ? maxDistance
+                    : Math.min(maxDistance, selector.getLevelEnd(level));
+            float scale = 1 << level;
+            float start = t;
+
+            // Cells of this level are unit cells of the grid scaled down by
+            // 'scale'; segment parameters are scaled back on the way out
+            VoxelRayInitializer.initialize(
+                    (originX + dirX * t) / scale,
+                    (originY + dirY * t) / scale,
+                    (originZ + dirZ * t) / scale,
+                    dirX, dirY, dirZ,
+                    state
+            );
+
+            while (t <= end) {
+                int voxelX = state.voxelX << level;
+                int voxelY = state.voxelY << level;
+                int voxelZ = state.voxelZ << level;
+
+                // Coarse cells above the ceiling contain no solid voxel either
+                if (voxelY > ceiling && state.stepY >= 0) {
+                    return VoxelHitBuffer.MISS;
+                }
+
+                if (!worldView.isChunkLoaded(voxelX, voxelY, voxelZ)) {
+                    return VoxelHitBuffer.MISS;
+                }
+
+                boolean hit = level == 0
+                        ? hitPredicate.isHit(voxelX, voxelY, voxelZ)
+                        : lodView.isSolid(level, state.voxelX, state.voxelY, state.voxelZ);
+                if (hit) {
+                    state.voxelX = voxelX;
+                    state.voxelY = voxelY;
+                    state.voxelZ = voxelZ;
+                    return VoxelHitBuffer.packHit(t, lastAxis);
+                }
+
+                float prevX = state.tMaxX;
+                float prevY = state.tMaxY;
+                float prevZ = state.tMaxZ;
+
+                VoxelRayStepper.step(state);
+
+                if (state.tMaxX != prevX) {
+                    lastAxis = VoxelHitBuffer.AXIS_X;
+                    t = start + prevX * scale;
+                } else if (state.tMaxY != prevY) {
+                    lastAxis = VoxelHitBuffer.AXIS_Y;
+                    t = start + prevY * scale;
+                } else {
+                    lastAxis = VoxelHitBuffer.AXIS_Z;
+                    t = start + prevZ * scale;
+                }
+            }
+
+            if (end >= maxDistance) {
+                return VoxelHitBuffer.MISS;
+            }
+            t = end;
+            level++;
+        }
+    }
+}
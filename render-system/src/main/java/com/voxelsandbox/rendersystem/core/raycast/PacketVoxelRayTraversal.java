@@ -0,0 +1,361 @@
+package com.voxelsandbox.rendersystem.core.raycast;
+
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Packet-based implementation of {@link IVoxelRayTraversal}.
+ *
+ * <p>
+ *     Neighbouring primary rays are highly coherent: they start from the
+ *     same origin and cross nearly the same voxels. This implementation
+ *     traces a {@link VoxelRayPacket} of such rays together, stepping all
+ *     lanes in lock-step. Lanes that terminate early (hit, unloaded chunk,
+ *     {@code maxDistance} exceeded, rising above the highest solid voxel)
+ *     are masked out while the remaining lanes continue.
+ * </p>
+ *
+ * <p>
+ *     Two stepping backends exist:
+ * </p>
+ * <ul>
+ *     <li> a vectorized backend using {@code jdk.incubator.vector},
+ *          enabled with {@code -D}{@value #VECTOR_PROPERTY}{@code =true}
+ *          and {@code --add-modules jdk.incubator.vector} </li>
+ *     <li> a portable scalar backend, created explicitly with
+ *          {@link #scalar(int)} </li>
+ * </ul>
+ *
+ * <p>
+ *     The vector backend lives in the separate {@code vector} source set,
+ *     the only code of this module compiled against the incubator module,
+ *     and is loaded reflectively. Without the module this class never
+ *     touches it.
+ * </p>
+ *
+ * <p>
+ *     The packet path is opt-in: {@link #create()} returns
+ *     {@link CpuVoxelRayTraversal} unless the vector backend is enabled.
+ *     Vectorizing the DDA step does not remove the per-lane
+ *     {@link IVoxelWorldView#isChunkLoaded} and {@link VoxelHitPredicate#isHit}
+ *     calls, which dominate the cost, so neither backend is assumed to beat
+ *     the reference. Measure with the {@code raycast} benchmark of the
+ *     {@code bench} source set before enabling it.
+ * </p>
+ *
+ * <p>
+ *     Both backends visit exactly the same voxels as {@link CpuVoxelRayTraversal},
+ *     which remains the canonical reference. Single-ray calls
+ *     ({@link #traverse}, {@link #traceFirstHit}) are delegated to it;
+ *     bulk queries are traced in packets.
+ * </p>
+ *
+ * <p>
+ *     Instances are stateless and thread-safe; packets are not.
+ * </p>
+ */
+public final class PacketVoxelRayTraversal implements IVoxelRayTraversal {
+
+    /**
+     * System property enabling the Vector API backend.
+     */
+    public static final String VECTOR_PROPERTY = "voxelsandbox.raycast.vector";
+
+    /**
+     * Packet width used by the scalar backend when none is specified.
+     */
+    public static final int DEFAULT_LANE_COUNT = 8;
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final String VECTOR_STEPPER = "com.voxelsandbox.rendersystem.core.raycast.VectorVoxelPacketStepper";
+
+    private final IVoxelRayTraversal reference = new CpuVoxelRayTraversal();
+    private final VoxelPacketStepper stepper;
+
+    private PacketVoxelRayTraversal(VoxelPacketStepper stepper) {
+        this.stepper = stepper;
+    }
+
+    /**
+     * Creates the fastest available traversal for bulk queries.
+     *
+     * <p>
+     *     The vector backend is selected only if {@value #VECTOR_PROPERTY}
+     *     is {@code true} and the Vector API module is available; otherwise
+     *     a {@link CpuVoxelRayTraversal} is returned.
+     * </p>
+     *
+     * @return vectorized packet traversal, or the reference traversal
+     */
+    public static IVoxelRayTraversal create() {
+        if (Boolean.getBoolean(VECTOR_PROPERTY) && isVectorSupported()) {
+            return vectorized();
+        }
+        return new CpuVoxelRayTraversal();
+    }
+
+    /**
+     * Creates a packet traversal using the portable scalar backend.
+     *
+     * @param laneCount packet width
+     * @return packet traversal
+     *
+     * @throws IllegalArgumentException if {@code laneCount <= 0}
+     */
+    public static PacketVoxelRayTraversal scalar(int laneCount) {
+        return new PacketVoxelRayTraversal(new ScalarVoxelPacketStepper(laneCount));
+    }
+
+    /**
+     * Creates a packet traversal using the Vector API backend.
+     *
+     * <p>
+     *     The packet width equals the preferred float vector length
+     *     of the running CPU.
+     * </p>
+     *
+     * @return packet traversal
+     *
+     * @throws IllegalStateException if the Vector API module is not available
+     */
+    public static PacketVoxelRayTraversal vectorized() {
+        if (!isVectorSupported()) {
+            throw new IllegalStateException(
+                    "Module " + VECTOR_MODULE + " is not available; run with --add-modules " + VECTOR_MODULE
+            );
+        }
+        return new PacketVoxelRayTraversal(newVectorStepper());
+    }
+
+    private static VoxelPacketStepper newVectorStepper() {
+        try {
+            return (VoxelPacketStepper) Class.forName(VECTOR_STEPPER).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Vector ray packet backend is not on the class path", e);
+        }
+    }
+
+    /**
+     * Returns whether the Vector API module is present in the running JVM.
+     *
+     * @return {@code true} if {@code jdk.incubator.vector} can be used
+     */
+    public static boolean isVectorSupported() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * Returns the number of lanes traced together.
+     *
+     * @return packet width
+     */
+    public int getLaneCount() {
+        return stepper.laneCount();
+    }
+
+    /**
+     * Returns whether this instance uses the Vector API backend.
+     *
+     * @return {@code true} if vectorized
+     */
+    public boolean isVectorized() {
+        return !(stepper instanceof ScalarVoxelPacketStepper);
+    }
+
+    /**
+     * Creates a packet sized for this traversal.
+     *
+     * @return new empty packet
+     */
+    public VoxelRayPacket newPacket() {
+        return new VoxelRayPacket(getLaneCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     Delegates to the scalar {@link CpuVoxelRayTraversal} reference.
+     * </p>
+     */
+    @Override
+    public void traverse(
+            Ray3f ray,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate,
+            VoxelVisitor visitor
+    ) {
+        reference.traverse(ray, maxDistance, worldView, hitPredicate, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     Delegates to the scalar {@link CpuVoxelRayTraversal} reference.
+     * </p>
+     */
+    @Override
+    public Optional<VoxelHitResult> traceFirstHit(
+            Ray3f ray,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate
+    ) {
+        return reference.traceFirstHit(ray, maxDistance, worldView, hitPredicate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     Rays are loaded into a single reused {@link VoxelRayPacket},
+     *     {@link #getLaneCount()} at a time, and traced with
+     *     {@link #traceFirstHits(VoxelRayPacket, float, IVoxelWorldView, VoxelHitPredicate)}.
+     *     Consecutive rays should therefore be spatially coherent,
+     *     e.g. ordered by screen tile.
+     * </p>
+     */
+    @Override
+    public void traceFirstHits(
+            float[] origins,
+            float[] directions,
+            int offset,
+            int count,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate,
+            VoxelHitBuffer hits
+    ) {
+        Objects.requireNonNull(hits, "hits must not be null");
+        hits.checkBulkRange(origins, directions, offset, count);
+
+        VoxelRayPacket packet = newPacket();
+        int lanes = packet.capacity();
+        int end = offset + count;
+
+        for (int first = offset; first < end; first += lanes) {
+            int size = Math.min(lanes, end - first);
+
+            packet.clear();
+            for (int lane = 0; lane < size; lane++) {
+                int base = 3 * (first + lane);
+                packet.setRay(
+                        lane,
+                        origins[base], origins[base + 1], origins[base + 2],
+                        directions[base], directions[base + 1], directions[base + 2]
+                );
+            }
+
+            traceFirstHits(packet, maxDistance, worldView, hitPredicate);
+
+            for (int lane = 0; lane < size; lane++) {
+                int index = first + lane;
+                if (!packet.hit[lane]) {
+                    hits.setMiss(index);
+                    continue;
+                }
+
+                int axis = packet.enteredAxis[lane];
+                int step = switch (axis) {
+                    case VoxelRayPacket.AXIS_X -> packet.stepX[lane];
+                    case VoxelRayPacket.AXIS_Y -> packet.stepY[lane];
+                    case VoxelRayPacket.AXIS_Z -> packet.stepZ[lane];
+                    default -> 0; // starting voxel
+                };
+
+                hits.set(
+                        index,
+                        packet.voxelX[lane],
+                        packet.voxelY[lane],
+                        packet.voxelZ[lane],
+                        packet.t[lane],
+                        VoxelHitBuffer.encodeNormal(axis, step)
+                );
+            }
+        }
+    }
+
+    /**
+     * Traces all loaded lanes of a packet until each lane terminates.
+     *
+     * <p>
+     *     Per lane, termination follows {@link CpuVoxelRayTraversal#traceFirstHit}:
+     * </p>
+     * <ul>
+     *     <li> entry distance exceeds {@code maxDistance} (miss) </li>
+     *     <li> the voxel lies in an unloaded chunk (miss) </li>
+     *     <li> the voxel satisfies {@code hitPredicate} (hit) </li>
+     * </ul>
+     *
+     * <p>
+     *     On return, every lane is inactive and its outcome can be read from
+     *     the packet arrays or via {@link VoxelRayPacket#result(int)}.
+     *     This method performs no allocations.
+     * </p>
+     *
+     * @param packet packet whose capacity is a multiple of {@link #getLaneCount()}
+     * @param maxDistance maximum traversal distance
+     * @param worldView world view used to determine chunk availability
+     * @param hitPredicate predicate defining solid or hittable voxels
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the packet capacity is not a multiple of the lane count
+     */
+    public void traceFirstHits(
+            VoxelRayPacket packet,
+            float maxDistance,
+            IVoxelWorldView worldView,
+            VoxelHitPredicate hitPredicate
+    ) {
+        Objects.requireNonNull(packet, "packet must not be null");
+        Objects.requireNonNull(worldView, "worldView must not be null");
+        Objects.requireNonNull(hitPredicate, "hitPredicate must not be null");
+        if (packet.capacity() % stepper.laneCount() != 0) {
+            throw new IllegalArgumentException(
+                    "packet capacity must be a multiple of " + stepper.laneCount()
+            );
+        }
+
+        int size = packet.size();
+        int ceiling = CpuVoxelRayTraversal.terrainCeiling(worldView, hitPredicate);
+        int remaining = 0;
+        for (int lane = 0; lane < size; lane++) {
+            if (packet.active[lane]) {
+                remaining++;
+            }
+        }
+
+        while (remaining > 0) {
+            for (int lane = 0; lane < size; lane++) {
+                if (!packet.active[lane]) {
+                    continue;
+                }
+
+                int x = packet.voxelX[lane];
+                int y = packet.voxelY[lane];
+                int z = packet.voxelZ[lane];
+
+                boolean aboveTerrain = y > ceiling && packet.stepY[lane] >= 0;
+                if (aboveTerrain || packet.t[lane] > maxDistance || !worldView.isChunkLoaded(x, y, z)) {
+                    packet.active[lane] = false;
+                    remaining--;
+                } else if (hitPredicate.isHit(x, y, z)) {
+                    packet.hit[lane] = true;
+                    packet.active[lane] = false;
+                    remaining--;
+                }
+            }
+
+            if (remaining > 0) {
+                stepper.step(packet);
+            }
+        }
+    }
+}
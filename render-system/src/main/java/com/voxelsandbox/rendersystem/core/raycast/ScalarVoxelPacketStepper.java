@@ -0,0 +1,77 @@
+package com.voxelsandbox.rendersystem.core.raycast;
+
+
+/**
+ * Portable {@link VoxelPacketStepper} stepping one lane at a time.
+ *
+ * <p>
+ *     This stepper is the fallback used when the JDK Vector API is not
+ *     available or not enabled. It mirrors {@link VoxelRayStepper} lane by lane.
+ * </p>
+ */
+final class ScalarVoxelPacketStepper implements VoxelPacketStepper {
+
+    private final int laneCount;
+
+    ScalarVoxelPacketStepper(int laneCount) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("laneCount must be > 0");
+        }
+        this.laneCount = laneCount;
+    }
+
+    @Override
+    public int laneCount() {
+        return laneCount;
+    }
+
+    @Override
+    public void step(VoxelRayPacket p) {
+        int size = p.size();
+
+        for (int lane = 0; lane < size; lane++) {
+            if (!p.active[lane]) {
+                continue;
+            }
+
+            float tx = p.tMaxX[lane];
+            float ty = p.tMaxY[lane];
+            float tz = p.tMaxZ[lane];
+
+            if (tx < ty) {
+                if (tx < tz) {
+                    stepX(p, lane, tx);
+                } else {
+                    stepZ(p, lane, tz);
+                }
+            } else {
+                if (ty < tz) {
+                    stepY(p, lane, ty);
+                } else {
+                    stepZ(p, lane, tz);
+                }
+            }
+        }
+    }
+
+    private static void stepX(VoxelRayPacket p, int lane, float tEnter) {
+        p.voxelX[lane] += p.stepX[lane];
+        p.tMaxX[lane] += p.tDeltaX[lane];
+        p.t[lane] = tEnter;
+        p.enteredAxis[lane] = VoxelRayPacket.AXIS_X;
+    }
+
+    private static void stepY(VoxelRayPacket p, int lane, float tEnter) {
+        p.voxelY[lane] += p.stepY[lane];
+        p.tMaxY[lane] += p.tDeltaY[lane];
+        p.t[lane] = tEnter;
+        p.enteredAxis[lane] = VoxelRayPacket.AXIS_Y;
+    }
+
+    private static void stepZ(VoxelRayPacket p, int lane, float tEnter) {
+        p.voxelZ[lane] += p.stepZ[lane];
+        p.tMaxZ[lane] += p.tDeltaZ[lane];
+        p.t[lane] = tEnter;
+        p.enteredAxis[lane] = VoxelRayPacket.AXIS_Z;
+    }
+}
@@ -0,0 +1,426 @@
+package com.voxelsandbox.rendersystem.core.raycast;
+
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Caller-owned, structure-of-arrays storage for bulk ray hit results.
+ *
+ * <p>
+ *     This is the allocation-free counterpart of {@link VoxelHitResult}.
+ *     Entry {@code i} describes the outcome of ray {@code i} of a bulk
+ *     query issued through
+ *     {@link IVoxelRayTraversal#traceFirstHits(float[], float[], int, int, float,
+ *     com.voxelsandbox.rendersystem.core.world.IVoxelWorldView, VoxelHitPredicate, VoxelHitBuffer)}:
+ * </p>
+ * <ul>
+ *     <li> {@link #hit}: whether a voxel was hit </li>
+ *     <li> {@link #voxelX}, {@link #voxelY}, {@link #voxelZ}: hit voxel coordinates </li>
+ *     <li> {@link #t}: parametric hit distance </li>
+ *     <li> {@link #normal}: entered face, encoded as one of the {@code NORMAL_*} constants </li>
+ * </ul>
+ *
+ * <p>
+ *     Only {@link #hit} is written for rays that miss; the remaining
+ *     fields of such entries are left untouched and MUST be ignored.
+ * </p>
+ *
+ * <p>
+ *     Buffers are mutable, not thread-safe, and intended to be allocated
+ *     once (e.g. one entry per pixel) and reused every frame.
+ * </p>
+ */
+public final class VoxelHitBuffer {
+
+    /**
+     * Normal code of a hit in the starting voxel (no face entered).
+     */
+    public static final byte NORMAL_NONE = 0;
+
+    /**
+     * Normal code of the {@code +X} face.
+     */
+    public static final byte NORMAL_POS_X = 1;
+
+    /**
+     * Normal code of the {@code -X} face.
+     */
+    public static final byte NORMAL_NEG_X = 2;
+
+    /**
+     * Normal code of the {@code +Y} face.
+     */
+    public static final byte NORMAL_POS_Y = 3;
+
+    /**
+     * Normal code of the {@code -Y} face.
+     */
+    public static final byte NORMAL_NEG_Y = 4;
+
+    /**
+     * Normal code of the {@code +Z} face.
+     */
+    public static final byte NORMAL_POS_Z = 5;
+
+    /**
+     * Normal code of the {@code -Z} face.
+     */
+    public static final byte NORMAL_NEG_Z = 6;
+
+    /**
+     * Entered axis of a hit in the starting voxel.
+     */
+    static final int AXIS_NONE = -1;
+
+    /**
+     * Entered axis of a hit reached by a step along X.
+     */
+    static final int AXIS_X = 0;
+
+    /**
+     * Entered axis of a hit reached by a step along Y.
+     */
+    static final int AXIS_Y = 1;
+
+    /**
+     * Entered axis of a hit reached by a step along Z.
+     */
+    static final int AXIS_Z = 2;
+
+    /**
+     * Outcome of a single-ray trace that found no hit.
+     *
+     * @see #packHit(float, int)
+     */
+    static final long MISS = -1L;
+
+    private final int capacity;
+
+    /**
+     * Whether the ray hit a voxel accepted by the hit predicate.
+     */
+    public final boolean[] hit;
+
+    /**
+     * Voxel coordinates of the hit cell.
+     */
+    public final int[] voxelX;
+    public final int[] voxelY;
+    public final int[] voxelZ;
+
+    /**
+     * Parametric distance along the ray where the hit occurred.
+     */
+    public final float[] t;
+
+    /**
+     * Encoded surface normal of the entered face.
+     */
+    public final byte[] normal;
+
+    /**
+     * Creates a buffer able to hold the given number of results.
+     *
+     * @param capacity number of entries
+     *
+     * @throws IllegalArgumentException if {@code capacity <= 0}
+     */
+    public VoxelHitBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        this.capacity = capacity;
+
+        this.hit = new boolean[capacity];
+        this.voxelX = new int[capacity];
+        this.voxelY = new int[capacity];
+        this.voxelZ = new int[capacity];
+        this.t = new float[capacity];
+        this.normal = new byte[capacity];
+    }
+
+    /**
+     * Returns the number of entries of this buffer.
+     *
+     * @return entry capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the entry at the given index as a {@link VoxelHitResult}.
+     *
+     * <p>
+     *     This method allocates and is intended for tests and non-bulk callers.
+     * </p>
+     *
+     * @param index entry index
+     * @return the hit result, or {@code Optional.empty()} if the ray missed
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is outside the buffer
+     */
+    public Optional<VoxelHitResult> result(int index) {
+        Objects.checkIndex(index, capacity);
+        if (!hit[index]) {
+            return Optional.empty();
+        }
+
+        byte code = normal[index];
+        return Optional.of(new VoxelHitResult(
+                voxelX[index],
+                voxelY[index],
+                voxelZ[index],
+                t[index],
+                new CpuVec3f(normalX(code), normalY(code), normalZ(code))
+        ));
+    }
+
+    /* ==========================================================
+     * Normal decoding
+     * ========================================================== */
+
+    /**
+     * Returns the X component of an encoded normal.
+     *
+     * @param code one of the {@code NORMAL_*} constants
+     * @return {@code 1}, {@code -1} or {@code 0}
+     */
+    public static int normalX(byte code) {
+        return code == NORMAL_POS_X ? 1 : code == NORMAL_NEG_X ? -1 : 0;
+    }
+
+    /**
+     * Returns the Y component of an encoded normal.
+     *
+     * @param code one of the {@code NORMAL_*} constants
+     * @return {@code 1}, {@code -1} or {@code 0}
+     */
+    public static int normalY(byte code) {
+        return code == NORMAL_POS_Y ? 1 : code == NORMAL_NEG_Y ? -1 : 0;
+    }
+
+    /**
+     * Returns the Z component of an encoded normal.
+     *
+     * @param code one of the {@code NORMAL_*} constants
+     * @return {@code 1}, {@code -1} or {@code 0}
+     */
+    public static int normalZ(byte code) {
+        return code == NORMAL_POS_Z ? 1 : code == NORMAL_NEG_Z ? -1 : 0;
+    }
+
+    /* ==========================================================
+     * Writers
+     * ========================================================== */
+
+    /**
+     * Records a hit with an already encoded normal.
+     *
+     * @param index entry index
+     * @param x hit voxel X
+     * @param y hit voxel Y
+     * @param z hit voxel Z
+     * @param hitT parametric hit distance
+     * @param normalCode one of the {@code NORMAL_*} constants
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is outside the buffer
+     */
+    public void set(int index, int x, int y, int z, float hitT, byte normalCode) {
+        Objects.checkIndex(index, capacity);
+        hit[index] = true;
+        voxelX[index] = x;
+        voxelY[index] = y;
+        voxelZ[index] = z;
+        t[index] = hitT;
+        normal[index] = normalCode;
+    }
+
+    /**
+     * Records a hit given as a {@link VoxelHitResult}.
+     *
+     * @param index entry index
+     * @param result hit to record; its normal must be axis-aligned
+     *
+     * @throws NullPointerException if {@code result} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code index} is outside the buffer
+     */
+    public void set(int index, VoxelHitResult result) {
+        Objects.requireNonNull(result, "result must not be null");
+        set(index, result.voxelX, result.voxelY, result.voxelZ, result.t, encodeNormal(result.normal));
+    }
+
+    /**
+     * Copies one entry of another buffer into this buffer.
+     *
+     * @param source buffer to copy from
+     * @param sourceIndex entry index in {@code source}
+     * @param index entry index in this buffer
+     *
+     * @throws NullPointerException if {@code source} is {@code null}
+     * @throws IndexOutOfBoundsException if an index is outside its buffer
+     */
+    public void copy(VoxelHitBuffer source, int sourceIndex, int index) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.checkIndex(sourceIndex, source.capacity);
+        Objects.checkIndex(index, capacity);
+
+        hit[index] = source.hit[sourceIndex];
+        voxelX[index] = source.voxelX[sourceIndex];
+        voxelY[index] = source.voxelY[sourceIndex];
+        voxelZ[index] = source.voxelZ[sourceIndex];
+        t[index] = source.t[sourceIndex];
+        normal[index] = source.normal[sourceIndex];
+    }
+
+    /**
+     * Records the outcome of a single-ray trace.
+     *
+     * @param index entry index
+     * @param outcome {@link #MISS} or a value of {@link #packHit}
+     * @param state traversal state left at the hit voxel
+     */
+    void set(int index, long outcome, VoxelRayTraversalState state) {
+        if (outcome == MISS) {
+            hit[index] = false;
+            return;
+        }
+        int axis = enteredAxis(outcome);
+        hit[index] = true;
+        voxelX[index] = state.voxelX;
+        voxelY[index] = state.voxelY;
+        voxelZ[index] = state.voxelZ;
+        t[index] = hitT(outcome);
+        normal[index] = encodeNormal(axis, step(state, axis));
+    }
+
+    /**
+     * Builds the {@link VoxelHitResult} of a single-ray trace without
+     * going through a buffer.
+     *
+     * @param outcome {@link #MISS} or a value of {@link #packHit}
+     * @param state traversal state left at the hit voxel
+     * @return the hit result, or {@code Optional.empty()} on a miss
+     */
+    static Optional<VoxelHitResult> result(long outcome, VoxelRayTraversalState state) {
+        if (outcome == MISS) {
+            return Optional.empty();
+        }
+        int axis = enteredAxis(outcome);
+        byte code = encodeNormal(axis, step(state, axis));
+        return Optional.of(new VoxelHitResult(
+                state.voxelX,
+                state.voxelY,
+                state.voxelZ,
+                hitT(outcome),
+                new CpuVec3f(normalX(code), normalY(code), normalZ(code))
+        ));
+    }
+
+    /**
+     * Packs the outcome of a single-ray trace that hit, so traversals can
+     * return it without allocating: the entered axis goes to the upper and
+     * the hit distance to the lower 32 bits.
+     *
+     * @param hitT parametric hit distance
+     * @param enteredAxis one of the {@code AXIS_*} constants
+     * @return packed outcome, never equal to {@link #MISS}
+     */
+    static long packHit(float hitT, int enteredAxis) {
+        return ((long) (enteredAxis + 1) << 32) | (Float.floatToRawIntBits(hitT) & 0xFFFFFFFFL);
+    }
+
+    private static int enteredAxis(long outcome) {
+        return (int) (outcome >>> 32) - 1;
+    }
+
+    private static float hitT(long outcome) {
+        return Float.intBitsToFloat((int) outcome);
+    }
+
+    private static int step(VoxelRayTraversalState state, int enteredAxis) {
+        return switch (enteredAxis) {
+            case AXIS_X -> state.stepX;
+            case AXIS_Y -> state.stepY;
+            case AXIS_Z -> state.stepZ;
+            default -> 0; // starting voxel
+        };
+    }
+
+    /**
+     * Records a miss.
+     *
+     * @param index entry index
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is outside the buffer
+     */
+    public void setMiss(int index) {
+        hit[index] = false;
+    }
+
+    /**
+     * Validates the arguments of a bulk query against this buffer.
+     *
+     * @throws NullPointerException if an array is {@code null}
+     * @throws IllegalArgumentException if the range does not fit the arrays or this buffer
+     */
+    void checkBulkRange(float[] origins, float[] directions, int offset, int count) {
+        Objects.requireNonNull(origins, "origins must not be null");
+        Objects.requireNonNull(directions, "directions must not be null");
+        if (offset < 0 || count < 0) {
+            throw new IllegalArgumentException("offset and count must be >= 0");
+        }
+
+        long end = (long) offset + count;
+        if (end > capacity) {
+            throw new IllegalArgumentException(
+                    "hit buffer too small: need " + end + " entries, have " + capacity
+            );
+        }
+        if (3L * end > origins.length || 3L * end > directions.length) {
+            throw new IllegalArgumentException(
+                    "ray arrays too small: need " + (3L * end) + " floats"
+            );
+        }
+    }
+
+    /**
+     * Encodes an axis-aligned outward normal.
+     */
+    private static byte encodeNormal(Vec3f normal) {
+        if (normal.x() != 0f) {
+            return normal.x() > 0f ? NORMAL_POS_X : NORMAL_NEG_X;
+        }
+        if (normal.y() != 0f) {
+            return normal.y() > 0f ? NORMAL_POS_Y : NORMAL_NEG_Y;
+        }
+        if (normal.z() != 0f) {
+            return normal.z() > 0f ? NORMAL_POS_Z : NORMAL_NEG_Z;
+        }
+        return NORMAL_NONE;
+    }
+
+    /**
+     * Encodes the outward normal of the face entered along an axis.
+     *
+     * <p>
+     *     Stepping in direction {@code step} enters the voxel through
+     *     the face whose normal points in direction {@code -step}.
+     * </p>
+     */
+    static byte encodeNormal(int enteredAxis, int step) {
+        if (step == 0) {
+            return NORMAL_NONE;
+        }
+        return switch (enteredAxis) {
+            case AXIS_X -> step > 0 ? NORMAL_NEG_X : NORMAL_POS_X;
+            case AXIS_Y -> step > 0 ? NORMAL_NEG_Y : NORMAL_POS_Y;
+            case AXIS_Z -> step > 0 ? NORMAL_NEG_Z : NORMAL_POS_Z;
+            default -> NORMAL_NONE;
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.voxelsandbox.rendersystem.core.raycast;
 
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+
 
 /**
  * Predicate used to determine whether a voxel should be considered
@@ -18,6 +20,13 @@ package com.voxelsandbox.rendersystem.core.raycast;
  *     <li> transparency checks </li>
  *     <li> debug / visualization modes </li>
  * </ul>
+ *
+ * <p>
+ *     A predicate that accepts nothing but solid voxels can declare it
+ *     with {@link #hitsOnlySolidVoxels()}, which lets traversals end rays
+ *     above {@link IVoxelWorldView#getMaxSolidY()}, as
+ *     {@link WorldVoxelHitPredicate} does.
+ * </p>
  */
 @FunctionalInterface
 public interface VoxelHitPredicate {
@@ -33,4 +42,21 @@ public interface VoxelHitPredicate {
      *         {@code false} to continue traversal
      */
     boolean isHit(int voxelX, int voxelY, int voxelZ);
+
+    /**
+     * Returns whether this predicate only accepts voxels that are solid
+     * in the traversed world view.
+     *
+     * <p>
+     *     Traversals then end a ray as a miss once it is above
+     *     {@link IVoxelWorldView#getMaxSolidY()} and not descending. The
+     *     default is {@code false}, so rays are never cut off by the world
+     *     height and predicates may accept non-solid voxels at any height.
+     * </p>
+     *
+     * @return {@code true} if every voxel this predicate accepts is solid
+     */
+    default boolean hitsOnlySolidVoxels() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.voxelsandbox.rendersystem.core.raycast;
+
+
+/**
+ * Advances every active lane of a {@link VoxelRayPacket} by one DDA step.
+ *
+ * <p>
+ *     This is the packet counterpart of {@link VoxelRayStepper}.
+ *     Implementations MUST select the stepped axis with exactly the same
+ *     comparisons as {@link VoxelRayStepper#step(VoxelRayTraversalState)},
+ *     so that packet traversal visits the same voxels as the scalar reference.
+ * </p>
+ *
+ * <p>
+ *     For each stepped lane, implementations record the parametric distance
+ *     at which the new voxel is entered ({@code t}) and the crossed axis
+ *     ({@code enteredAxis}). Inactive lanes MUST NOT be modified.
+ * </p>
+ */
+interface VoxelPacketStepper {
+
+    /**
+     * Returns the preferred packet width of this stepper.
+     *
+     * @return lanes processed together
+     */
+    int laneCount();
+
+    /**
+     * Advances all active lanes of the packet by one voxel.
+     *
+     * @param packet packet to step
+     */
+    void step(VoxelRayPacket packet);
+}
@@ -3,6 +3,8 @@ package com.voxelsandbox.rendersystem.core.raycast;
 import com.voxelsandbox.rendersystem.core.math.Ray3f;
 import com.voxelsandbox.rendersystem.core.math.Vec3f;
 
+import java.util.Objects;
+
 
 /**
  * Utility class responsible for initializing voxel ray traversal state
@@ -62,45 +64,79 @@ public class VoxelRayInitializer {
         Vec3f origin = ray.origin();
         Vec3f dir = ray.direction();
 
+        return initialize(
+                origin.x(), origin.y(), origin.z(),
+                dir.x(), dir.y(), dir.z(),
+                new VoxelRayTraversalState()
+        );
+    }
+
+    /**
+     * Initializes an existing {@link VoxelRayTraversalState} for the ray
+     * given by its components.
+     *
+     * <p>
+     *     All fields of {@code target} are overwritten. This overload
+     *     performs no allocations and is intended for bulk traversal,
+     *     where one state instance is reused for many rays.
+     * </p>
+     *
+     * @param originX ray origin X
+     * @param originY ray origin Y
+     * @param originZ ray origin Z
+     * @param dirX ray direction X
+     * @param dirY ray direction Y
+     * @param dirZ ray direction Z
+     * @param target state to overwrite
+     * @return {@code target}
+     *
+     * @throws NullPointerException if {@code target} is {@code null}
+     */
+    public static VoxelRayTraversalState initialize(
+            float originX,
+            float originY,
+            float originZ,
+            float dirX,
+            float dirY,
+            float dirZ,
+            VoxelRayTraversalState target
+    ) {
+        Objects.requireNonNull(target, "target must not be null");
+
         /* ----------------------------------------------------------
          * Initial voxel coordinates (integer grid cell)
          * ---------------------------------------------------------- */
 
-        int voxelX = (int) Math.floor(origin.x());
-        int voxelY = (int) Math.floor(origin.y());
-        int voxelZ = (int) Math.floor(origin.z());
+        target.voxelX = (int) Math.floor(originX);
+        target.voxelY = (int) Math.floor(originY);
+        target.voxelZ = (int) Math.floor(originZ);
 
         /* ----------------------------------------------------------
          * Step direction along each axis (+1, -1 or 0)
          * ---------------------------------------------------------- */
 
-        int stepX = sign(dir.x());
-        int stepY = sign(dir.y());
-        int stepZ = sign(dir.z());
+        target.stepX = sign(dirX);
+        target.stepY = sign(dirY);
+        target.stepZ = sign(dirZ);
 
         /* ----------------------------------------------------------
          * Parametric distance required to cross one voxel
          * along each axis
          * ---------------------------------------------------------- */
 
-        float tDeltaX = delta(dir.x());
-        float tDeltaY = delta(dir.y());
-        float tDeltaZ = delta(dir.z());
+        target.tDeltaX = delta(dirX);
+        target.tDeltaY = delta(dirY);
+        target.tDeltaZ = delta(dirZ);
 
         /* ----------------------------------------------------------
          * Distance to first voxel boundary along each axis
          * ---------------------------------------------------------- */
 
-        float tMaxX = firstIntersection(origin.x(), dir.x(), voxelX, stepX);
-        float tMaxY = firstIntersection(origin.y(), dir.y(), voxelY, stepY);
-        float tMaxZ = firstIntersection(origin.z(), dir.z(), voxelZ, stepZ);
+        target.tMaxX = firstIntersection(originX, dirX, target.voxelX, target.stepX);
+        target.tMaxY = firstIntersection(originY, dirY, target.voxelY, target.stepY);
+        target.tMaxZ = firstIntersection(originZ, dirZ, target.voxelZ, target.stepZ);
 
-        return new VoxelRayTraversalState(
-                voxelX, voxelY, voxelZ,
-                stepX, stepY, stepZ,
-                tMaxX, tMaxY, tMaxZ,
-                tDeltaX, tDeltaY, tDeltaZ
-        );
+        return target;
     }
 
 
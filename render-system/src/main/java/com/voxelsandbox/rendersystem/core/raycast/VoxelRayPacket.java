@@ -0,0 +1,269 @@
+package com.voxelsandbox.rendersystem.core.raycast;
+
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Structure-of-arrays traversal state for a packet of coherent rays.
+ *
+ * <p>
+ *     A packet holds the DDA state of up to {@link #capacity()} rays,
+ *     one per <em>lane</em>. It is the packet counterpart of
+ *     {@link VoxelRayTraversalState}: each array element stores the
+ *     value of the corresponding scalar field for one lane.
+ * </p>
+ *
+ * <p>
+ *     Lanes are filled with {@link #setRay(int, Ray3f)} and traversed
+ *     together by {@link PacketVoxelRayTraversal}. A lane is
+ *     <em>active</em> while its ray is still being traced; once it
+ *     terminates, its voxel coordinates, {@link #t} and {@link #enteredAxis}
+ *     are frozen and describe the traversal outcome.
+ * </p>
+ *
+ * <p>
+ *     Packets are mutable, not thread-safe, and intended to be reused
+ *     across traversals to avoid allocations.
+ * </p>
+ */
+public final class VoxelRayPacket {
+
+    /**
+     * Entered-axis value of a lane that has not stepped yet.
+     */
+    public static final int AXIS_NONE = VoxelHitBuffer.AXIS_NONE;
+
+    /**
+     * Entered-axis value of a lane whose last step was along X.
+     */
+    public static final int AXIS_X = VoxelHitBuffer.AXIS_X;
+
+    /**
+     * Entered-axis value of a lane whose last step was along Y.
+     */
+    public static final int AXIS_Y = VoxelHitBuffer.AXIS_Y;
+
+    /**
+     * Entered-axis value of a lane whose last step was along Z.
+     */
+    public static final int AXIS_Z = VoxelHitBuffer.AXIS_Z;
+
+    private final int capacity;
+    private int size;
+
+    /**
+     * Scratch state filled by {@link VoxelRayInitializer} and copied into a lane.
+     */
+    private final VoxelRayTraversalState scratch = new VoxelRayTraversalState();
+
+    /* ==========================================================
+     * Per-lane DDA state
+     * ========================================================== */
+
+    public final int[] voxelX;
+    public final int[] voxelY;
+    public final int[] voxelZ;
+
+    public final int[] stepX;
+    public final int[] stepY;
+    public final int[] stepZ;
+
+    public final float[] tMaxX;
+    public final float[] tMaxY;
+    public final float[] tMaxZ;
+
+    public final float[] tDeltaX;
+    public final float[] tDeltaY;
+    public final float[] tDeltaZ;
+
+    /**
+     * Parametric distance at which the current voxel was entered.
+     */
+    public final float[] t;
+
+    /**
+     * Axis crossed to enter the current voxel ({@link #AXIS_NONE} for the starting voxel).
+     */
+    public final int[] enteredAxis;
+
+    /**
+     * Lane mask: {@code true} while the lane is still being traversed.
+     */
+    public final boolean[] active;
+
+    /**
+     * Whether the lane terminated on a voxel accepted by the hit predicate.
+     */
+    public final boolean[] hit;
+
+    /**
+     * Creates an empty packet with the given number of lanes.
+     *
+     * @param capacity number of lanes
+     *
+     * @throws IllegalArgumentException if {@code capacity <= 0}
+     */
+    public VoxelRayPacket(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        this.capacity = capacity;
+
+        this.voxelX = new int[capacity];
+        this.voxelY = new int[capacity];
+        this.voxelZ = new int[capacity];
+        this.stepX = new int[capacity];
+        this.stepY = new int[capacity];
+        this.stepZ = new int[capacity];
+        this.tMaxX = new float[capacity];
+        this.tMaxY = new float[capacity];
+        this.tMaxZ = new float[capacity];
+        this.tDeltaX = new float[capacity];
+        this.tDeltaY = new float[capacity];
+        this.tDeltaZ = new float[capacity];
+        this.t = new float[capacity];
+        this.enteredAxis = new int[capacity];
+        this.active = new boolean[capacity];
+        this.hit = new boolean[capacity];
+    }
+
+    /**
+     * Returns the number of lanes of this packet.
+     *
+     * @return lane capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of lanes loaded since the last {@link #clear()}.
+     *
+     * <p>
+     *     Lanes {@code [0, size)} hold rays; remaining lanes are inactive.
+     * </p>
+     *
+     * @return number of loaded lanes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Deactivates all lanes and resets the packet size to zero.
+     */
+    public void clear() {
+        Arrays.fill(active, false);
+        Arrays.fill(hit, false);
+        size = 0;
+    }
+
+    /**
+     * Loads a ray into the given lane.
+     *
+     * @param lane lane index
+     * @param ray ray to load (direction expected to be normalized)
+     *
+     * @throws NullPointerException if {@code ray} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code lane} is outside the packet
+     */
+    public void setRay(int lane, Ray3f ray) {
+        Objects.requireNonNull(ray, "ray must not be null");
+        Vec3f o = ray.origin();
+        Vec3f d = ray.direction();
+        setRay(lane, o.x(), o.y(), o.z(), d.x(), d.y(), d.z());
+    }
+
+    /**
+     * Loads a ray, given by its components, into the given lane.
+     *
+     * <p>
+     *     Initialization is performed by {@link VoxelRayInitializer} into a
+     *     scratch state owned by the packet, so no state object is allocated.
+     * </p>
+     *
+     * @param lane lane index
+     * @param originX ray origin X
+     * @param originY ray origin Y
+     * @param originZ ray origin Z
+     * @param dirX ray direction X
+     * @param dirY ray direction Y
+     * @param dirZ ray direction Z
+     *
+     * @throws IndexOutOfBoundsException if {@code lane} is outside the packet
+     */
+    public void setRay(
+            int lane,
+            float originX,
+            float originY,
+            float originZ,
+            float dirX,
+            float dirY,
+            float dirZ
+    ) {
+        Objects.checkIndex(lane, capacity);
+
+        VoxelRayTraversalState s = VoxelRayInitializer.initialize(
+                originX, originY, originZ, dirX, dirY, dirZ, scratch
+        );
+
+        voxelX[lane] = s.voxelX;
+        voxelY[lane] = s.voxelY;
+        voxelZ[lane] = s.voxelZ;
+
+        stepX[lane] = s.stepX;
+        stepY[lane] = s.stepY;
+        stepZ[lane] = s.stepZ;
+
+        tDeltaX[lane] = s.tDeltaX;
+        tDeltaY[lane] = s.tDeltaY;
+        tDeltaZ[lane] = s.tDeltaZ;
+
+        tMaxX[lane] = s.tMaxX;
+        tMaxY[lane] = s.tMaxY;
+        tMaxZ[lane] = s.tMaxZ;
+
+        t[lane] = 0f;
+        enteredAxis[lane] = AXIS_NONE;
+        active[lane] = true;
+        hit[lane] = false;
+
+        size = Math.max(size, lane + 1);
+    }
+
+    /**
+     * Returns the hit result of a terminated lane.
+     *
+     * <p>
+     *     The returned value is equivalent to what
+     *     {@link CpuVoxelRayTraversal#traceFirstHit} returns for the same ray.
+     *     This method allocates and is intended for tests and non-bulk callers.
+     * </p>
+     *
+     * @param lane lane index
+     * @return the hit result, or {@code Optional.empty()} if the lane missed
+     */
+    public Optional<VoxelHitResult> result(int lane) {
+        Objects.checkIndex(lane, capacity);
+        if (!hit[lane]) {
+            return Optional.empty();
+        }
+
+        Vec3f normal = switch (enteredAxis[lane]) {
+            case AXIS_X -> new CpuVec3f(-stepX[lane], 0, 0);
+            case AXIS_Y -> new CpuVec3f(0, -stepY[lane], 0);
+            case AXIS_Z -> new CpuVec3f(0, 0, -stepZ[lane]);
+            default -> new CpuVec3f(0, 0, 0); // starting voxel
+        };
+
+        return Optional.of(
+                new VoxelHitResult(voxelX[lane], voxelY[lane], voxelZ[lane], t[lane], normal)
+        );
+    }
+}
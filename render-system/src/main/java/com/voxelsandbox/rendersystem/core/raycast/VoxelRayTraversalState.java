@@ -36,6 +36,12 @@ package com.voxelsandbox.rendersystem.core.raycast;
  *     <li> clear separation of concerns </li>
  *     <li> future CPU/GPU parity </li>
  * </ul>
+ *
+ * <p>
+ *     A single instance may be re-initialized for successive rays with
+ *     {@link VoxelRayInitializer#initialize(float, float, float, float, float, float, VoxelRayTraversalState)},
+ *     which allows bulk traversal without per-ray allocations.
+ * </p>
  */
 public final class VoxelRayTraversalState {
 
@@ -70,15 +76,15 @@ public final class VoxelRayTraversalState {
      *     depending on ray direction.
      * </p>
      */
-    public final int stepX;
+    public int stepX;
     /**
      * Step direction along the Y axis.
      */
-    public final int stepY;
+    public int stepY;
     /**
      * Step direction along the Z axis.
      */
-    public final int stepZ;
+    public int stepZ;
 
 
     /* ==========================================================
@@ -103,17 +109,28 @@ public final class VoxelRayTraversalState {
     /**
      * Distance required to cross one voxel along X.
      */
-    public final float tDeltaX;
+    public float tDeltaX;
 
     /**
      * Distance required to cross one voxel along Y.
      */
-    public final float tDeltaY;
+    public float tDeltaY;
 
     /**
      * Distance required to cross one voxel along Z.
      */
-    public final float tDeltaZ;
+    public float tDeltaZ;
+
+    /**
+     * Creates an uninitialized traversal state.
+     *
+     * <p>
+     *     The state MUST be initialized by {@link VoxelRayInitializer}
+     *     before it is stepped.
+     * </p>
+     */
+    public VoxelRayTraversalState() {
+    }
 
     /**
      * Creates a new voxel ray traversal state.
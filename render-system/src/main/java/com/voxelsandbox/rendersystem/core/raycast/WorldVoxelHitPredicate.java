@@ -17,6 +17,11 @@ import java.util.Objects;
  *     This class acts as an adapter between the ray traversal
  *     system and the voxel world representation.
  * </p>
+ *
+ * <p>
+ *     It declares {@link #hitsOnlySolidVoxels()}, so traversals of the
+ *     same world view may end rays above its terrain ceiling.
+ * </p>
  */
 public final class WorldVoxelHitPredicate implements VoxelHitPredicate {
 
@@ -35,4 +40,9 @@ public final class WorldVoxelHitPredicate implements VoxelHitPredicate {
     public boolean isHit(int x, int y, int z) {
         return world.isSolid(x, y, z);
     }
+
+    @Override
+    public boolean hitsOnlySolidVoxels() {
+        return true;
+    }
 }
\ No newline at end of file
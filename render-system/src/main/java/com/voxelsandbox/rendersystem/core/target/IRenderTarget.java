@@ -0,0 +1,77 @@
+package com.voxelsandbox.rendersystem.core.target;
+
+
+/**
+ * Output surface of a render loop.
+ *
+ * <p>
+ *     A render target is a fixed-size, two-dimensional grid of pixels
+ *     into which a render loop writes its final image. It may be backed by
+ *     CPU memory, a GPU framebuffer or a test surface.
+ * </p>
+ *
+ * <p>
+ *     Frame lifecycle:
+ * </p>
+ * <ul>
+ *     <li> {@link #beginFrame()} is called once before any pixel is written </li>
+ *     <li> pixels are written with {@link #drawPixel(int, int, int)} </li>
+ *     <li> {@link #endFrame()} is called once after the last pixel </li>
+ * </ul>
+ *
+ * <p>
+ *     Pixel coordinates have their origin in the top-left corner, with
+ *     {@code x} growing right and {@code y} growing down. Colors are
+ *     packed {@code 0xAARRGGBB} integers.
+ * </p>
+ *
+ * <p>
+ *     This interface is intentionally backend-agnostic:
+ * </p>
+ * <ul>
+ *     <li> no GPU or OpenGL assumptions </li>
+ *     <li> no windowing or presentation semantics </li>
+ *     <li> no threading guarantees </li>
+ * </ul>
+ */
+public interface IRenderTarget {
+
+    /**
+     * Width of the target in pixels.
+     *
+     * @return target width
+     */
+    int getWidth();
+
+    /**
+     * Height of the target in pixels.
+     *
+     * @return target height
+     */
+    int getHeight();
+
+    /**
+     * Marks the beginning of a frame.
+     */
+    void beginFrame();
+
+    /**
+     * Marks the end of a frame.
+     *
+     * <p>
+     *     After this call, the written image is considered complete.
+     * </p>
+     */
+    void endFrame();
+
+    /**
+     * Writes a single pixel.
+     *
+     * @param x pixel column, in {@code [0, width)}
+     * @param y pixel row, in {@code [0, height)}
+     * @param argb packed {@code 0xAARRGGBB} color
+     *
+     * @throws IndexOutOfBoundsException if the coordinates lie outside the target
+     */
+    void drawPixel(int x, int y, int argb);
+}
@@ -0,0 +1,29 @@
+package com.voxelsandbox.rendersystem.core.world;
+
+
+/**
+ * Voxel world view that can also answer solidity queries on coarser grids.
+ *
+ * <p>
+ *     A cell of level {@code k} covers the voxels
+ *     {@code [c * 2^k, (c + 1) * 2^k)} on each axis. Level 0 cells are
+ *     single voxels and match {@link #isSolid(int, int, int)}.
+ * </p>
+ */
+public interface ILodVoxelWorldView extends IVoxelWorldView {
+
+    /**
+     * Returns whether a cell of the given level is solid.
+     *
+     * <p>
+     *     Cells of chunks that are not loaded are reported as not solid.
+     * </p>
+     *
+     * @param level level of detail
+     * @param cellX cell X coordinate at that level
+     * @param cellY cell Y coordinate at that level
+     * @param cellZ cell Z coordinate at that level
+     * @return {@code true} if the cell is solid
+     */
+    boolean isSolid(int level, int cellX, int cellY, int cellZ);
+}
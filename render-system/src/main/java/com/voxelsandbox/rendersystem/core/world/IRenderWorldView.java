@@ -2,7 +2,9 @@ package com.voxelsandbox.rendersystem.core.world;
 
 import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 
 /**
@@ -45,6 +47,64 @@ public interface IRenderWorldView {
      */
     Collection<IRenderChunkView> getRenderableChunks();
 
+    /**
+     * Returns the renderable chunks intersecting an axis-aligned box.
+     *
+     * <p>
+     *     The box is given in world voxel coordinates, bounds inclusive. A
+     *     chunk occupies the half-open range
+     *     {@code [c * size, (c + 1) * size)} on each axis and is returned if
+     *     that range overlaps the box.
+     * </p>
+     *
+     * <p>
+     *     The default implementation filters {@link #getRenderableChunks()};
+     *     implementations with a spatial index should override it.
+     * </p>
+     *
+     * @param minX minimum x
+     * @param minY minimum y
+     * @param minZ minimum z
+     * @param maxX maximum x
+     * @param maxY maximum y
+     * @param maxZ maximum z
+     * @return renderable chunks intersecting the box
+     */
+    default Collection<IRenderChunkView> getRenderableChunks(
+            float minX,
+            float minY,
+            float minZ,
+            float maxX,
+            float maxY,
+            float maxZ
+    ) {
+        List<IRenderChunkView> result = new ArrayList<>();
+        for (IRenderChunkView chunk : getRenderableChunks()) {
+            int size = chunk.getChunkSize();
+            if (overlaps(chunk.getChunkX(), size, minX, maxX)
+                    && overlaps(chunk.getChunkY(), size, minY, maxY)
+                    && overlaps(chunk.getChunkZ(), size, minZ, maxZ)) {
+                result.add(chunk);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether chunk coordinate {@code c} overlaps {@code [min, max]}
+     * on one axis.
+     *
+     * @param c chunk coordinate
+     * @param size chunk size in voxels
+     * @param min inclusive minimum
+     * @param max inclusive maximum
+     * @return {@code true} if the ranges overlap
+     */
+    private static boolean overlaps(int c, int size, float min, float max) {
+        long start = (long) c * size;
+        return start <= max && start + size > min;
+    }
+
     /**
      * Returns the minimum world height (inclusive).
      *
@@ -43,4 +43,37 @@ public interface IVoxelWorldView {
      * @return true if the corresponding chunk is loaded
      */
     boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ);
+
+    /**
+     * Returns the y of the highest solid voxel in a column.
+     *
+     * <p>
+     *     Implementations backed by a heightmap answer in constant time.
+     *     The default reports no bound, {@link Integer#MAX_VALUE}.
+     * </p>
+     *
+     * @param x voxel X coordinate
+     * @param z voxel Z coordinate
+     *
+     * @return an upper bound of the solid voxels of the column
+     */
+    default int getHighestSolidY(int x, int z) {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the y of the highest solid voxel over the whole view.
+     *
+     * <p>
+     *     Ray traversals whose hit predicate only accepts solid voxels
+     *     read it once per ray and end rays that are above it and not
+     *     descending. The default reports no bound,
+     *     {@link Integer#MAX_VALUE}, which disables that early exit.
+     * </p>
+     *
+     * @return an upper bound of the solid voxels of the view
+     */
+    default int getMaxSolidY() {
+        return Integer.MAX_VALUE;
+    }
 }
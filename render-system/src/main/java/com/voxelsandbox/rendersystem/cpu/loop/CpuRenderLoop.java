@@ -1,12 +1,28 @@
 package com.voxelsandbox.rendersystem.cpu.loop;
 
 
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
 import com.voxelsandbox.rendersystem.core.context.IRenderContext;
+import com.voxelsandbox.rendersystem.core.lod.LodSelector;
 import com.voxelsandbox.rendersystem.core.loop.IRenderLoop;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMesh;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMeshingService;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.Frustum;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.FrustumChunkCuller;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.FrustumCullingStats;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.OcclusionCuller;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.OcclusionCullingStats;
 import com.voxelsandbox.rendersystem.core.target.IRenderTarget;
 import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
+import com.voxelsandbox.rendersystem.cpu.raster.TileRasterizer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 
 /**
@@ -25,9 +41,147 @@ import java.util.Objects;
  *     <li> automated testing </li>
  *     <li> headless execution </li>
  * </ul>
+ *
+ * <p>
+ *     When constructed with a {@link ChunkMeshingService}, each frame
+ *     installs the meshes finished since the previous frame and looks up
+ *     chunk meshes without waiting for pending work.
+ * </p>
+ *
+ * <p>
+ *     When constructed with a camera, only chunks intersecting the camera
+ *     frustum and not hidden behind solid voxels are processed, and their
+ *     meshes are drawn into the primary render target with a
+ *     {@link TileRasterizer}. Chunks whose mesh is not ready yet are
+ *     skipped for the frame.
+ * </p>
+ *
+ * <p>
+ *     With a {@link LodSelector}, each chunk is drawn with the mesh of the
+ *     level selected from its distance to the camera, falling back to the
+ *     full-detail mesh while that level is being meshed.
+ * </p>
  */
 public final class CpuRenderLoop implements IRenderLoop {
 
+    private final ChunkMeshingService meshing;
+    private final Supplier<? extends ICamera3D> camera;
+    private final TileRasterizer rasterizer;
+    private final LodSelector lodSelector;
+    private final FrustumChunkCuller culler = new FrustumChunkCuller();
+    private final List<IRenderChunkView> visible = new ArrayList<>();
+    private final OcclusionCuller occlusionCuller = new OcclusionCuller();
+    private final List<IRenderChunkView> unoccluded = new ArrayList<>();
+
+    private FrustumCullingStats lastCullingStats;
+    private OcclusionCullingStats lastOcclusionStats;
+
+    /**
+     * Creates a render loop without chunk meshing.
+     */
+    public CpuRenderLoop() {
+        this.meshing = null;
+        this.camera = null;
+        this.rasterizer = null;
+        this.lodSelector = null;
+    }
+
+    /**
+     * Creates a render loop drawing meshes produced by the given service.
+     *
+     * @param meshing the meshing service
+     *
+     * @throws NullPointerException if {@code meshing} is {@code null}
+     */
+    public CpuRenderLoop(ChunkMeshingService meshing) {
+        this.meshing = Objects.requireNonNull(meshing, "meshing must not be null");
+        this.camera = null;
+        this.rasterizer = null;
+        this.lodSelector = null;
+    }
+
+    /**
+     * Creates a render loop drawing the meshes of chunks visible from a
+     * camera on the calling thread.
+     *
+     * @param meshing the meshing service
+     * @param camera supplier of the camera for each frame
+     *
+     * @throws NullPointerException if an argument is {@code null}
+     */
+    public CpuRenderLoop(ChunkMeshingService meshing, Supplier<? extends ICamera3D> camera) {
+        this(meshing, camera, new TileRasterizer(Runnable::run, 1));
+    }
+
+    /**
+     * Creates a render loop drawing the meshes of chunks visible from a
+     * camera with the given rasterizer.
+     *
+     * <p>
+     *     The rasterizer remains owned by the caller.
+     * </p>
+     *
+     * @param meshing the meshing service
+     * @param camera supplier of the camera for each frame
+     * @param rasterizer rasterizer drawing the meshes
+     *
+     * @throws NullPointerException if an argument is {@code null}
+     */
+    public CpuRenderLoop(
+            ChunkMeshingService meshing,
+            Supplier<? extends ICamera3D> camera,
+            TileRasterizer rasterizer
+    ) {
+        this.meshing = Objects.requireNonNull(meshing, "meshing must not be null");
+        this.camera = Objects.requireNonNull(camera, "camera must not be null");
+        this.rasterizer = Objects.requireNonNull(rasterizer, "rasterizer must not be null");
+        this.lodSelector = null;
+    }
+
+    /**
+     * Creates a render loop drawing distant chunks with coarser meshes.
+     *
+     * <p>
+     *     The rasterizer remains owned by the caller.
+     * </p>
+     *
+     * @param meshing the meshing service
+     * @param camera supplier of the camera for each frame
+     * @param rasterizer rasterizer drawing the meshes
+     * @param lodSelector selector choosing the level of each chunk
+     *
+     * @throws NullPointerException if an argument is {@code null}
+     */
+    public CpuRenderLoop(
+            ChunkMeshingService meshing,
+            Supplier<? extends ICamera3D> camera,
+            TileRasterizer rasterizer,
+            LodSelector lodSelector
+    ) {
+        this.meshing = Objects.requireNonNull(meshing, "meshing must not be null");
+        this.camera = Objects.requireNonNull(camera, "camera must not be null");
+        this.rasterizer = Objects.requireNonNull(rasterizer, "rasterizer must not be null");
+        this.lodSelector = Objects.requireNonNull(lodSelector, "lodSelector must not be null");
+    }
+
+    /**
+     * Returns the frustum culling metrics of the last frame.
+     *
+     * @return culling metrics, or {@code null} if no frame was culled yet
+     */
+    public FrustumCullingStats getLastCullingStats() {
+        return lastCullingStats;
+    }
+
+    /**
+     * Returns the occlusion culling metrics of the last frame.
+     *
+     * @return occlusion metrics, or {@code null} if no frame was culled yet
+     */
+    public OcclusionCullingStats getLastOcclusionStats() {
+        return lastOcclusionStats;
+    }
+
     @Override
     public void renderFrame(IRenderWorldView worldView, IRenderContext context) {
         Objects.requireNonNull(worldView, "worldView must not be null");
@@ -38,10 +192,43 @@ public final class CpuRenderLoop implements IRenderLoop {
 
         target.beginFrame();
 
-        // Iteration only – no actual rendering yet
-        worldView.getRenderableChunks().forEach(chunk -> {
-            // placeholder for future rendering logic
-        });
+        if (meshing != null) {
+            meshing.pollCompleted();
+        }
+
+        if (camera == null) {
+            // Nothing to draw without a camera; looking meshes up keeps
+            // evicted ones scheduled
+            if (meshing != null) {
+                worldView.getRenderableChunks().forEach(meshing::getMesh);
+            }
+            target.endFrame();
+            return;
+        }
+
+        ICamera3D current = Objects.requireNonNull(camera.get(), "camera must not be null");
+        Mat4f view = current.getViewMatrix();
+        Mat4f projection = current.getProjectionMatrix();
+
+        visible.clear();
+        lastCullingStats = culler.cull(Frustum.fromCamera(view, projection), worldView, visible);
+
+        unoccluded.clear();
+        lastOcclusionStats = occlusionCuller.cull(view, projection, visible, unoccluded);
+
+        Vec3f eye = current.getPosition();
+        rasterizer.beginFrame(target.getWidth(), target.getHeight(), projection.multiply(view));
+        for (IRenderChunkView chunk : unoccluded) {
+            int level = lodSelector == null ? 0 : lodSelector.selectLevel(chunk, eye);
+            ChunkMesh mesh = meshing.getMesh(chunk, level);
+            if (mesh == null && level > 0) {
+                mesh = meshing.getMesh(chunk);
+            }
+            if (mesh != null) {
+                rasterizer.submit(mesh);
+            }
+        }
+        rasterizer.endFrame(target);
 
         target.endFrame();
     }
@@ -0,0 +1,91 @@
+package com.voxelsandbox.rendersystem.cpu.output;
+
+import com.voxelsandbox.rendersystem.cpu.target.CpuRenderTarget;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+
+/**
+ * Image file formats frames can be written in.
+ *
+ * <p>
+ *     Encoders read packed {@code 0xAARRGGBB} pixels straight from the
+ *     frame buffer and convert one row at a time, so writing a frame
+ *     never copies the whole image. The output stream is not closed.
+ * </p>
+ */
+public enum FrameImageFormat {
+
+    /**
+     * Binary PPM ({@code P6}), 8-bit RGB. Alpha is discarded.
+     */
+    PPM("ppm") {
+        @Override
+        void encode(int[] argb, int width, int height, OutputStream out) throws IOException {
+            PpmEncoder.encode(argb, width, height, out);
+        }
+    },
+
+    /**
+     * PNG, 8-bit RGBA.
+     */
+    PNG("png") {
+        @Override
+        void encode(int[] argb, int width, int height, OutputStream out) throws IOException {
+            PngEncoder.encode(argb, width, height, out);
+        }
+    };
+
+    private final String extension;
+
+    FrameImageFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file name extension of this format, without the dot.
+     *
+     * @return file extension
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Writes the current image of a render target.
+     *
+     * @param target the target
+     * @param out destination stream
+     * @throws IOException if writing fails
+     */
+    public void write(CpuRenderTarget target, OutputStream out) throws IOException {
+        Objects.requireNonNull(target, "target must not be null");
+        write(target.pixels(), target.getWidth(), target.getHeight(), out);
+    }
+
+    /**
+     * Writes a row-major image of packed {@code 0xAARRGGBB} pixels.
+     *
+     * @param argb pixels
+     * @param width image width
+     * @param height image height
+     * @param out destination stream
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the dimensions do not match the buffer
+     */
+    public void write(int[] argb, int width, int height, OutputStream out) throws IOException {
+        Objects.requireNonNull(argb, "argb must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be > 0");
+        }
+        if ((long) width * height > argb.length) {
+            throw new IllegalArgumentException("argb is smaller than width * height");
+        }
+        encode(argb, width, height, out);
+    }
+
+    abstract void encode(int[] argb, int width, int height, OutputStream out) throws IOException;
+}
@@ -0,0 +1,212 @@
+package com.voxelsandbox.rendersystem.cpu.output;
+
+import com.voxelsandbox.rendersystem.cpu.target.CpuRenderTarget;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Writes a sequence of rendered frames to numbered image files on a
+ * background thread.
+ *
+ * <p>
+ *     {@link #submit} copies the frame into one of a fixed number of
+ *     recycled buffers and returns immediately; encoding and file I/O
+ *     happen on a single daemon thread, in submission order. When every
+ *     buffer is still waiting to be written the frame is dropped instead
+ *     of blocking the caller, leaving a gap in the file numbering.
+ * </p>
+ *
+ * <p>
+ *     Frame {@code n} is written to
+ *     {@code directory/prefix-nnnnnn.extension}.
+ * </p>
+ *
+ * <p>
+ *     Threading: {@link #submit} and {@link #close()} must be called from
+ *     a single thread, normally the render thread. The counters may be
+ *     read from any thread.
+ * </p>
+ */
+public final class FrameSequenceExporter implements AutoCloseable {
+
+    /**
+     * Default number of frames that may wait to be written.
+     */
+    public static final int DEFAULT_BUFFERED_FRAMES = 3;
+
+    private final Path directory;
+    private final String prefix;
+    private final FrameImageFormat format;
+
+    private final BlockingQueue<int[]> freeBuffers;
+    private final ExecutorService writer;
+
+    private final AtomicLong writtenFrames = new AtomicLong();
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    private long nextFrame;
+    private boolean closed;
+
+    /**
+     * Creates an exporter with {@value #DEFAULT_BUFFERED_FRAMES} frame buffers.
+     *
+     * @param directory output directory, created if missing
+     * @param prefix file name prefix
+     * @param format image format
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    public FrameSequenceExporter(Path directory, String prefix, FrameImageFormat format) {
+        this(directory, prefix, format, DEFAULT_BUFFERED_FRAMES);
+    }
+
+    /**
+     * Creates an exporter.
+     *
+     * @param directory output directory, created if missing
+     * @param prefix file name prefix
+     * @param format image format
+     * @param bufferedFrames frames that may wait to be written before
+     *                       further frames are dropped
+     * @throws IllegalArgumentException if {@code bufferedFrames} is not positive
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    public FrameSequenceExporter(Path directory, String prefix, FrameImageFormat format, int bufferedFrames) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+        this.prefix = Objects.requireNonNull(prefix, "prefix must not be null");
+        this.format = Objects.requireNonNull(format, "format must not be null");
+        if (bufferedFrames <= 0) {
+            throw new IllegalArgumentException("bufferedFrames must be positive");
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create " + directory, e);
+        }
+
+        this.freeBuffers = new ArrayBlockingQueue<>(bufferedFrames);
+        for (int i = 0; i < bufferedFrames; i++) {
+            freeBuffers.add(new int[0]);
+        }
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "frame-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the current image of a target for writing.
+     *
+     * @param target the rendered target
+     * @return {@code true} if the frame was queued, {@code false} if it was
+     *         dropped because all buffers are in use
+     * @throws IllegalStateException if the exporter is closed
+     * @throws UncheckedIOException if writing a previous frame failed
+     */
+    public boolean submit(CpuRenderTarget target) {
+        Objects.requireNonNull(target, "target must not be null");
+        if (closed) {
+            throw new IllegalStateException("Exporter is closed");
+        }
+        rethrowFailure();
+
+        long frame = nextFrame++;
+        int[] buffer = freeBuffers.poll();
+        if (buffer == null) {
+            droppedFrames.incrementAndGet();
+            return false;
+        }
+
+        int width = target.getWidth();
+        int height = target.getHeight();
+        if (buffer.length != width * height) {
+            buffer = new int[width * height];
+        }
+        System.arraycopy(target.pixels(), 0, buffer, 0, buffer.length);
+
+        int[] pixels = buffer;
+        writer.execute(() -> write(frame, pixels, width, height));
+        return true;
+    }
+
+    /**
+     * Returns the file a frame number is written to.
+     *
+     * @param frame frame number
+     * @return output path
+     */
+    public Path getFramePath(long frame) {
+        return directory.resolve(String.format("%s-%06d.%s", prefix, frame, format.getExtension()));
+    }
+
+    public long getWrittenFrameCount() {
+        return writtenFrames.get();
+    }
+
+    public long getDroppedFrameCount() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Waits for queued frames to be written and stops the writer thread.
+     *
+     * @throws UncheckedIOException if writing a frame failed
+     * @throws IllegalStateException if interrupted while waiting
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writer.shutdown();
+        try {
+            while (!writer.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Keep waiting for large frames or slow storage
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writer.shutdownNow();
+            throw new IllegalStateException("Interrupted while writing frames", e);
+        }
+        rethrowFailure();
+    }
+
+    private void write(long frame, int[] pixels, int width, int height) {
+        try {
+            if (failure.get() == null) {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(getFramePath(frame)), 1 << 16)) {
+                    format.write(pixels, width, height, out);
+                }
+                writtenFrames.incrementAndGet();
+            }
+        } catch (IOException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            freeBuffers.add(pixels);
+        }
+    }
+
+    private void rethrowFailure() {
+        IOException e = failure.get();
+        if (e != null) {
+            throw new UncheckedIOException("Writing a frame failed", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.voxelsandbox.rendersystem.cpu.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+
+/**
+ * Minimal PNG encoder for 8-bit RGBA images.
+ *
+ * <p>
+ *     Every row uses the {@code Sub} filter, which compresses the flat
+ *     shaded output of the CPU renderers well at negligible cost. Rows are
+ *     deflated as they are converted and the compressed stream is split
+ *     into {@code IDAT} chunks of at most {@value #CHUNK_SIZE} bytes.
+ * </p>
+ */
+final class PngEncoder {
+
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private static final int COLOR_TYPE_RGBA = 6;
+    private static final int FILTER_SUB = 1;
+
+    private PngEncoder() {}
+
+    static void encode(int[] argb, int width, int height, OutputStream out) throws IOException {
+        out.write(SIGNATURE);
+
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;
+        header[9] = COLOR_TYPE_RGBA;
+        writeChunk(out, "IHDR", header, header.length);
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            byte[] row = new byte[1 + width * 4];
+            byte[] compressed = new byte[CHUNK_SIZE];
+            int pending = 0;
+
+            for (int y = 0; y < height; y++) {
+                filterRow(argb, y * width, width, row);
+                deflater.setInput(row);
+                while (!deflater.needsInput()) {
+                    pending += deflater.deflate(compressed, pending, CHUNK_SIZE - pending);
+                    if (pending == CHUNK_SIZE) {
+                        writeChunk(out, "IDAT", compressed, pending);
+                        pending = 0;
+                    }
+                }
+            }
+
+            deflater.finish();
+            while (!deflater.finished()) {
+                pending += deflater.deflate(compressed, pending, CHUNK_SIZE - pending);
+                if (pending == CHUNK_SIZE) {
+                    writeChunk(out, "IDAT", compressed, pending);
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                writeChunk(out, "IDAT", compressed, pending);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        writeChunk(out, "IEND", header, 0);
+    }
+
+    /**
+     * Converts one row to RGBA with the {@code Sub} filter: every byte
+     * stores its difference to the same channel of the previous pixel.
+     */
+    private static void filterRow(int[] argb, int offset, int width, byte[] row) {
+        row[0] = FILTER_SUB;
+        int previous = 0;
+        for (int x = 0, i = 1; x < width; x++) {
+            int pixel = argb[offset + x];
+            row[i++] = (byte) ((pixel >> 16) - (previous >> 16));
+            row[i++] = (byte) ((pixel >> 8) - (previous >> 8));
+            row[i++] = (byte) (pixel - previous);
+            row[i++] = (byte) ((pixel >>> 24) - (previous >>> 24));
+            previous = pixel;
+        }
+    }
+
+    private static void writeChunk(OutputStream out, String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        byte[] word = new byte[4];
+
+        putInt(word, 0, length);
+        out.write(word);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        putInt(word, 0, (int) crc.getValue());
+        out.write(word);
+    }
+
+    private static void putInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
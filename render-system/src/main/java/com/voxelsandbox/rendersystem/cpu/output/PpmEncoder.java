@@ -0,0 +1,30 @@
+package com.voxelsandbox.rendersystem.cpu.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Binary PPM ({@code P6}) encoder.
+ */
+final class PpmEncoder {
+
+    private PpmEncoder() {}
+
+    static void encode(int[] argb, int width, int height, OutputStream out) throws IOException {
+        out.write(("P6\n" + width + " " + height + "\n255\n").getBytes(StandardCharsets.US_ASCII));
+
+        byte[] row = new byte[width * 3];
+        for (int y = 0; y < height; y++) {
+            int offset = y * width;
+            for (int x = 0, i = 0; x < width; x++) {
+                int pixel = argb[offset + x];
+                row[i++] = (byte) (pixel >> 16);
+                row[i++] = (byte) (pixel >> 8);
+                row[i++] = (byte) pixel;
+            }
+            out.write(row);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.voxelsandbox.rendersystem.cpu.progressive;
+
+
+/**
+ * Computes the color of a single pixel.
+ *
+ * <p>
+ *     A pixel shader is the unit of work scheduled by
+ *     {@link ProgressiveCpuRenderer}. It is invoked for a subset of
+ *     pixels only; the renderer decides which pixels are evaluated
+ *     and how gaps are filled.
+ * </p>
+ *
+ * <p>
+ *     Implementations MUST be deterministic for the same inputs and
+ *     MUST NOT write to the render target themselves.
+ * </p>
+ */
+@FunctionalInterface
+public interface IPixelShader {
+
+    /**
+     * Returns the color of the given pixel.
+     *
+     * @param x pixel column
+     * @param y pixel row
+     * @return packed {@code 0xAARRGGBB} color
+     */
+    int shade(int x, int y);
+}
@@ -0,0 +1,222 @@
+package com.voxelsandbox.rendersystem.cpu.progressive;
+
+import com.voxelsandbox.rendersystem.core.target.IRenderTarget;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Progressive, time-budgeted CPU renderer.
+ *
+ * <p>
+ *     Instead of shading every pixel each frame, the image is refined in
+ *     three passes of increasing density:
+ * </p>
+ * <ul>
+ *     <li> 1/16 of the pixels (one per 4x4 block) </li>
+ *     <li> 1/4 of the pixels (one per 2x2 block) </li>
+ *     <li> all remaining pixels </li>
+ * </ul>
+ *
+ * <p>
+ *     Each shaded sample is immediately upsampled (nearest neighbour) over
+ *     the block it represents, so the image is complete after every
+ *     row of every pass. Pixels shaded by a coarser pass are never shaded
+ *     again: converging a frame costs exactly one sample per pixel.
+ * </p>
+ *
+ * <p>
+ *     Refinement proceeds row by row until the per-frame time budget is
+ *     spent; the current image is then presented and refinement resumes
+ *     on the next frame. At least one row is refined per frame, so
+ *     progress is guaranteed even with a zero budget. Once converged,
+ *     frames only present the cached image.
+ * </p>
+ *
+ * <p>
+ *     The caller MUST call {@link #invalidate()} whenever the shaded
+ *     content changes (camera motion, world edits); refinement then
+ *     restarts from the coarsest pass while the previous image remains
+ *     visible.
+ * </p>
+ *
+ * <p>
+ *     Instances are stateful and not thread-safe.
+ * </p>
+ */
+public final class ProgressiveCpuRenderer {
+
+    /**
+     * Sample spacing of each refinement pass, coarsest first.
+     */
+    private static final int[] STRIDES = {4, 2, 1};
+
+    private final long frameBudgetNanos;
+    private final LongSupplier nanoClock;
+
+    private int width;
+    private int height;
+    private int[] image;
+
+    private int pass;
+    private int row;
+
+    private int lastFrameSamples;
+
+    /**
+     * Creates a renderer measuring time with {@link System#nanoTime()}.
+     *
+     * @param frameBudget time allowed for refinement per frame
+     *
+     * @throws NullPointerException if {@code frameBudget} is {@code null}
+     * @throws IllegalArgumentException if {@code frameBudget} is negative
+     */
+    public ProgressiveCpuRenderer(Duration frameBudget) {
+        this(frameBudget, System::nanoTime);
+    }
+
+    /**
+     * Creates a renderer using the given clock.
+     *
+     * @param frameBudget time allowed for refinement per frame
+     * @param nanoClock monotonic clock in nanoseconds
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code frameBudget} is negative
+     */
+    public ProgressiveCpuRenderer(Duration frameBudget, LongSupplier nanoClock) {
+        Objects.requireNonNull(frameBudget, "frameBudget must not be null");
+        if (frameBudget.isNegative()) {
+            throw new IllegalArgumentException("frameBudget must not be negative");
+        }
+        this.frameBudgetNanos = frameBudget.toNanos();
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock must not be null");
+    }
+
+    /**
+     * Refines the image within the frame budget and presents it.
+     *
+     * <p>
+     *     If the target size differs from the previous frame, the cached
+     *     image is discarded and refinement restarts.
+     * </p>
+     *
+     * @param target render target receiving the full image
+     * @param shader shader evaluated for refined pixels
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void renderFrame(IRenderTarget target, IPixelShader shader) {
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(shader, "shader must not be null");
+
+        if (image == null || target.getWidth() != width || target.getHeight() != height) {
+            width = target.getWidth();
+            height = target.getHeight();
+            image = new int[width * height];
+            invalidate();
+        }
+
+        long start = nanoClock.getAsLong();
+        int samples = 0;
+
+        while (!isConverged()) {
+            samples += refineRow(shader);
+            if (nanoClock.getAsLong() - start >= frameBudgetNanos) {
+                break;
+            }
+        }
+
+        lastFrameSamples = samples;
+        present(target);
+    }
+
+    /**
+     * Restarts refinement from the coarsest pass.
+     *
+     * <p>
+     *     The current image is kept and shown until it is overwritten.
+     * </p>
+     */
+    public void invalidate() {
+        pass = 0;
+        row = 0;
+    }
+
+    /**
+     * Returns whether every pixel has been shaded since the last invalidation.
+     *
+     * @return {@code true} if the image is at full resolution
+     */
+    public boolean isConverged() {
+        return pass == STRIDES.length;
+    }
+
+    /**
+     * Returns the sample spacing of the pass currently being refined.
+     *
+     * @return {@code 4}, {@code 2} or {@code 1}
+     */
+    public int getCurrentStride() {
+        return isConverged() ? 1 : STRIDES[pass];
+    }
+
+    /**
+     * Returns the number of pixels shaded during the last frame.
+     *
+     * @return shaded sample count
+     */
+    public int getLastFrameSampleCount() {
+        return lastFrameSamples;
+    }
+
+    /* ==========================================================
+     * Internals
+     * ========================================================== */
+
+    private int refineRow(IPixelShader shader) {
+        int stride = STRIDES[pass];
+        int parent = pass == 0 ? 0 : STRIDES[pass - 1];
+        boolean parentRow = parent != 0 && row % parent == 0;
+
+        int samples = 0;
+        for (int x = 0; x < width; x += stride) {
+            if (parentRow && x % parent == 0) {
+                continue; // shaded by the coarser pass
+            }
+            fill(x, row, stride, shader.shade(x, row));
+            samples++;
+        }
+
+        row += stride;
+        if (row >= height) {
+            pass++;
+            row = 0;
+        }
+        return samples;
+    }
+
+    private void fill(int x, int y, int size, int argb) {
+        int endX = Math.min(x + size, width);
+        int endY = Math.min(y + size, height);
+        for (int py = y; py < endY; py++) {
+            int base = py * width;
+            for (int px = x; px < endX; px++) {
+                image[base + px] = argb;
+            }
+        }
+    }
+
+    private void present(IRenderTarget target) {
+        target.beginFrame();
+        for (int y = 0; y < height; y++) {
+            int base = y * width;
+            for (int x = 0; x < width; x++) {
+                target.drawPixel(x, y, image[base + x]);
+            }
+        }
+        target.endFrame();
+    }
+}
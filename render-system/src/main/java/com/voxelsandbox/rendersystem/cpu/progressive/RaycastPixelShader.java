@@ -0,0 +1,108 @@
+package com.voxelsandbox.rendersystem.cpu.progressive;
+
+import com.voxelsandbox.rendersystem.core.camera.CameraRayGenerator;
+import com.voxelsandbox.rendersystem.core.raycast.IVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitResult;
+import com.voxelsandbox.rendersystem.core.raycast.WorldVoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * {@link IPixelShader} that traces one primary ray per pixel through
+ * the voxel world.
+ *
+ * <p>
+ *     Hits are shaded with a constant base color attenuated by a fixed
+ *     per-face factor, so that block faces remain distinguishable without
+ *     a lighting model. Misses return the sky color.
+ * </p>
+ *
+ * <p>
+ *     Instances are bound to one camera state through their
+ *     {@link CameraRayGenerator} and should be recreated when the
+ *     camera changes.
+ * </p>
+ */
+public final class RaycastPixelShader implements IPixelShader {
+
+    /**
+     * Color returned for rays that hit nothing.
+     */
+    public static final int SKY_COLOR = 0xFF87CEEB;
+
+    /**
+     * Unshaded color of solid voxels.
+     */
+    public static final int SOLID_COLOR = 0xFFB4B4B4;
+
+    private final CameraRayGenerator rays;
+    private final IVoxelRayTraversal traversal;
+    private final IVoxelWorldView worldView;
+    private final VoxelHitPredicate hitPredicate;
+    private final float maxDistance;
+
+    /**
+     * Creates a raycast shader.
+     *
+     * @param rays primary ray generator for the current camera and viewport
+     * @param traversal voxel traversal implementation
+     * @param worldView world to trace against
+     * @param maxDistance maximum ray distance
+     *
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code maxDistance} is not positive
+     */
+    public RaycastPixelShader(
+            CameraRayGenerator rays,
+            IVoxelRayTraversal traversal,
+            IVoxelWorldView worldView,
+            float maxDistance
+    ) {
+        this.rays = Objects.requireNonNull(rays, "rays must not be null");
+        this.traversal = Objects.requireNonNull(traversal, "traversal must not be null");
+        this.worldView = Objects.requireNonNull(worldView, "worldView must not be null");
+        if (!(maxDistance > 0f)) {
+            throw new IllegalArgumentException("maxDistance must be > 0");
+        }
+        this.hitPredicate = new WorldVoxelHitPredicate(worldView);
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int shade(int x, int y) {
+        Optional<VoxelHitResult> hit = traversal.traceFirstHit(
+                rays.generateRay(x, y),
+                maxDistance,
+                worldView,
+                hitPredicate
+        );
+
+        if (hit.isEmpty()) {
+            return SKY_COLOR;
+        }
+
+        return scale(SOLID_COLOR, faceFactor(hit.get()));
+    }
+
+    private static float faceFactor(VoxelHitResult hit) {
+        if (hit.normal.y() > 0f) return 1.0f;
+        if (hit.normal.y() < 0f) return 0.5f;
+        if (hit.normal.x() != 0f) return 0.8f;
+        if (hit.normal.z() != 0f) return 0.65f;
+        return 1.0f; // ray started inside a solid voxel
+    }
+
+    private static int scale(int argb, float factor) {
+        int r = (int) (((argb >> 16) & 0xFF) * factor);
+        int g = (int) (((argb >> 8) & 0xFF) * factor);
+        int b = (int) ((argb & 0xFF) * factor);
+        return (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+    }
+}
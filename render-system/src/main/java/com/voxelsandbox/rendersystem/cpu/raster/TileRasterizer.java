@@ -0,0 +1,599 @@
+package com.voxelsandbox.rendersystem.cpu.raster;
+
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMesh;
+import com.voxelsandbox.rendersystem.core.target.IRenderTarget;
+import com.voxelsandbox.rendersystem.cpu.target.CpuRenderTarget;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Tile-based software rasterizer for chunk meshes.
+ *
+ * <p>
+ *     A frame is produced in three steps:
+ * </p>
+ * <ul>
+ *     <li> {@link #beginFrame} sizes the buffers and empties the tile bins </li>
+ *     <li> {@link #submit} transforms a mesh, clips its triangles against
+ *          the near plane, drops back faces and bins the remaining
+ *          triangles into {@value #TILE_SIZE}-pixel screen tiles </li>
+ *     <li> {@link #endFrame} clears and rasterizes the tiles in parallel
+ *          and copies the image into a render target </li>
+ * </ul>
+ *
+ * <p>
+ *     Tiles cover disjoint pixels and process their triangles in
+ *     submission order, so the image does not depend on the number of
+ *     threads. Buffers, bins and triangle storage are reused across
+ *     frames; rasterization performs no per-pixel or per-triangle
+ *     allocation.
+ * </p>
+ *
+ * <p>
+ *     Triangles are shaded with a per-type base color attenuated by the
+ *     same per-face factors as
+ *     {@link com.voxelsandbox.rendersystem.cpu.progressive.RaycastPixelShader}
+ *     and darkened by the ambient occlusion of their vertices. Occlusion is
+ *     interpolated linearly in screen space, like depth; voxel faces are
+ *     small enough on screen that the missing perspective correction is
+ *     not visible.
+ * </p>
+ *
+ * <p>
+ *     {@link #beginFrame}, {@link #submit} and {@link #endFrame} must be
+ *     called from a single thread.
+ * </p>
+ */
+public final class TileRasterizer implements AutoCloseable {
+
+    /**
+     * Edge length of a screen tile in pixels.
+     */
+    public static final int TILE_SIZE = 32;
+
+    /**
+     * Color of pixels not covered by any triangle.
+     */
+    public static final int CLEAR_COLOR = 0xFF87CEEB;
+
+    // Per-triangle record layout in the float store
+    private static final int TRIANGLE_FLOATS = 15;
+
+    // Per-vertex layout in the clip store: x, y, z, w, light
+    private static final int VERTEX_FLOATS = 5;
+
+    // Light lost per occlusion level; a fully occluded corner keeps 40%
+    private static final float OCCLUSION_STEP = 0.2f;
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int parallelism;
+
+    private int width;
+    private int height;
+    private int[] color = new int[0];
+    private float[] depth = new float[0];
+
+    private int tilesX;
+    private int tilesY;
+    private int[][] bins = new int[0][];
+    private int[] binCounts = new int[0];
+
+    private float[] triangles = new float[TRIANGLE_FLOATS * 1024];
+    private int[] triangleBounds = new int[4 * 1024];
+    private int[] triangleColors = new int[1024];
+    private int triangleCount;
+
+    private final float[] m = new float[16];
+    private float[] clip = new float[VERTEX_FLOATS * 1024];
+    private final float[] polygon = new float[4 * VERTEX_FLOATS];
+    private final float[] clipped = new float[4 * VERTEX_FLOATS];
+
+    private int submittedTriangles;
+    private boolean inFrame;
+
+    /**
+     * Creates a rasterizer backed by its own pool of daemon threads.
+     *
+     * @param threads number of rasterization threads
+     * @throws IllegalArgumentException if {@code threads} is not positive
+     */
+    public TileRasterizer(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cpu-raster-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor = pool;
+        this.ownedExecutor = pool;
+        this.parallelism = threads;
+    }
+
+    /**
+     * Creates a rasterizer running tile work on a caller-owned executor.
+     *
+     * <p>
+     *     The calling thread rasterizes tiles as well; with a direct
+     *     executor such as {@code Runnable::run} all work happens on the
+     *     calling thread. The executor is not shut down by {@link #close()}.
+     * </p>
+     *
+     * @param executor executor running tile work
+     * @param parallelism number of concurrent tile workers, including the
+     *                    calling thread
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    public TileRasterizer(Executor executor, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.ownedExecutor = null;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Starts a frame.
+     *
+     * @param width frame width in pixels
+     * @param height frame height in pixels
+     * @param viewProjection {@code projection * view}
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public void beginFrame(int width, int height, Mat4f viewProjection) {
+        Objects.requireNonNull(viewProjection, "viewProjection must not be null");
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be > 0");
+        }
+
+        if (width != this.width || height != this.height) {
+            this.width = width;
+            this.height = height;
+            color = new int[width * height];
+            depth = new float[width * height];
+
+            tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+            tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+            bins = new int[tilesX * tilesY][64];
+            binCounts = new int[tilesX * tilesY];
+        }
+
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                m[row * 4 + col] = viewProjection.get(row, col);
+            }
+        }
+
+        Arrays.fill(binCounts, 0);
+        triangleCount = 0;
+        submittedTriangles = 0;
+        inFrame = true;
+    }
+
+    /**
+     * Transforms and bins the triangles of a chunk mesh.
+     *
+     * @param mesh the mesh
+     * @throws IllegalStateException if no frame was started
+     */
+    public void submit(ChunkMesh mesh) {
+        Objects.requireNonNull(mesh, "mesh must not be null");
+        if (!inFrame) {
+            throw new IllegalStateException("beginFrame must be called before submit");
+        }
+        if (mesh.isEmpty()) {
+            return;
+        }
+
+        int[] vertices = mesh.vertices();
+        int[] indices = mesh.indices();
+        float scale = mesh.getVoxelScale();
+        float originX = (float) mesh.getChunkX() * mesh.getChunkSize() * scale;
+        float originY = (float) mesh.getChunkY() * mesh.getChunkSize() * scale;
+        float originZ = (float) mesh.getChunkZ() * mesh.getChunkSize() * scale;
+
+        if (clip.length < vertices.length * VERTEX_FLOATS) {
+            clip = new float[vertices.length * VERTEX_FLOATS];
+        }
+        for (int v = 0; v < vertices.length; v++) {
+            float x = originX + ChunkMesh.vertexX(vertices[v]) * scale;
+            float y = originY + ChunkMesh.vertexY(vertices[v]) * scale;
+            float z = originZ + ChunkMesh.vertexZ(vertices[v]) * scale;
+            int c = v * VERTEX_FLOATS;
+            clip[c] = m[0] * x + m[1] * y + m[2] * z + m[3];
+            clip[c + 1] = m[4] * x + m[5] * y + m[6] * z + m[7];
+            clip[c + 2] = m[8] * x + m[9] * y + m[10] * z + m[11];
+            clip[c + 3] = m[12] * x + m[13] * y + m[14] * z + m[15];
+            clip[c + 4] = 1f - ChunkMesh.vertexOcclusion(vertices[v]) * OCCLUSION_STEP;
+        }
+
+        for (int i = 0; i < indices.length; i += 3) {
+            submittedTriangles++;
+            int vertex = vertices[indices[i]];
+            int argb = shade(ChunkMesh.vertexVoxelType(vertex), ChunkMesh.vertexFace(vertex));
+            addTriangle(indices[i], indices[i + 1], indices[i + 2], argb);
+        }
+    }
+
+    /**
+     * Rasterizes the binned triangles and writes the image to a target of
+     * the frame's size.
+     *
+     * @param target destination target
+     * @throws IllegalStateException if no frame was started
+     * @throws IllegalArgumentException if the target size differs from the frame size
+     */
+    public void endFrame(IRenderTarget target) {
+        Objects.requireNonNull(target, "target must not be null");
+        if (!inFrame) {
+            throw new IllegalStateException("beginFrame must be called before endFrame");
+        }
+        if (target.getWidth() != width || target.getHeight() != height) {
+            throw new IllegalArgumentException("target size does not match the frame size");
+        }
+        inFrame = false;
+
+        rasterizeTiles();
+
+        if (target instanceof CpuRenderTarget cpuTarget) {
+            cpuTarget.setPixels(color);
+        } else {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    target.drawPixel(x, y, color[y * width + x]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of triangles submitted in the current or last frame.
+     *
+     * @return submitted triangle count
+     */
+    public int getSubmittedTriangleCount() {
+        return submittedTriangles;
+    }
+
+    /**
+     * Returns the number of triangles that survived clipping and back-face
+     * culling in the current or last frame.
+     *
+     * @return binned triangle count
+     */
+    public int getBinnedTriangleCount() {
+        return triangleCount;
+    }
+
+    /**
+     * Returns the depth buffer of the last frame as normalized device
+     * depth in {@code [-1, 1]}; uncovered pixels hold {@code 1}.
+     *
+     * @return depth buffer (read-only)
+     */
+    public float[] depthBuffer() {
+        return depth;
+    }
+
+    /**
+     * Shuts down the owned thread pool, if any.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    /* ==========================================================
+     * Triangle setup
+     * ========================================================== */
+
+    private void addTriangle(int a, int b, int c, int argb) {
+        System.arraycopy(clip, a * VERTEX_FLOATS, polygon, 0, VERTEX_FLOATS);
+        System.arraycopy(clip, b * VERTEX_FLOATS, polygon, VERTEX_FLOATS, VERTEX_FLOATS);
+        System.arraycopy(clip, c * VERTEX_FLOATS, polygon, 2 * VERTEX_FLOATS, VERTEX_FLOATS);
+
+        int count = 3;
+        float[] source = polygon;
+        if (nearDistance(polygon, 0) < 0f || nearDistance(polygon, 1) < 0f || nearDistance(polygon, 2) < 0f) {
+            count = clipNear(count);
+            if (count < 3) {
+                return;
+            }
+            source = clipped;
+        }
+
+        for (int i = 1; i + 1 < count; i++) {
+            setupTriangle(source, 0, i, i + 1, argb);
+        }
+    }
+
+    /**
+     * Clips {@link #polygon} against the near plane {@code z >= -w} into
+     * {@link #clipped}.
+     *
+     * @return vertex count of the clipped polygon
+     */
+    private int clipNear(int count) {
+        int out = 0;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            float di = nearDistance(polygon, i);
+            float dj = nearDistance(polygon, j);
+
+            if (di >= 0f) {
+                System.arraycopy(polygon, i * VERTEX_FLOATS, clipped, out * VERTEX_FLOATS, VERTEX_FLOATS);
+                out++;
+            }
+            if ((di >= 0f) != (dj >= 0f)) {
+                float t = di / (di - dj);
+                for (int k = 0; k < VERTEX_FLOATS; k++) {
+                    float from = polygon[i * VERTEX_FLOATS + k];
+                    clipped[out * VERTEX_FLOATS + k] = from + t * (polygon[j * VERTEX_FLOATS + k] - from);
+                }
+                out++;
+            }
+        }
+        return out;
+    }
+
+    private static float nearDistance(float[] vertices, int vertex) {
+        return vertices[vertex * VERTEX_FLOATS + 2] + vertices[vertex * VERTEX_FLOATS + 3];
+    }
+
+    private void setupTriangle(float[] source, int i0, int i1, int i2, int argb) {
+        int v0 = i0 * VERTEX_FLOATS;
+        int v1 = i1 * VERTEX_FLOATS;
+        int v2 = i2 * VERTEX_FLOATS;
+        float w0 = 1f / source[v0 + 3];
+        float w1 = 1f / source[v1 + 3];
+        float w2 = 1f / source[v2 + 3];
+
+        // Screen space: origin top-left, y down
+        float x0 = (source[v0] * w0 * 0.5f + 0.5f) * width;
+        float y0 = (0.5f - source[v0 + 1] * w0 * 0.5f) * height;
+        float z0 = source[v0 + 2] * w0;
+        float x1 = (source[v1] * w1 * 0.5f + 0.5f) * width;
+        float y1 = (0.5f - source[v1 + 1] * w1 * 0.5f) * height;
+        float z1 = source[v1 + 2] * w1;
+        float x2 = (source[v2] * w2 * 0.5f + 0.5f) * width;
+        float y2 = (0.5f - source[v2 + 1] * w2 * 0.5f) * height;
+        float z2 = source[v2 + 2] * w2;
+
+        // Counter-clockwise triangles become clockwise once y points down
+        float area = (x1 - x0) * (y2 - y0) - (x2 - x0) * (y1 - y0);
+        if (!(area < 0f)) {
+            return;
+        }
+        if (z0 > 1f && z1 > 1f && z2 > 1f) {
+            return;
+        }
+
+        int minX = Math.max(0, (int) Math.floor(Math.min(x0, Math.min(x1, x2))));
+        int minY = Math.max(0, (int) Math.floor(Math.min(y0, Math.min(y1, y2))));
+        int maxX = Math.min(width - 1, (int) Math.ceil(Math.max(x0, Math.max(x1, x2))));
+        int maxY = Math.min(height - 1, (int) Math.ceil(Math.max(y0, Math.max(y1, y2))));
+        if (minX > maxX || minY > maxY) {
+            return;
+        }
+
+        ensureTriangleCapacity();
+        int t = triangleCount;
+        int f = t * TRIANGLE_FLOATS;
+
+        // Edge functions e(x, y) = a * x + b * y + c, positive inside
+        float inverseArea = 1f / -area;
+        setEdge(f, x1, y1, x2, y2);
+        setEdge(f + 3, x2, y2, x0, y0);
+        setEdge(f + 6, x0, y0, x1, y1);
+
+        // Depth and light planes from barycentric weights of edges 1-2 and 2-0
+        float l0a = triangles[f] * inverseArea;
+        float l0b = triangles[f + 1] * inverseArea;
+        float l0c = triangles[f + 2] * inverseArea;
+        float l1a = triangles[f + 3] * inverseArea;
+        float l1b = triangles[f + 4] * inverseArea;
+        float l1c = triangles[f + 5] * inverseArea;
+        triangles[f + 9] = (z0 - z2) * l0a + (z1 - z2) * l1a;
+        triangles[f + 10] = (z0 - z2) * l0b + (z1 - z2) * l1b;
+        triangles[f + 11] = (z0 - z2) * l0c + (z1 - z2) * l1c + z2;
+        float s0 = source[v0 + 4];
+        float s1 = source[v1 + 4];
+        float s2 = source[v2 + 4];
+        triangles[f + 12] = (s0 - s2) * l0a + (s1 - s2) * l1a;
+        triangles[f + 13] = (s0 - s2) * l0b + (s1 - s2) * l1b;
+        triangles[f + 14] = (s0 - s2) * l0c + (s1 - s2) * l1c + s2;
+
+        triangleBounds[t * 4] = minX;
+        triangleBounds[t * 4 + 1] = minY;
+        triangleBounds[t * 4 + 2] = maxX;
+        triangleBounds[t * 4 + 3] = maxY;
+        triangleColors[t] = argb;
+        triangleCount++;
+
+        for (int ty = minY / TILE_SIZE; ty <= maxY / TILE_SIZE; ty++) {
+            for (int tx = minX / TILE_SIZE; tx <= maxX / TILE_SIZE; tx++) {
+                int bin = ty * tilesX + tx;
+                if (binCounts[bin] == bins[bin].length) {
+                    bins[bin] = Arrays.copyOf(bins[bin], bins[bin].length * 2);
+                }
+                bins[bin][binCounts[bin]++] = t;
+            }
+        }
+    }
+
+    private void setEdge(int offset, float ax, float ay, float bx, float by) {
+        // Positive on the inner side of a -> b for clockwise triangles
+        triangles[offset] = by - ay;
+        triangles[offset + 1] = ax - bx;
+        triangles[offset + 2] = ay * bx - ax * by;
+    }
+
+    private void ensureTriangleCapacity() {
+        if (triangleCount == triangleColors.length) {
+            int capacity = triangleColors.length * 2;
+            triangles = Arrays.copyOf(triangles, capacity * TRIANGLE_FLOATS);
+            triangleBounds = Arrays.copyOf(triangleBounds, capacity * 4);
+            triangleColors = Arrays.copyOf(triangleColors, capacity);
+        }
+    }
+
+    /* ==========================================================
+     * Tile rasterization
+     * ========================================================== */
+
+    private void rasterizeTiles() {
+        int tileCount = tilesX * tilesY;
+        int workers = Math.min(parallelism, tileCount);
+        AtomicInteger nextTile = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(workers - 1);
+
+        Runnable worker = () -> {
+            try {
+                for (int tile = nextTile.getAndIncrement(); tile < tileCount; tile = nextTile.getAndIncrement()) {
+                    rasterizeTile(tile);
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            }
+        };
+
+        for (int i = 1; i < workers; i++) {
+            executor.execute(() -> {
+                try {
+                    worker.run();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        worker.run();
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rasterizing", e);
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Tile rasterization failed", failure.get());
+        }
+    }
+
+    private void rasterizeTile(int tile) {
+        int tileX0 = (tile % tilesX) * TILE_SIZE;
+        int tileY0 = (tile / tilesX) * TILE_SIZE;
+        int tileX1 = Math.min(tileX0 + TILE_SIZE, width) - 1;
+        int tileY1 = Math.min(tileY0 + TILE_SIZE, height) - 1;
+
+        for (int y = tileY0; y <= tileY1; y++) {
+            Arrays.fill(color, y * width + tileX0, y * width + tileX1 + 1, CLEAR_COLOR);
+            Arrays.fill(depth, y * width + tileX0, y * width + tileX1 + 1, 1f);
+        }
+
+        int[] bin = bins[tile];
+        int count = binCounts[tile];
+        for (int i = 0; i < count; i++) {
+            int t = bin[i];
+            int minX = Math.max(tileX0, triangleBounds[t * 4]);
+            int minY = Math.max(tileY0, triangleBounds[t * 4 + 1]);
+            int maxX = Math.min(tileX1, triangleBounds[t * 4 + 2]);
+            int maxY = Math.min(tileY1, triangleBounds[t * 4 + 3]);
+            if (minX > maxX || minY > maxY) {
+                continue;
+            }
+
+            int f = t * TRIANGLE_FLOATS;
+            float a0 = triangles[f];
+            float b0 = triangles[f + 1];
+            float c0 = triangles[f + 2];
+            float a1 = triangles[f + 3];
+            float b1 = triangles[f + 4];
+            float c1 = triangles[f + 5];
+            float a2 = triangles[f + 6];
+            float b2 = triangles[f + 7];
+            float c2 = triangles[f + 8];
+            float za = triangles[f + 9];
+            float zb = triangles[f + 10];
+            float zc = triangles[f + 11];
+            float sa = triangles[f + 12];
+            float sb = triangles[f + 13];
+            float sc = triangles[f + 14];
+            int argb = triangleColors[t];
+            int r = (argb >>> 16) & 0xFF;
+            int g = (argb >>> 8) & 0xFF;
+            int b = argb & 0xFF;
+
+            float cx = minX + 0.5f;
+            for (int y = minY; y <= maxY; y++) {
+                float cy = y + 0.5f;
+                float e0 = a0 * cx + b0 * cy + c0;
+                float e1 = a1 * cx + b1 * cy + c1;
+                float e2 = a2 * cx + b2 * cy + c2;
+                float z = za * cx + zb * cy + zc;
+                float light = sa * cx + sb * cy + sc;
+                int index = y * width + minX;
+
+                for (int x = minX; x <= maxX; x++, index++) {
+                    if (e0 >= 0f && e1 >= 0f && e2 >= 0f && z >= -1f && z < depth[index]) {
+                        depth[index] = z;
+                        color[index] = 0xFF000000
+                                | ((int) (r * light) << 16)
+                                | ((int) (g * light) << 8)
+                                | (int) (b * light);
+                    }
+                    e0 += a0;
+                    e1 += a1;
+                    e2 += a2;
+                    z += za;
+                    light += sa;
+                }
+            }
+        }
+    }
+
+    /* ==========================================================
+     * Shading
+     * ========================================================== */
+
+    /**
+     * Returns the flat color of a face of the given voxel type.
+     *
+     * @param voxelType voxel type
+     * @param face one of the {@code ChunkMesh.FACE_*} constants
+     * @return packed {@code 0xAARRGGBB} color
+     */
+    public static int shade(int voxelType, int face) {
+        // Spread types over the palette, keeping channels mid-bright
+        int hash = voxelType * 0x9E3779B1;
+        int r = 96 + ((hash >>> 24) & 0x7F);
+        int g = 96 + ((hash >>> 16) & 0x7F);
+        int b = 96 + ((hash >>> 8) & 0x7F);
+
+        float factor = switch (face) {
+            case ChunkMesh.FACE_POS_Y -> 1.0f;
+            case ChunkMesh.FACE_NEG_Y -> 0.5f;
+            case ChunkMesh.FACE_POS_X, ChunkMesh.FACE_NEG_X -> 0.8f;
+            default -> 0.65f;
+        };
+        return 0xFF000000
+                | ((int) (r * factor) << 16)
+                | ((int) (g * factor) << 8)
+                | (int) (b * factor);
+    }
+}
@@ -0,0 +1,201 @@
+package com.voxelsandbox.rendersystem.cpu.target;
+
+import com.voxelsandbox.rendersystem.core.target.IRenderTarget;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * CPU memory implementation of {@link IRenderTarget}.
+ *
+ * <p>
+ *     Pixels are stored as packed {@code 0xAARRGGBB} integers in a
+ *     row-major array. Contents persist across frames until they are
+ *     overwritten or {@link #clear(int)} is called.
+ * </p>
+ *
+ * <p>
+ *     This implementation:
+ * </p>
+ * <ul>
+ *     <li> does NOT require a GPU </li>
+ *     <li> supports headless execution </li>
+ *     <li> allows pixels to be read back for testing </li>
+ * </ul>
+ *
+ * <p>
+ *     Instances are not thread-safe.
+ * </p>
+ */
+public class CpuRenderTarget implements IRenderTarget {
+
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+
+    /**
+     * Creates a target of the given size, initialized to transparent black.
+     *
+     * @param width target width in pixels
+     * @param height target height in pixels
+     *
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public CpuRenderTarget(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be > 0");
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+    }
+
+    /**
+     * Creates a target writing directly into a caller-supplied buffer.
+     *
+     * <p>
+     *     The buffer is used without copying; its current contents become
+     *     the initial image.
+     * </p>
+     *
+     * @param width target width in pixels
+     * @param height target height in pixels
+     * @param pixels row-major packed {@code 0xAARRGGBB} buffer of
+     *               {@code width * height} elements
+     *
+     * @throws IllegalArgumentException if a dimension is not positive or
+     *                                  the buffer length does not match
+     */
+    public CpuRenderTarget(int width, int height, int[] pixels) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be > 0");
+        }
+        Objects.requireNonNull(pixels, "pixels must not be null");
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("pixels length must be width * height");
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     The CPU target keeps its previous contents.
+     * </p>
+     */
+    @Override
+    public void beginFrame() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endFrame() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawPixel(int x, int y, int argb) {
+        pixels[index(x, y)] = argb;
+    }
+
+    /**
+     * Writes a single pixel.
+     *
+     * <p>
+     *     Equivalent to {@link #drawPixel(int, int, int)}.
+     * </p>
+     *
+     * @param x pixel column
+     * @param y pixel row
+     * @param argb packed {@code 0xAARRGGBB} color
+     *
+     * @throws IndexOutOfBoundsException if the coordinates lie outside the target
+     */
+    public void setPixel(int x, int y, int argb) {
+        pixels[index(x, y)] = argb;
+    }
+
+    /**
+     * Reads a single pixel.
+     *
+     * @param x pixel column
+     * @param y pixel row
+     * @return packed {@code 0xAARRGGBB} color
+     *
+     * @throws IndexOutOfBoundsException if the coordinates lie outside the target
+     */
+    public int getPixel(int x, int y) {
+        return pixels[index(x, y)];
+    }
+
+    /**
+     * Returns the backing pixel buffer without copying.
+     *
+     * <p>
+     *     The array is row-major with packed {@code 0xAARRGGBB} colors;
+     *     writes to it are visible through the target. It is exposed so
+     *     that frames can be encoded or uploaded without an intermediate
+     *     copy.
+     * </p>
+     *
+     * @return backing pixel buffer
+     */
+    public int[] pixels() {
+        return pixels;
+    }
+
+    /**
+     * Copies a full image into the target.
+     *
+     * @param argb row-major packed {@code 0xAARRGGBB} colors, one per pixel
+     *
+     * @throws IllegalArgumentException if the array length differs from
+     *                                  {@code width * height}
+     */
+    public void setPixels(int[] argb) {
+        Objects.requireNonNull(argb, "argb must not be null");
+        if (argb.length != pixels.length) {
+            throw new IllegalArgumentException("argb length must be width * height");
+        }
+        System.arraycopy(argb, 0, pixels, 0, pixels.length);
+    }
+
+    /**
+     * Fills the whole target with one color.
+     *
+     * @param argb packed {@code 0xAARRGGBB} color
+     */
+    public void clear(int argb) {
+        Arrays.fill(pixels, argb);
+    }
+
+    private int index(int x, int y) {
+        Objects.checkIndex(x, width);
+        Objects.checkIndex(y, height);
+        return y * width + x;
+    }
+}
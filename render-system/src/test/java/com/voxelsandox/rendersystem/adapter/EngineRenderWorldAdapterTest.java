@@ -0,0 +1,136 @@
+package com.voxelsandox.rendersystem.adapter;
+
+import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.rendersystem.adapter.EngineRenderWorldAdapter;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineRenderWorldAdapterTest {
+
+    @Test
+    void indexesChunksLoadedBeforeConstruction() {
+        World world = new World(1L, new FlatWorldGenerator());
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(1, 0, 0));
+
+        EngineRenderWorldAdapter adapter = new EngineRenderWorldAdapter(world);
+
+        assertEquals(2, adapter.getRenderableChunks().size());
+    }
+
+    @Test
+    void renderableSetIsMaintainedFromEvents() {
+        World world = new World(1L, new FlatWorldGenerator());
+        EngineRenderWorldAdapter adapter = new EngineRenderWorldAdapter(world);
+
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.loadChunk(new ChunkPosition(0, 1, 0));
+        assertEquals(2, adapter.getRenderableChunks().size());
+
+        world.unloadChunk(new ChunkPosition(0, 0, 0));
+        Collection<IRenderChunkView> chunks = adapter.getRenderableChunks();
+
+        assertEquals(1, chunks.size());
+        assertEquals(1, chunks.iterator().next().getChunkY());
+    }
+
+    @Test
+    void closeUnregistersFromTheWorld() {
+        World world = new World(1L, new FlatWorldGenerator());
+        EngineRenderWorldAdapter adapter = new EngineRenderWorldAdapter(world);
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+
+        adapter.close();
+        adapter.close();
+        world.loadChunk(new ChunkPosition(1, 0, 0));
+        world.unloadChunk(new ChunkPosition(0, 0, 0));
+
+        Collection<IRenderChunkView> chunks = adapter.getRenderableChunks();
+        assertEquals(1, chunks.size());
+        assertEquals(0, chunks.iterator().next().getChunkX());
+    }
+
+    @Test
+    void snapshotAndChunkAdaptersAreReusedAcrossCalls() {
+        World world = new World(1L, new FlatWorldGenerator());
+        EngineRenderWorldAdapter adapter = new EngineRenderWorldAdapter(world);
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+
+        Collection<IRenderChunkView> first = adapter.getRenderableChunks();
+
+        // Reloading a present chunk and editing voxels do not change the set
+        world.loadChunk(new ChunkPosition(0, 0, 0));
+        world.setVoxel(1, 1, 1, world.getVoxel(1, 1, 1));
+
+        assertSame(first, adapter.getRenderableChunks());
+
+        world.loadChunk(new ChunkPosition(5, 0, 0));
+        Collection<IRenderChunkView> second = adapter.getRenderableChunks();
+
+        assertNotSame(first, second);
+        IRenderChunkView origin = first.iterator().next();
+        assertTrue(second.stream().anyMatch(chunk -> chunk == origin));
+    }
+
+    @Test
+    void boxQueryMatchesBruteForceFilter() {
+        World world = new World(1L, new FlatWorldGenerator());
+        EngineRenderWorldAdapter adapter = new EngineRenderWorldAdapter(world);
+        for (int x = -4; x <= 4; x++) {
+            for (int y = 0; y <= 2; y++) {
+                for (int z = -4; z <= 4; z++) {
+                    world.loadChunk(new ChunkPosition(x, y, z));
+                }
+            }
+        }
+
+        IRenderWorldView unindexed = new IRenderWorldView() {
+            @Override
+            public Collection<IRenderChunkView> getRenderableChunks() {
+                return adapter.getRenderableChunks();
+            }
+
+            @Override
+            public int getMinY() {
+                return adapter.getMinY();
+            }
+
+            @Override
+            public int getMaxY() {
+                return adapter.getMaxY();
+            }
+        };
+
+        float[][] boxes = {
+                {0f, 0f, 0f, 0f, 0f, 0f},
+                {-0.5f, 3f, -0.5f, 16f, 20f, 15.99f},
+                {-20f, -100f, -20f, 40f, 100f, 10f},
+                {-1000f, -1000f, -1000f, 1000f, 1000f, 1000f},
+                {500f, 0f, 500f, 600f, 10f, 600f},
+                {10f, 10f, 10f, 5f, 5f, 5f}
+        };
+
+        for (float[] b : boxes) {
+            Set<IRenderChunkView> expected = new HashSet<>(
+                    unindexed.getRenderableChunks(b[0], b[1], b[2], b[3], b[4], b[5])
+            );
+            Set<IRenderChunkView> actual = new HashSet<>(
+                    adapter.getRenderableChunks(b[0], b[1], b[2], b[3], b[4], b[5])
+            );
+            assertEquals(expected, actual);
+        }
+
+        // Single voxel at the origin touches exactly one chunk
+        assertEquals(1, adapter.getRenderableChunks(0f, 0f, 0f, 0f, 0f, 0f).size());
+        assertEquals(4, adapter.getRenderableChunks(-1f, 1f, -1f, 0f, 1f, 0f).size());
+    }
+}
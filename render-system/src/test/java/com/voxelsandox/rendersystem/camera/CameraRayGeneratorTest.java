@@ -0,0 +1,118 @@
+package com.voxelsandox.rendersystem.camera;
+
+import com.voxelsandbox.rendersystem.core.camera.CameraRayGenerator;
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.camera.PerspectiveCamera3D;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CameraRayGeneratorTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    @Test
+    void matchesCameraRaysForAxisAlignedCamera() {
+
+        ICamera3D camera = new PerspectiveCamera3D(
+                new CpuVec3f(0f, 0f, 0f),
+                new CpuVec3f(0f, 0f, -1f),
+                new CpuVec3f(0f, 1f, 0f),
+                (float) Math.toRadians(60),
+                800f / 600f,
+                0.1f,
+                1000f
+        );
+
+        assertMatchesCamera(camera, 80, 60);
+    }
+
+    @Test
+    void matchesCameraRaysForRotatedAndTranslatedCamera() {
+
+        Vec3f forward = new CpuVec3f(0.4f, -0.3f, -0.8f).normalize();
+        Vec3f right = forward.cross(new CpuVec3f(0f, 1f, 0f)).normalize();
+        Vec3f up = right.cross(forward).normalize();
+
+        ICamera3D camera = new PerspectiveCamera3D(
+                new CpuVec3f(12.5f, 40f, -7.25f),
+                forward,
+                up,
+                (float) Math.toRadians(75),
+                16f / 9f,
+                0.1f,
+                500f
+        );
+
+        assertMatchesCamera(camera, 64, 36);
+    }
+
+    @Test
+    void bulkDirectionsMatchPerPixelDirections() {
+
+        ICamera3D camera = new PerspectiveCamera3D(
+                new CpuVec3f(1f, 2f, 3f),
+                new CpuVec3f(0f, 0f, -1f),
+                new CpuVec3f(0f, 1f, 0f),
+                (float) Math.toRadians(90),
+                1f,
+                0.1f,
+                100f
+        );
+
+        CameraRayGenerator generator = new CameraRayGenerator(camera, 17, 13);
+        float[] directions = new float[3 * 17 * 13];
+        generator.generateDirections(directions);
+
+        for (int y = 0; y < 13; y++) {
+            for (int x = 0; x < 17; x++) {
+                Vec3f d = generator.generateDirection(x, y);
+                int i = 3 * (y * 17 + x);
+                assertEquals(d.x(), directions[i], EPSILON);
+                assertEquals(d.y(), directions[i + 1], EPSILON);
+                assertEquals(d.z(), directions[i + 2], EPSILON);
+            }
+        }
+    }
+
+    @Test
+    void rejectsUndersizedOutputBuffer() {
+
+        ICamera3D camera = new PerspectiveCamera3D(
+                new CpuVec3f(0f, 0f, 0f),
+                new CpuVec3f(0f, 0f, -1f),
+                new CpuVec3f(0f, 1f, 0f),
+                (float) Math.toRadians(60),
+                1f,
+                0.1f,
+                100f
+        );
+
+        CameraRayGenerator generator = new CameraRayGenerator(camera, 4, 4);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> generator.generateDirections(new float[3 * 4 * 4 - 1])
+        );
+    }
+
+    private static void assertMatchesCamera(ICamera3D camera, int width, int height) {
+        CameraRayGenerator generator = new CameraRayGenerator(camera, width, height);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Ray3f expected = camera.generateRay(x + 0.5f, y + 0.5f, width, height);
+                Ray3f actual = generator.generateRay(x, y);
+
+                assertEquals(expected.origin(), actual.origin());
+                assertEquals(expected.direction().x(), actual.direction().x(), EPSILON);
+                assertEquals(expected.direction().y(), actual.direction().y(), EPSILON);
+                assertEquals(expected.direction().z(), actual.direction().z(), EPSILON);
+                assertEquals(1f, actual.direction().length(), EPSILON);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.voxelsandox.rendersystem.core.pipeline.camera;
+
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.camera.PerspectiveCamera3D;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+
+
+/**
+ * Perspective cameras shared by render tests.
+ *
+ * <p>
+ *     Cameras have a 70 degree vertical field of view and a near plane at
+ *     {@code 0.1}. Their up vector is derived from world Y, or from world X
+ *     when looking almost straight up or down.
+ * </p>
+ */
+public final class TestCameras {
+
+    private TestCameras() {
+    }
+
+    public static ICamera3D looking(Vec3f position, Vec3f forward, float aspectRatio, float far) {
+        Vec3f reference = Math.abs(forward.y()) > 0.99f ? new CpuVec3f(1f, 0f, 0f) : new CpuVec3f(0f, 1f, 0f);
+        Vec3f right = forward.cross(reference).normalize();
+
+        return new PerspectiveCamera3D(
+                position,
+                forward,
+                right.cross(forward).normalize(),
+                (float) Math.toRadians(70),
+                aspectRatio,
+                0.1f,
+                far
+        );
+    }
+}
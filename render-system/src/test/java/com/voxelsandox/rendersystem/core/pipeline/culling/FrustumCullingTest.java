@@ -0,0 +1,240 @@
+package com.voxelsandox.rendersystem.core.pipeline.culling;
+
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.cpu.frame.CpuRenderFrame;
+import com.voxelsandbox.rendersystem.core.cpu.pipeline.CpuRenderPipeline;
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.IRenderStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CpuCameraStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.CpuFrustumCullingStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.CullingFrameKeys;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.Frustum;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.FrustumChunkCuller;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.FrustumCullingStats;
+import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameraBootstrapStage;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameras;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrustumCullingTest {
+
+    private static final int SIZE = 16;
+
+    @Test
+    void classifiesBoxesAgainstCameraFrustum() {
+        ICamera3D camera = camera(new CpuVec3f(0f, 0f, 0f), new CpuVec3f(0f, 0f, -1f), 100f);
+        Frustum frustum = Frustum.fromCamera(camera.getViewMatrix(), camera.getProjectionMatrix());
+
+        // Small box straight ahead is fully inside
+        assertEquals(0, frustum.classify(-1f, -1f, -21f, 1f, 1f, -19f, Frustum.ALL_PLANES));
+
+        // Behind the camera and beyond the far plane
+        assertEquals(Frustum.OUTSIDE, frustum.classify(-1f, -1f, 5f, 1f, 1f, 7f, Frustum.ALL_PLANES));
+        assertEquals(Frustum.OUTSIDE, frustum.classify(-1f, -1f, -200f, 1f, 1f, -150f, Frustum.ALL_PLANES));
+
+        // Box crossing the far plane straddles only that plane
+        int mask = frustum.classify(-1f, -1f, -120f, 1f, 1f, -90f, Frustum.ALL_PLANES);
+        assertEquals(1 << 5, mask);
+
+        // Planes excluded from the mask are not tested
+        assertEquals(0, frustum.classify(-1f, -1f, -120f, 1f, 1f, -90f, Frustum.ALL_PLANES & ~(1 << 5)));
+    }
+
+    @Test
+    void boundsEncloseTheFrustum() {
+        ICamera3D camera = camera(new CpuVec3f(10f, 5f, 3f), new CpuVec3f(1f, 0f, 0f), 50f);
+        float[] b = Frustum.fromCamera(camera.getViewMatrix(), camera.getProjectionMatrix()).getBounds(new float[6]);
+
+        assertTrue(b[0] < 10.2f && b[3] > 59f && b[3] < 60.1f);
+        assertTrue(b[1] < 5f && b[4] > 5f);
+        assertTrue(b[2] < 3f && b[5] > 3f);
+    }
+
+    @Test
+    void hierarchicalCullingMatchesPerChunkTests() {
+        GridWorld world = new GridWorld(-12, 12, 0, 4, -12, 12);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20; i++) {
+            Vec3f position = new CpuVec3f(
+                    random.nextFloat() * 200f - 100f,
+                    random.nextFloat() * 60f,
+                    random.nextFloat() * 200f - 100f
+            );
+            Vec3f forward = new CpuVec3f(
+                    random.nextFloat() * 2f - 1f,
+                    random.nextFloat() - 0.7f,
+                    random.nextFloat() * 2f - 1f
+            ).normalize();
+            ICamera3D camera = camera(position, forward, 120f);
+            Frustum frustum = Frustum.fromCamera(camera.getViewMatrix(), camera.getProjectionMatrix());
+
+            // Plane tests alone accept boxes near the frustum's corners; the
+            // bounding box query rejects those, so the reference applies both
+            float[] b = frustum.getBounds(new float[6]);
+            Set<IRenderChunkView> expected = new HashSet<>();
+            for (IRenderChunkView chunk : world.getRenderableChunks()) {
+                float x = chunk.getChunkX() * SIZE;
+                float y = chunk.getChunkY() * SIZE;
+                float z = chunk.getChunkZ() * SIZE;
+                boolean inBounds = x <= b[3] && x + SIZE > b[0]
+                        && y <= b[4] && y + SIZE > b[1]
+                        && z <= b[5] && z + SIZE > b[2];
+                if (inBounds && frustum.intersects(x, y, z, x + SIZE, y + SIZE, z + SIZE)) {
+                    expected.add(chunk);
+                }
+            }
+
+            List<IRenderChunkView> visible = new ArrayList<>();
+            FrustumCullingStats stats = new FrustumChunkCuller().cull(frustum, world, visible);
+
+            Set<IRenderChunkView> missing = new HashSet<>(expected);
+            missing.removeAll(visible);
+            Set<IRenderChunkView> extra = new HashSet<>(visible);
+            extra.removeAll(expected);
+            assertTrue(missing.isEmpty() && extra.isEmpty(),
+                    "camera " + i + ": missing " + missing + ", extra " + extra);
+            assertEquals(visible.size(), stats.visibleChunks());
+            assertEquals(world.getRenderableChunks().size(), stats.renderableChunks());
+            assertTrue(stats.testedChunks() <= world.getRenderableChunks().size());
+        }
+    }
+
+    @Test
+    void stagePublishesVisibleChunksAndStats() {
+        GridWorld world = new GridWorld(-8, 8, 0, 2, -8, 8);
+        ICamera3D camera = camera(new CpuVec3f(0f, 20f, 0f), new CpuVec3f(0f, -0.3f, -1f).normalize(), 100f);
+
+        IRenderStage worldBootstrap = new IRenderStage() {
+            @Override
+            public String getId() {
+                return "test.culling.world";
+            }
+
+            @Override
+            public Set<FrameKey<?>> getRequiredInputs() {
+                return Set.of();
+            }
+
+            @Override
+            public Set<FrameKey<?>> getProducedOutputs() {
+                return Set.of(CullingFrameKeys.WORLD_VIEW);
+            }
+
+            @Override
+            public void execute(RenderFrame frame) {
+                frame.put(CullingFrameKeys.WORLD_VIEW, world);
+            }
+        };
+
+        RenderFrame frame = new CpuRenderFrame();
+        new CpuRenderPipeline(List.of(
+                new TestCameraBootstrapStage(camera),
+                worldBootstrap,
+                new CpuCameraStage(),
+                new CpuFrustumCullingStage()
+        )).execute(frame);
+
+        List<IRenderChunkView> visible = frame.get(CullingFrameKeys.VISIBLE_CHUNKS).orElseThrow();
+        FrustumCullingStats stats = frame.get(CullingFrameKeys.FRUSTUM_STATS).orElseThrow();
+
+        assertFalse(visible.isEmpty());
+        assertEquals(visible.size(), stats.visibleChunks());
+        assertTrue(stats.culledRatio() > 0.5, "culled ratio " + stats.culledRatio());
+        assertTrue(stats.cullNanos() >= 0);
+    }
+
+    @Test
+    void culledRatioOfEmptyWorldIsZero() {
+        assertEquals(0.0, new FrustumCullingStats(0, 0, 0, 0, 0L).culledRatio());
+        assertEquals(0.75, new FrustumCullingStats(8, 2, 1, 8, 0L).culledRatio(), 1e-9);
+    }
+
+    private static ICamera3D camera(Vec3f position, Vec3f forward, float far) {
+        return TestCameras.looking(position, forward, 16f / 9f, far);
+    }
+
+    /**
+     * Box of empty chunks, using the default box query.
+     */
+    private static final class GridWorld implements IRenderWorldView {
+
+        private final List<IRenderChunkView> chunks = new ArrayList<>();
+
+        GridWorld(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        chunks.add(new EmptyChunk(x, y, z));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Collection<IRenderChunkView> getRenderableChunks() {
+            return chunks;
+        }
+
+        @Override
+        public int getMinY() {
+            return 0;
+        }
+
+        @Override
+        public int getMaxY() {
+            return 256;
+        }
+    }
+
+    private record EmptyChunk(int x, int y, int z) implements IRenderChunkView {
+
+        @Override
+        public int getChunkX() {
+            return x;
+        }
+
+        @Override
+        public int getChunkY() {
+            return y;
+        }
+
+        @Override
+        public int getChunkZ() {
+            return z;
+        }
+
+        @Override
+        public int getChunkSize() {
+            return SIZE;
+        }
+
+        @Override
+        public int getVoxel(int lx, int ly, int lz) {
+            return 0;
+        }
+
+        @Override
+        public long getChunkId() {
+            return ((long) x << 40) ^ ((long) y << 20) ^ z;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.voxelsandox.rendersystem.core.pipeline.culling;
+
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.cpu.frame.CpuRenderFrame;
+import com.voxelsandbox.rendersystem.core.cpu.pipeline.CpuRenderPipeline;
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.IRenderStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CpuCameraStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.CpuOcclusionCullingStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.CullingFrameKeys;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.Frustum;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.OcclusionCuller;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.culling.OcclusionCullingStats;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameraBootstrapStage;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameras;
+import com.voxelsandox.rendersystem.mesh.TestChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OcclusionCullingTest {
+
+    private static final int SIZE = TestChunk.SIZE;
+
+    @Test
+    void wallHidesChunksBehindIt() {
+        List<IRenderChunkView> wall = wall(1);
+        List<IRenderChunkView> behind = box(-1, 1, -1, 1, -4, -2);
+        List<IRenderChunkView> candidates = new ArrayList<>(wall);
+        candidates.addAll(behind);
+
+        ICamera3D camera = camera(new CpuVec3f(8f, 8f, 40f), new CpuVec3f(0f, 0f, -1f));
+        List<IRenderChunkView> visible = new ArrayList<>();
+        OcclusionCullingStats stats = new OcclusionCuller()
+                .cull(camera.getViewMatrix(), camera.getProjectionMatrix(), candidates, visible);
+
+        for (IRenderChunkView chunk : behind) {
+            assertFalse(visible.contains(chunk), "chunk behind the wall: " + chunk);
+        }
+        assertTrue(stats.occluders() > 0);
+        assertEquals(behind.size(), stats.occludedChunks());
+        assertEquals(candidates.size(), stats.candidateChunks());
+    }
+
+    @Test
+    void chunkBehindHoleInWallStaysVisible() {
+        List<IRenderChunkView> wall = wall(1);
+        wall.removeIf(chunk -> chunk.getChunkX() == 0 && chunk.getChunkY() == 0);
+        TestChunk behindHole = new TestChunk(0, 0, -2);
+
+        List<IRenderChunkView> candidates = new ArrayList<>(wall);
+        candidates.add(behindHole);
+
+        ICamera3D camera = camera(new CpuVec3f(8f, 8f, 40f), new CpuVec3f(0f, 0f, -1f));
+        List<IRenderChunkView> visible = new ArrayList<>();
+        new OcclusionCuller().cull(camera.getViewMatrix(), camera.getProjectionMatrix(), candidates, visible);
+
+        assertTrue(visible.contains(behindHole));
+    }
+
+    @Test
+    void modifiedOccluderIsRebuilt() {
+        List<IRenderChunkView> wall = wall(1);
+        TestChunk behind = new TestChunk(0, 0, -2);
+        List<IRenderChunkView> candidates = new ArrayList<>(wall);
+        candidates.add(behind);
+
+        ICamera3D camera = camera(new CpuVec3f(8f, 8f, 40f), new CpuVec3f(0f, 0f, -1f));
+        OcclusionCuller culler = new OcclusionCuller();
+
+        List<IRenderChunkView> visible = new ArrayList<>();
+        culler.cull(camera.getViewMatrix(), camera.getProjectionMatrix(), candidates, visible);
+        assertFalse(visible.contains(behind));
+
+        // Digging out the wall chunk in front opens the view
+        for (IRenderChunkView chunk : wall) {
+            if (chunk.getChunkX() == 0 && chunk.getChunkY() == 0) {
+                ((TestChunk) chunk).fill(0);
+            }
+        }
+
+        visible.clear();
+        culler.cull(camera.getViewMatrix(), camera.getProjectionMatrix(), candidates, visible);
+        assertTrue(visible.contains(behind));
+        assertEquals(candidates.size(), culler.getCachedOccluderCount());
+    }
+
+    @Test
+    void occludedChunksAreHiddenFromEverySampledRay() {
+        Random random = new Random(11);
+        int occludedTotal = 0;
+
+        for (int scene = 0; scene < 20; scene++) {
+            List<IRenderChunkView> candidates = new ArrayList<>();
+            List<TestChunk> solid = new ArrayList<>();
+            for (IRenderChunkView chunk : box(-3, 3, 0, 2, -3, 3)) {
+                if (random.nextFloat() < 0.4f) {
+                    ((TestChunk) chunk).fill(1);
+                    solid.add((TestChunk) chunk);
+                }
+                candidates.add(chunk);
+            }
+
+            Vec3f eye = new CpuVec3f(
+                    random.nextFloat() * 96f - 48f,
+                    60f + random.nextFloat() * 20f,
+                    random.nextFloat() * 96f - 48f
+            );
+            Vec3f target = new CpuVec3f(random.nextFloat() * 32f - 16f, 16f, random.nextFloat() * 32f - 16f);
+            ICamera3D camera = camera(eye, target.sub(eye).normalize());
+
+            Frustum frustum = Frustum.fromCamera(camera.getViewMatrix(), camera.getProjectionMatrix());
+
+            List<IRenderChunkView> visible = new ArrayList<>();
+            new OcclusionCuller().cull(camera.getViewMatrix(), camera.getProjectionMatrix(), candidates, visible);
+
+            for (IRenderChunkView chunk : candidates) {
+                if (visible.contains(chunk) || solid.contains(chunk)) {
+                    continue;
+                }
+                occludedTotal++;
+                assertHiddenBehind(eye, frustum, chunk, solid);
+            }
+        }
+
+        assertTrue(occludedTotal > 0, "no chunk was occluded");
+    }
+
+    @Test
+    void resultDoesNotDependOnCandidateOrder() {
+        List<IRenderChunkView> candidates = new ArrayList<>(wall(1));
+        candidates.addAll(box(-2, 2, -2, 2, -3, -2));
+        ICamera3D camera = camera(new CpuVec3f(0f, 40f, 60f), new CpuVec3f(0.1f, -0.4f, -1f).normalize());
+
+        List<IRenderChunkView> first = new ArrayList<>();
+        new OcclusionCuller().cull(camera.getViewMatrix(), camera.getProjectionMatrix(), candidates, first);
+
+        Collections.shuffle(candidates, new Random(3));
+        List<IRenderChunkView> second = new ArrayList<>();
+        new OcclusionCuller().cull(camera.getViewMatrix(), camera.getProjectionMatrix(), candidates, second);
+
+        assertEquals(new HashSet<>(first), new HashSet<>(second));
+    }
+
+    @Test
+    void stagePublishesUnoccludedChunksAndStats() {
+        List<IRenderChunkView> candidates = new ArrayList<>(wall(1));
+        candidates.addAll(box(-1, 1, -1, 1, -4, -2));
+        ICamera3D camera = camera(new CpuVec3f(8f, 8f, 40f), new CpuVec3f(0f, 0f, -1f));
+        OcclusionCuller culler = new OcclusionCuller();
+
+        IRenderStage cullingBootstrap = new IRenderStage() {
+            @Override
+            public String getId() {
+                return "test.culling.occlusion";
+            }
+
+            @Override
+            public Set<FrameKey<?>> getRequiredInputs() {
+                return Set.of();
+            }
+
+            @Override
+            public Set<FrameKey<?>> getProducedOutputs() {
+                return Set.of(CullingFrameKeys.VISIBLE_CHUNKS, CullingFrameKeys.OCCLUSION_CULLER);
+            }
+
+            @Override
+            public void execute(RenderFrame frame) {
+                frame.put(CullingFrameKeys.VISIBLE_CHUNKS, List.copyOf(candidates));
+                frame.put(CullingFrameKeys.OCCLUSION_CULLER, culler);
+            }
+        };
+
+        RenderFrame frame = new CpuRenderFrame();
+        new CpuRenderPipeline(List.of(
+                new TestCameraBootstrapStage(camera),
+                cullingBootstrap,
+                new CpuCameraStage(),
+                new CpuOcclusionCullingStage()
+        )).execute(frame);
+
+        List<IRenderChunkView> unoccluded = frame.get(CullingFrameKeys.UNOCCLUDED_CHUNKS).orElseThrow();
+        OcclusionCullingStats stats = frame.get(CullingFrameKeys.OCCLUSION_STATS).orElseThrow();
+
+        assertEquals(candidates.size() - stats.occludedChunks(), unoccluded.size());
+        assertEquals(27, stats.occludedChunks());
+        assertTrue(stats.cullNanos() >= 0);
+    }
+
+    @Test
+    void occludedRatioOfNoCandidatesIsZero() {
+        assertEquals(0.0, new OcclusionCullingStats(0, 0, 0, 0L).occludedRatio());
+        assertEquals(0.25, new OcclusionCullingStats(8, 3, 2, 0L).occludedRatio(), 1e-9);
+    }
+
+    /**
+     * Asserts that segments from the eye to a grid of points inside the
+     * chunk and the frustum all pass through a solid chunk.
+     */
+    private static void assertHiddenBehind(
+            Vec3f eye,
+            Frustum frustum,
+            IRenderChunkView chunk,
+            List<TestChunk> solid
+    ) {
+        for (int i = 0; i <= 4; i++) {
+            for (int j = 0; j <= 4; j++) {
+                for (int k = 0; k <= 4; k++) {
+                    float px = chunk.getChunkX() * SIZE + 0.01f + i * (SIZE - 0.02f) / 4f;
+                    float py = chunk.getChunkY() * SIZE + 0.01f + j * (SIZE - 0.02f) / 4f;
+                    float pz = chunk.getChunkZ() * SIZE + 0.01f + k * (SIZE - 0.02f) / 4f;
+                    if (!frustum.intersects(px, py, pz, px, py, pz)) {
+                        continue;
+                    }
+
+                    boolean blocked = false;
+                    for (TestChunk occluder : solid) {
+                        if (segmentHitsChunk(eye, px, py, pz, occluder)) {
+                            blocked = true;
+                            break;
+                        }
+                    }
+                    assertTrue(blocked, "point " + px + ", " + py + ", " + pz + " of occluded " + chunk
+                            + " is visible from " + eye);
+                }
+            }
+        }
+    }
+
+    private static boolean segmentHitsChunk(Vec3f from, float toX, float toY, float toZ, IRenderChunkView chunk) {
+        float[] origin = { from.x(), from.y(), from.z() };
+        float[] delta = { toX - from.x(), toY - from.y(), toZ - from.z() };
+        int[] cell = { chunk.getChunkX(), chunk.getChunkY(), chunk.getChunkZ() };
+
+        float enter = 0f;
+        float exit = 1f;
+        for (int axis = 0; axis < 3; axis++) {
+            float min = cell[axis] * SIZE;
+            float max = min + SIZE;
+            if (delta[axis] == 0f) {
+                if (origin[axis] < min || origin[axis] > max) {
+                    return false;
+                }
+                continue;
+            }
+            float t0 = (min - origin[axis]) / delta[axis];
+            float t1 = (max - origin[axis]) / delta[axis];
+            enter = Math.max(enter, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+        return enter < exit;
+    }
+
+    /**
+     * Solid wall of chunks in the plane {@code chunkZ = z}.
+     */
+    private static List<IRenderChunkView> wall(int z) {
+        List<IRenderChunkView> chunks = box(-3, 3, -2, 2, z, z);
+        for (IRenderChunkView chunk : chunks) {
+            ((TestChunk) chunk).fill(1);
+        }
+        return chunks;
+    }
+
+    private static List<IRenderChunkView> box(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        List<IRenderChunkView> chunks = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    chunks.add(new TestChunk(x, y, z));
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private static ICamera3D camera(Vec3f position, Vec3f forward) {
+        return TestCameras.looking(position, forward, 16f / 9f, 400f);
+    }
+}
@@ -0,0 +1,490 @@
+package com.voxelsandox.rendersystem.core.pipeline.temporal;
+
+import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.Chunk;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.type.VoxelType;
+import com.voxelsandbox.rendersystem.adapter.EngineTemporalInvalidationListener;
+import com.voxelsandbox.rendersystem.core.camera.CameraRayGenerator;
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.cpu.frame.CpuRenderFrame;
+import com.voxelsandbox.rendersystem.core.cpu.pipeline.CpuRenderPipeline;
+import com.voxelsandbox.rendersystem.core.frame.FrameKey;
+import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.IRenderStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CpuCameraStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.temporal.CpuTemporalReprojectionStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.temporal.TemporalFrameKeys;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.temporal.TemporalHitCache;
+import com.voxelsandbox.rendersystem.core.raycast.CpuVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitBuffer;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameraBootstrapStage;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameras;
+import com.voxelsandox.rendersystem.mesh.TestChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemporalReprojectionTest {
+
+    private static final int WIDTH = 160;
+    private static final int HEIGHT = 120;
+
+    /**
+     * Flat ground: every voxel below y = 0 is solid.
+     */
+    private static final IVoxelWorldView GROUND = new IVoxelWorldView() {
+        @Override
+        public boolean isSolid(int x, int y, int z) {
+            return y < 0;
+        }
+
+        @Override
+        public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+            return Math.abs(voxelX) < 256 && Math.abs(voxelZ) < 256;
+        }
+    };
+
+    @Test
+    void unchangedCameraReusesEveryPixel() {
+        ICamera3D camera = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        CameraRayGenerator rays = new CameraRayGenerator(camera, WIDTH, HEIGHT);
+        VoxelHitBuffer traced = trace(rays);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, traced);
+
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        int remaining = cache.reproject(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, out, retrace);
+
+        assertEquals(0, remaining);
+        assertEquals(WIDTH * HEIGHT, cache.getLastReusedCount());
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            assertEquals(traced.hit[p], out.hit[p]);
+            if (traced.hit[p]) {
+                assertEquals(traced.voxelX[p], out.voxelX[p]);
+                assertEquals(traced.voxelZ[p], out.voxelZ[p]);
+            }
+        }
+    }
+
+    @Test
+    void smallCameraMotionReusesMostPixelsWithCorrectHits() {
+        ICamera3D before = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        ICamera3D after = camera(new CpuVec3f(0.35f, 10f, 0.1f), 0.01f);
+
+        CameraRayGenerator raysBefore = new CameraRayGenerator(before, WIDTH, HEIGHT);
+        CameraRayGenerator raysAfter = new CameraRayGenerator(after, WIDTH, HEIGHT);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(before.getViewMatrix(), before.getProjectionMatrix(), raysBefore, trace(raysBefore));
+
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        int remaining = cache.reproject(after.getViewMatrix(), after.getProjectionMatrix(), raysAfter, out, retrace);
+
+        VoxelHitBuffer expected = trace(raysAfter);
+        int hits = 0;
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            if (expected.hit[p]) {
+                hits++;
+            }
+            if (!retrace[p]) {
+                assertTrue(out.hit[p]);
+                assertTrue(expected.hit[p]);
+                assertEquals(expected.voxelX[p], out.voxelX[p], "voxel X of pixel " + p);
+                assertEquals(expected.voxelY[p], out.voxelY[p], "voxel Y of pixel " + p);
+                assertEquals(expected.voxelZ[p], out.voxelZ[p], "voxel Z of pixel " + p);
+                assertEquals(expected.normal[p], out.normal[p]);
+                assertEquals(expected.t[p], out.t[p], 1e-3f);
+            }
+        }
+
+        // Most ground pixels are reused; sky pixels are always re-traced
+        assertTrue(cache.getLastReusedCount() > hits / 2,
+                "reused " + cache.getLastReusedCount() + " of " + hits + " hits");
+        assertEquals(WIDTH * HEIGHT - cache.getLastReusedCount(), remaining);
+    }
+
+    @Test
+    void geometryEnteringTheViewOccludesReusedHits() {
+        // Pillars hide ground that was visible before the move, and reveal ground that was not
+        IVoxelWorldView pillars = new IVoxelWorldView() {
+            @Override
+            public boolean isSolid(int x, int y, int z) {
+                return y < 0 || (y < 6 && Math.floorMod(x, 7) == 0 && Math.floorMod(z, 5) == 0);
+            }
+
+            @Override
+            public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+                return GROUND.isChunkLoaded(voxelX, voxelY, voxelZ);
+            }
+        };
+
+        ICamera3D before = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        ICamera3D after = camera(new CpuVec3f(0.8f, 10f, -0.5f), 0.02f);
+
+        CameraRayGenerator raysBefore = new CameraRayGenerator(before, WIDTH, HEIGHT);
+        CameraRayGenerator raysAfter = new CameraRayGenerator(after, WIDTH, HEIGHT);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(before.getViewMatrix(), before.getProjectionMatrix(), raysBefore, trace(raysBefore, pillars));
+
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        cache.reproject(after.getViewMatrix(), after.getProjectionMatrix(), raysAfter, out, retrace);
+
+        VoxelHitBuffer expected = trace(raysAfter, pillars);
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            if (!retrace[p]) {
+                assertTrue(expected.hit[p], "pixel " + p);
+                assertEquals(expected.voxelX[p], out.voxelX[p], "voxel X of pixel " + p);
+                assertEquals(expected.voxelY[p], out.voxelY[p], "voxel Y of pixel " + p);
+                assertEquals(expected.voxelZ[p], out.voxelZ[p], "voxel Z of pixel " + p);
+            }
+        }
+        assertTrue(cache.getLastReusedCount() > 0);
+    }
+
+    @Test
+    void pixelsReusedWhileMovingAreRetracedOnceTheCameraStops() {
+        // Below and beside the first camera, so off screen; in front of the second
+        IVoxelWorldView occluded = new IVoxelWorldView() {
+            @Override
+            public boolean isSolid(int x, int y, int z) {
+                return y < 0 || (x == 0 && y == 8 && z == 0);
+            }
+
+            @Override
+            public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+                return GROUND.isChunkLoaded(voxelX, voxelY, voxelZ);
+            }
+        };
+
+        ICamera3D before = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        ICamera3D after = camera(new CpuVec3f(0.3f, 10f, 3.2f), 0f);
+
+        CameraRayGenerator raysBefore = new CameraRayGenerator(before, WIDTH, HEIGHT);
+        CameraRayGenerator raysAfter = new CameraRayGenerator(after, WIDTH, HEIGHT);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(before.getViewMatrix(), before.getProjectionMatrix(), raysBefore, trace(raysBefore, occluded));
+
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        cache.reproject(after.getViewMatrix(), after.getProjectionMatrix(), raysAfter, out, retrace);
+
+        // The voxel was never sampled, so the ground behind it is reused
+        VoxelHitBuffer expected = trace(raysAfter, occluded);
+        boolean[] missed = new boolean[WIDTH * HEIGHT];
+        int missedCount = 0;
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            if (expected.hit[p] && expected.voxelY[p] == 8 && !retrace[p]) {
+                assertEquals(-1, out.voxelY[p]);
+                missed[p] = true;
+                missedCount++;
+            }
+        }
+        assertTrue(missedCount > 0);
+
+        cache.store(after.getViewMatrix(), after.getProjectionMatrix(), raysAfter, compose(out, retrace, expected));
+        cache.reproject(after.getViewMatrix(), after.getProjectionMatrix(), raysAfter, out, retrace);
+
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            if (missed[p]) {
+                assertTrue(retrace[p], "pixel " + p);
+            } else if (!retrace[p]) {
+                assertEquals(expected.voxelY[p], out.voxelY[p], "voxel Y of pixel " + p);
+            }
+        }
+
+        // Once traced, every pixel is reused again
+        cache.store(after.getViewMatrix(), after.getProjectionMatrix(), raysAfter, compose(out, retrace, expected));
+        assertEquals(0, cache.reproject(after.getViewMatrix(), after.getProjectionMatrix(), raysAfter, out, retrace));
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            assertEquals(expected.hit[p], out.hit[p]);
+            if (expected.hit[p]) {
+                assertEquals(expected.voxelY[p], out.voxelY[p], "voxel Y of pixel " + p);
+            }
+        }
+    }
+
+    @Test
+    void voxelPlacedInAnotherChunkInFrontOfCachedHitForcesRetrace() {
+        // High enough that the camera is not in the edited chunk itself
+        ICamera3D camera = camera(new CpuVec3f(0.3f, 20f, 0.2f), 0f);
+        CameraRayGenerator rays = new CameraRayGenerator(camera, WIDTH, HEIGHT);
+        VoxelHitBuffer traced = trace(rays);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, traced);
+
+        // Halfway between the camera and the ground hit of the centre pixel
+        int centre = (HEIGHT / 2) * WIDTH + WIDTH / 2;
+        assertTrue(traced.hit[centre]);
+        float[] directions = new float[3 * WIDTH * HEIGHT];
+        rays.generateDirections(directions);
+        float half = traced.t[centre] * 0.5f;
+        int bx = (int) Math.floor(0.3f + half * directions[3 * centre]);
+        int by = (int) Math.floor(20f + half * directions[3 * centre + 1]);
+        int bz = (int) Math.floor(0.2f + half * directions[3 * centre + 2]);
+        assertNotEquals(Math.floorDiv(traced.voxelY[centre], 16), Math.floorDiv(by, 16));
+
+        IVoxelWorldView edited = new IVoxelWorldView() {
+            @Override
+            public boolean isSolid(int x, int y, int z) {
+                return GROUND.isSolid(x, y, z) || (x == bx && y == by && z == bz);
+            }
+
+            @Override
+            public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+                return GROUND.isChunkLoaded(voxelX, voxelY, voxelZ);
+            }
+        };
+        cache.invalidateChunk(new TestChunk(Math.floorDiv(bx, 16), Math.floorDiv(by, 16), Math.floorDiv(bz, 16)));
+
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        cache.reproject(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, out, retrace);
+
+        assertTrue(retrace[centre], "The ray to the cached hit now crosses the edited chunk");
+        VoxelHitBuffer expected = trace(rays, edited);
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            if (!retrace[p]) {
+                assertEquals(expected.voxelX[p], out.voxelX[p], "voxel X of pixel " + p);
+                assertEquals(expected.voxelY[p], out.voxelY[p], "voxel Y of pixel " + p);
+                assertEquals(expected.voxelZ[p], out.voxelZ[p], "voxel Z of pixel " + p);
+            }
+        }
+        assertTrue(cache.getLastReusedCount() > WIDTH * HEIGHT / 2,
+                "Rays that avoid the edited chunk are still reused");
+    }
+
+    @Test
+    void invalidatedChunkForcesRetrace() {
+        ICamera3D camera = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        CameraRayGenerator rays = new CameraRayGenerator(camera, WIDTH, HEIGHT);
+        VoxelHitBuffer traced = trace(rays);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, traced);
+        cache.invalidateChunk(new TestChunk(0, -1, -1));
+
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        cache.reproject(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, out, retrace);
+
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            boolean inChunk = traced.hit[p]
+                    && Math.floorDiv(traced.voxelX[p], 16) == 0
+                    && Math.floorDiv(traced.voxelZ[p], 16) == -1;
+
+            // Misses may turn into hits after a world edit
+            assertEquals(inChunk || !traced.hit[p], retrace[p]);
+        }
+    }
+
+    @Test
+    void engineChunkEventsInvalidateTheCache() {
+        ICamera3D camera = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        CameraRayGenerator rays = new CameraRayGenerator(camera, WIDTH, HEIGHT);
+        VoxelHitBuffer traced = trace(rays);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        World world = new World(1L, (seed, position) -> new Chunk(position));
+        world.addEventListener(new EngineTemporalInvalidationListener(cache));
+        ChunkPosition below = new ChunkPosition(0, -1, -1);
+
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, traced);
+        world.loadChunk(below);
+        assertRetracesChunk(cache, camera, rays, traced, 0, -1);
+
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, traced);
+        world.unloadChunk(below);
+        assertRetracesChunk(cache, camera, rays, traced, 0, -1);
+
+        world.loadChunk(new ChunkPosition(0, 0, -1));
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, traced);
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        assertEquals(0, cache.reproject(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, out, retrace));
+
+        world.setVoxel(0, 0, -16, VoxelType.SOLID);
+        cache.reproject(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, out, retrace);
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            if (!traced.hit[p]) {
+                assertTrue(retrace[p], "pixel " + p);
+            }
+        }
+    }
+
+    @Test
+    void invalidationDoesNotAliasDistantChunks() {
+        ICamera3D camera = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        CameraRayGenerator rays = new CameraRayGenerator(camera, WIDTH, HEIGHT);
+        VoxelHitBuffer traced = trace(rays);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, traced);
+
+        // Shares the low 21 bits of every axis with chunk (0, -1, -1)
+        cache.invalidateChunk(new TestChunk(1 << 21, -1, -1 + (1 << 21)));
+
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        cache.reproject(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, out, retrace);
+
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            // Misses may turn into hits after any world edit
+            assertEquals(!traced.hit[p], retrace[p], "pixel " + p);
+        }
+    }
+
+    @Test
+    void outputBuffersAreReusedWhileTheSizeIsUnchanged() {
+        TemporalHitCache cache = new TemporalHitCache();
+
+        VoxelHitBuffer hits = cache.reprojectedHits(WIDTH * HEIGHT);
+        boolean[] retrace = cache.retraceMask(WIDTH * HEIGHT);
+
+        assertSame(hits, cache.reprojectedHits(WIDTH * HEIGHT));
+        assertSame(retrace, cache.retraceMask(WIDTH * HEIGHT));
+        assertEquals(WIDTH * HEIGHT / 4, cache.reprojectedHits(WIDTH * HEIGHT / 4).capacity());
+        assertEquals(WIDTH * HEIGHT / 4, cache.retraceMask(WIDTH * HEIGHT / 4).length);
+    }
+
+    @Test
+    void resizedViewportRetracesEverything() {
+        ICamera3D camera = camera(new CpuVec3f(0.3f, 10f, 0.2f), 0f);
+        CameraRayGenerator rays = new CameraRayGenerator(camera, WIDTH, HEIGHT);
+
+        TemporalHitCache cache = new TemporalHitCache();
+        cache.store(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, trace(rays));
+
+        CameraRayGenerator smaller = new CameraRayGenerator(camera, WIDTH / 2, HEIGHT / 2);
+        int remaining = cache.reproject(
+                camera.getViewMatrix(),
+                camera.getProjectionMatrix(),
+                smaller,
+                new VoxelHitBuffer(WIDTH * HEIGHT / 4),
+                new boolean[WIDTH * HEIGHT / 4]
+        );
+
+        assertEquals(WIDTH * HEIGHT / 4, remaining);
+    }
+
+    @Test
+    void stageFlagsEveryPixelWhenCacheIsEmpty() {
+        ICamera3D camera = camera(new CpuVec3f(0f, 10f, 0f), 0f);
+        TemporalHitCache cache = new TemporalHitCache();
+
+        IRenderStage cacheBootstrap = new IRenderStage() {
+            @Override
+            public String getId() {
+                return "test.temporal.bootstrap";
+            }
+
+            @Override
+            public Set<FrameKey<?>> getRequiredInputs() {
+                return Set.of();
+            }
+
+            @Override
+            public Set<FrameKey<?>> getProducedOutputs() {
+                return Set.of(TemporalFrameKeys.HIT_CACHE);
+            }
+
+            @Override
+            public void execute(RenderFrame frame) {
+                frame.put(TemporalFrameKeys.HIT_CACHE, cache);
+            }
+        };
+
+        RenderFrame frame = new CpuRenderFrame();
+        new CpuRenderPipeline(List.of(
+                new TestCameraBootstrapStage(camera),
+                cacheBootstrap,
+                new CpuCameraStage(),
+                new CpuTemporalReprojectionStage()
+        )).execute(frame);
+
+        boolean[] retrace = frame.get(TemporalFrameKeys.RETRACE_MASK).orElseThrow();
+
+        assertEquals(800 * 600, retrace.length);
+        for (boolean flag : retrace) {
+            assertTrue(flag);
+        }
+    }
+
+    private static ICamera3D camera(Vec3f position, float yaw) {
+        Vec3f forward = new CpuVec3f((float) Math.sin(yaw), -0.5f, -(float) Math.cos(yaw)).normalize();
+        return TestCameras.looking(position, forward, (float) WIDTH / HEIGHT, 500f);
+    }
+
+    /**
+     * Reprojects for an unchanged camera and checks that exactly the
+     * cached hits inside chunk column {@code (chunkX, chunkZ)}, and every
+     * cached miss, are re-traced.
+     */
+    private static void assertRetracesChunk(
+            TemporalHitCache cache,
+            ICamera3D camera,
+            CameraRayGenerator rays,
+            VoxelHitBuffer traced,
+            int chunkX,
+            int chunkZ
+    ) {
+        VoxelHitBuffer out = new VoxelHitBuffer(WIDTH * HEIGHT);
+        boolean[] retrace = new boolean[WIDTH * HEIGHT];
+        cache.reproject(camera.getViewMatrix(), camera.getProjectionMatrix(), rays, out, retrace);
+
+        for (int p = 0; p < WIDTH * HEIGHT; p++) {
+            boolean inChunk = traced.hit[p]
+                    && Math.floorDiv(traced.voxelX[p], 16) == chunkX
+                    && Math.floorDiv(traced.voxelZ[p], 16) == chunkZ;
+            assertEquals(inChunk || !traced.hit[p], retrace[p], "pixel " + p);
+        }
+    }
+
+    /**
+     * Final hits of a frame: reused pixels from {@code reused}, flagged
+     * pixels from {@code traced}.
+     */
+    private static VoxelHitBuffer compose(VoxelHitBuffer reused, boolean[] retrace, VoxelHitBuffer traced) {
+        VoxelHitBuffer frame = new VoxelHitBuffer(retrace.length);
+        for (int p = 0; p < retrace.length; p++) {
+            frame.copy(retrace[p] ? traced : reused, p, p);
+        }
+        return frame;
+    }
+
+    private static VoxelHitBuffer trace(CameraRayGenerator rays) {
+        return trace(rays, GROUND);
+    }
+
+    private static VoxelHitBuffer trace(CameraRayGenerator rays, IVoxelWorldView world) {
+        int pixels = rays.getViewportWidth() * rays.getViewportHeight();
+        float[] origins = new float[3 * pixels];
+        float[] directions = new float[3 * pixels];
+        Vec3f origin = rays.getOrigin();
+        for (int p = 0; p < pixels; p++) {
+            origins[3 * p] = origin.x();
+            origins[3 * p + 1] = origin.y();
+            origins[3 * p + 2] = origin.z();
+        }
+        rays.generateDirections(directions);
+
+        VoxelHitBuffer hits = new VoxelHitBuffer(pixels);
+        new CpuVoxelRayTraversal().traceFirstHits(
+                origins, directions, 0, pixels, 300f, world, world::isSolid, hits
+        );
+        return hits;
+    }
+}
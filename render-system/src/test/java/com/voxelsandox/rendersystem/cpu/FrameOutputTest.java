@@ -0,0 +1,136 @@
+package com.voxelsandox.rendersystem.cpu;
+
+import com.voxelsandbox.rendersystem.cpu.output.FrameImageFormat;
+import com.voxelsandbox.rendersystem.cpu.output.FrameSequenceExporter;
+import com.voxelsandbox.rendersystem.cpu.target.CpuRenderTarget;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameOutputTest {
+
+    private static final int WIDTH = 37;
+    private static final int HEIGHT = 21;
+
+    @Test
+    void targetWrapsCallerBufferWithoutCopying() {
+        int[] buffer = new int[WIDTH * HEIGHT];
+        CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT, buffer);
+
+        target.setPixel(3, 2, 0xFF123456);
+
+        assertSame(buffer, target.pixels());
+        assertEquals(0xFF123456, buffer[2 * WIDTH + 3]);
+        assertThrows(IllegalArgumentException.class, () -> new CpuRenderTarget(WIDTH, HEIGHT, new int[WIDTH]));
+    }
+
+    @Test
+    void ppmContainsHeaderAndRgbBytes() throws IOException {
+        CpuRenderTarget target = gradient();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        FrameImageFormat.PPM.write(target, out);
+
+        byte[] bytes = out.toByteArray();
+        byte[] header = ("P6\n" + WIDTH + " " + HEIGHT + "\n255\n").getBytes(StandardCharsets.US_ASCII);
+        assertEquals(header.length + WIDTH * HEIGHT * 3, bytes.length);
+
+        int pixel = target.getPixel(5, 7);
+        int offset = header.length + (7 * WIDTH + 5) * 3;
+        assertEquals((pixel >> 16) & 0xFF, bytes[offset] & 0xFF);
+        assertEquals((pixel >> 8) & 0xFF, bytes[offset + 1] & 0xFF);
+        assertEquals(pixel & 0xFF, bytes[offset + 2] & 0xFF);
+    }
+
+    @Test
+    void pngDecodesToTheSamePixels() throws IOException {
+        CpuRenderTarget target = gradient();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        FrameImageFormat.PNG.write(target, out);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertNotNull(image);
+        assertEquals(WIDTH, image.getWidth());
+        assertEquals(HEIGHT, image.getHeight());
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals(target.getPixel(x, y), image.getRGB(x, y), "pixel " + x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    void pngSpanningSeveralDataChunksDecodes() throws IOException {
+        int width = 512;
+        int height = 512;
+        int[] noise = new int[width * height];
+        long seed = 42;
+        for (int i = 0; i < noise.length; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            noise[i] = (int) (seed >>> 32);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        FrameImageFormat.PNG.write(noise, width, height, out);
+
+        assertTrue(out.size() > 1 << 17);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(noise[1000], image.getRGB(1000 % width, 1000 / width));
+        assertEquals(noise[noise.length - 1], image.getRGB(width - 1, height - 1));
+    }
+
+    @Test
+    void sequenceExporterWritesNumberedFrames() throws IOException {
+        Path directory = Files.createTempDirectory("frames");
+        try {
+            CpuRenderTarget target = gradient();
+            int accepted = 0;
+            FrameSequenceExporter exporter = new FrameSequenceExporter(directory, "frame", FrameImageFormat.PNG);
+            try (exporter) {
+                for (int frame = 0; frame < 5; frame++) {
+                    target.setPixel(0, 0, 0xFF000000 | frame);
+                    if (exporter.submit(target)) {
+                        accepted++;
+                    }
+                }
+            }
+
+            // Closing waits for the pending writes
+            assertEquals(accepted, exporter.getWrittenFrameCount());
+            assertEquals(5 - accepted, exporter.getDroppedFrameCount());
+            assertTrue(accepted >= 1);
+
+            // The first frame always finds a free buffer
+            BufferedImage first = ImageIO.read(exporter.getFramePath(0).toFile());
+            assertEquals(0xFF000000, first.getRGB(0, 0));
+            assertEquals(target.getPixel(5, 5), first.getRGB(5, 5));
+            assertThrows(IllegalStateException.class, () -> exporter.submit(target));
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static CpuRenderTarget gradient() {
+        CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                target.setPixel(x, y, 0xFF000000 | (x * 7 << 16) | (y * 12 << 8) | ((x + y) * 3));
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,112 @@
+package com.voxelsandox.rendersystem.cpu;
+
+import com.voxelsandbox.rendersystem.cpu.progressive.IPixelShader;
+import com.voxelsandbox.rendersystem.cpu.progressive.ProgressiveCpuRenderer;
+import com.voxelsandbox.rendersystem.cpu.target.CpuRenderTarget;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgressiveCpuRendererTest {
+
+    private static final int WIDTH = 30;
+    private static final int HEIGHT = 18;
+
+    /**
+     * Encodes the pixel coordinates into the color.
+     */
+    private static final IPixelShader COORDS = (x, y) -> 0xFF000000 | (x << 8) | y;
+
+    @Test
+    void unlimitedBudgetConvergesInOneFrameWithOneSamplePerPixel() {
+        CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT);
+        ProgressiveCpuRenderer renderer = new ProgressiveCpuRenderer(Duration.ofDays(1));
+
+        renderer.renderFrame(target, COORDS);
+
+        assertTrue(renderer.isConverged());
+        assertEquals(WIDTH * HEIGHT, renderer.getLastFrameSampleCount());
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals(COORDS.shade(x, y), target.getPixel(x, y));
+            }
+        }
+    }
+
+    @Test
+    void zeroBudgetRefinesOneRowPerFrameAndUpsamplesCoarsePass() {
+        CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT);
+        long[] now = {0};
+        ProgressiveCpuRenderer renderer = new ProgressiveCpuRenderer(Duration.ZERO, () -> now[0]++);
+
+        // Coarse pass: one row of 4x4 blocks per frame
+        int coarseRows = (HEIGHT + 3) / 4;
+        for (int frame = 0; frame < coarseRows; frame++) {
+            renderer.renderFrame(target, COORDS);
+            assertEquals((WIDTH + 3) / 4, renderer.getLastFrameSampleCount());
+        }
+        assertEquals(2, renderer.getCurrentStride());
+
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals(COORDS.shade(x & ~3, y & ~3), target.getPixel(x, y));
+            }
+        }
+
+        int total = 0;
+        int frames = coarseRows;
+        while (!renderer.isConverged()) {
+            renderer.renderFrame(target, COORDS);
+            total += renderer.getLastFrameSampleCount();
+            frames++;
+        }
+
+        assertEquals(coarseRows + (HEIGHT + 1) / 2 + HEIGHT, frames);
+        assertEquals(WIDTH * HEIGHT - coarseRows * ((WIDTH + 3) / 4), total);
+        assertEquals(COORDS.shade(WIDTH - 1, HEIGHT - 1), target.getPixel(WIDTH - 1, HEIGHT - 1));
+    }
+
+    @Test
+    void convergedFramesOnlyPresent() {
+        CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT);
+        ProgressiveCpuRenderer renderer = new ProgressiveCpuRenderer(Duration.ofDays(1));
+
+        renderer.renderFrame(target, COORDS);
+        target.clear(0);
+        renderer.renderFrame(target, (x, y) -> {
+            throw new AssertionError("converged image must not be reshaded");
+        });
+
+        assertEquals(0, renderer.getLastFrameSampleCount());
+        assertEquals(COORDS.shade(7, 5), target.getPixel(7, 5));
+    }
+
+    @Test
+    void invalidateRestartsFromCoarsestPass() {
+        CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT);
+        ProgressiveCpuRenderer renderer = new ProgressiveCpuRenderer(Duration.ofDays(1));
+
+        renderer.renderFrame(target, COORDS);
+        renderer.invalidate();
+
+        assertFalse(renderer.isConverged());
+        assertEquals(4, renderer.getCurrentStride());
+
+        renderer.renderFrame(target, (x, y) -> 0xFFFFFFFF);
+
+        assertTrue(renderer.isConverged());
+        assertEquals(0xFFFFFFFF, target.getPixel(3, 3));
+    }
+
+    @Test
+    void resizedTargetRestartsRefinement() {
+        ProgressiveCpuRenderer renderer = new ProgressiveCpuRenderer(Duration.ofDays(1));
+        renderer.renderFrame(new CpuRenderTarget(WIDTH, HEIGHT), COORDS);
+
+        renderer.renderFrame(new CpuRenderTarget(8, 8), COORDS);
+
+        assertEquals(64, renderer.getLastFrameSampleCount());
+    }
+}
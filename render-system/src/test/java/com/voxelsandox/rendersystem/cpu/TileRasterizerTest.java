@@ -0,0 +1,237 @@
+package com.voxelsandox.rendersystem.cpu;
+
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Mat4f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMesh;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMeshingService;
+import com.voxelsandbox.rendersystem.core.mesh.GreedyChunkMesher;
+import com.voxelsandbox.rendersystem.core.mesh.IChunkNeighbours;
+import com.voxelsandbox.rendersystem.core.world.IRenderWorldView;
+import com.voxelsandbox.rendersystem.cpu.context.CpuRenderContext;
+import com.voxelsandbox.rendersystem.cpu.loop.CpuRenderLoop;
+import com.voxelsandbox.rendersystem.cpu.raster.TileRasterizer;
+import com.voxelsandbox.rendersystem.cpu.target.CpuRenderTarget;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameras;
+import com.voxelsandox.rendersystem.mesh.TestChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileRasterizerTest {
+
+    private static final int WIDTH = 160;
+    private static final int HEIGHT = 90;
+    private static final int SIZE = TestChunk.SIZE;
+
+    private static final int TOP_OF_STONE = TileRasterizer.shade(1, ChunkMesh.FACE_POS_Y);
+
+    @Test
+    void voxelSeenFromAboveShowsItsTopFace() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(8, 0, 8, 1);
+        ICamera3D camera = camera(new CpuVec3f(8.5f, 4f, 8.5f), new CpuVec3f(0f, -1f, 0f));
+
+        CpuRenderTarget target = render(new TileRasterizer(Runnable::run, 1), camera, mesh(chunk));
+
+        assertEquals(TOP_OF_STONE, target.getPixel(WIDTH / 2, HEIGHT / 2));
+        assertEquals(TileRasterizer.CLEAR_COLOR, target.getPixel(0, 0));
+        assertEquals(TileRasterizer.CLEAR_COLOR, target.getPixel(WIDTH - 1, HEIGHT - 1));
+    }
+
+    @Test
+    void nearerSurfaceWinsRegardlessOfSubmissionOrder() {
+        TestChunk upper = new TestChunk(0, 0, 0);
+        upper.set(8, 2, 8, 1);
+        TestChunk lower = new TestChunk(0, -1, 0);
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                lower.set(x, SIZE - 1, z, 2);
+            }
+        }
+        ICamera3D camera = camera(new CpuVec3f(8.5f, 10f, 8.5f), new CpuVec3f(0f, -1f, 0f));
+
+        CpuRenderTarget first = render(new TileRasterizer(Runnable::run, 1), camera, mesh(upper), mesh(lower));
+        CpuRenderTarget second = render(new TileRasterizer(Runnable::run, 1), camera, mesh(lower), mesh(upper));
+
+        assertEquals(TOP_OF_STONE, first.getPixel(WIDTH / 2, HEIGHT / 2));
+        assertEquals(TOP_OF_STONE, second.getPixel(WIDTH / 2, HEIGHT / 2));
+        assertEquals(TileRasterizer.shade(2, ChunkMesh.FACE_POS_Y), second.getPixel(WIDTH / 2 + 30, HEIGHT / 2));
+    }
+
+    @Test
+    void floorReachingBehindCameraIsClippedAtNearPlane() {
+        TestChunk floor = new TestChunk(0, 0, 0);
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                floor.set(x, 0, z, 1);
+            }
+        }
+        ICamera3D camera = camera(new CpuVec3f(8f, 1.5f, 8f), new CpuVec3f(0f, 0f, -1f));
+        TileRasterizer rasterizer = new TileRasterizer(Runnable::run, 1);
+
+        CpuRenderTarget target = render(rasterizer, camera, mesh(floor));
+
+        assertEquals(TOP_OF_STONE, target.getPixel(WIDTH / 2, HEIGHT - 1));
+        assertEquals(TileRasterizer.CLEAR_COLOR, target.getPixel(WIDTH / 2, 0));
+        assertTrue(rasterizer.getBinnedTriangleCount() > 0);
+    }
+
+    @Test
+    void occludedCornerIsDarkerThanOpenFloor() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                chunk.set(x, 0, z, 1);
+            }
+        }
+        chunk.set(8, 1, 8, 1);
+        ICamera3D camera = camera(new CpuVec3f(8.5f, 10f, 8.5f), new CpuVec3f(0f, -1f, 0f));
+        Mat4f viewProjection = viewProjection(camera);
+
+        CpuRenderTarget target = render(new TileRasterizer(Runnable::run, 1), camera, mesh(chunk));
+
+        int open = pixelAt(target, viewProjection, 2.5f, 1f, 2.5f);
+        int occluded = pixelAt(target, viewProjection, 7.8f, 1f, 8.5f);
+        assertEquals(TOP_OF_STONE, open);
+        assertTrue((occluded & 0xFF) < (open & 0xFF), "occluded corner must be darker");
+        assertTrue(((occluded >>> 16) & 0xFF) < ((open >>> 16) & 0xFF), "occluded corner must be darker");
+    }
+
+    @Test
+    void parallelTilesProduceTheSameImage() {
+        List<ChunkMesh> meshes = new ArrayList<>();
+        for (IRenderChunkView chunk : terrain()) {
+            meshes.add(mesh(chunk));
+        }
+        Vec3f eye = new CpuVec3f(-8f, 24f, 30f);
+        ICamera3D camera = camera(eye, new CpuVec3f(8f, 4f, 8f).sub(eye).normalize());
+        ChunkMesh[] array = meshes.toArray(new ChunkMesh[0]);
+
+        CpuRenderTarget single = render(new TileRasterizer(Runnable::run, 1), camera, array);
+        CpuRenderTarget parallel;
+        try (TileRasterizer rasterizer = new TileRasterizer(4)) {
+            parallel = render(rasterizer, camera, array);
+        }
+
+        int covered = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals(single.getPixel(x, y), parallel.getPixel(x, y), "pixel " + x + ", " + y);
+                if (single.getPixel(x, y) != TileRasterizer.CLEAR_COLOR) {
+                    covered++;
+                }
+            }
+        }
+        assertTrue(covered > WIDTH * HEIGHT / 4, "covered " + covered);
+    }
+
+    @Test
+    void rejectsTargetOfDifferentSize() {
+        TileRasterizer rasterizer = new TileRasterizer(Runnable::run, 1);
+        ICamera3D camera = camera(new CpuVec3f(0f, 10f, 0f), new CpuVec3f(0f, -1f, 0f));
+        rasterizer.beginFrame(WIDTH, HEIGHT, viewProjection(camera));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> rasterizer.endFrame(new CpuRenderTarget(WIDTH / 2, HEIGHT)));
+        assertThrows(IllegalStateException.class,
+                () -> new TileRasterizer(Runnable::run, 1).submit(mesh(new TestChunk(0, 0, 0))));
+    }
+
+    @Test
+    void renderLoopDrawsMeshedChunks() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(8, 0, 8, 1);
+        List<IRenderChunkView> chunks = List.of(chunk);
+        IRenderWorldView world = new IRenderWorldView() {
+            @Override
+            public Collection<IRenderChunkView> getRenderableChunks() {
+                return chunks;
+            }
+
+            @Override
+            public int getMinY() {
+                return 0;
+            }
+
+            @Override
+            public int getMaxY() {
+                return SIZE;
+            }
+        };
+
+        try (ChunkMeshingService meshing = new ChunkMeshingService(Runnable::run, GreedyChunkMesher::new, 1 << 20)) {
+            meshing.chunkLoaded(chunk);
+
+            ICamera3D camera = camera(new CpuVec3f(8.5f, 4f, 8.5f), new CpuVec3f(0f, -1f, 0f));
+            CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT);
+            new CpuRenderLoop(meshing, () -> camera).renderFrame(world, new CpuRenderContext(target));
+
+            assertEquals(TOP_OF_STONE, target.getPixel(WIDTH / 2, HEIGHT / 2));
+            assertEquals(TileRasterizer.CLEAR_COLOR, target.getPixel(0, 0));
+        }
+    }
+
+    private static CpuRenderTarget render(TileRasterizer rasterizer, ICamera3D camera, ChunkMesh... meshes) {
+        CpuRenderTarget target = new CpuRenderTarget(WIDTH, HEIGHT);
+        rasterizer.beginFrame(WIDTH, HEIGHT, viewProjection(camera));
+        for (ChunkMesh mesh : meshes) {
+            rasterizer.submit(mesh);
+        }
+        rasterizer.endFrame(target);
+        return target;
+    }
+
+    private static int pixelAt(CpuRenderTarget target, Mat4f viewProjection, float x, float y, float z) {
+        float[] clip = new float[4];
+        for (int row = 0; row < 4; row++) {
+            clip[row] = viewProjection.get(row, 0) * x + viewProjection.get(row, 1) * y
+                    + viewProjection.get(row, 2) * z + viewProjection.get(row, 3);
+        }
+        int px = (int) ((clip[0] / clip[3] * 0.5f + 0.5f) * WIDTH);
+        int py = (int) ((0.5f - clip[1] / clip[3] * 0.5f) * HEIGHT);
+        return target.getPixel(px, py);
+    }
+
+    private static Mat4f viewProjection(ICamera3D camera) {
+        return camera.getProjectionMatrix().multiply(camera.getViewMatrix());
+    }
+
+    private static ChunkMesh mesh(IRenderChunkView chunk) {
+        return new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+    }
+
+    /**
+     * Rolling height field over 3 x 3 chunks.
+     */
+    private static List<IRenderChunkView> terrain() {
+        List<IRenderChunkView> chunks = new ArrayList<>();
+        for (int cx = -1; cx <= 1; cx++) {
+            for (int cz = -1; cz <= 1; cz++) {
+                TestChunk chunk = new TestChunk(cx, 0, cz);
+                for (int x = 0; x < SIZE; x++) {
+                    for (int z = 0; z < SIZE; z++) {
+                        int wx = cx * SIZE + x;
+                        int wz = cz * SIZE + z;
+                        int height = 4 + (int) (3 * Math.sin(wx * 0.3) + 3 * Math.cos(wz * 0.2));
+                        for (int y = 0; y < height; y++) {
+                            chunk.set(x, y, z, 1 + (y & 1));
+                        }
+                    }
+                }
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
+    private static ICamera3D camera(Vec3f position, Vec3f forward) {
+        return TestCameras.looking(position, forward, (float) WIDTH / HEIGHT, 200f);
+    }
+}
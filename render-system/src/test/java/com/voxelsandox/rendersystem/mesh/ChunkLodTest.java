@@ -0,0 +1,295 @@
+package com.voxelsandox.rendersystem.mesh;
+
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.lod.ChunkLod;
+import com.voxelsandbox.rendersystem.core.lod.ChunkLodCache;
+import com.voxelsandbox.rendersystem.core.lod.ChunkLodWorldView;
+import com.voxelsandbox.rendersystem.core.lod.LodReduction;
+import com.voxelsandbox.rendersystem.core.lod.LodSelector;
+import com.voxelsandbox.rendersystem.core.math.CpuRay3f;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMesh;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMeshingService;
+import com.voxelsandbox.rendersystem.core.mesh.GreedyChunkMesher;
+import com.voxelsandbox.rendersystem.core.mesh.IChunkNeighbours;
+import com.voxelsandbox.rendersystem.core.raycast.CpuVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.LodVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitResult;
+import com.voxelsandbox.rendersystem.core.raycast.WorldVoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkLodTest {
+
+    private static final int S = TestChunk.SIZE;
+
+    @Test
+    void reductionsDecideSolidityFromSolidVoxelCount() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(0, 0, 0, 5);
+        for (int z = 0; z < S; z++) {
+            for (int y = 0; y < 6; y++) {
+                for (int x = 8; x < S; x++) {
+                    chunk.set(x, y, z, 2);
+                }
+            }
+        }
+
+        ChunkLod majority = ChunkLod.build(chunk, LodReduction.MAJORITY);
+        ChunkLod anySolid = ChunkLod.build(chunk, LodReduction.ANY_SOLID);
+
+        assertEquals(8, majority.getResolution(1));
+        assertEquals(2, majority.getResolution(3));
+
+        // A lone voxel only survives with ANY_SOLID
+        assertEquals(0, majority.getCell(1, 0, 0, 0));
+        assertEquals(5, anySolid.getCell(1, 0, 0, 0));
+        assertEquals(5, anySolid.getCell(3, 0, 0, 0));
+
+        // Ground six voxels high: cells [4, 8) are half solid, [6, 8) empty
+        assertEquals(2, majority.getCell(1, 4, 2, 0));
+        assertEquals(0, majority.getCell(1, 4, 3, 0));
+        assertEquals(2, majority.getCell(2, 2, 1, 0));
+        assertEquals(2, majority.getCell(3, 1, 0, 1));
+        assertEquals(0, majority.getCell(3, 1, 1, 1));
+        assertEquals(0, anySolid.getCell(3, 1, 1, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> majority.getView(0));
+        assertThrows(IllegalArgumentException.class, () -> majority.getView(ChunkLod.MAX_LEVEL + 1));
+    }
+
+    @Test
+    void solidCellTakesTheMostCommonType() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        int[] types = {7, 9, 7, 9, 7, 9, 7, 0};
+        for (int i = 0; i < 8; i++) {
+            chunk.set(i & 1, (i >> 1) & 1, i >> 2, types[i]);
+        }
+
+        ChunkLod lod = ChunkLod.build(chunk, LodReduction.MAJORITY);
+
+        assertEquals(7, lod.getCell(1, 0, 0, 0));
+        // The 7s dominate the coarser cells as well, though they are air
+        assertEquals(0, lod.getCell(2, 0, 0, 0));
+        assertEquals(7, ChunkLod.build(chunk, LodReduction.ANY_SOLID).getCell(3, 0, 0, 0));
+    }
+
+    @Test
+    void cacheRebuildsOnlyAfterModification() {
+        ChunkLodCache cache = new ChunkLodCache(LodReduction.MAJORITY);
+        TestChunk chunk = TestChunk.filled(1, 0, 0, 3);
+
+        ChunkLod first = cache.get(chunk);
+        assertSame(first, cache.get(chunk));
+        assertEquals(1, cache.getBuildCount());
+
+        chunk.set(0, 0, 0, 0);
+        ChunkLod second = cache.get(chunk);
+        assertNotSame(first, second);
+        assertTrue(second.isCurrent(chunk));
+        assertFalse(first.isCurrent(chunk));
+        assertEquals(2, cache.getBuildCount());
+
+        cache.remove(chunk.getChunkId());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void selectorDoublesDistancePerLevel() {
+        LodSelector selector = new LodSelector(32f);
+
+        assertEquals(0, selector.selectLevel(0f));
+        assertEquals(0, selector.selectLevel(31.9f));
+        assertEquals(1, selector.selectLevel(32f));
+        assertEquals(2, selector.selectLevel(64f));
+        assertEquals(3, selector.selectLevel(128f));
+        assertEquals(3, selector.selectLevel(1e9f));
+        assertEquals(64f, selector.getLevelEnd(1));
+        assertEquals(Float.POSITIVE_INFINITY, selector.getLevelEnd(ChunkLod.MAX_LEVEL));
+
+        // Distance is measured to the closest point of the chunk
+        CpuVec3f eye = new CpuVec3f(8f, 8f, 8f);
+        assertEquals(0, selector.selectLevel(new TestChunk(0, 0, 0), eye));
+        assertEquals(0, selector.selectLevel(new TestChunk(2, 0, 0), eye));
+        assertEquals(1, selector.selectLevel(new TestChunk(3, 0, 0), eye));
+        assertEquals(3, selector.selectLevel(new TestChunk(-10, 0, 0), eye));
+
+        // Coarse views cover the same world voxels as their chunk
+        TestChunk chunk = TestChunk.filled(3, 0, 0, 1);
+        for (int level = 1; level <= ChunkLod.MAX_LEVEL; level++) {
+            IRenderChunkView view = ChunkLod.build(chunk, LodReduction.MAJORITY).getView(level);
+            assertEquals(1, selector.selectLevel(view, eye), "level " + level);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new LodSelector(0f));
+    }
+
+    @Test
+    void levelViewsMeshWithScaledVoxels() {
+        TestChunk chunk = TestChunk.filled(2, 0, -1, 4);
+        IRenderChunkView view = ChunkLod.build(chunk, LodReduction.MAJORITY).getView(2);
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(view, IChunkNeighbours.NONE);
+
+        assertEquals(6, mesh.getQuadCount());
+        assertEquals(4, mesh.getChunkSize());
+        assertEquals(4, mesh.getVoxelScale());
+        assertEquals(2, mesh.getChunkX());
+        assertEquals(-1, mesh.getChunkZ());
+        assertTrue(mesh.isCurrent(chunk));
+        for (int vertex : mesh.vertices()) {
+            assertTrue(ChunkMesh.vertexX(vertex) <= 4);
+            assertEquals(4, ChunkMesh.vertexVoxelType(vertex));
+        }
+    }
+
+    @Test
+    void meshingServiceMeshesRequestedLevelsAndKeepsThemCurrent() {
+        ChunkMeshingService service = new ChunkMeshingService(Runnable::run, GreedyChunkMesher::new, 1 << 20);
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+        TestChunk neighbour = TestChunk.filled(1, 0, 0, 1);
+        service.chunkLoaded(chunk);
+        service.chunkLoaded(neighbour);
+        service.pollCompleted();
+
+        assertNull(service.getMesh(chunk, 1));
+        service.pollCompleted();
+
+        ChunkMesh coarse = service.getMesh(chunk, 1);
+        assertNotNull(coarse);
+        assertEquals(2, coarse.getVoxelScale());
+        assertEquals(5, coarse.getQuadCount(), "the face towards the neighbour is culled");
+        assertEquals(5, service.getMesh(chunk).getQuadCount());
+
+        for (int x = 0; x < S; x++) {
+            for (int z = 0; z < S; z++) {
+                for (int y = S / 2; y < S; y++) {
+                    chunk.set(x, y, z, 0);
+                }
+            }
+        }
+        service.chunkModified(chunk);
+        service.pollCompleted();
+
+        ChunkMesh updated = service.getMesh(chunk, 1);
+        assertNotSame(coarse, updated);
+        assertTrue(updated.isCurrent(chunk));
+        assertEquals(2, service.getLodCache().size(), "both chunks are summarised");
+
+        service.chunkUnloaded(chunk);
+        service.pollCompleted();
+        assertNull(service.getMesh(chunk, 1));
+        assertEquals(1, service.getLodCache().size());
+        assertThrows(IllegalArgumentException.class, () -> service.getMesh(chunk, ChunkLod.MAX_LEVEL + 1));
+    }
+
+    @Test
+    void lodTraversalHitsAlignedWallWithFewerSteps() {
+        ChunkWorld world = new ChunkWorld();
+        for (int cx = 0; cx < 16; cx++) {
+            world.add(new TestChunk(cx, 0, 0));
+        }
+        TestChunk wallChunk = world.chunk(12, 0, 0);
+        for (int z = 0; z < S; z++) {
+            for (int y = 0; y < S; y++) {
+                for (int x = 8; x < S; x++) {
+                    wallChunk.set(x, y, z, 1);
+                }
+            }
+        }
+        ChunkLodWorldView lodWorld = new ChunkLodWorldView(
+                world, world::chunk, S, new ChunkLodCache(LodReduction.MAJORITY));
+        CpuRay3f ray = new CpuRay3f(new CpuVec3f(0.5f, 8.5f, 8.5f), new CpuVec3f(1f, 0f, 0f));
+        WorldVoxelHitPredicate predicate = new WorldVoxelHitPredicate(world);
+
+        world.loadedChecks = 0;
+        VoxelHitResult full = new CpuVoxelRayTraversal()
+                .traceFirstHit(ray, 1000f, world, predicate).orElseThrow();
+        int fullSteps = world.loadedChecks;
+
+        world.loadedChecks = 0;
+        VoxelHitResult coarse = new LodVoxelRayTraversal(new LodSelector(16f))
+                .traceFirstHit(ray, 1000f, lodWorld, predicate).orElseThrow();
+        int coarseSteps = world.loadedChecks;
+
+        assertEquals(200, full.voxelX);
+        assertEquals(full.voxelX, coarse.voxelX);
+        assertEquals(full.voxelY, coarse.voxelY);
+        assertEquals(full.voxelZ, coarse.voxelZ);
+        assertEquals(full.t, coarse.t, 1e-3f);
+        assertEquals(full.normal, coarse.normal);
+        assertTrue(coarseSteps * 3 < fullSteps, coarseSteps + " vs " + fullSteps);
+    }
+
+    @Test
+    void lodTraversalMatchesFullDetailWithoutLodView() {
+        ChunkWorld world = new ChunkWorld();
+        Random random = new Random(3);
+        for (int cx = -1; cx <= 1; cx++) {
+            for (int cz = -1; cz <= 1; cz++) {
+                TestChunk chunk = new TestChunk(cx, 0, cz);
+                for (int i = 0; i < 300; i++) {
+                    chunk.set(random.nextInt(S), random.nextInt(S), random.nextInt(S), 1);
+                }
+                world.add(chunk);
+            }
+        }
+        WorldVoxelHitPredicate predicate = new WorldVoxelHitPredicate(world);
+        LodVoxelRayTraversal lod = new LodVoxelRayTraversal(new LodSelector(2f));
+        CpuVoxelRayTraversal reference = new CpuVoxelRayTraversal();
+
+        for (int i = 0; i < 200; i++) {
+            CpuVec3f dir = new CpuVec3f(
+                    random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+            float length = (float) Math.sqrt(dir.x() * dir.x() + dir.y() * dir.y() + dir.z() * dir.z());
+            CpuRay3f ray = new CpuRay3f(
+                    new CpuVec3f(random.nextFloat() * S, random.nextFloat() * S, random.nextFloat() * S),
+                    new CpuVec3f(dir.x() / length, dir.y() / length, dir.z() / length));
+
+            Optional<VoxelHitResult> expected = reference.traceFirstHit(ray, 64f, world, predicate);
+            Optional<VoxelHitResult> actual = lod.traceFirstHit(ray, 64f, world, predicate);
+
+            assertEquals(expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                assertEquals(expected.get().voxelX, actual.get().voxelX);
+                assertEquals(expected.get().voxelY, actual.get().voxelY);
+                assertEquals(expected.get().voxelZ, actual.get().voxelZ);
+                assertEquals(expected.get().t, actual.get().t, 1e-5f);
+            }
+        }
+    }
+
+    /**
+     * Sparse world of test chunks.
+     */
+    private static final class ChunkWorld implements IVoxelWorldView {
+        private final Map<Long, TestChunk> chunks = new HashMap<>();
+        int loadedChecks;
+
+        void add(TestChunk chunk) {
+            chunks.put(chunk.getChunkId(), chunk);
+        }
+
+        TestChunk chunk(int cx, int cy, int cz) {
+            return chunks.get(new TestChunk(cx, cy, cz).getChunkId());
+        }
+
+        @Override
+        public boolean isSolid(int x, int y, int z) {
+            TestChunk chunk = chunk(Math.floorDiv(x, S), Math.floorDiv(y, S), Math.floorDiv(z, S));
+            return chunk != null && chunk.getVoxel(Math.floorMod(x, S), Math.floorMod(y, S), Math.floorMod(z, S)) != 0;
+        }
+
+        @Override
+        public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+            loadedChecks++;
+            return chunk(Math.floorDiv(voxelX, S), Math.floorDiv(voxelY, S), Math.floorDiv(voxelZ, S)) != null;
+        }
+    }
+}
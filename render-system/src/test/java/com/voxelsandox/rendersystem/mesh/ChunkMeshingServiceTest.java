@@ -0,0 +1,338 @@
+package com.voxelsandox.rendersystem.mesh;
+
+import com.voxelsandbox.engine.world.World;
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.engine.world.generation.FlatWorldGenerator;
+import com.voxelsandbox.rendersystem.adapter.EngineChunkMeshingListener;
+import com.voxelsandbox.rendersystem.adapter.EngineChunkRenderAdapter;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMesh;
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMeshingService;
+import com.voxelsandbox.rendersystem.core.mesh.GreedyChunkMesher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkMeshingServiceTest {
+
+    /**
+     * Executor running tasks only when asked, making scheduling observable.
+     */
+    private static final class ManualExecutor implements Executor {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    @Test
+    void loadedChunkIsMeshedAndInstalledOnPoll() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 1 << 20);
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+
+        service.chunkLoaded(chunk);
+        assertEquals(1, service.getPendingCount());
+        assertNull(service.getMesh(chunk));
+
+        executor.runAll();
+        assertNull(service.getMesh(chunk), "meshes appear only after pollCompleted");
+
+        assertEquals(1, service.pollCompleted());
+        ChunkMesh mesh = service.getMesh(chunk);
+        assertNotNull(mesh);
+        assertEquals(6, mesh.getQuadCount());
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    void repeatedNotificationsAreCoalesced() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 1 << 20);
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+
+        service.chunkLoaded(chunk);
+        service.chunkLoaded(chunk);
+        service.chunkModified(chunk);
+        service.chunkModified(chunk);
+
+        assertEquals(1, executor.tasks.size());
+    }
+
+    @Test
+    void resultOfChunkModifiedDuringMeshingIsDropped() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 1 << 20);
+
+        TestChunk chunk = new TestChunk(0, 0, 0) {
+            boolean edited;
+
+            @Override
+            public int getVoxel(int x, int y, int z) {
+                if (!edited) {
+                    // Simulates an edit racing with the worker
+                    edited = true;
+                    set(0, 0, 0, 1);
+                    service.chunkModified(this);
+                }
+                return super.getVoxel(x, y, z);
+            }
+        };
+
+        service.chunkLoaded(chunk);
+        executor.tasks.poll().run();
+
+        assertEquals(0, service.pollCompleted());
+        assertEquals(1, service.getDroppedStaleCount());
+        assertNull(service.getMesh(chunk));
+
+        executor.runAll();
+        assertEquals(1, service.pollCompleted());
+        assertEquals(6, service.getMesh(chunk).getQuadCount());
+    }
+
+    @Test
+    void failedMeshingIsRetriedAndReported() {
+        ManualExecutor executor = new ManualExecutor();
+        AtomicInteger failuresLeft = new AtomicInteger(2);
+        ChunkMeshingService service = new ChunkMeshingService(executor, () -> (chunk, neighbours) -> {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("mesher failure");
+            }
+            return new GreedyChunkMesher().mesh(chunk, neighbours);
+        }, 1 << 20);
+        List<RuntimeException> reported = new ArrayList<>();
+        service.setFailureHandler((chunk, e) -> reported.add(e));
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+
+        service.chunkLoaded(chunk);
+        executor.runAll();
+
+        assertEquals(2, service.getFailedCount());
+        assertEquals(2, reported.size());
+        assertEquals(1, service.pollCompleted(), "the chunk is meshed by a retry");
+        assertEquals(6, service.getMesh(chunk).getQuadCount());
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    void persistentFailureStopsAfterBoundedRetries() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, () -> (chunk, neighbours) -> {
+            throw new IllegalStateException("mesher failure");
+        }, 1 << 20);
+        service.setFailureHandler((chunk, e) -> { });
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+
+        service.chunkLoaded(chunk);
+        executor.runAll();
+        assertEquals(1 + ChunkMeshingService.MAX_RETRIES, service.getFailedCount());
+        assertEquals(0, service.getPendingCount());
+
+        // A later change gets a fresh set of attempts
+        service.chunkModified(chunk);
+        executor.runAll();
+        assertEquals(2 * (1 + ChunkMeshingService.MAX_RETRIES), service.getFailedCount());
+    }
+
+    @Test
+    void unloadedChunkReleasesMeshAndDropsPendingResult() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 1 << 20);
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+
+        service.chunkLoaded(chunk);
+        executor.runAll();
+        service.pollCompleted();
+        assertNotNull(service.getMesh(chunk));
+
+        service.chunkModified(chunk);
+        executor.runAll();
+        service.chunkUnloaded(chunk);
+
+        assertEquals(0, service.pollCompleted());
+        assertNull(service.getMesh(chunk));
+        assertEquals(0, service.getCachedBytes());
+    }
+
+    @Test
+    void chunkUnloadedWhileSummarisedLeavesNoSummaryBehind() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 1 << 20);
+
+        AtomicBoolean armed = new AtomicBoolean();
+        TestChunk chunk = new TestChunk(0, 0, 0) {
+            @Override
+            public int getVoxel(int x, int y, int z) {
+                if (armed.getAndSet(false)) {
+                    // Simulates an unload racing with the worker building the summary
+                    service.chunkUnloaded(this);
+                }
+                return super.getVoxel(x, y, z);
+            }
+        };
+
+        service.chunkLoaded(chunk);
+        executor.runAll();
+        service.pollCompleted();
+
+        assertNull(service.getMesh(chunk, 1));
+        armed.set(true);
+        executor.runAll();
+
+        assertEquals(0, service.pollCompleted());
+        assertEquals(0, service.getLodCache().size());
+    }
+
+    @Test
+    void neighboursAreRemeshedWhenChunkArrives() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 1 << 20);
+        TestChunk west = TestChunk.filled(0, 0, 0, 1);
+        TestChunk east = TestChunk.filled(1, 0, 0, 1);
+
+        service.chunkLoaded(west);
+        executor.runAll();
+        service.pollCompleted();
+        assertEquals(6, service.getMesh(west).getQuadCount());
+
+        service.chunkLoaded(east);
+        assertEquals(2, executor.tasks.size());
+
+        executor.runAll();
+        assertEquals(2, service.pollCompleted());
+
+        // The shared boundary is hidden on both sides
+        assertEquals(5, service.getMesh(west).getQuadCount());
+        assertEquals(5, service.getMesh(east).getQuadCount());
+    }
+
+    @Test
+    void voxelEditRemeshesOnlyNeighboursBorderingIt() {
+        ManualExecutor executor = new ManualExecutor();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 1 << 24);
+        TestChunk center = TestChunk.filled(0, 0, 0, 1);
+        TestChunk west = TestChunk.filled(-1, 0, 0, 1);
+        service.chunkLoaded(center);
+        service.chunkLoaded(west);
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    service.chunkLoaded(TestChunk.filled(dx, dy, dz, 1));
+                }
+            }
+        }
+        executor.runAll();
+        service.pollCompleted();
+
+        int last = TestChunk.SIZE - 1;
+        service.chunkModified(center, 5, 5, 5);
+        assertEquals(1, executor.tasks.size(), "interior edits remesh the chunk alone");
+        executor.runAll();
+
+        service.chunkModified(center, 0, 5, 5);
+        assertEquals(2, executor.tasks.size(), "face edits remesh the facing neighbour");
+        executor.runAll();
+
+        service.chunkModified(center, last, last, 5);
+        assertEquals(1 + 3, executor.tasks.size(), "edge edits remesh two faces and the edge");
+        executor.runAll();
+
+        service.chunkModified(center, last, last, last);
+        assertEquals(1 + 7, executor.tasks.size(), "corner edits remesh faces, edges and the corner");
+        executor.runAll();
+
+        // Coarse levels read whole border cells of their neighbours
+        service.chunkModified(center, 1, 5, 5);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        service.pollCompleted();
+
+        assertNull(service.getMesh(west, 1));
+        executor.runAll();
+        service.chunkModified(center, 1, 5, 5);
+        assertEquals(2, executor.tasks.size(), "the level-1 mesh of the neighbour reads this cell");
+        executor.runAll();
+        service.pollCompleted();
+        assertNotNull(service.getMesh(west));
+        assertNotNull(service.getMesh(west, 1));
+    }
+
+    @Test
+    void cacheEvictsLeastRecentlyUsedAndRemeshesOnDemand() {
+        ManualExecutor executor = new ManualExecutor();
+        TestChunk a = TestChunk.filled(0, 0, 0, 1);
+        TestChunk b = TestChunk.filled(5, 0, 0, 1);
+        TestChunk c = TestChunk.filled(10, 0, 0, 1);
+
+        long meshBytes = new GreedyChunkMesher().mesh(a, (x, y, z) -> null).getSizeInBytes();
+        ChunkMeshingService service = new ChunkMeshingService(executor, GreedyChunkMesher::new, 2 * meshBytes);
+
+        service.chunkLoaded(a);
+        service.chunkLoaded(b);
+        executor.runAll();
+        service.pollCompleted();
+
+        // Touch a so that b becomes the eldest entry
+        assertNotNull(service.getMesh(a));
+
+        service.chunkLoaded(c);
+        executor.runAll();
+        service.pollCompleted();
+
+        assertEquals(2, service.getCachedMeshCount());
+        assertTrue(service.getCachedBytes() <= 2 * meshBytes);
+        assertNotNull(service.getMesh(a));
+        assertNotNull(service.getMesh(c));
+
+        assertNull(service.getMesh(b));
+        assertEquals(1, executor.tasks.size(), "evicted chunk is remeshed on request");
+    }
+
+    @Test
+    void workerPoolMeshesEngineWorldChunks() throws InterruptedException {
+        World world = new World(42L, new FlatWorldGenerator());
+
+        try (ChunkMeshingService service = new ChunkMeshingService(2, 64L << 20)) {
+            world.addEventListener(new EngineChunkMeshingListener(service));
+
+            for (int x = -2; x <= 2; x++) {
+                for (int z = -2; z <= 2; z++) {
+                    world.loadChunk(new ChunkPosition(x, 0, z));
+                }
+            }
+
+            IRenderChunkView center = new EngineChunkRenderAdapter(
+                    world.getChunkIfPresent(new ChunkPosition(0, 0, 0))
+            );
+
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (service.getCachedMeshCount() < 25 || service.getPendingCount() > 0) {
+                assertTrue(System.nanoTime() < deadline, "meshing did not finish");
+                service.pollCompleted();
+                Thread.sleep(1);
+            }
+            service.pollCompleted();
+
+            assertEquals(0, service.getFailedCount());
+            assertNotNull(service.getMesh(center));
+        }
+    }
+}
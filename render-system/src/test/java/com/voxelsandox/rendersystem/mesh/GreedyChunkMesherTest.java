@@ -0,0 +1,366 @@
+package com.voxelsandox.rendersystem.mesh;
+
+import com.voxelsandbox.rendersystem.core.mesh.ChunkMesh;
+import com.voxelsandbox.rendersystem.core.mesh.GreedyChunkMesher;
+import com.voxelsandbox.rendersystem.core.mesh.IChunkNeighbours;
+import com.voxelsandbox.rendersystem.core.mesh.NaiveChunkMesher;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GreedyChunkMesherTest {
+
+    private static final int SIZE = TestChunk.SIZE;
+
+    @Test
+    void singleVoxelProducesSixQuads() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(3, 4, 5, 7);
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+
+        assertEquals(6, mesh.getQuadCount());
+        assertEquals(24, mesh.getVertexCount());
+        assertEquals(12, mesh.getTriangleCount());
+        for (int vertex : mesh.vertices()) {
+            assertEquals(7, ChunkMesh.vertexVoxelType(vertex));
+            assertTrue(ChunkMesh.vertexX(vertex) == 3 || ChunkMesh.vertexX(vertex) == 4);
+            assertTrue(ChunkMesh.vertexY(vertex) == 4 || ChunkMesh.vertexY(vertex) == 5);
+            assertTrue(ChunkMesh.vertexZ(vertex) == 5 || ChunkMesh.vertexZ(vertex) == 6);
+        }
+    }
+
+    @Test
+    void emptyChunkProducesEmptyMesh() {
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(new TestChunk(0, 0, 0), IChunkNeighbours.NONE);
+
+        assertTrue(mesh.isEmpty());
+        assertEquals(0, mesh.indices().length);
+    }
+
+    @Test
+    void solidChunkMergesEachSideIntoOneQuad() {
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+
+        ChunkMesh greedy = new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+        ChunkMesh naive = new NaiveChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+
+        assertEquals(6, greedy.getQuadCount());
+        assertEquals(6 * SIZE * SIZE, naive.getQuadCount());
+    }
+
+    @Test
+    void facesAgainstSolidNeighboursAreCulled() {
+        TestChunk chunk = TestChunk.filled(0, 0, 0, 1);
+
+        IChunkNeighbours allSolid = (cx, cy, cz) -> TestChunk.filled(cx, cy, cz, 2);
+
+        assertTrue(new GreedyChunkMesher().mesh(chunk, allSolid).isEmpty());
+        assertTrue(new NaiveChunkMesher().mesh(chunk, allSolid).isEmpty());
+    }
+
+    @Test
+    void boundaryFaceIsCulledOnlyByTouchingNeighbourVoxel() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(SIZE - 1, 2, 2, 1);
+
+        TestChunk east = new TestChunk(1, 0, 0);
+        east.set(0, 2, 2, 1);
+        IChunkNeighbours neighbours = (cx, cy, cz) -> cx == 1 && cy == 0 && cz == 0 ? east : null;
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(chunk, neighbours);
+
+        assertEquals(5, mesh.getQuadCount());
+        for (int vertex : mesh.vertices()) {
+            assertNotEquals(ChunkMesh.FACE_POS_X, ChunkMesh.vertexFace(vertex));
+        }
+
+        // Neighbour voxel one row over does not touch the face
+        east.set(0, 2, 2, 0);
+        east.set(0, 3, 2, 1);
+        assertEquals(6, new GreedyChunkMesher().mesh(chunk, neighbours).getQuadCount());
+    }
+
+    @Test
+    void differentTypesAreNotMerged() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(0, 0, 0, 1);
+        chunk.set(1, 0, 0, 2);
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+
+        // 2 quads each for +Y, -Y, +Z, -Z and one end cap per side on X
+        assertEquals(10, mesh.getQuadCount());
+    }
+
+    @Test
+    void greedyCoversExactlyTheNaiveFaces() {
+        Random random = new Random(42);
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        for (int z = 0; z < SIZE; z++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int x = 0; x < SIZE; x++) {
+                    if (y < 6 + random.nextInt(3) || random.nextInt(10) == 0) {
+                        chunk.set(x, y, z, 1 + random.nextInt(2));
+                    }
+                }
+            }
+        }
+        TestChunk above = TestChunk.filled(0, 1, 0, 1);
+        IChunkNeighbours neighbours = (cx, cy, cz) -> cx == 0 && cy == 1 && cz == 0 ? above : null;
+
+        ChunkMesh greedy = new GreedyChunkMesher().mesh(chunk, neighbours);
+        ChunkMesh naive = new NaiveChunkMesher().mesh(chunk, neighbours);
+
+        assertTrue(greedy.getQuadCount() < naive.getQuadCount());
+        assertEquals(unitFaces(naive), unitFaces(greedy));
+        assertEquals(naive.getQuadCount(), unitFaces(greedy).size());
+    }
+
+    @Test
+    void quadsAreWoundTowardsTheirFace() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        for (int x = 2; x < 6; x++) {
+            for (int z = 1; z < 4; z++) {
+                chunk.set(x, 3, z, 1);
+            }
+        }
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+        int[] v = mesh.vertices();
+        int[] idx = mesh.indices();
+
+        for (int t = 0; t < idx.length; t += 3) {
+            int a = v[idx[t]];
+            int b = v[idx[t + 1]];
+            int c = v[idx[t + 2]];
+
+            int[] e1 = delta(a, b);
+            int[] e2 = delta(a, c);
+            int[] normal = {
+                    e1[1] * e2[2] - e1[2] * e2[1],
+                    e1[2] * e2[0] - e1[0] * e2[2],
+                    e1[0] * e2[1] - e1[1] * e2[0]
+            };
+
+            int face = ChunkMesh.vertexFace(a);
+            int axis = face / 2;
+            int sign = face % 2 == 0 ? 1 : -1;
+
+            assertTrue(normal[axis] * sign > 0, "triangle " + t / 3 + " faces away from its normal");
+            assertEquals(0, normal[(axis + 1) % 3]);
+            assertEquals(0, normal[(axis + 2) % 3]);
+        }
+    }
+
+    @Test
+    void meshIsCurrentUntilChunkChanges() {
+        TestChunk chunk = new TestChunk(2, 0, -3);
+        chunk.set(1, 1, 1, 1);
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+
+        assertEquals(chunk.getChunkId(), mesh.getChunkId());
+        assertTrue(mesh.isCurrent(chunk));
+        assertFalse(mesh.isCurrent(new TestChunk(2, 0, -2)));
+
+        chunk.set(2, 1, 1, 1);
+        assertFalse(mesh.isCurrent(chunk));
+    }
+
+    @Test
+    void rejectsVoxelTypesOutsideVertexFormat() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(0, 0, 0, ChunkMesh.MAX_VOXEL_TYPE + 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE));
+    }
+
+    @Test
+    void vertexFormatRoundTripsOcclusion() {
+        int vertex = ChunkMesh.packVertex(16, 3, 9, ChunkMesh.FACE_NEG_Z, ChunkMesh.MAX_OCCLUSION, ChunkMesh.MAX_VOXEL_TYPE);
+
+        assertEquals(16, ChunkMesh.vertexX(vertex));
+        assertEquals(3, ChunkMesh.vertexY(vertex));
+        assertEquals(9, ChunkMesh.vertexZ(vertex));
+        assertEquals(ChunkMesh.FACE_NEG_Z, ChunkMesh.vertexFace(vertex));
+        assertEquals(ChunkMesh.MAX_OCCLUSION, ChunkMesh.vertexOcclusion(vertex));
+        assertEquals(ChunkMesh.MAX_VOXEL_TYPE, ChunkMesh.vertexVoxelType(vertex));
+        assertEquals(0, ChunkMesh.vertexOcclusion(ChunkMesh.packVertex(1, 2, 3, 0, 5)));
+    }
+
+    @Test
+    void cornerOcclusionFollowsSideAndDiagonalRule() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(3, 3, 3, 1);
+        // Above the floor voxel: two side voxels meeting at (4, 4) and one
+        // diagonal voxel at the opposite corner
+        chunk.set(4, 4, 3, 1);
+        chunk.set(3, 4, 4, 1);
+        chunk.set(2, 4, 2, 1);
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(chunk, IChunkNeighbours.NONE);
+
+        Map<String, Integer> top = new HashMap<>();
+        int fullyOccluded = -1;
+        int[] v = mesh.vertices();
+        for (int i = 0; i < v.length; i++) {
+            if (ChunkMesh.vertexFace(v[i]) == ChunkMesh.FACE_POS_Y && ChunkMesh.vertexY(v[i]) == 4) {
+                top.put(ChunkMesh.vertexX(v[i]) + "," + ChunkMesh.vertexZ(v[i]), ChunkMesh.vertexOcclusion(v[i]));
+                if (ChunkMesh.vertexOcclusion(v[i]) == ChunkMesh.MAX_OCCLUSION) {
+                    fullyOccluded = i;
+                }
+            }
+        }
+
+        assertEquals(Map.of("3,3", 1, "4,3", 1, "3,4", 1, "4,4", ChunkMesh.MAX_OCCLUSION), top);
+
+        // The quad is split along the diagonal avoiding the darkest corner
+        int triangles = 0;
+        int[] idx = mesh.indices();
+        for (int t = 0; t < idx.length; t += 3) {
+            if (idx[t] == fullyOccluded || idx[t + 1] == fullyOccluded || idx[t + 2] == fullyOccluded) {
+                triangles++;
+            }
+        }
+        assertEquals(1, triangles);
+    }
+
+    @Test
+    void occlusionReadsEdgeAndCornerNeighbours() {
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        chunk.set(SIZE - 1, SIZE - 1, SIZE - 1, 1);
+        TestChunk corner = new TestChunk(1, 1, 1);
+        corner.set(0, 0, 0, 1);
+        IChunkNeighbours neighbours = (cx, cy, cz) -> cx == 1 && cy == 1 && cz == 1 ? corner : null;
+
+        ChunkMesh mesh = new GreedyChunkMesher().mesh(chunk, neighbours);
+
+        for (int vertex : mesh.vertices()) {
+            boolean atCorner = ChunkMesh.vertexX(vertex) == SIZE
+                    && ChunkMesh.vertexY(vertex) == SIZE
+                    && ChunkMesh.vertexZ(vertex) == SIZE;
+            assertEquals(atCorner ? 1 : 0, ChunkMesh.vertexOcclusion(vertex));
+        }
+    }
+
+    @Test
+    void mergedQuadsKeepTheOcclusionOfTheirUnitFaces() {
+        Random random = new Random(7);
+        TestChunk chunk = new TestChunk(0, 0, 0);
+        for (int z = 0; z < SIZE; z++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int x = 0; x < SIZE; x++) {
+                    if (y < 4 + random.nextInt(2) || random.nextInt(40) == 0) {
+                        chunk.set(x, y, z, 1 + random.nextInt(2));
+                    }
+                }
+            }
+        }
+        TestChunk edge = TestChunk.filled(1, 0, 1, 1);
+        IChunkNeighbours neighbours = (cx, cy, cz) -> cx == 1 && cy == 0 && cz == 1 ? edge : null;
+
+        ChunkMesh greedy = new GreedyChunkMesher().mesh(chunk, neighbours);
+        ChunkMesh naive = new NaiveChunkMesher().mesh(chunk, neighbours);
+
+        // Coplanar unit faces agree on the occlusion of shared corners
+        Map<String, Integer> reference = new HashMap<>();
+        for (int vertex : naive.vertices()) {
+            Integer previous = reference.put(cornerKey(vertex), ChunkMesh.vertexOcclusion(vertex));
+            assertTrue(previous == null || previous == ChunkMesh.vertexOcclusion(vertex),
+                    "unit faces disagree at " + cornerKey(vertex));
+        }
+
+        assertTrue(greedy.getQuadCount() < naive.getQuadCount());
+        assertEquals(unitFaces(naive), unitFaces(greedy));
+
+        // Every lattice point of a merged quad matches the nearest quad corner
+        int[] v = greedy.vertices();
+        for (int q = 0; q < v.length; q += 4) {
+            int face = ChunkMesh.vertexFace(v[q]);
+            int axis = face / 2;
+            int minU = Integer.MAX_VALUE, minV = Integer.MAX_VALUE;
+            int maxU = Integer.MIN_VALUE, maxV = Integer.MIN_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int[] p = position(v[q + i]);
+                minU = Math.min(minU, p[(axis + 1) % 3]);
+                maxU = Math.max(maxU, p[(axis + 1) % 3]);
+                minV = Math.min(minV, p[(axis + 2) % 3]);
+                maxV = Math.max(maxV, p[(axis + 2) % 3]);
+            }
+            int[] cornerOcclusion = new int[4];
+            for (int i = 0; i < 4; i++) {
+                int[] p = position(v[q + i]);
+                int corner = (p[(axis + 1) % 3] == maxU ? 1 : 0) + (p[(axis + 2) % 3] == maxV ? 2 : 0);
+                cornerOcclusion[corner] = ChunkMesh.vertexOcclusion(v[q + i]);
+            }
+
+            int[] p = position(v[q]);
+            for (int pu = minU; pu <= maxU; pu++) {
+                for (int pv = minV; pv <= maxV; pv++) {
+                    p[(axis + 1) % 3] = pu;
+                    p[(axis + 2) % 3] = pv;
+                    int corner = (pu == maxU ? 1 : 0) + (pv == maxV ? 2 : 0);
+                    Integer expected = reference.get(face + ":" + p[0] + "," + p[1] + "," + p[2]);
+                    assertNotNull(expected);
+                    assertEquals(expected.intValue(), cornerOcclusion[corner]);
+                }
+            }
+        }
+    }
+
+    private static String cornerKey(int vertex) {
+        return ChunkMesh.vertexFace(vertex) + ":" + ChunkMesh.vertexX(vertex) + ","
+                + ChunkMesh.vertexY(vertex) + "," + ChunkMesh.vertexZ(vertex);
+    }
+
+    private static int[] position(int vertex) {
+        return new int[] {ChunkMesh.vertexX(vertex), ChunkMesh.vertexY(vertex), ChunkMesh.vertexZ(vertex)};
+    }
+
+    /**
+     * Expands every quad into the unit faces it covers.
+     */
+    private static Set<String> unitFaces(ChunkMesh mesh) {
+        Set<String> faces = new HashSet<>();
+        int[] v = mesh.vertices();
+        for (int q = 0; q < v.length; q += 4) {
+            int face = ChunkMesh.vertexFace(v[q]);
+            int type = ChunkMesh.vertexVoxelType(v[q]);
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+            for (int i = 0; i < 4; i++) {
+                minX = Math.min(minX, ChunkMesh.vertexX(v[q + i]));
+                minY = Math.min(minY, ChunkMesh.vertexY(v[q + i]));
+                minZ = Math.min(minZ, ChunkMesh.vertexZ(v[q + i]));
+                maxX = Math.max(maxX, ChunkMesh.vertexX(v[q + i]));
+                maxY = Math.max(maxY, ChunkMesh.vertexY(v[q + i]));
+                maxZ = Math.max(maxZ, ChunkMesh.vertexZ(v[q + i]));
+            }
+            for (int x = minX; x < Math.max(maxX, minX + 1); x++) {
+                for (int y = minY; y < Math.max(maxY, minY + 1); y++) {
+                    for (int z = minZ; z < Math.max(maxZ, minZ + 1); z++) {
+                        assertTrue(faces.add(face + ":" + type + ":" + x + "," + y + "," + z),
+                                "overlapping quads");
+                    }
+                }
+            }
+        }
+        return faces;
+    }
+
+    private static int[] delta(int from, int to) {
+        return new int[] {
+                ChunkMesh.vertexX(to) - ChunkMesh.vertexX(from),
+                ChunkMesh.vertexY(to) - ChunkMesh.vertexY(from),
+                ChunkMesh.vertexZ(to) - ChunkMesh.vertexZ(from)
+        };
+    }
+}
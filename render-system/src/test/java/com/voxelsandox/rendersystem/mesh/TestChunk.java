@@ -0,0 +1,88 @@
+package com.voxelsandox.rendersystem.mesh;
+
+import com.voxelsandbox.engine.world.chunk.ChunkPosition;
+import com.voxelsandbox.rendersystem.core.chunk.IRenderChunkView;
+
+import java.util.Arrays;
+
+
+/**
+ * Mutable 16^3 chunk shared by render tests.
+ *
+ * <p>
+ *     Chunk ids are packed engine chunk positions, so distinct test
+ *     chunks never share an id.
+ * </p>
+ */
+public class TestChunk implements IRenderChunkView {
+
+    public static final int SIZE = 16;
+
+    private final int cx;
+    private final int cy;
+    private final int cz;
+    private final int[] voxels = new int[SIZE * SIZE * SIZE];
+    private long modificationCount;
+
+    public TestChunk(int cx, int cy, int cz) {
+        this.cx = cx;
+        this.cy = cy;
+        this.cz = cz;
+    }
+
+    public static TestChunk filled(int cx, int cy, int cz, int type) {
+        TestChunk chunk = new TestChunk(cx, cy, cz);
+        Arrays.fill(chunk.voxels, type);
+        return chunk;
+    }
+
+    public void fill(int type) {
+        Arrays.fill(voxels, type);
+        modificationCount++;
+    }
+
+    public void set(int x, int y, int z, int type) {
+        voxels[x + SIZE * (y + SIZE * z)] = type;
+        modificationCount++;
+    }
+
+    @Override
+    public int getChunkX() {
+        return cx;
+    }
+
+    @Override
+    public int getChunkY() {
+        return cy;
+    }
+
+    @Override
+    public int getChunkZ() {
+        return cz;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return SIZE;
+    }
+
+    @Override
+    public int getVoxel(int x, int y, int z) {
+        return voxels[x + SIZE * (y + SIZE * z)];
+    }
+
+    @Override
+    public long getChunkId() {
+        return new ChunkPosition(cx, cy, cz).pack();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TestChunk[" + cx + ", " + cy + ", " + cz + "]";
+    }
+}
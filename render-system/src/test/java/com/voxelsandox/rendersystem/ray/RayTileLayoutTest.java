@@ -0,0 +1,95 @@
+package com.voxelsandox.rendersystem.ray;
+
+import com.voxelsandbox.rendersystem.core.camera.CameraRayGenerator;
+import com.voxelsandbox.rendersystem.core.camera.ICamera3D;
+import com.voxelsandbox.rendersystem.core.camera.PerspectiveCamera3D;
+import com.voxelsandbox.rendersystem.core.cpu.frame.CpuRenderFrame;
+import com.voxelsandbox.rendersystem.core.cpu.pipeline.CpuRenderPipeline;
+import com.voxelsandbox.rendersystem.core.frame.RenderFrame;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.pipeline.ray.CpuRayBatchingStage;
+import com.voxelsandbox.rendersystem.core.pipeline.ray.RayBatch;
+import com.voxelsandbox.rendersystem.core.pipeline.ray.RayTileLayout;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.camera.CpuCameraStage;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.geometry.CameraRayFrameKeys;
+import com.voxelsandbox.rendersystem.core.pipeline.stage.geometry.cpu.CpuRayGenerationStage;
+import com.voxelsandox.rendersystem.core.pipeline.camera.TestCameraBootstrapStage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RayTileLayoutTest {
+
+    @Test
+    void pixelIndicesArePermutationOfViewport() {
+        RayTileLayout layout = new RayTileLayout(37, 21, 8);
+        int[] indices = layout.pixelIndices();
+
+        boolean[] seen = new boolean[37 * 21];
+        for (int pixel : indices) {
+            assertFalse(seen[pixel], "pixel visited twice: " + pixel);
+            seen[pixel] = true;
+        }
+        assertEquals(layout.getRayCount(), indices.length);
+    }
+
+    @Test
+    void everyBatchCoversExactlyOneTile() {
+        RayTileLayout layout = new RayTileLayout(37, 21, 8);
+        int[] indices = layout.pixelIndices();
+        List<RayBatch> batches = layout.batches();
+
+        // 5 x 3 tiles, edge tiles clipped
+        assertEquals(15, batches.size());
+
+        int next = 0;
+        for (RayBatch batch : batches) {
+            assertEquals(next, batch.offset());
+
+            int tileX = (indices[batch.offset()] % 37) / 8;
+            int tileY = (indices[batch.offset()] / 37) / 8;
+            for (int i = batch.offset(); i < batch.offset() + batch.count(); i++) {
+                assertEquals(tileX, (indices[i] % 37) / 8);
+                assertEquals(tileY, (indices[i] / 37) / 8);
+            }
+            next += batch.count();
+        }
+        assertEquals(layout.getRayCount(), next);
+    }
+
+    @Test
+    void generatedRaysFollowPixelIndexMap() {
+        ICamera3D camera = new PerspectiveCamera3D(
+                new CpuVec3f(0, 0, 0),
+                new CpuVec3f(0, 0, -1),
+                new CpuVec3f(0, 1, 0),
+                (float) Math.toRadians(60),
+                1.0f,
+                0.1f,
+                100f
+        );
+
+        RenderFrame frame = new CpuRenderFrame();
+        new CpuRenderPipeline(List.of(
+                new TestCameraBootstrapStage(camera),
+                new CpuCameraStage(),
+                new CpuRayGenerationStage(),
+                new CpuRayBatchingStage()
+        )).execute(frame);
+
+        List<Vec3f> directions = frame.get(CameraRayFrameKeys.RAY_DIRECTIONS).orElseThrow();
+        int[] pixels = frame.get(CameraRayFrameKeys.RAY_PIXEL_INDICES).orElseThrow();
+        List<RayBatch> batches = frame.get(CameraRayFrameKeys.RAY_BATCHES).orElseThrow();
+
+        assertEquals(new RayTileLayout(800, 600).batches(), batches);
+
+        CameraRayGenerator generator = new CameraRayGenerator(camera, 800, 600);
+        for (int ray = 0; ray < directions.size(); ray += 97) {
+            int pixel = pixels[ray];
+            assertEquals(generator.generateDirection(pixel % 800, pixel / 800), directions.get(ray));
+        }
+    }
+}
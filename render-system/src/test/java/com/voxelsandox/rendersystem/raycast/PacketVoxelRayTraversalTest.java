@@ -0,0 +1,143 @@
+package com.voxelsandox.rendersystem.raycast;
+
+import com.voxelsandbox.rendersystem.core.math.CpuRay3f;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.raycast.CpuVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.PacketVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitResult;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelRayPacket;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PacketVoxelRayTraversalTest {
+
+    /**
+     * Sparse pseudo-random world, loaded within |x|, |z| &lt; 64.
+     */
+    private static final IVoxelWorldView WORLD = new IVoxelWorldView() {
+        @Override
+        public boolean isSolid(int x, int y, int z) {
+            return y < 0 || hash(x, y, z) % 23 == 0;
+        }
+
+        @Override
+        public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+            return Math.abs(voxelX) < 64 && Math.abs(voxelZ) < 64;
+        }
+    };
+
+    private static final VoxelHitPredicate SOLID = WORLD::isSolid;
+
+    @Test
+    void scalarBackendMatchesReferenceVoxelForVoxel() {
+        assertMatchesReference(PacketVoxelRayTraversal.scalar(8));
+        assertMatchesReference(PacketVoxelRayTraversal.scalar(5));
+    }
+
+    @Test
+    void vectorBackendMatchesReferenceVoxelForVoxel() {
+        if (!PacketVoxelRayTraversal.isVectorSupported()) {
+            return;
+        }
+        PacketVoxelRayTraversal traversal = PacketVoxelRayTraversal.vectorized();
+
+        assertTrue(traversal.isVectorized());
+        assertMatchesReference(traversal);
+    }
+
+    @Test
+    void partiallyFilledPacketLeavesUnusedLanesInactive() {
+        PacketVoxelRayTraversal traversal = PacketVoxelRayTraversal.scalar(4);
+        VoxelRayPacket packet = traversal.newPacket();
+
+        packet.setRay(0, new CpuRay3f(
+                new CpuVec3f(0.5f, 0.5f, 0.5f),
+                new CpuVec3f(1f, 0f, 0f)
+        ));
+
+        traversal.traceFirstHits(packet, 10f, WORLD, (x, y, z) -> x == 3);
+
+        assertEquals(1, packet.size());
+        assertFalse(packet.active[1]);
+        assertFalse(packet.hit[1]);
+
+        VoxelHitResult hit = packet.result(0).orElseThrow();
+        assertEquals(3, hit.voxelX);
+        assertEquals(new CpuVec3f(-1, 0, 0), hit.normal);
+    }
+
+    @Test
+    void createFallsBackToReferenceWithoutOptIn() {
+        assertInstanceOf(CpuVoxelRayTraversal.class, PacketVoxelRayTraversal.create());
+    }
+
+    @Test
+    void rejectsPacketNotAlignedToLaneCount() {
+        PacketVoxelRayTraversal traversal = PacketVoxelRayTraversal.scalar(4);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> traversal.traceFirstHits(new VoxelRayPacket(6), 10f, WORLD, SOLID)
+        );
+    }
+
+    private static void assertMatchesReference(PacketVoxelRayTraversal traversal) {
+        CpuVoxelRayTraversal reference = new CpuVoxelRayTraversal();
+        VoxelRayPacket packet = traversal.newPacket();
+        Random random = new Random(1234L);
+
+        Ray3f[] rays = new Ray3f[packet.capacity()];
+
+        for (int round = 0; round < 200; round++) {
+            packet.clear();
+
+            // Coherent packet: shared origin, jittered directions
+            CpuVec3f origin = new CpuVec3f(
+                    random.nextFloat() * 20f - 10f,
+                    random.nextFloat() * 10f + 1f,
+                    random.nextFloat() * 20f - 10f
+            );
+            for (int lane = 0; lane < rays.length; lane++) {
+                rays[lane] = new CpuRay3f(origin, new CpuVec3f(
+                        random.nextFloat() * 2f - 1f,
+                        random.nextFloat() * 2f - 1f,
+                        random.nextFloat() * 2f - 1f
+                ).normalize());
+                packet.setRay(lane, rays[lane]);
+            }
+
+            traversal.traceFirstHits(packet, 80f, WORLD, SOLID);
+
+            for (int lane = 0; lane < rays.length; lane++) {
+                Optional<VoxelHitResult> expected =
+                        reference.traceFirstHit(rays[lane], 80f, WORLD, SOLID);
+                Optional<VoxelHitResult> actual = packet.result(lane);
+
+                assertFalse(packet.active[lane]);
+                assertEquals(expected.isPresent(), actual.isPresent(), "hit mismatch in round " + round);
+                if (expected.isPresent()) {
+                    VoxelHitResult e = expected.get();
+                    VoxelHitResult a = actual.get();
+                    assertEquals(e.voxelX, a.voxelX);
+                    assertEquals(e.voxelY, a.voxelY);
+                    assertEquals(e.voxelZ, a.voxelZ);
+                    assertEquals(e.t, a.t);
+                    assertEquals(e.normal, a.normal);
+                }
+            }
+        }
+    }
+
+    private static int hash(int x, int y, int z) {
+        int h = x * 73856093 ^ y * 19349663 ^ z * 83492791;
+        h ^= h >>> 13;
+        return h & 0x7fffffff;
+    }
+}
@@ -0,0 +1,165 @@
+package com.voxelsandox.rendersystem.raycast;
+
+import com.voxelsandbox.rendersystem.core.lod.LodSelector;
+import com.voxelsandbox.rendersystem.core.math.CpuRay3f;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.raycast.CpuVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.IVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.LodVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.PacketVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitBuffer;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitResult;
+import com.voxelsandbox.rendersystem.core.raycast.WorldVoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerrainCeilingTraversalTest {
+
+    private static final int MAX_HEIGHT = 7;
+    private static final int RAYS = 256;
+
+    @Test
+    void raysEndAboveTerrainWithIdenticalHits() {
+        Random random = new Random(99L);
+        float[] origins = new float[3 * RAYS];
+        float[] directions = new float[3 * RAYS];
+        for (int i = 0; i < RAYS; i++) {
+            origins[3 * i] = random.nextFloat() * 40f - 20f;
+            origins[3 * i + 1] = random.nextFloat() * 12f + 1f;
+            origins[3 * i + 2] = random.nextFloat() * 40f - 20f;
+            Vec3f direction = new CpuVec3f(
+                    random.nextFloat() * 2f - 1f,
+                    random.nextFloat() * 2f - 1f,
+                    random.nextFloat() * 2f - 1f
+            ).normalize();
+            directions[3 * i] = direction.x();
+            directions[3 * i + 1] = direction.y();
+            directions[3 * i + 2] = direction.z();
+        }
+
+        IVoxelRayTraversal[] traversals = {
+                new CpuVoxelRayTraversal(),
+                new LodVoxelRayTraversal(new LodSelector(16f)),
+                PacketVoxelRayTraversal.scalar(8)
+        };
+        for (IVoxelRayTraversal traversal : traversals) {
+            Terrain unbounded = new Terrain(false);
+            Terrain bounded = new Terrain(true);
+            VoxelHitBuffer expected = new VoxelHitBuffer(RAYS);
+            VoxelHitBuffer actual = new VoxelHitBuffer(RAYS);
+
+            traversal.traceFirstHits(
+                    origins, directions, 0, RAYS, 200f, unbounded, new WorldVoxelHitPredicate(unbounded), expected
+            );
+            traversal.traceFirstHits(
+                    origins, directions, 0, RAYS, 200f, bounded, new WorldVoxelHitPredicate(bounded), actual
+            );
+
+            for (int i = 0; i < RAYS; i++) {
+                assertSameHit(expected.result(i), actual.result(i));
+            }
+            assertTrue(
+                    2 * bounded.steps < unbounded.steps,
+                    traversal.getClass().getSimpleName() + ": " + bounded.steps + " vs " + unbounded.steps
+            );
+        }
+    }
+
+    @Test
+    void upwardRayStopsAtTheCeiling() {
+        Terrain bounded = new Terrain(true);
+        Ray3f ray = new CpuRay3f(new CpuVec3f(0.5f, MAX_HEIGHT + 1.5f, 0.5f), new CpuVec3f(0f, 1f, 0f));
+
+        assertTrue(new CpuVoxelRayTraversal()
+                .traceFirstHit(ray, 200f, bounded, new WorldVoxelHitPredicate(bounded))
+                .isEmpty());
+        assertEquals(0, bounded.steps);
+
+        Terrain unbounded = new Terrain(false);
+        assertTrue(new CpuVoxelRayTraversal()
+                .traceFirstHit(ray, 200f, unbounded, new WorldVoxelHitPredicate(unbounded))
+                .isEmpty());
+        assertTrue(unbounded.steps > 50);
+    }
+
+    @Test
+    void predicatesNotDeclaringSolidHitsIgnoreTheCeiling() {
+        // Accepts a non-solid marker voxel far above the terrain
+        int markerY = MAX_HEIGHT + 20;
+        VoxelHitPredicate marker = (x, y, z) -> x == 0 && y == markerY && z == 0;
+        float[] origin = {0.5f, MAX_HEIGHT + 1.5f, 0.5f};
+        float[] up = {0f, 1f, 0f};
+
+        IVoxelRayTraversal[] traversals = {
+                new CpuVoxelRayTraversal(),
+                new LodVoxelRayTraversal(new LodSelector(16f)),
+                PacketVoxelRayTraversal.scalar(8)
+        };
+        for (IVoxelRayTraversal traversal : traversals) {
+            Terrain bounded = new Terrain(true);
+            VoxelHitBuffer hits = new VoxelHitBuffer(1);
+            traversal.traceFirstHits(origin, up, 0, 1, 200f, bounded, marker, hits);
+
+            assertTrue(hits.hit[0], traversal.getClass().getSimpleName());
+            assertEquals(markerY, hits.voxelY[0]);
+        }
+    }
+
+    private static void assertSameHit(Optional<VoxelHitResult> expected, Optional<VoxelHitResult> actual) {
+        assertEquals(expected.isPresent(), actual.isPresent());
+        if (expected.isPresent()) {
+            VoxelHitResult e = expected.get();
+            VoxelHitResult a = actual.get();
+            assertEquals(e.voxelX, a.voxelX);
+            assertEquals(e.voxelY, a.voxelY);
+            assertEquals(e.voxelZ, a.voxelZ);
+            assertEquals(e.t, a.t);
+            assertEquals(e.normal, a.normal);
+        }
+    }
+
+    /**
+     * Height field terrain below {@link #MAX_HEIGHT}, loaded up to y 64,
+     * counting the voxels rays step through.
+     */
+    private static final class Terrain implements IVoxelWorldView {
+
+        private final boolean bounded;
+        private int steps;
+
+        Terrain(boolean bounded) {
+            this.bounded = bounded;
+        }
+
+        @Override
+        public boolean isSolid(int x, int y, int z) {
+            return y <= getHighestSolidY(x, z) && y >= 0;
+        }
+
+        @Override
+        public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+            steps++;
+            return Math.abs(voxelX) < 64 && Math.abs(voxelZ) < 64 && voxelY >= 0 && voxelY < 64;
+        }
+
+        @Override
+        public int getHighestSolidY(int x, int z) {
+            int h = x * 73856093 ^ z * 83492791;
+            h ^= h >>> 13;
+            return (h & 0x7fffffff) % (MAX_HEIGHT + 1);
+        }
+
+        @Override
+        public int getMaxSolidY() {
+            return bounded ? MAX_HEIGHT : Integer.MAX_VALUE;
+        }
+    }
+}
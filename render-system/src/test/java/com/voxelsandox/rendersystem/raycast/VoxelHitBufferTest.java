@@ -0,0 +1,200 @@
+package com.voxelsandox.rendersystem.raycast;
+
+import com.voxelsandbox.rendersystem.core.math.CpuRay3f;
+import com.voxelsandbox.rendersystem.core.math.CpuVec3f;
+import com.voxelsandbox.rendersystem.core.math.Ray3f;
+import com.voxelsandbox.rendersystem.core.math.Vec3f;
+import com.voxelsandbox.rendersystem.core.raycast.CpuVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.IVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.PacketVoxelRayTraversal;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitBuffer;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitPredicate;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelHitResult;
+import com.voxelsandbox.rendersystem.core.raycast.VoxelVisitor;
+import com.voxelsandbox.rendersystem.core.world.IVoxelWorldView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoxelHitBufferTest {
+
+    private static final int RAYS = 500;
+
+    /**
+     * Sparse pseudo-random world, loaded within |x|, |z| &lt; 64.
+     */
+    private static final IVoxelWorldView WORLD = new IVoxelWorldView() {
+        @Override
+        public boolean isSolid(int x, int y, int z) {
+            return y < 0 || hash(x, y, z) % 19 == 0;
+        }
+
+        @Override
+        public boolean isChunkLoaded(int voxelX, int voxelY, int voxelZ) {
+            return Math.abs(voxelX) < 64 && Math.abs(voxelZ) < 64;
+        }
+    };
+
+    private static final VoxelHitPredicate SOLID = WORLD::isSolid;
+
+    @Test
+    void referenceBulkQueryMatchesOptionalApi() {
+        assertBulkMatchesOptional(new CpuVoxelRayTraversal());
+    }
+
+    @Test
+    void packetBulkQueryMatchesOptionalApi() {
+        assertBulkMatchesOptional(PacketVoxelRayTraversal.scalar(8));
+        if (PacketVoxelRayTraversal.isVectorSupported()) {
+            assertBulkMatchesOptional(PacketVoxelRayTraversal.vectorized());
+        }
+    }
+
+    @Test
+    void defaultBulkQueryMatchesOptionalApi() {
+        IVoxelRayTraversal reference = new CpuVoxelRayTraversal();
+
+        // Implements only the single-ray methods
+        assertBulkMatchesOptional(new IVoxelRayTraversal() {
+            @Override
+            public void traverse(
+                    Ray3f ray,
+                    float maxDistance,
+                    IVoxelWorldView worldView,
+                    VoxelHitPredicate hitPredicate,
+                    VoxelVisitor visitor
+            ) {
+                reference.traverse(ray, maxDistance, worldView, hitPredicate, visitor);
+            }
+
+            @Override
+            public Optional<VoxelHitResult> traceFirstHit(
+                    Ray3f ray,
+                    float maxDistance,
+                    IVoxelWorldView worldView,
+                    VoxelHitPredicate hitPredicate
+            ) {
+                return reference.traceFirstHit(ray, maxDistance, worldView, hitPredicate);
+            }
+        });
+    }
+
+    @Test
+    void bulkQueryWritesOnlyRequestedRange() {
+        float[] origins = new float[3 * 4];
+        float[] directions = new float[3 * 4];
+        for (int i = 0; i < 4; i++) {
+            origins[3 * i] = 0.5f;
+            origins[3 * i + 1] = 0.5f;
+            origins[3 * i + 2] = 0.5f;
+            directions[3 * i] = 1f;
+        }
+
+        VoxelHitBuffer hits = new VoxelHitBuffer(4);
+        hits.voxelX[0] = -7;
+        hits.voxelX[3] = -7;
+
+        new CpuVoxelRayTraversal().traceFirstHits(
+                origins, directions, 1, 2, 10f, WORLD, (x, y, z) -> x == 3, hits
+        );
+
+        assertFalse(hits.hit[0]);
+        assertFalse(hits.hit[3]);
+        assertEquals(-7, hits.voxelX[0]);
+        assertEquals(-7, hits.voxelX[3]);
+
+        for (int i = 1; i <= 2; i++) {
+            assertTrue(hits.hit[i]);
+            assertEquals(3, hits.voxelX[i]);
+            assertEquals(2.5f, hits.t[i]);
+            assertEquals(VoxelHitBuffer.NORMAL_NEG_X, hits.normal[i]);
+        }
+    }
+
+    @Test
+    void startingVoxelHitHasNoNormal() {
+        VoxelHitBuffer hits = new VoxelHitBuffer(1);
+
+        new CpuVoxelRayTraversal().traceFirstHits(
+                new float[] {0.5f, 0.5f, 0.5f},
+                new float[] {0f, 0f, 1f},
+                0, 1, 10f, WORLD, (x, y, z) -> true, hits
+        );
+
+        assertTrue(hits.hit[0]);
+        assertEquals(0f, hits.t[0]);
+        assertEquals(VoxelHitBuffer.NORMAL_NONE, hits.normal[0]);
+        assertEquals(new CpuVec3f(0, 0, 0), hits.result(0).orElseThrow().normal);
+    }
+
+    @Test
+    void rejectsRangeExceedingBufferOrArrays() {
+        IVoxelRayTraversal traversal = new CpuVoxelRayTraversal();
+        float[] rays = new float[3 * 4];
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> traversal.traceFirstHits(rays, rays, 0, 4, 10f, WORLD, SOLID, new VoxelHitBuffer(3))
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> traversal.traceFirstHits(rays, rays, 2, 3, 10f, WORLD, SOLID, new VoxelHitBuffer(8))
+        );
+    }
+
+    private static void assertBulkMatchesOptional(IVoxelRayTraversal traversal) {
+        CpuVoxelRayTraversal reference = new CpuVoxelRayTraversal();
+        Random random = new Random(42L);
+
+        float[] origins = new float[3 * RAYS];
+        float[] directions = new float[3 * RAYS];
+        for (int i = 0; i < RAYS; i++) {
+            Vec3f d = new CpuVec3f(
+                    random.nextFloat() * 2f - 1f,
+                    random.nextFloat() * 2f - 1f,
+                    random.nextFloat() * 2f - 1f
+            ).normalize();
+
+            origins[3 * i] = random.nextFloat() * 20f - 10f;
+            origins[3 * i + 1] = random.nextFloat() * 10f + 1f;
+            origins[3 * i + 2] = random.nextFloat() * 20f - 10f;
+            directions[3 * i] = d.x();
+            directions[3 * i + 1] = d.y();
+            directions[3 * i + 2] = d.z();
+        }
+
+        VoxelHitBuffer hits = new VoxelHitBuffer(RAYS);
+        traversal.traceFirstHits(origins, directions, 0, RAYS, 80f, WORLD, SOLID, hits);
+
+        for (int i = 0; i < RAYS; i++) {
+            Optional<VoxelHitResult> expected = reference.traceFirstHit(
+                    new CpuRay3f(
+                            new CpuVec3f(origins[3 * i], origins[3 * i + 1], origins[3 * i + 2]),
+                            new CpuVec3f(directions[3 * i], directions[3 * i + 1], directions[3 * i + 2])
+                    ),
+                    80f, WORLD, SOLID
+            );
+
+            assertEquals(expected.isPresent(), hits.hit[i], "hit mismatch for ray " + i);
+            if (expected.isPresent()) {
+                VoxelHitResult e = expected.get();
+                assertEquals(e.voxelX, hits.voxelX[i]);
+                assertEquals(e.voxelY, hits.voxelY[i]);
+                assertEquals(e.voxelZ, hits.voxelZ[i]);
+                assertEquals(e.t, hits.t[i]);
+                assertEquals((int) e.normal.x(), VoxelHitBuffer.normalX(hits.normal[i]));
+                assertEquals((int) e.normal.y(), VoxelHitBuffer.normalY(hits.normal[i]));
+                assertEquals((int) e.normal.z(), VoxelHitBuffer.normalZ(hits.normal[i]));
+            }
+        }
+    }
+
+    private static int hash(int x, int y, int z) {
+        int h = x * 73856093 ^ y * 19349663 ^ z * 83492791;
+        h ^= h >>> 13;
+        return h & 0x7fffffff;
+    }
+}
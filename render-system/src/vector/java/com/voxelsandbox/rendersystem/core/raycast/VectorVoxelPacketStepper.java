@@ -0,0 +1,99 @@
+package com.voxelsandbox.rendersystem.core.raycast;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * {@link VoxelPacketStepper} built on the JDK Vector API
+ * ({@code jdk.incubator.vector}).
+ *
+ * <p>
+ *     Lanes are processed in groups of {@link FloatVector#SPECIES_PREFERRED}
+ *     width: 4 lanes on SSE, 8 on AVX2 and 16 on AVX-512. The axis selection
+ *     of {@link VoxelRayStepper} is evaluated as three comparison masks and
+ *     applied with masked adds and blends, so no lane branches.
+ * </p>
+ *
+ * <p>
+ *     Terminated lanes are excluded through the packet's {@code active} mask.
+ * </p>
+ *
+ * <p>
+ *     This class MUST only be loaded when the {@code jdk.incubator.vector}
+ *     module is present; {@link PacketVoxelRayTraversal#vectorized()} checks
+ *     {@link PacketVoxelRayTraversal#isVectorSupported()} and loads it
+ *     reflectively.
+ * </p>
+ */
+final class VectorVoxelPacketStepper implements VoxelPacketStepper {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    VectorVoxelPacketStepper() {
+        if (FLOATS.length() != INTS.length()) {
+            throw new IllegalStateException("Float and int vector species must have the same lane count");
+        }
+    }
+
+    @Override
+    public int laneCount() {
+        return FLOATS.length();
+    }
+
+    @Override
+    public void step(VoxelRayPacket p) {
+        int lanes = FLOATS.length();
+        int size = p.size();
+
+        for (int i = 0; i < size; i += lanes) {
+            VectorMask<Float> active = VectorMask.fromArray(FLOATS, p.active, i);
+            if (!active.anyTrue()) {
+                continue;
+            }
+
+            FloatVector tx = FloatVector.fromArray(FLOATS, p.tMaxX, i);
+            FloatVector ty = FloatVector.fromArray(FLOATS, p.tMaxY, i);
+            FloatVector tz = FloatVector.fromArray(FLOATS, p.tMaxZ, i);
+
+            // Same decision tree as VoxelRayStepper.step
+            VectorMask<Float> xLessY = tx.lt(ty);
+            VectorMask<Float> selX = xLessY.and(tx.lt(tz)).and(active);
+            VectorMask<Float> selY = xLessY.not().and(ty.lt(tz)).and(active);
+            VectorMask<Float> selZ = active.andNot(selX).andNot(selY);
+
+            FloatVector.fromArray(FLOATS, p.t, i)
+                    .blend(tx, selX)
+                    .blend(ty, selY)
+                    .blend(tz, selZ)
+                    .intoArray(p.t, i);
+
+            tx.add(FloatVector.fromArray(FLOATS, p.tDeltaX, i), selX).intoArray(p.tMaxX, i);
+            ty.add(FloatVector.fromArray(FLOATS, p.tDeltaY, i), selY).intoArray(p.tMaxY, i);
+            tz.add(FloatVector.fromArray(FLOATS, p.tDeltaZ, i), selZ).intoArray(p.tMaxZ, i);
+
+            VectorMask<Integer> iselX = selX.cast(INTS);
+            VectorMask<Integer> iselY = selY.cast(INTS);
+            VectorMask<Integer> iselZ = selZ.cast(INTS);
+
+            IntVector.fromArray(INTS, p.voxelX, i)
+                    .add(IntVector.fromArray(INTS, p.stepX, i), iselX)
+                    .intoArray(p.voxelX, i);
+            IntVector.fromArray(INTS, p.voxelY, i)
+                    .add(IntVector.fromArray(INTS, p.stepY, i), iselY)
+                    .intoArray(p.voxelY, i);
+            IntVector.fromArray(INTS, p.voxelZ, i)
+                    .add(IntVector.fromArray(INTS, p.stepZ, i), iselZ)
+                    .intoArray(p.voxelZ, i);
+
+            IntVector.fromArray(INTS, p.enteredAxis, i)
+                    .blend(VoxelRayPacket.AXIS_X, iselX)
+                    .blend(VoxelRayPacket.AXIS_Y, iselY)
+                    .blend(VoxelRayPacket.AXIS_Z, iselZ)
+                    .intoArray(p.enteredAxis, i);
+        }
+    }
+}